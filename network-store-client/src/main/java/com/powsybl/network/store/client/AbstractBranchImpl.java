@@ -306,6 +306,7 @@ public abstract class AbstractBranchImpl<T extends Branch<T>, U extends BranchAt
                     .order(position.getFeeder2().getOrder())
                     .direction(ConnectableDirection.valueOf(position.getFeeder2().getDirection().name()))
                     .build());
+            updateResource();
         }
     }
 
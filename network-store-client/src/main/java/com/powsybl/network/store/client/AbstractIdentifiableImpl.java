@@ -28,6 +28,14 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
         this.resource = resource;
     }
 
+    protected void updateResource() {
+        index.updateResource(resource);
+    }
+
+    protected void updateResourceState() {
+        index.updateResourceState(resource);
+    }
+
     public String getId() {
         return resource.getId();
     }
@@ -61,7 +69,9 @@ public abstract class AbstractIdentifiableImpl<I extends Identifiable<I>, D exte
             properties = new HashMap<>();
             resource.getAttributes().setProperties(properties);
         }
-        return properties.put(key, value);
+        String oldValue = properties.put(key, value);
+        updateResource();
+        return oldValue;
     }
 
     public boolean hasProperty() {
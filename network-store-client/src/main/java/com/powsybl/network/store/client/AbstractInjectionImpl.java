@@ -52,6 +52,7 @@ public abstract class AbstractInjectionImpl<I extends Injection<I>, D extends In
                     .order(position.getFeeder().getOrder())
                     .direction(ConnectableDirection.valueOf(position.getFeeder().getDirection().name()))
                     .build());
+            updateResource();
         }
     }
 
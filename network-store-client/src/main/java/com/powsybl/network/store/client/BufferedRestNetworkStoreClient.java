@@ -6,18 +6,29 @@
  */
 package com.powsybl.network.store.client;
 
+import com.google.common.collect.Lists;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
 
+    private static final int FLUSH_CHUNK_SIZE = 1000;
+
     private final RestNetworkStoreClient client;
 
+    private final ExecutorService executorService;
+
     private final List<Resource<NetworkAttributes>> networkResourcesToFlush = new ArrayList<>();
 
     private final Map<UUID, List<Resource<SubstationAttributes>>> substationResourcesToFlush = new HashMap<>();
@@ -52,8 +63,120 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
 
     private final Map<UUID, List<Resource<ConfiguredBusAttributes>>> busResourcesToFlush = new HashMap<>();
 
+    private final Map<String, Resource<NetworkAttributes>> updateNetworkResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<SubstationAttributes>>> updateSubstationResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<VoltageLevelAttributes>>> updateVoltageLevelResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<GeneratorAttributes>>> updateGeneratorResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<LoadAttributes>>> updateLoadResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<BusbarSectionAttributes>>> updateBusbarSectionResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<SwitchAttributes>>> updateSwitchResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<ShuntCompensatorAttributes>>> updateShuntCompensatorResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<VscConverterStationAttributes>>> updateVscConverterStationResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<LccConverterStationAttributes>>> updateLccConverterStationResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<StaticVarCompensatorAttributes>>> updateSvcResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<HvdcLineAttributes>>> updateHvdcLineResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<DanglingLineAttributes>>> updateDanglingLineResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<TwoWindingsTransformerAttributes>>> updateTwoWindingsTransformerResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<ThreeWindingsTransformerAttributes>>> updateThreeWindingsTransformerResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<LineAttributes>>> updateLineResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<ConfiguredBusAttributes>>> updateBusResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<GeneratorAttributes>>> updateGeneratorStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<LoadAttributes>>> updateLoadStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<ShuntCompensatorAttributes>>> updateShuntCompensatorStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<VscConverterStationAttributes>>> updateVscConverterStationStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<LccConverterStationAttributes>>> updateLccConverterStationStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<StaticVarCompensatorAttributes>>> updateSvcStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<DanglingLineAttributes>>> updateDanglingLineStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<LineAttributes>>> updateLineStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<TwoWindingsTransformerAttributes>>> updateTwoWindingsTransformerStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<ThreeWindingsTransformerAttributes>>> updateThreeWindingsTransformerStateResourcesToFlush = new HashMap<>();
+
+    private final Map<UUID, Map<String, Resource<SwitchAttributes>>> updateSwitchStateResourcesToFlush = new HashMap<>();
+
+    /**
+     * All the buffers of resources by network.
+     */
+    private final List<Map<UUID, ?>> resourcesToFlushByNetwork = Arrays.asList(substationResourcesToFlush,
+                                                                               voltageLevelResourcesToFlush,
+                                                                               generatorResourcesToFlush,
+                                                                               loadResourcesToFlush,
+                                                                               busbarSectionResourcesToFlush,
+                                                                               switchResourcesToFlush,
+                                                                               shuntCompensatorResourcesToFlush,
+                                                                               vscConverterStationResourcesToFlush,
+                                                                               lccConverterStationResourcesToFlush,
+                                                                               svcResourcesToFlush,
+                                                                               hvdcLineResourcesToFlush,
+                                                                               danglingLineResourcesToFlush,
+                                                                               twoWindingsTransformerResourcesToFlush,
+                                                                               threeWindingsTransformerResourcesToFlush,
+                                                                               lineResourcesToFlush,
+                                                                               busResourcesToFlush,
+                                                                               updateSubstationResourcesToFlush,
+                                                                               updateVoltageLevelResourcesToFlush,
+                                                                               updateGeneratorResourcesToFlush,
+                                                                               updateLoadResourcesToFlush,
+                                                                               updateBusbarSectionResourcesToFlush,
+                                                                               updateSwitchResourcesToFlush,
+                                                                               updateShuntCompensatorResourcesToFlush,
+                                                                               updateVscConverterStationResourcesToFlush,
+                                                                               updateLccConverterStationResourcesToFlush,
+                                                                               updateSvcResourcesToFlush,
+                                                                               updateHvdcLineResourcesToFlush,
+                                                                               updateDanglingLineResourcesToFlush,
+                                                                               updateTwoWindingsTransformerResourcesToFlush,
+                                                                               updateThreeWindingsTransformerResourcesToFlush,
+                                                                               updateLineResourcesToFlush,
+                                                                               updateBusResourcesToFlush,
+                                                                               updateGeneratorStateResourcesToFlush,
+                                                                               updateLoadStateResourcesToFlush,
+                                                                               updateShuntCompensatorStateResourcesToFlush,
+                                                                               updateVscConverterStationStateResourcesToFlush,
+                                                                               updateLccConverterStationStateResourcesToFlush,
+                                                                               updateSvcStateResourcesToFlush,
+                                                                               updateDanglingLineStateResourcesToFlush,
+                                                                               updateLineStateResourcesToFlush,
+                                                                               updateTwoWindingsTransformerStateResourcesToFlush,
+                                                                               updateThreeWindingsTransformerStateResourcesToFlush,
+                                                                               updateSwitchStateResourcesToFlush);
+
     public BufferedRestNetworkStoreClient(RestNetworkStoreClient client) {
+        this(client, null);
+    }
+
+    /**
+     * @param executorService executor used to flush independent collections and chunks concurrently, resources are
+     *                        flushed sequentially if null
+     */
+    public BufferedRestNetworkStoreClient(RestNetworkStoreClient client, ExecutorService executorService) {
         this.client = Objects.requireNonNull(client);
+        this.executorService = executorService;
     }
 
     @Override
@@ -73,24 +196,24 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public void deleteNetwork(UUID networkUuid) {
-        substationResourcesToFlush.remove(networkUuid);
-        voltageLevelResourcesToFlush.remove(networkUuid);
-        generatorResourcesToFlush.remove(networkUuid);
-        loadResourcesToFlush.remove(networkUuid);
-        busbarSectionResourcesToFlush.remove(networkUuid);
-        switchResourcesToFlush.remove(networkUuid);
-        shuntCompensatorResourcesToFlush.remove(networkUuid);
-        svcResourcesToFlush.remove(networkUuid);
-        vscConverterStationResourcesToFlush.remove(networkUuid);
-        lccConverterStationResourcesToFlush.remove(networkUuid);
-        danglingLineResourcesToFlush.remove(networkUuid);
-        hvdcLineResourcesToFlush.remove(networkUuid);
-        twoWindingsTransformerResourcesToFlush.remove(networkUuid);
-        lineResourcesToFlush.remove(networkUuid);
+        resourcesToFlushByNetwork.forEach(resourcesToFlush -> resourcesToFlush.remove(networkUuid));
+        updateNetworkResourcesToFlush.values().removeIf(resource -> resource.getAttributes().getUuid().equals(networkUuid));
 
         client.deleteNetwork(networkUuid);
     }
 
+    @Override
+    public void updateNetworks(List<Resource<NetworkAttributes>> networkResources) {
+        for (Resource<NetworkAttributes> networkResource : networkResources) {
+            updateNetworkResourcesToFlush.put(networkResource.getId(), networkResource);
+        }
+    }
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        return client.getIdentifiable(networkUuid, id);
+    }
+
     @Override
     public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
         substationResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(substationResources);
@@ -111,6 +234,11 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getSubstationCount(networkUuid);
     }
 
+    @Override
+    public void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+        addResourcesToUpdate(updateSubstationResourcesToFlush, networkUuid, substationResources);
+    }
+
     @Override
     public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
         voltageLevelResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(voltageLevelResources);
@@ -136,65 +264,104 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getVoltageLevelCount(networkUuid);
     }
 
+    @Override
+    public Optional<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(UUID networkUuid, String voltageLevelId) {
+        // buses calculated by the server do not take into account pending modifications
+        if (hasResourcesToFlush(networkUuid)) {
+            return Optional.empty();
+        }
+        return client.getVoltageLevelCalculatedBuses(networkUuid, voltageLevelId);
+    }
+
+    @Override
+    public void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
+        addResourcesToUpdate(updateVoltageLevelResourcesToFlush, networkUuid, voltageLevelResources);
+    }
+
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelBusbarSections(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelBusbarSections(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            busbarSectionResourcesToFlush, updateBusbarSectionResourcesToFlush);
     }
 
     @Override
     public List<Resource<SwitchAttributes>> getVoltageLevelSwitches(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelSwitches(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelSwitches(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            switchResourcesToFlush, updateSwitchResourcesToFlush, updateSwitchStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<GeneratorAttributes>> getVoltageLevelGenerators(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelGenerators(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelGenerators(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            generatorResourcesToFlush, updateGeneratorResourcesToFlush, updateGeneratorStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<LoadAttributes>> getVoltageLevelLoads(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelLoads(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelLoads(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            loadResourcesToFlush, updateLoadResourcesToFlush, updateLoadStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<ShuntCompensatorAttributes>> getVoltageLevelShuntCompensators(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelShuntCompensators(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelShuntCompensators(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            shuntCompensatorResourcesToFlush, updateShuntCompensatorResourcesToFlush, updateShuntCompensatorStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<StaticVarCompensatorAttributes>> getVoltageLevelStaticVarCompensators(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelStaticVarCompensators(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelStaticVarCompensators(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            svcResourcesToFlush, updateSvcResourcesToFlush, updateSvcStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<VscConverterStationAttributes>> getVoltageLevelVscConverterStation(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelVscConverterStation(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelVscConverterStation(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            vscConverterStationResourcesToFlush, updateVscConverterStationResourcesToFlush, updateVscConverterStationStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<LccConverterStationAttributes>> getVoltageLevelLccConverterStation(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelLccConverterStation(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelLccConverterStation(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            lccConverterStationResourcesToFlush, updateLccConverterStationResourcesToFlush, updateLccConverterStationStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelTwoWindingsTransformers(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelTwoWindingsTransformers(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId1()) || voltageLevelId.equals(attributes.getVoltageLevelId2()),
+            twoWindingsTransformerResourcesToFlush, updateTwoWindingsTransformerResourcesToFlush, updateTwoWindingsTransformerStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        flush();
-        return client.getVoltageLevelThreeWindingsTransformers(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelThreeWindingsTransformers(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getLeg1().getVoltageLevelId())
+                    || voltageLevelId.equals(attributes.getLeg2().getVoltageLevelId())
+                    || voltageLevelId.equals(attributes.getLeg3().getVoltageLevelId()),
+            threeWindingsTransformerResourcesToFlush, updateThreeWindingsTransformerResourcesToFlush, updateThreeWindingsTransformerStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelLines(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelLines(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId1()) || voltageLevelId.equals(attributes.getVoltageLevelId2()),
+            lineResourcesToFlush, updateLineResourcesToFlush, updateLineStateResourcesToFlush);
     }
 
     @Override
     public List<Resource<DanglingLineAttributes>> getVoltageLevelDanglingLines(UUID networkUuid, String voltageLevelId) {
-        return client.getVoltageLevelDanglingLines(networkUuid, voltageLevelId);
+        return getVoltageLevelResources(networkUuid, client.getVoltageLevelDanglingLines(networkUuid, voltageLevelId),
+            attributes -> voltageLevelId.equals(attributes.getVoltageLevelId()),
+            danglingLineResourcesToFlush, updateDanglingLineResourcesToFlush, updateDanglingLineStateResourcesToFlush);
     }
 
     @Override
@@ -217,6 +384,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getSwitchCount(networkUuid);
     }
 
+    @Override
+    public void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        addResourcesToUpdate(updateSwitchResourcesToFlush, networkUuid, switchResources);
+    }
+
+    @Override
+    public void updateSwitchStates(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        addResourcesToUpdate(updateSwitchStateResourcesToFlush, networkUuid, switchResources);
+    }
+
     @Override
     public void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
         busbarSectionResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(busbarSectionResources);
@@ -237,6 +414,11 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getBusbarSectionCount(networkUuid);
     }
 
+    @Override
+    public void updateBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
+        addResourcesToUpdate(updateBusbarSectionResourcesToFlush, networkUuid, busbarSectionResources);
+    }
+
     @Override
     public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
         loadResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(loadResources);
@@ -257,6 +439,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getLoadCount(networkUuid);
     }
 
+    @Override
+    public void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        addResourcesToUpdate(updateLoadResourcesToFlush, networkUuid, loadResources);
+    }
+
+    @Override
+    public void updateLoadStates(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        addResourcesToUpdate(updateLoadStateResourcesToFlush, networkUuid, loadResources);
+    }
+
     @Override
     public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
         generatorResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(generatorResources);
@@ -277,6 +469,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getGeneratorCount(networkUuid);
     }
 
+    @Override
+    public void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        addResourcesToUpdate(updateGeneratorResourcesToFlush, networkUuid, generatorResources);
+    }
+
+    @Override
+    public void updateGeneratorStates(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        addResourcesToUpdate(updateGeneratorStateResourcesToFlush, networkUuid, generatorResources);
+    }
+
     @Override
     public void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
         twoWindingsTransformerResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(twoWindingsTransformerResources);
@@ -297,6 +499,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getTwoWindingsTransformerCount(networkUuid);
     }
 
+    @Override
+    public void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        addResourcesToUpdate(updateTwoWindingsTransformerResourcesToFlush, networkUuid, twoWindingsTransformerResources);
+    }
+
+    @Override
+    public void updateTwoWindingsTransformerStates(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        addResourcesToUpdate(updateTwoWindingsTransformerStateResourcesToFlush, networkUuid, twoWindingsTransformerResources);
+    }
+
     // 3 windings transformer
 
     @Override
@@ -322,6 +534,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getThreeWindingsTransformerCount(networkUuid);
     }
 
+    @Override
+    public void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        addResourcesToUpdate(updateThreeWindingsTransformerResourcesToFlush, networkUuid, threeWindingsTransformerResources);
+    }
+
+    @Override
+    public void updateThreeWindingsTransformerStates(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        addResourcesToUpdate(updateThreeWindingsTransformerStateResourcesToFlush, networkUuid, threeWindingsTransformerResources);
+    }
+
     @Override
     public void createLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
         lineResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(lineResources);
@@ -342,6 +564,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getLineCount(networkUuid);
     }
 
+    @Override
+    public void updateLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        addResourcesToUpdate(updateLineResourcesToFlush, networkUuid, lineResources);
+    }
+
+    @Override
+    public void updateLineStates(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        addResourcesToUpdate(updateLineStateResourcesToFlush, networkUuid, lineResources);
+    }
+
     @Override
     public void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
         shuntCompensatorResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(shuntCompensatorResources);
@@ -362,6 +594,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getShuntCompensatorCount(networkUuid);
     }
 
+    @Override
+    public void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        addResourcesToUpdate(updateShuntCompensatorResourcesToFlush, networkUuid, shuntCompensatorResources);
+    }
+
+    @Override
+    public void updateShuntCompensatorStates(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        addResourcesToUpdate(updateShuntCompensatorStateResourcesToFlush, networkUuid, shuntCompensatorResources);
+    }
+
     @Override
     public void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
         vscConverterStationResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(vscConverterStationResources);
@@ -382,6 +624,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getVscConverterStationCount(networkUuid);
     }
 
+    @Override
+    public void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        addResourcesToUpdate(updateVscConverterStationResourcesToFlush, networkUuid, vscConverterStationResources);
+    }
+
+    @Override
+    public void updateVscConverterStationStates(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        addResourcesToUpdate(updateVscConverterStationStateResourcesToFlush, networkUuid, vscConverterStationResources);
+    }
+
     @Override
     public void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
         lccConverterStationResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(lccConverterStationResources);
@@ -402,6 +654,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getLccConverterStationCount(networkUuid);
     }
 
+    @Override
+    public void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        addResourcesToUpdate(updateLccConverterStationResourcesToFlush, networkUuid, lccConverterStationResources);
+    }
+
+    @Override
+    public void updateLccConverterStationStates(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        addResourcesToUpdate(updateLccConverterStationStateResourcesToFlush, networkUuid, lccConverterStationResources);
+    }
+
     @Override
     public void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
         svcResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(svcResources);
@@ -422,6 +684,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getStaticVarCompensatorCount(networkUuid);
     }
 
+    @Override
+    public void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+        addResourcesToUpdate(updateSvcResourcesToFlush, networkUuid, svcResources);
+    }
+
+    @Override
+    public void updateStaticVarCompensatorStates(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+        addResourcesToUpdate(updateSvcStateResourcesToFlush, networkUuid, svcResources);
+    }
+
     @Override
     public void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
         hvdcLineResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(hvdcLineResources);
@@ -442,6 +714,11 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getHvdcLineCount(networkUuid);
     }
 
+    @Override
+    public void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
+        addResourcesToUpdate(updateHvdcLineResourcesToFlush, networkUuid, hvdcLineResources);
+    }
+
     @Override
     public void createDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
         danglingLineResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(danglingLineResources);
@@ -462,6 +739,16 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getDanglingLineCount(networkUuid);
     }
 
+    @Override
+    public void updateDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        addResourcesToUpdate(updateDanglingLineResourcesToFlush, networkUuid, danglingLineResources);
+    }
+
+    @Override
+    public void updateDanglingLineStates(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        addResourcesToUpdate(updateDanglingLineStateResourcesToFlush, networkUuid, danglingLineResources);
+    }
+
     @Override
     public void createConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesRessources) {
         busResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(busesRessources);
@@ -482,13 +769,194 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
         return client.getConfiguredBus(networkUuid, busId);
     }
 
-    private static <T extends IdentifiableAttributes> void flushResources(Map<UUID, List<Resource<T>>> resourcesToFlush,
-                                                                          BiConsumer<UUID, List<Resource<T>>> createFct) {
-        if (!resourcesToFlush.isEmpty()) {
-            for (Map.Entry<UUID, List<Resource<T>>> e : resourcesToFlush.entrySet()) {
-                createFct.accept(e.getKey(), e.getValue());
+    @Override
+    public void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
+        addResourcesToUpdate(updateBusResourcesToFlush, networkUuid, busesResources);
+    }
+
+    private static <T extends IdentifiableAttributes> void addResourcesToUpdate(Map<UUID, Map<String, Resource<T>>> resourcesToUpdate,
+                                                                                UUID networkUuid, List<Resource<T>> resources) {
+        Map<String, Resource<T>> resourcesById = resourcesToUpdate.computeIfAbsent(networkUuid, k -> new HashMap<>());
+        for (Resource<T> resource : resources) {
+            resourcesById.put(resource.getId(), resource);
+        }
+    }
+
+    /**
+     * Resources of a voltage level read from the server are completed with its resources which are buffered, so that
+     * pending creations and modifications are taken into account without flushing them.
+     */
+    @SafeVarargs
+    private static <T extends IdentifiableAttributes> List<Resource<T>> getVoltageLevelResources(UUID networkUuid, List<Resource<T>> storedResources,
+                                                                                                 Predicate<T> inVoltageLevel,
+                                                                                                 Map<UUID, List<Resource<T>>> createResourcesToFlush,
+                                                                                                 Map<UUID, Map<String, Resource<T>>>... updateResourcesToFlush) {
+        Map<String, Resource<T>> resourcesById = new LinkedHashMap<>();
+        storedResources.forEach(resource -> resourcesById.put(resource.getId(), resource));
+        List<Collection<Resource<T>>> bufferedResources = new ArrayList<>();
+        bufferedResources.add(createResourcesToFlush.getOrDefault(networkUuid, Collections.emptyList()));
+        for (Map<UUID, Map<String, Resource<T>>> resourcesToFlush : updateResourcesToFlush) {
+            bufferedResources.add(resourcesToFlush.getOrDefault(networkUuid, Collections.emptyMap()).values());
+        }
+        for (Collection<Resource<T>> resources : bufferedResources) {
+            for (Resource<T> resource : resources) {
+                if (inVoltageLevel.test(resource.getAttributes())) {
+                    resourcesById.put(resource.getId(), resource);
+                }
+            }
+        }
+        return new ArrayList<>(resourcesById.values());
+    }
+
+    private boolean hasResourcesToFlush(UUID networkUuid) {
+        if (networkResourcesToFlush.stream().anyMatch(resource -> resource.getAttributes().getUuid().equals(networkUuid))
+                || updateNetworkResourcesToFlush.values().stream().anyMatch(resource -> resource.getAttributes().getUuid().equals(networkUuid))) {
+            return true;
+        }
+        for (Map<UUID, ?> resourcesToFlush : resourcesToFlushByNetwork) {
+            Object resources = resourcesToFlush.get(networkUuid);
+            if (resources instanceof Collection && !((Collection<?>) resources).isEmpty()
+                    || resources instanceof Map && !((Map<?, ?>) resources).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T extends IdentifiableAttributes> void removeResourcesToUpdate(Map<UUID, Map<String, Resource<T>>> resourcesToUpdate,
+                                                                                   UUID networkUuid, Collection<Resource<T>> resources) {
+        Map<String, Resource<T>> resourcesById = resourcesToUpdate.get(networkUuid);
+        if (resourcesById != null) {
+            resources.forEach(resource -> resourcesById.remove(resource.getId()));
+        }
+    }
+
+    private static <T extends IdentifiableAttributes> void addFlushTasks(Map<UUID, List<Resource<T>>> createResourcesToFlush,
+                                                                         Map<UUID, Map<String, Resource<T>>> updateResourcesToFlush,
+                                                                         BiConsumer<UUID, List<Resource<T>>> createFct,
+                                                                         BiConsumer<UUID, List<Resource<T>>> updateFct,
+                                                                         List<FlushTask> tasks) {
+        addFlushTasks(createResourcesToFlush, updateResourcesToFlush, new HashMap<>(), createFct, updateFct, (networkUuid, resources) -> { }, tasks);
+    }
+
+    /**
+     * A chunk of buffered resources to send, which is put back in its buffer when it could not be sent so that the
+     * next flush sends it again.
+     */
+    private static final class FlushTask {
+
+        private final Runnable send;
+
+        private final Runnable restore;
+
+        private volatile boolean sent = false;
+
+        private FlushTask(Runnable send, Runnable restore) {
+            this.send = send;
+            this.restore = restore;
+        }
+
+        private void send() {
+            send.run();
+            sent = true;
+        }
+
+        private void restoreIfNotSent() {
+            if (!sent) {
+                restore.run();
             }
-            resourcesToFlush.clear();
+        }
+    }
+
+    private static <T extends IdentifiableAttributes> void addTasks(UUID networkUuid, List<Resource<T>> resources,
+                                                                    BiConsumer<UUID, List<Resource<T>>> fct,
+                                                                    Consumer<List<Resource<T>>> restoreFct,
+                                                                    List<FlushTask> tasks) {
+        for (List<Resource<T>> chunk : Lists.partition(resources, FLUSH_CHUNK_SIZE)) {
+            tasks.add(new FlushTask(() -> fct.accept(networkUuid, chunk), () -> restoreFct.accept(chunk)));
+        }
+    }
+
+    /**
+     * Split buffered creations and updates of a collection into tasks. Resources updated in the same flush as their
+     * creation are only created, and resources fully updated are not state updated, so that tasks of a same
+     * collection do not depend on each other.
+     */
+    private static <T extends IdentifiableAttributes> void addFlushTasks(Map<UUID, List<Resource<T>>> createResourcesToFlush,
+                                                                         Map<UUID, Map<String, Resource<T>>> updateResourcesToFlush,
+                                                                         Map<UUID, Map<String, Resource<T>>> updateStateResourcesToFlush,
+                                                                         BiConsumer<UUID, List<Resource<T>>> createFct,
+                                                                         BiConsumer<UUID, List<Resource<T>>> updateFct,
+                                                                         BiConsumer<UUID, List<Resource<T>>> updateStateFct,
+                                                                         List<FlushTask> tasks) {
+        if (!createResourcesToFlush.isEmpty()) {
+            for (Map.Entry<UUID, List<Resource<T>>> e : createResourcesToFlush.entrySet()) {
+                UUID networkUuid = e.getKey();
+                addTasks(networkUuid, e.getValue(), createFct,
+                    chunk -> createResourcesToFlush.computeIfAbsent(networkUuid, k -> new ArrayList<>()).addAll(chunk), tasks);
+
+                // a resource created in this flush is already sent with its last modifications
+                removeResourcesToUpdate(updateResourcesToFlush, e.getKey(), e.getValue());
+                removeResourcesToUpdate(updateStateResourcesToFlush, e.getKey(), e.getValue());
+            }
+            createResourcesToFlush.clear();
+        }
+        if (!updateResourcesToFlush.isEmpty()) {
+            for (Map.Entry<UUID, Map<String, Resource<T>>> e : updateResourcesToFlush.entrySet()) {
+                if (!e.getValue().isEmpty()) {
+                    UUID networkUuid = e.getKey();
+                    addTasks(networkUuid, new ArrayList<>(e.getValue().values()), updateFct,
+                        chunk -> addResourcesToUpdate(updateResourcesToFlush, networkUuid, chunk), tasks);
+
+                    // a full update already includes the state
+                    removeResourcesToUpdate(updateStateResourcesToFlush, e.getKey(), e.getValue().values());
+                }
+            }
+            updateResourcesToFlush.clear();
+        }
+        if (!updateStateResourcesToFlush.isEmpty()) {
+            for (Map.Entry<UUID, Map<String, Resource<T>>> e : updateStateResourcesToFlush.entrySet()) {
+                if (!e.getValue().isEmpty()) {
+                    UUID networkUuid = e.getKey();
+                    addTasks(networkUuid, new ArrayList<>(e.getValue().values()), updateStateFct,
+                        chunk -> addResourcesToUpdate(updateStateResourcesToFlush, networkUuid, chunk), tasks);
+                }
+            }
+            updateStateResourcesToFlush.clear();
+        }
+    }
+
+    private void runTasks(List<FlushTask> tasks) {
+        try {
+            if (executorService == null) {
+                tasks.forEach(FlushTask::send);
+            } else {
+                List<Future<?>> futures = new ArrayList<>(tasks.size());
+                for (FlushTask task : tasks) {
+                    futures.add(executorService.submit(task::send));
+                }
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (InterruptedException e) {
+                        futures.forEach(f -> f.cancel(true));
+                        Thread.currentThread().interrupt();
+                        throw new PowsyblException(e);
+                    } catch (ExecutionException e) {
+                        futures.forEach(f -> f.cancel(true));
+                        if (e.getCause() instanceof RuntimeException) {
+                            throw (RuntimeException) e.getCause();
+                        }
+                        throw new PowsyblException(e.getCause());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // resources which have not been sent are kept for the next flush
+            tasks.forEach(FlushTask::restoreIfNotSent);
+            throw e;
+        } finally {
+            tasks.clear();
         }
     }
 
@@ -496,24 +964,46 @@ public class BufferedRestNetworkStoreClient implements NetworkStoreClient {
     public void flush() {
         if (!networkResourcesToFlush.isEmpty()) {
             client.createNetworks(networkResourcesToFlush);
+            networkResourcesToFlush.forEach(resource -> updateNetworkResourcesToFlush.remove(resource.getId()));
             networkResourcesToFlush.clear();
         }
+        if (!updateNetworkResourcesToFlush.isEmpty()) {
+            client.updateNetworks(new ArrayList<>(updateNetworkResourcesToFlush.values()));
+            updateNetworkResourcesToFlush.clear();
+        }
 
-        flushResources(substationResourcesToFlush, client::createSubstations);
-        flushResources(voltageLevelResourcesToFlush, client::createVoltageLevels);
-        flushResources(generatorResourcesToFlush, client::createGenerators);
-        flushResources(loadResourcesToFlush, client::createLoads);
-        flushResources(busbarSectionResourcesToFlush, client::createBusbarSections);
-        flushResources(switchResourcesToFlush, client::createSwitches);
-        flushResources(shuntCompensatorResourcesToFlush, client::createShuntCompensators);
-        flushResources(svcResourcesToFlush, client::createStaticVarCompensators);
-        flushResources(vscConverterStationResourcesToFlush, client::createVscConverterStations);
-        flushResources(lccConverterStationResourcesToFlush, client::createLccConverterStations);
-        flushResources(danglingLineResourcesToFlush, client::createDanglingLines);
-        flushResources(hvdcLineResourcesToFlush, client::createHvdcLines);
-        flushResources(twoWindingsTransformerResourcesToFlush, client::createTwoWindingsTransformers);
-        flushResources(threeWindingsTransformerResourcesToFlush, client::createThreeWindingsTransformers);
-        flushResources(lineResourcesToFlush, client::createLines);
-        flushResources(busResourcesToFlush, client::createConfiguredBuses);
+        // substations and voltage levels have to be created before the equipments they contain, other collections
+        // are independent and can be sent concurrently
+        List<FlushTask> tasks = new ArrayList<>();
+        addFlushTasks(substationResourcesToFlush, updateSubstationResourcesToFlush, client::createSubstations, client::updateSubstations, tasks);
+        runTasks(tasks);
+        addFlushTasks(voltageLevelResourcesToFlush, updateVoltageLevelResourcesToFlush, client::createVoltageLevels, client::updateVoltageLevels, tasks);
+        runTasks(tasks);
+        addFlushTasks(generatorResourcesToFlush, updateGeneratorResourcesToFlush, updateGeneratorStateResourcesToFlush,
+                      client::createGenerators, client::updateGenerators, client::updateGeneratorStates, tasks);
+        addFlushTasks(loadResourcesToFlush, updateLoadResourcesToFlush, updateLoadStateResourcesToFlush,
+                      client::createLoads, client::updateLoads, client::updateLoadStates, tasks);
+        addFlushTasks(busbarSectionResourcesToFlush, updateBusbarSectionResourcesToFlush, client::createBusbarSections, client::updateBusbarSections, tasks);
+        addFlushTasks(switchResourcesToFlush, updateSwitchResourcesToFlush, updateSwitchStateResourcesToFlush,
+                      client::createSwitches, client::updateSwitches, client::updateSwitchStates, tasks);
+        addFlushTasks(shuntCompensatorResourcesToFlush, updateShuntCompensatorResourcesToFlush, updateShuntCompensatorStateResourcesToFlush,
+                      client::createShuntCompensators, client::updateShuntCompensators, client::updateShuntCompensatorStates, tasks);
+        addFlushTasks(svcResourcesToFlush, updateSvcResourcesToFlush, updateSvcStateResourcesToFlush,
+                      client::createStaticVarCompensators, client::updateStaticVarCompensators, client::updateStaticVarCompensatorStates, tasks);
+        addFlushTasks(vscConverterStationResourcesToFlush, updateVscConverterStationResourcesToFlush, updateVscConverterStationStateResourcesToFlush,
+                      client::createVscConverterStations, client::updateVscConverterStations, client::updateVscConverterStationStates, tasks);
+        addFlushTasks(lccConverterStationResourcesToFlush, updateLccConverterStationResourcesToFlush, updateLccConverterStationStateResourcesToFlush,
+                      client::createLccConverterStations, client::updateLccConverterStations, client::updateLccConverterStationStates, tasks);
+        addFlushTasks(danglingLineResourcesToFlush, updateDanglingLineResourcesToFlush, updateDanglingLineStateResourcesToFlush,
+                      client::createDanglingLines, client::updateDanglingLines, client::updateDanglingLineStates, tasks);
+        addFlushTasks(hvdcLineResourcesToFlush, updateHvdcLineResourcesToFlush, client::createHvdcLines, client::updateHvdcLines, tasks);
+        addFlushTasks(twoWindingsTransformerResourcesToFlush, updateTwoWindingsTransformerResourcesToFlush, updateTwoWindingsTransformerStateResourcesToFlush,
+                      client::createTwoWindingsTransformers, client::updateTwoWindingsTransformers, client::updateTwoWindingsTransformerStates, tasks);
+        addFlushTasks(threeWindingsTransformerResourcesToFlush, updateThreeWindingsTransformerResourcesToFlush, updateThreeWindingsTransformerStateResourcesToFlush,
+                      client::createThreeWindingsTransformers, client::updateThreeWindingsTransformers, client::updateThreeWindingsTransformerStates, tasks);
+        addFlushTasks(lineResourcesToFlush, updateLineResourcesToFlush, updateLineStateResourcesToFlush,
+                      client::createLines, client::updateLines, client::updateLineStates, tasks);
+        addFlushTasks(busResourcesToFlush, updateBusResourcesToFlush, client::createConfiguredBuses, client::updateConfiguredBuses, tasks);
+        runTasks(tasks);
     }
 }
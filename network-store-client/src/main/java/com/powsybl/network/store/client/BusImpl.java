@@ -8,202 +8,327 @@ package com.powsybl.network.store.client;
 
 import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.BusAttributes;
+import com.powsybl.network.store.model.NodeBreakerTopology;
 import com.powsybl.network.store.model.Resource;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
+ * A bus of the bus view of a node/breaker voltage level, numbered by its lowest node. The bus always relies on the
+ * current calculated topology of the voltage level, a bus that has been merged or split having no terminal.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class BusImpl extends AbstractIdentifiableImpl<Bus, BusAttributes> implements Bus {
 
-    public BusImpl(NetworkObjectIndex index, Resource<BusAttributes> resource) {
+    private final BusViewImpl busView;
+
+    private final int num;
+
+    BusImpl(NetworkObjectIndex index, Resource<BusAttributes> resource, BusViewImpl busView, int num) {
         super(index, resource);
+        this.busView = busView;
+        this.num = num;
+    }
+
+    static BusImpl create(NetworkObjectIndex index, BusViewImpl busView, String id, int num) {
+        return new BusImpl(index, new Resource<>(null, id, new BusAttributes()), busView, num);
+    }
+
+    int getNum() {
+        return num;
+    }
+
+    private NetworkComponents getNetworkComponents() {
+        return index.getNetwork().getComponents();
+    }
+
+    private List<Terminal> getTerminals() {
+        return busView.getCalculatedTopology().getBusTerminals(num);
+    }
+
+    private <T> Stream<T> getConnectableStream(Class<T> clazz) {
+        return getTerminals().stream()
+                .map(Terminal::getConnectable)
+                .filter(clazz::isInstance)
+                .map(clazz::cast)
+                .distinct();
     }
 
-    static BusImpl create(NetworkObjectIndex index) {
-        return new BusImpl(index, new Resource<>());
+    private <T> List<T> getConnectables(Class<T> clazz) {
+        return getConnectableStream(clazz).collect(Collectors.toList());
     }
 
     @Override
     public VoltageLevel getVoltageLevel() {
-        throw new UnsupportedOperationException("TODO");
+        return busView.getVoltageLevel();
     }
 
     @Override
     public double getV() {
-        throw new UnsupportedOperationException("TODO");
+        return busView.getV(num);
     }
 
     @Override
     public Bus setV(double v) {
-        // TODO
+        busView.setV(num, v);
         return this;
     }
 
     @Override
     public double getAngle() {
-        throw new UnsupportedOperationException("TODO");
+        return busView.getAngle(num);
     }
 
     @Override
     public Bus setAngle(double angle) {
-        // TODO
+        busView.setAngle(num, angle);
         return this;
     }
 
     @Override
     public double getP() {
-        throw new UnsupportedOperationException("TODO");
+        double p = 0;
+        for (Terminal terminal : getTerminals()) {
+            switch (terminal.getConnectable().getType()) {
+                case GENERATOR:
+                case BATTERY:
+                case LOAD:
+                case HVDC_CONVERTER_STATION:
+                    if (!Double.isNaN(terminal.getP())) {
+                        p += terminal.getP();
+                    }
+                    break;
+                default:
+                    // no active power injection
+                    break;
+            }
+        }
+        return p;
     }
 
     @Override
     public double getQ() {
-        throw new UnsupportedOperationException("TODO");
+        double q = 0;
+        for (Terminal terminal : getTerminals()) {
+            switch (terminal.getConnectable().getType()) {
+                case GENERATOR:
+                case BATTERY:
+                case LOAD:
+                case SHUNT_COMPENSATOR:
+                case STATIC_VAR_COMPENSATOR:
+                case HVDC_CONVERTER_STATION:
+                    if (!Double.isNaN(terminal.getQ())) {
+                        q += terminal.getQ();
+                    }
+                    break;
+                default:
+                    // no reactive power injection
+                    break;
+            }
+        }
+        return q;
     }
 
     @Override
     public Component getConnectedComponent() {
-        throw new UnsupportedOperationException("TODO");
+        return getNetworkComponents().getConnectedComponent(this);
     }
 
     @Override
     public boolean isInMainConnectedComponent() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectedComponent().getNum() == ComponentConstants.MAIN_NUM;
     }
 
     @Override
     public Component getSynchronousComponent() {
-        throw new UnsupportedOperationException("TODO");
+        return getNetworkComponents().getSynchronousComponent(this);
     }
 
     @Override
     public boolean isInMainSynchronousComponent() {
-        throw new UnsupportedOperationException("TODO");
+        return getSynchronousComponent().getNum() == ComponentConstants.MAIN_NUM;
     }
 
     @Override
     public int getConnectedTerminalCount() {
-        throw new UnsupportedOperationException("TODO");
+        return getTerminals().size();
     }
 
     @Override
     public Iterable<Line> getLines() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(Line.class);
     }
 
     @Override
     public Stream<Line> getLineStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(Line.class);
     }
 
     @Override
     public Iterable<TwoWindingsTransformer> getTwoWindingsTransformers() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(TwoWindingsTransformer.class);
     }
 
     @Override
     public Stream<TwoWindingsTransformer> getTwoWindingsTransformerStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(TwoWindingsTransformer.class);
     }
 
     @Override
     public Iterable<ThreeWindingsTransformer> getThreeWindingsTransformers() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(ThreeWindingsTransformer.class);
     }
 
     @Override
     public Stream<ThreeWindingsTransformer> getThreeWindingsTransformerStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(ThreeWindingsTransformer.class);
     }
 
     @Override
     public Iterable<Generator> getGenerators() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(Generator.class);
     }
 
     @Override
     public Stream<Generator> getGeneratorStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(Generator.class);
     }
 
     @Override
     public Iterable<Battery> getBatteries() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(Battery.class);
     }
 
     @Override
     public Stream<Battery> getBatteryStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(Battery.class);
     }
 
     @Override
     public Iterable<Load> getLoads() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(Load.class);
     }
 
     @Override
     public Stream<Load> getLoadStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(Load.class);
     }
 
     @Override
     public Iterable<ShuntCompensator> getShuntCompensators() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(ShuntCompensator.class);
     }
 
     @Override
     public Stream<ShuntCompensator> getShuntCompensatorStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(ShuntCompensator.class);
     }
 
     @Override
     public Iterable<DanglingLine> getDanglingLines() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(DanglingLine.class);
     }
 
     @Override
     public Stream<DanglingLine> getDanglingLineStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(DanglingLine.class);
     }
 
     @Override
     public Iterable<StaticVarCompensator> getStaticVarCompensators() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(StaticVarCompensator.class);
     }
 
     @Override
     public Stream<StaticVarCompensator> getStaticVarCompensatorStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(StaticVarCompensator.class);
     }
 
     @Override
     public Iterable<LccConverterStation> getLccConverterStations() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(LccConverterStation.class);
     }
 
     @Override
     public Stream<LccConverterStation> getLccConverterStationStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(LccConverterStation.class);
     }
 
     @Override
     public Iterable<VscConverterStation> getVscConverterStations() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectables(VscConverterStation.class);
     }
 
     @Override
     public Stream<VscConverterStation> getVscConverterStationStream() {
-        throw new UnsupportedOperationException("TODO");
+        return getConnectableStream(VscConverterStation.class);
+    }
+
+    private static void visitEquipment(Terminal terminal, TopologyVisitor visitor) {
+        Connectable connectable = terminal.getConnectable();
+        switch (connectable.getType()) {
+            case BUSBAR_SECTION:
+                visitor.visitBusbarSection((BusbarSection) connectable);
+                break;
+            case LINE:
+                Line line = (Line) connectable;
+                visitor.visitLine(line, line.getSide(terminal));
+                break;
+            case TWO_WINDINGS_TRANSFORMER:
+                TwoWindingsTransformer twt = (TwoWindingsTransformer) connectable;
+                visitor.visitTwoWindingsTransformer(twt, twt.getSide(terminal));
+                break;
+            case THREE_WINDINGS_TRANSFORMER:
+                ThreeWindingsTransformer twt3 = (ThreeWindingsTransformer) connectable;
+                visitor.visitThreeWindingsTransformer(twt3, twt3.getSide(terminal));
+                break;
+            case GENERATOR:
+                visitor.visitGenerator((Generator) connectable);
+                break;
+            case BATTERY:
+                visitor.visitBattery((Battery) connectable);
+                break;
+            case LOAD:
+                visitor.visitLoad((Load) connectable);
+                break;
+            case SHUNT_COMPENSATOR:
+                visitor.visitShuntCompensator((ShuntCompensator) connectable);
+                break;
+            case DANGLING_LINE:
+                visitor.visitDanglingLine((DanglingLine) connectable);
+                break;
+            case STATIC_VAR_COMPENSATOR:
+                visitor.visitStaticVarCompensator((StaticVarCompensator) connectable);
+                break;
+            case HVDC_CONVERTER_STATION:
+                visitor.visitHvdcConverterStation((HvdcConverterStation<?>) connectable);
+                break;
+            default:
+                throw new IllegalStateException("Unknown connectable type: " + connectable.getType());
+        }
     }
 
     @Override
     public void visitConnectedEquipments(TopologyVisitor visitor) {
-        throw new UnsupportedOperationException("TODO");
+        for (Terminal terminal : getTerminals()) {
+            visitEquipment(terminal, visitor);
+        }
     }
 
     @Override
     public void visitConnectedOrConnectableEquipments(TopologyVisitor visitor) {
-        throw new UnsupportedOperationException("TODO");
+        visitConnectedEquipments(visitor);
+        // equipments that are not part of any bus but that would be connected to this one by closing switches
+        BusViewImpl.CalculatedTopology calculatedTopology = busView.getCalculatedTopology();
+        NodeBreakerTopology topology = calculatedTopology.getTopology();
+        for (int node = 0; node < topology.getNodeCount(); node++) {
+            Terminal terminal = calculatedTopology.getTerminal(node);
+            if (terminal != null && topology.getBus(node) == -1 && topology.getConnectableBus(node) == num) {
+                visitEquipment(terminal, visitor);
+            }
+        }
     }
 }
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.iidm.network.Bus;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Calculated buses of a voltage level replaced by other buses after a switch has been opened or closed.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BusTopologyChange {
+
+    private final String voltageLevelId;
+
+    private final String switchId;
+
+    private final List<Bus> oldBuses;
+
+    private final List<Bus> newBuses;
+
+    public BusTopologyChange(String voltageLevelId, String switchId, List<Bus> oldBuses, List<Bus> newBuses) {
+        this.voltageLevelId = Objects.requireNonNull(voltageLevelId);
+        this.switchId = Objects.requireNonNull(switchId);
+        this.oldBuses = Objects.requireNonNull(oldBuses);
+        this.newBuses = Objects.requireNonNull(newBuses);
+    }
+
+    public String getVoltageLevelId() {
+        return voltageLevelId;
+    }
+
+    public String getSwitchId() {
+        return switchId;
+    }
+
+    /**
+     * Buses of the switch nodes before the change.
+     */
+    public List<Bus> getOldBuses() {
+        return oldBuses;
+    }
+
+    /**
+     * Buses of the switch nodes after the change.
+     */
+    public List<Bus> getNewBuses() {
+        return newBuses;
+    }
+
+    public boolean isMerge() {
+        return oldBuses.size() > 1 && newBuses.size() == 1;
+    }
+
+    public boolean isSplit() {
+        return oldBuses.size() == 1 && newBuses.size() > 1;
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+/**
+ * Notified when opening or closing a switch merges or splits calculated buses. Only voltage levels whose bus
+ * topology has already been calculated are reported.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface BusTopologyListener {
+
+    void onBusTopologyChange(BusTopologyChange change);
+}
@@ -0,0 +1,406 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.model.CalculatedBusesAttributes;
+import com.powsybl.network.store.model.NodeBreakerTopology;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.VoltageLevelAttributes;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Bus view of a node/breaker voltage level. The calculated topology is kept until an equipment is added to the
+ * network or an internal connection to the voltage level. Opening or closing a switch of the voltage level updates
+ * the calculated topology incrementally, buses not impacted by the switch being kept. A bus is identified by its
+ * lowest node, so its ID does not change when the other buses of the voltage level are merged or split. Until the
+ * topology is needed, buses are listed from the ones calculated by the store so that the equipments of the voltage
+ * level do not have to be loaded.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BusViewImpl implements VoltageLevel.BusView {
+
+    static final class CalculatedTopology {
+
+        private final int version;
+
+        private final NodeBreakerTopology topology;
+
+        private final Terminal[] terminalByNode;
+
+        private final Map<String, Integer> switchNumById;
+
+        private final Switch[] switches;
+
+        private final SortedMap<Integer, Bus> busByNum;
+
+        private final List<Bus> buses;
+
+        private CalculatedTopology(int version, NodeBreakerTopology topology, Terminal[] terminalByNode,
+                                   Map<String, Integer> switchNumById, Switch[] switches, SortedMap<Integer, Bus> busByNum) {
+            this.version = version;
+            this.topology = topology;
+            this.terminalByNode = terminalByNode;
+            this.switchNumById = switchNumById;
+            this.switches = switches;
+            this.busByNum = busByNum;
+            this.buses = Collections.unmodifiableList(new ArrayList<>(busByNum.values()));
+        }
+
+        NodeBreakerTopology getTopology() {
+            return topology;
+        }
+
+        Terminal getTerminal(int node) {
+            return node >= 0 && node < terminalByNode.length ? terminalByNode[node] : null;
+        }
+
+        List<Terminal> getBusTerminals(int bus) {
+            List<Terminal> terminals = new ArrayList<>();
+            topology.forEachBusNode(bus, node -> {
+                if (terminalByNode[node] != null) {
+                    terminals.add(terminalByNode[node]);
+                }
+            });
+            return terminals;
+        }
+
+        Bus getBus(int bus) {
+            return bus != -1 ? busByNum.get(bus) : null;
+        }
+
+        /**
+         * @return the switch of an edge of the topology, null for an internal connection
+         */
+        Switch getSwitch(int edge) {
+            return edge < switches.length ? switches[edge] : null;
+        }
+
+        private List<Bus> getSwitchBuses(int sw) {
+            List<Bus> switchBuses = new ArrayList<>(2);
+            int bus1 = topology.getBus(topology.getSwitchNode1(sw));
+            int bus2 = topology.getBus(topology.getSwitchNode2(sw));
+            if (bus1 != -1) {
+                switchBuses.add(busByNum.get(bus1));
+            }
+            if (bus2 != -1 && bus2 != bus1) {
+                switchBuses.add(busByNum.get(bus2));
+            }
+            return switchBuses;
+        }
+    }
+
+    /**
+     * Buses calculated by the store, valid for a bus topology version.
+     */
+    static final class StoredBuses {
+
+        private final int version;
+
+        private final List<Integer> busByNode;
+
+        private final List<Bus> buses;
+
+        private final Map<Integer, List<Integer>> nodesByNum;
+
+        private StoredBuses(int version, List<Integer> busByNode, List<Bus> buses, Map<Integer, List<Integer>> nodesByNum) {
+            this.version = version;
+            this.busByNode = busByNode;
+            this.buses = Collections.unmodifiableList(buses);
+            this.nodesByNum = nodesByNum;
+        }
+
+        Bus getBusOfNode(int node) {
+            int bus = node >= 0 && node < busByNode.size() ? busByNode.get(node) : -1;
+            return bus != -1 ? buses.get(bus) : null;
+        }
+
+        Bus getBus(int num) {
+            Bus bus = getBusOfNode(num);
+            return bus != null && ((BusImpl) bus).getNum() == num ? bus : null;
+        }
+    }
+
+    private final Resource<VoltageLevelAttributes> voltageLevelResource;
+
+    private final NetworkObjectIndex index;
+
+    private volatile CalculatedTopology calculatedTopology;
+
+    private volatile StoredBuses storedBuses;
+
+    BusViewImpl(Resource<VoltageLevelAttributes> voltageLevelResource, NetworkObjectIndex index) {
+        this.voltageLevelResource = Objects.requireNonNull(voltageLevelResource);
+        this.index = Objects.requireNonNull(index);
+    }
+
+    static BusViewImpl create(Resource<VoltageLevelAttributes> voltageLevelResource, NetworkObjectIndex index) {
+        return new BusViewImpl(voltageLevelResource, index);
+    }
+
+    CalculatedTopology getCalculatedTopology() {
+        CalculatedTopology current = calculatedTopology;
+        int version = index.getTopologyVersion();
+        if (current == null || current.version != version) {
+            synchronized (this) {
+                current = calculatedTopology;
+                if (current == null || current.version != version) {
+                    current = calculate(version);
+                    calculatedTopology = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private boolean isCalculatedTopologyValid() {
+        CalculatedTopology current = calculatedTopology;
+        return current != null && current.version == index.getTopologyVersion();
+    }
+
+    /**
+     * @return the buses calculated by the store for the current bus topology or null if the store cannot calculate them
+     */
+    private StoredBuses getStoredBuses() {
+        int version = index.getBusTopologyVersion();
+        StoredBuses current = storedBuses;
+        if (current == null || current.version != version) {
+            synchronized (this) {
+                current = storedBuses;
+                if (current == null || current.version != version) {
+                    StoredBuses previous = current;
+                    current = index.getStoreClient().getVoltageLevelCalculatedBuses(index.getNetwork().getUuid(), voltageLevelResource.getId())
+                            .map(calculatedBuses -> createStoredBuses(version, calculatedBuses, previous))
+                            .orElse(null);
+                    storedBuses = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Buses whose nodes have not changed since the previous calculation are kept.
+     */
+    private StoredBuses createStoredBuses(int version, CalculatedBusesAttributes calculatedBuses, StoredBuses previous) {
+        List<Integer> busByNode = calculatedBuses.getBusByNode();
+        List<List<Integer>> nodesByBus = new ArrayList<>(calculatedBuses.getBusIds().size());
+        for (int bus = 0; bus < calculatedBuses.getBusIds().size(); bus++) {
+            nodesByBus.add(new ArrayList<>());
+        }
+        for (int node = 0; node < busByNode.size(); node++) {
+            int bus = busByNode.get(node);
+            if (bus != -1) {
+                nodesByBus.get(bus).add(node);
+            }
+        }
+        List<Bus> buses = new ArrayList<>(nodesByBus.size());
+        Map<Integer, List<Integer>> nodesByNum = new HashMap<>(nodesByBus.size());
+        for (int bus = 0; bus < nodesByBus.size(); bus++) {
+            List<Integer> nodes = nodesByBus.get(bus);
+            int num = nodes.get(0);
+            Bus previousBus = previous != null && nodes.equals(previous.nodesByNum.get(num)) ? previous.getBus(num) : null;
+            buses.add(previousBus != null ? previousBus : BusImpl.create(index, this, calculatedBuses.getBusIds().get(bus), num));
+            nodesByNum.put(num, nodes);
+        }
+        return new StoredBuses(version, busByNode, buses, nodesByNum);
+    }
+
+    private CalculatedTopology calculate(int version) {
+        String voltageLevelId = voltageLevelResource.getId();
+        NodeBreakerTopology.Builder builder = new NodeBreakerTopology.Builder(voltageLevelResource.getAttributes().getNodeCount())
+                .addVoltageLevel(voltageLevelResource.getAttributes());
+        Switch[] switches = index.getSwitches(voltageLevelId).toArray(new Switch[0]);
+        Map<String, Integer> switchNumById = new HashMap<>(switches.length);
+        for (Switch s : switches) {
+            SwitchImpl sw = (SwitchImpl) s;
+            builder.addSwitch(sw.getNode1(), sw.getNode2(), sw.isOpen());
+            switchNumById.put(sw.getId(), switchNumById.size());
+        }
+        List<Terminal> terminals = new ArrayList<>();
+        VoltageLevel voltageLevel = index.getVoltageLevel(voltageLevelId).orElseThrow(IllegalStateException::new);
+        for (Connectable<?> connectable : voltageLevel.getConnectables()) {
+            for (Terminal terminal : connectable.getTerminals()) {
+                // a branch might have only one of its sides in this voltage level
+                if (terminal.getVoltageLevel().getId().equals(voltageLevelId)) {
+                    builder.addTerminal(terminal.getNodeBreakerView().getNode(), connectable.getType() != ConnectableType.BUSBAR_SECTION);
+                    terminals.add(terminal);
+                }
+            }
+        }
+        NodeBreakerTopology topology = builder.build();
+        Terminal[] terminalByNode = new Terminal[topology.getNodeCount()];
+        for (Terminal terminal : terminals) {
+            terminalByNode[terminal.getNodeBreakerView().getNode()] = terminal;
+        }
+        // buses already listed from the store for the same bus topology are kept
+        StoredBuses stored = storedBuses;
+        if (stored != null && stored.version != index.getBusTopologyVersion()) {
+            stored = null;
+        }
+        SortedMap<Integer, Bus> busByNum = new TreeMap<>();
+        for (int bus : topology.getBuses()) {
+            Bus storedBus = stored != null ? stored.getBus(bus) : null;
+            busByNum.put(bus, storedBus != null ? storedBus : createBus(bus));
+        }
+        return new CalculatedTopology(version, topology, terminalByNode, switchNumById, switches, busByNum);
+    }
+
+    private Bus createBus(int bus) {
+        return BusImpl.create(index, this, NodeBreakerTopology.getBusId(voltageLevelResource.getId(), bus), bus);
+    }
+
+    synchronized void invalidateCalculatedTopology() {
+        calculatedTopology = null;
+        index.notifyBusTopologyChanged();
+    }
+
+    /**
+     * Update the calculated topology after a switch of the voltage level has been opened or closed.
+     *
+     * @return the buses replaced by the switch change or null if no bus has been merged or split
+     */
+    BusTopologyChange updateSwitch(String switchId, boolean open) {
+        synchronized (this) {
+            CalculatedTopology current = calculatedTopology;
+            if (current == null || current.version != index.getTopologyVersion()) {
+                // will be calculated on next access
+                index.notifyBusTopologyChanged();
+                return null;
+            }
+            Integer sw = current.switchNumById.get(switchId);
+            if (sw == null) {
+                invalidateCalculatedTopology();
+                return null;
+            }
+            NodeBreakerTopology topology = open ? current.topology.openSwitch(sw) : current.topology.closeSwitch(sw);
+            if (topology == current.topology) {
+                return null;
+            }
+            if (topology.hasSameBuses(current.topology)) {
+                // existing buses are still valid
+                calculatedTopology = new CalculatedTopology(current.version, topology, current.terminalByNode,
+                                                            current.switchNumById, current.switches, current.busByNum);
+                return null;
+            }
+            // only the buses of the switch are replaced
+            List<Bus> oldBuses = current.getSwitchBuses(sw);
+            SortedMap<Integer, Bus> busByNum = new TreeMap<>(current.busByNum);
+            for (Bus bus : oldBuses) {
+                busByNum.remove(((BusImpl) bus).getNum());
+            }
+            for (int node : new int[] {topology.getSwitchNode1(sw), topology.getSwitchNode2(sw)}) {
+                int bus = topology.getBus(node);
+                if (bus != -1 && !busByNum.containsKey(bus)) {
+                    busByNum.put(bus, createBus(bus));
+                }
+            }
+            CalculatedTopology updated = new CalculatedTopology(current.version, topology, current.terminalByNode,
+                                                                current.switchNumById, current.switches, busByNum);
+            calculatedTopology = updated;
+            index.notifyBusTopologyChanged();
+            List<Bus> newBuses = updated.getSwitchBuses(sw);
+            return oldBuses.isEmpty() && newBuses.isEmpty() ? null
+                                                            : new BusTopologyChange(voltageLevelResource.getId(), switchId, oldBuses, newBuses);
+        }
+    }
+
+    Bus getBus(int node) {
+        if (!isCalculatedTopologyValid()) {
+            StoredBuses stored = getStoredBuses();
+            if (stored != null) {
+                return stored.getBusOfNode(node);
+            }
+        }
+        CalculatedTopology current = getCalculatedTopology();
+        return current.getBus(current.getTopology().getBus(node));
+    }
+
+    Bus getConnectableBus(int node) {
+        CalculatedTopology current = getCalculatedTopology();
+        return current.getBus(current.getTopology().getConnectableBus(node));
+    }
+
+    VoltageLevel getVoltageLevel() {
+        return index.getVoltageLevel(voltageLevelResource.getId()).orElseThrow(IllegalStateException::new);
+    }
+
+    // bus voltages are stored by node in the voltage level so that they are kept when the topology is calculated
+    // again
+
+    private static double getValue(Map<Integer, Double> valueByNode, int node) {
+        return valueByNode != null ? valueByNode.getOrDefault(node, Double.NaN) : Double.NaN;
+    }
+
+    private Map<Integer, Double> setValue(Map<Integer, Double> valueByNode, int bus, double value) {
+        Map<Integer, Double> newValueByNode = valueByNode != null ? valueByNode : new HashMap<>();
+        getCalculatedTopology().getTopology().forEachBusNode(bus, node -> {
+            if (Double.isNaN(value)) {
+                newValueByNode.remove(node);
+            } else {
+                newValueByNode.put(node, value);
+            }
+        });
+        return newValueByNode;
+    }
+
+    synchronized double getV(int node) {
+        return getValue(voltageLevelResource.getAttributes().getBusVByNode(), node);
+    }
+
+    synchronized double getAngle(int node) {
+        return getValue(voltageLevelResource.getAttributes().getBusAngleByNode(), node);
+    }
+
+    synchronized void setV(int bus, double v) {
+        VoltageLevelAttributes attributes = voltageLevelResource.getAttributes();
+        attributes.setBusVByNode(setValue(attributes.getBusVByNode(), bus, v));
+        index.updateResource(voltageLevelResource);
+    }
+
+    synchronized void setAngle(int bus, double angle) {
+        VoltageLevelAttributes attributes = voltageLevelResource.getAttributes();
+        attributes.setBusAngleByNode(setValue(attributes.getBusAngleByNode(), bus, angle));
+        index.updateResource(voltageLevelResource);
+    }
+
+    @Override
+    public List<Bus> getBuses() {
+        if (!isCalculatedTopologyValid()) {
+            StoredBuses stored = getStoredBuses();
+            if (stored != null) {
+                return stored.buses;
+            }
+        }
+        return getCalculatedTopology().buses;
+    }
+
+    @Override
+    public Stream<Bus> getBusStream() {
+        return getBuses().stream();
+    }
+
+    @Override
+    public Bus getBus(String id) {
+        return getBusStream()
+                .filter(bus -> bus.getId().equals(id))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Node/breaker voltage levels have no bus/breaker view, so there is no bus/breaker bus to merge.
+     */
+    @Override
+    public Bus getMergedBus(String configuredBusId) {
+        throw new PowsyblException("Node/breaker voltage level '" + voltageLevelResource.getId() + "' has no bus/breaker view");
+    }
+}
@@ -116,6 +116,7 @@ public class BusbarSectionImpl extends AbstractIdentifiableImpl<BusbarSection, B
                     .busbarIndex(position.getBusbarIndex())
                     .sectionIndex(position.getSectionIndex())
                     .build());
+            updateResource();
         }
     }
 
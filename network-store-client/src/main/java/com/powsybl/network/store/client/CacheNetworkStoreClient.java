@@ -7,13 +7,17 @@
 package com.powsybl.network.store.client;
 
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.TopologyKind;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
+ * Resources can be read and added to the cache by several threads at the same time.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class CacheNetworkStoreClient implements NetworkStoreClient {
@@ -22,9 +26,9 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
 
         private final Resource<NetworkAttributes> networkResource;
 
-        private final Map<String, Resource<SubstationAttributes>> substationResources = new HashMap<>();
+        private final Map<String, Resource<SubstationAttributes>> substationResources = new ConcurrentHashMap<>();
 
-        private final Map<String, Resource<HvdcLineAttributes>> hvdcLineResources = new HashMap<>();
+        private final Map<String, Resource<HvdcLineAttributes>> hvdcLineResources = new ConcurrentHashMap<>();
 
         static class NestedResources<T extends IdentifiableAttributes> {
 
@@ -34,9 +38,9 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
 
             private final Function<Resource<T>, String> containerIdFct3;
 
-            private final Map<String, Resource<T>> resourcesById = new HashMap<>();
+            private final Map<String, Resource<T>> resourcesById = new ConcurrentHashMap<>();
 
-            private final Map<String, List<Resource<T>>> resourcesByContainerId = new HashMap<>();
+            private final Map<String, List<Resource<T>>> resourcesByContainerId = new ConcurrentHashMap<>();
 
             NestedResources(Function<Resource<T>, String> containerIdFct1) {
                 this(containerIdFct1, null, null);
@@ -58,16 +62,21 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
                 }
             }
 
+            /**
+             * A resource already in the cache is kept as is, as it might have been modified since it has been loaded.
+             */
             void addResource(Resource<T> resource) {
-                resourcesById.put(resource.getId(), resource);
-                resourcesByContainerId.computeIfAbsent(containerIdFct1.apply(resource), k -> new ArrayList<>())
+                if (resourcesById.putIfAbsent(resource.getId(), resource) != null) {
+                    return;
+                }
+                resourcesByContainerId.computeIfAbsent(containerIdFct1.apply(resource), k -> Collections.synchronizedList(new ArrayList<>()))
                         .add(resource);
                 if (containerIdFct2 != null) {
-                    resourcesByContainerId.computeIfAbsent(containerIdFct2.apply(resource), k -> new ArrayList<>())
+                    resourcesByContainerId.computeIfAbsent(containerIdFct2.apply(resource), k -> Collections.synchronizedList(new ArrayList<>()))
                             .add(resource);
                 }
                 if (containerIdFct3 != null) {
-                    resourcesByContainerId.computeIfAbsent(containerIdFct3.apply(resource), k -> new ArrayList<>())
+                    resourcesByContainerId.computeIfAbsent(containerIdFct3.apply(resource), k -> Collections.synchronizedList(new ArrayList<>()))
                             .add(resource);
                 }
             }
@@ -85,7 +94,11 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
             }
 
             List<Resource<T>> getContainerResources(String containerId) {
-                return resourcesByContainerId.computeIfAbsent(containerId, k -> new ArrayList<>());
+                // a copy so that the list can be iterated while resources are added to the container
+                List<Resource<T>> resources = resourcesByContainerId.getOrDefault(containerId, Collections.emptyList());
+                synchronized (resources) {
+                    return new ArrayList<>(resources);
+                }
             }
         }
 
@@ -129,7 +142,7 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         }
 
         void addSubstationResource(Resource<SubstationAttributes> substationResource) {
-            substationResources.put(substationResource.getId(), substationResource);
+            substationResources.putIfAbsent(substationResource.getId(), substationResource);
         }
 
         List<Resource<SubstationAttributes>> getSubstationResources() {
@@ -197,7 +210,7 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         }
 
         void addHvdcLineResource(Resource<HvdcLineAttributes> hvdcLineResource) {
-            hvdcLineResources.put(hvdcLineResource.getId(), hvdcLineResource);
+            hvdcLineResources.putIfAbsent(hvdcLineResource.getId(), hvdcLineResource);
         }
 
         List<Resource<HvdcLineAttributes>> getHvdcLineResources() {
@@ -219,11 +232,98 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         int getHvdcLineResourceCount() {
             return hvdcLineResources.size();
         }
+
+        @SuppressWarnings("unchecked")
+        Optional<Resource<IdentifiableAttributes>> getIdentifiableResource(String id) {
+            List<Map<String, ? extends Resource<? extends IdentifiableAttributes>>> resourcesByIdList = Arrays.asList(
+                    substationResources,
+                    hvdcLineResources,
+                    voltageLevelResources.resourcesById,
+                    generatorResources.resourcesById,
+                    loadResources.resourcesById,
+                    shuntCompensatorResources.resourcesById,
+                    staticVarCompensatorResources.resourcesById,
+                    vscConverterStationResources.resourcesById,
+                    lccConverterStationResources.resourcesById,
+                    busbarSectionResources.resourcesById,
+                    switchResources.resourcesById,
+                    twoWindingsTransformerResources.resourcesById,
+                    threeWindingsTransformerResources.resourcesById,
+                    lineResources.resourcesById,
+                    danglingLineResources.resourcesById,
+                    configuredBusResources.resourcesById);
+            for (Map<String, ? extends Resource<? extends IdentifiableAttributes>> resourcesById : resourcesByIdList) {
+                Resource<? extends IdentifiableAttributes> resource = resourcesById.get(id);
+                if (resource != null) {
+                    return Optional.of((Resource<IdentifiableAttributes>) resource);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @SuppressWarnings("unchecked")
+        void addResource(Resource<? extends IdentifiableAttributes> resource) {
+            switch (resource.getType()) {
+                case NETWORK:
+                    // already cached
+                    break;
+                case SUBSTATION:
+                    addSubstationResource((Resource<SubstationAttributes>) resource);
+                    break;
+                case VOLTAGE_LEVEL:
+                    voltageLevelResources.addResource((Resource<VoltageLevelAttributes>) resource);
+                    break;
+                case LOAD:
+                    loadResources.addResource((Resource<LoadAttributes>) resource);
+                    break;
+                case GENERATOR:
+                    generatorResources.addResource((Resource<GeneratorAttributes>) resource);
+                    break;
+                case SHUNT_COMPENSATOR:
+                    shuntCompensatorResources.addResource((Resource<ShuntCompensatorAttributes>) resource);
+                    break;
+                case VSC_CONVERTER_STATION:
+                    vscConverterStationResources.addResource((Resource<VscConverterStationAttributes>) resource);
+                    break;
+                case LCC_CONVERTER_STATION:
+                    lccConverterStationResources.addResource((Resource<LccConverterStationAttributes>) resource);
+                    break;
+                case STATIC_VAR_COMPENSATOR:
+                    staticVarCompensatorResources.addResource((Resource<StaticVarCompensatorAttributes>) resource);
+                    break;
+                case BUSBAR_SECTION:
+                    busbarSectionResources.addResource((Resource<BusbarSectionAttributes>) resource);
+                    break;
+                case SWITCH:
+                    switchResources.addResource((Resource<SwitchAttributes>) resource);
+                    break;
+                case TWO_WINDINGS_TRANSFORMER:
+                    twoWindingsTransformerResources.addResource((Resource<TwoWindingsTransformerAttributes>) resource);
+                    break;
+                case THREE_WINDINGS_TRANSFORMER:
+                    threeWindingsTransformerResources.addResource((Resource<ThreeWindingsTransformerAttributes>) resource);
+                    break;
+                case LINE:
+                    lineResources.addResource((Resource<LineAttributes>) resource);
+                    break;
+                case HVDC_LINE:
+                    addHvdcLineResource((Resource<HvdcLineAttributes>) resource);
+                    break;
+                case DANGLING_LINE:
+                    danglingLineResources.addResource((Resource<DanglingLineAttributes>) resource);
+                    break;
+                case CONFIGURED_BUS:
+                    configuredBusResources.addResource((Resource<ConfiguredBusAttributes>) resource);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown resource type: " + resource.getType());
+            }
+        }
     }
 
-    private final Map<UUID, NetworkCache> networkCaches = new HashMap<>();
+    private final Map<UUID, NetworkCache> networkCaches = new ConcurrentHashMap<>();
 
-    private NetworkCache getNetworkCache(UUID networkUuid) {
+    NetworkCache getNetworkCache(UUID networkUuid) {
         NetworkCache networkCache = networkCaches.get(networkUuid);
         if (networkCache == null) {
             throw new PowsyblException("Network '" + networkUuid + "' not found");
@@ -253,6 +353,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         networkCaches.remove(networkUuid);
     }
 
+    @Override
+    public void updateNetworks(List<Resource<NetworkAttributes>> networkResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        return getNetworkCache(networkUuid).getIdentifiableResource(id);
+    }
+
     @Override
     public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
         NetworkCache networkCache = getNetworkCache(networkUuid);
@@ -276,6 +386,11 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getSubstationResourceCount();
     }
 
+    @Override
+    public void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
         getNetworkCache(networkUuid).getVoltageLevelResources().addResources(voltageLevelResources);
@@ -301,6 +416,41 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getVoltageLevelResources().getResourceCount();
     }
 
+    @Override
+    public Optional<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(UUID networkUuid, String voltageLevelId) {
+        // calculated from the cached equipments, like on server side
+        return getVoltageLevel(networkUuid, voltageLevelId)
+                .filter(resource -> resource.getAttributes().getTopologyKind() == TopologyKind.NODE_BREAKER)
+                .map(resource -> {
+                    NodeBreakerTopology.Builder builder = new NodeBreakerTopology.Builder(resource.getAttributes().getNodeCount())
+                            .addVoltageLevel(resource.getAttributes());
+                    List<List<? extends Resource<? extends IdentifiableAttributes>>> contents = Arrays.asList(
+                            getVoltageLevelBusbarSections(networkUuid, voltageLevelId),
+                            getVoltageLevelSwitches(networkUuid, voltageLevelId),
+                            getVoltageLevelGenerators(networkUuid, voltageLevelId),
+                            getVoltageLevelLoads(networkUuid, voltageLevelId),
+                            getVoltageLevelShuntCompensators(networkUuid, voltageLevelId),
+                            getVoltageLevelStaticVarCompensators(networkUuid, voltageLevelId),
+                            getVoltageLevelVscConverterStation(networkUuid, voltageLevelId),
+                            getVoltageLevelLccConverterStation(networkUuid, voltageLevelId),
+                            getVoltageLevelTwoWindingsTransformers(networkUuid, voltageLevelId),
+                            getVoltageLevelThreeWindingsTransformers(networkUuid, voltageLevelId),
+                            getVoltageLevelLines(networkUuid, voltageLevelId),
+                            getVoltageLevelDanglingLines(networkUuid, voltageLevelId));
+                    for (List<? extends Resource<? extends IdentifiableAttributes>> content : contents) {
+                        for (Resource<? extends IdentifiableAttributes> equipment : content) {
+                            builder.addEquipment(voltageLevelId, equipment.getAttributes());
+                        }
+                    }
+                    return builder.build().getCalculatedBuses(voltageLevelId);
+                });
+    }
+
+    @Override
+    public void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
         return getNetworkCache(networkUuid).getBusbarSectionResources().getContainerResources(voltageLevelId);
@@ -381,6 +531,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getSwitchResources().getResourceCount();
     }
 
+    @Override
+    public void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateSwitchStates(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
         getNetworkCache(networkUuid).getBusbarSectionResources().addResources(busbarSectionResources);
@@ -401,6 +561,11 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getBusbarSectionResources().getResourceCount();
     }
 
+    @Override
+    public void updateBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
         getNetworkCache(networkUuid).getLoadResources().addResources(loadResources);
@@ -421,6 +586,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getLoadResources().getResourceCount();
     }
 
+    @Override
+    public void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateLoadStates(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
         getNetworkCache(networkUuid).getGeneratorResources().addResources(generatorResources);
@@ -441,6 +616,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getGeneratorResources().getResourceCount();
     }
 
+    @Override
+    public void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateGeneratorStates(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
         getNetworkCache(networkUuid).getTwoWindingsTransformerResources().addResources(twoWindingsTransformerResources);
@@ -461,6 +646,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getTwoWindingsTransformerResources().getResourceCount();
     }
 
+    @Override
+    public void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateTwoWindingsTransformerStates(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     // 3 windings transformer
 
     @Override
@@ -483,6 +678,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getThreeWindingsTransformerResources().getResourceCount();
     }
 
+    @Override
+    public void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateThreeWindingsTransformerStates(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
         getNetworkCache(networkUuid).getLineResources().addResources(lineResources);
@@ -503,6 +708,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getLineResources().getResourceCount();
     }
 
+    @Override
+    public void updateLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateLineStates(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
         getNetworkCache(networkUuid).getShuntCompensatorResources().addResources(shuntCompensatorResources);
@@ -523,6 +738,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getShuntCompensatorResources().getResourceCount();
     }
 
+    @Override
+    public void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateShuntCompensatorStates(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
         getNetworkCache(networkUuid).getVscConverterStationResources().addResources(vscConverterStationResources);
@@ -543,6 +768,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getVscConverterStationResources().getResourceCount();
     }
 
+    @Override
+    public void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateVscConverterStationStates(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> staticVarCompensatorResources) {
         getNetworkCache(networkUuid).getStaticVarCompensatorResources().addResources(staticVarCompensatorResources);
@@ -563,6 +798,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getStaticVarCompensatorResources().getResourceCount();
     }
 
+    @Override
+    public void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateStaticVarCompensatorStates(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     public void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
         getNetworkCache(networkUuid).getLccConverterStationResources().addResources(lccConverterStationResources);
     }
@@ -582,6 +827,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getLccConverterStationResources().getResourceCount();
     }
 
+    @Override
+    public void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateLccConverterStationStates(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLinesResources) {
         NetworkCache networkCache = getNetworkCache(networkUuid);
@@ -605,6 +860,11 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getHvdcLineResourceCount();
     }
 
+    @Override
+    public void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLinesResources) {
         getNetworkCache(networkUuid).getDanglingLineResources().addResources(danglingLinesResources);
@@ -625,6 +885,16 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getDanglingLineResources().getResourceCount();
     }
 
+    @Override
+    public void updateDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
+    @Override
+    public void updateDanglingLineStates(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void createConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
         getNetworkCache(networkUuid).getBusResources().addResources(busesResources);
@@ -645,6 +915,11 @@ public class CacheNetworkStoreClient implements NetworkStoreClient {
         return getNetworkCache(networkUuid).getBusResources(busId);
     }
 
+    @Override
+    public void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
+        // nothing to do, cached resources are modified in place
+    }
+
     @Override
     public void flush() {
         // nothing to do
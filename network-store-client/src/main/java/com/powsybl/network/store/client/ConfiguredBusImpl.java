@@ -53,6 +53,7 @@ public class ConfiguredBusImpl extends AbstractIdentifiableImpl<Bus, ConfiguredB
     @Override
     public Bus setV(double v) {
         resource.getAttributes().setV(v);
+        updateResource();
         return this;
     }
 
@@ -64,6 +65,7 @@ public class ConfiguredBusImpl extends AbstractIdentifiableImpl<Bus, ConfiguredB
     @Override
     public Bus setAngle(double angle) {
         resource.getAttributes().setAngle(angle);
+        updateResource();
         return this;
     }
 
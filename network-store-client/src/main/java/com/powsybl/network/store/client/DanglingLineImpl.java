@@ -45,6 +45,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
     @Override
     public DanglingLine setP0(double p0) {
         resource.getAttributes().setP0(p0);
+        updateResource();
         return this;
     }
 
@@ -56,6 +57,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
     @Override
     public DanglingLine setQ0(double q0) {
         resource.getAttributes().setQ0(q0);
+        updateResource();
         return this;
     }
 
@@ -67,6 +69,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
     @Override
     public DanglingLine setR(double r) {
         resource.getAttributes().setR(r);
+        updateResource();
         return this;
     }
 
@@ -78,6 +81,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
     @Override
     public DanglingLine setX(double x) {
         resource.getAttributes().setX(x);
+        updateResource();
         return this;
     }
 
@@ -89,6 +93,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
     @Override
     public DanglingLine setG(double g) {
         resource.getAttributes().setG(g);
+        updateResource();
         return this;
     }
 
@@ -100,6 +105,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
     @Override
     public DanglingLine setB(double b) {
         resource.getAttributes().setB(b);
+        updateResource();
         return this;
     }
 
@@ -111,6 +117,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
     @Override
     public void setCurrentLimits(Void side, CurrentLimitsAttributes currentLimits) {
         resource.getAttributes().setCurrentLimits(currentLimits);
+        updateResource();
     }
 
     @Override
@@ -128,6 +135,7 @@ public class DanglingLineImpl  extends AbstractInjectionImpl<DanglingLine, Dangl
         if (type == Xnode.class) {
             Xnode xnode = (Xnode) extension;
             resource.getAttributes().setUcteXnodeCode(xnode.getCode());
+            updateResource();
         }
         super.addExtension(type, extension);
     }
@@ -41,6 +41,7 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setEnergySource(EnergySource energySource) {
         resource.getAttributes().setEnergySource(energySource);
+        updateResource();
         return this;
     }
 
@@ -52,6 +53,7 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setMaxP(double maxP) {
         resource.getAttributes().setMaxP(maxP);
+        updateResource();
         return this;
     }
 
@@ -63,6 +65,7 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setMinP(double minP) {
         resource.getAttributes().setMinP(minP);
+        updateResource();
         return this;
     }
 
@@ -74,6 +77,7 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setVoltageRegulatorOn(boolean voltageRegulatorOn) {
         resource.getAttributes().setVoltageRegulatorOn(voltageRegulatorOn);
+        updateResource();
         return this;
     }
 
@@ -96,6 +100,7 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setTargetV(double targetV) {
         resource.getAttributes().setTargetV(targetV);
+        updateResourceState();
         return this;
     }
 
@@ -107,6 +112,7 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setTargetP(double targetP) {
         resource.getAttributes().setTargetP(targetP);
+        updateResourceState();
         return this;
     }
 
@@ -118,6 +124,7 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setTargetQ(double targetQ) {
         resource.getAttributes().setTargetQ(targetQ);
+        updateResourceState();
         return this;
     }
 
@@ -129,12 +136,14 @@ public class GeneratorImpl extends AbstractInjectionImpl<Generator, GeneratorAtt
     @Override
     public Generator setRatedS(double ratedS) {
         resource.getAttributes().setRatedS(ratedS);
+        updateResource();
         return this;
     }
 
     @Override
     public void setReactiveLimits(ReactiveLimitsAttributes reactiveLimits) {
         resource.getAttributes().setReactiveLimits(reactiveLimits);
+        updateResource();
     }
 
     @Override
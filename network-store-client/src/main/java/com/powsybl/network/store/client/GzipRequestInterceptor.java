@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compress request bodies with gzip, only above a minimum size.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class GzipRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String GZIP = "gzip";
+
+    private final int minSize;
+
+    public GzipRequestInterceptor(int minSize) {
+        if (minSize < 0) {
+            throw new IllegalArgumentException("Invalid min size: " + minSize);
+        }
+        this.minSize = minSize;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (body.length == 0 || body.length < minSize) {
+            return execution.execute(request, body);
+        }
+        ByteArrayOutputStream os = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzos = new GZIPOutputStream(os)) {
+            gzos.write(body);
+        }
+        byte[] compressedBody = os.toByteArray();
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        request.getHeaders().setContentLength(compressedBody.length);
+        return execution.execute(request, compressedBody);
+    }
+}
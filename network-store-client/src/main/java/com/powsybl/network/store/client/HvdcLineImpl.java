@@ -8,6 +8,7 @@ package com.powsybl.network.store.client;
 
 import com.powsybl.iidm.network.HvdcConverterStation;
 import com.powsybl.iidm.network.HvdcLine;
+import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.network.store.model.HvdcLineAttributes;
 import com.powsybl.network.store.model.Resource;
 
@@ -24,14 +25,23 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
         return new HvdcLineImpl(index, resource);
     }
 
+    private HvdcConverterStation<?> getConverterStation(String id) {
+        // VSC or LCC converter station
+        Identifiable<?> station = index.getIdentifiable(id);
+        if (!(station instanceof HvdcConverterStation)) {
+            throw new AssertionError();
+        }
+        return (HvdcConverterStation<?>) station;
+    }
+
     @Override
     public HvdcConverterStation<?> getConverterStation1() {
-        return index.getVscConverterStation(resource.getAttributes().getConverterStationId1()).orElseThrow(AssertionError::new); // TODO LCC
+        return getConverterStation(resource.getAttributes().getConverterStationId1());
     }
 
     @Override
     public HvdcConverterStation<?> getConverterStation2() {
-        return index.getVscConverterStation(resource.getAttributes().getConverterStationId2()).orElseThrow(AssertionError::new); // TODO LCC
+        return getConverterStation(resource.getAttributes().getConverterStationId2());
     }
 
     @Override
@@ -59,6 +69,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
     @Override
     public HvdcLine setConvertersMode(ConvertersMode mode) {
         resource.getAttributes().setConvertersMode(mode);
+        updateResource();
         return this;
     }
 
@@ -70,6 +81,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
     @Override
     public HvdcLine setR(double r) {
         resource.getAttributes().setR(r);
+        updateResource();
         return this;
     }
 
@@ -81,6 +93,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
     @Override
     public HvdcLine setNominalV(double nominalV) {
         resource.getAttributes().setNominalV(nominalV);
+        updateResource();
         return this;
     }
 
@@ -92,6 +105,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
     @Override
     public HvdcLine setActivePowerSetpoint(double activePowerSetpoint) {
         resource.getAttributes().setActivePowerSetpoint(activePowerSetpoint);
+        updateResource();
         return this;
     }
 
@@ -103,6 +117,7 @@ public class HvdcLineImpl extends AbstractIdentifiableImpl<HvdcLine, HvdcLineAtt
     @Override
     public HvdcLine setMaxP(double maxP) {
         resource.getAttributes().setMaxP(maxP);
+        updateResource();
         return this;
     }
 }
@@ -18,12 +18,15 @@ public class InternalConnectionAdderNodeBreakerImpl implements VoltageLevel.Node
 
     private final Resource<VoltageLevelAttributes> voltageLevelResource;
 
+    private final NetworkObjectIndex index;
+
     private Integer node1;
 
     private Integer node2;
 
-    InternalConnectionAdderNodeBreakerImpl(Resource<VoltageLevelAttributes> voltageLevelResource) {
+    InternalConnectionAdderNodeBreakerImpl(Resource<VoltageLevelAttributes> voltageLevelResource, NetworkObjectIndex index) {
         this.voltageLevelResource = voltageLevelResource;
+        this.index = index;
     }
 
     @Override
@@ -61,6 +64,10 @@ public class InternalConnectionAdderNodeBreakerImpl implements VoltageLevel.Node
                         .node2(node2)
                         .build();
         voltageLevelResource.getAttributes().getInternalConnections().add(icAttributes);
+        index.getVoltageLevel(voltageLevelResource.getId())
+                .orElseThrow(IllegalStateException::new)
+                .getBusView()
+                .invalidateCalculatedTopology();
     }
 
 }
@@ -53,6 +53,7 @@ public class LccConverterStationImpl extends AbstractInjectionImpl<LccConverterS
     @Override
     public LccConverterStation setPowerFactor(float powerFactor) {
         resource.getAttributes().setPowerFactor(powerFactor);
+        updateResource();
         return this;
     }
 
@@ -64,6 +65,7 @@ public class LccConverterStationImpl extends AbstractInjectionImpl<LccConverterS
     @Override
     public LccConverterStation setLossFactor(float lossFactor) {
         resource.getAttributes().setLossFactor(lossFactor);
+        updateResource();
         return this;
     }
 
@@ -47,6 +47,7 @@ public class LineImpl extends AbstractBranchImpl<Line, LineAttributes> implement
     @Override
     public Line setR(double r) {
         resource.getAttributes().setR(r);
+        updateResource();
         return this;
     }
 
@@ -58,6 +59,7 @@ public class LineImpl extends AbstractBranchImpl<Line, LineAttributes> implement
     @Override
     public Line setX(double x) {
         resource.getAttributes().setX(x);
+        updateResource();
         return this;
     }
 
@@ -69,6 +71,7 @@ public class LineImpl extends AbstractBranchImpl<Line, LineAttributes> implement
     @Override
     public Line setG1(double g1) {
         resource.getAttributes().setG1(g1);
+        updateResource();
         return this;
     }
 
@@ -80,6 +83,7 @@ public class LineImpl extends AbstractBranchImpl<Line, LineAttributes> implement
     @Override
     public Line setG2(double g2) {
         resource.getAttributes().setG2(g2);
+        updateResource();
         return this;
     }
 
@@ -91,6 +95,7 @@ public class LineImpl extends AbstractBranchImpl<Line, LineAttributes> implement
     @Override
     public Line setB1(double b1) {
         resource.getAttributes().setB1(b1);
+        updateResource();
         return this;
     }
 
@@ -102,6 +107,7 @@ public class LineImpl extends AbstractBranchImpl<Line, LineAttributes> implement
     @Override
     public Line setB2(double b2) {
         resource.getAttributes().setB2(b2);
+        updateResource();
         return this;
     }
 }
@@ -43,6 +43,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
     @Override
     public Load setLoadType(LoadType loadType) {
         resource.getAttributes().setLoadType(loadType);
+        updateResource();
         return this;
     }
 
@@ -54,6 +55,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
     @Override
     public Load setP0(double p0) {
         resource.getAttributes().setP0(p0);
+        updateResource();
         return this;
     }
 
@@ -65,6 +67,7 @@ public class LoadImpl extends AbstractInjectionImpl<Load, LoadAttributes> implem
     @Override
     public Load setQ0(double q0) {
         resource.getAttributes().setQ0(q0);
+        updateResource();
         return this;
     }
 }
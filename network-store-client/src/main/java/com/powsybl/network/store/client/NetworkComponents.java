@@ -0,0 +1,370 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Connected and synchronous components of the calculated buses of a network.
+ * <p>
+ * Calculated buses of all node/breaker voltage levels are numbered globally, each voltage level having a range of
+ * bus numbers in which its buses are sorted by lowest node. Bus/breaker voltage levels have no bus view, so they are
+ * not part of any component. Bus topologies and the edges of each voltage level are calculated concurrently on the
+ * executor of the network, if any, edges being then merged with a single union-find: AC branches give the synchronous
+ * components, AC branches and HVDC lines the connected ones. A branch links the buses of all its node/breaker sides
+ * and is taken from the voltage level of the first of them.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class NetworkComponents {
+
+    private final class ComponentImpl implements Component {
+
+        private final int num;
+
+        /**
+         * Buses of the component are buses[busStart] to buses[busEnd - 1].
+         */
+        private final int[] buses;
+
+        private final int busStart;
+
+        private final int busEnd;
+
+        private ComponentImpl(int num, int[] buses, int busStart, int busEnd) {
+            this.num = num;
+            this.buses = buses;
+            this.busStart = busStart;
+            this.busEnd = busEnd;
+        }
+
+        @Override
+        public int getNum() {
+            return num;
+        }
+
+        @Override
+        public int getSize() {
+            return busEnd - busStart;
+        }
+
+        @Override
+        public Iterable<Bus> getBuses() {
+            return getBusStream().collect(Collectors.toList());
+        }
+
+        @Override
+        public Stream<Bus> getBusStream() {
+            return Arrays.stream(buses, busStart, busEnd).mapToObj(NetworkComponents.this::getBus);
+        }
+    }
+
+    private final int version;
+
+    private final List<BusViewImpl.CalculatedTopology> topologies;
+
+    private final Map<String, Integer> voltageLevelNumById;
+
+    /**
+     * Buses of each voltage level, by increasing lowest node.
+     */
+    private final List<int[]> busesByVoltageLevel;
+
+    /**
+     * Buses of voltage level v are numbered from busOffsets[v] to busOffsets[v + 1] - 1.
+     */
+    private final int[] busOffsets;
+
+    private int[] connectedComponentByBus;
+
+    private int[] synchronousComponentByBus;
+
+    private List<Component> connectedComponents;
+
+    private List<Component> synchronousComponents;
+
+    private NetworkComponents(int version, List<BusViewImpl.CalculatedTopology> topologies,
+                              Map<String, Integer> voltageLevelNumById, List<int[]> busesByVoltageLevel, int[] busOffsets) {
+        this.version = version;
+        this.topologies = topologies;
+        this.voltageLevelNumById = voltageLevelNumById;
+        this.busesByVoltageLevel = busesByVoltageLevel;
+        this.busOffsets = busOffsets;
+    }
+
+    private void computeComponents(int[] acEdges, int[] hvdcEdges) {
+        int busCount = busOffsets[busOffsets.length - 1];
+        int[] parent = new int[busCount];
+        for (int b = 0; b < busCount; b++) {
+            parent[b] = b;
+        }
+        union(parent, acEdges);
+        synchronousComponentByBus = numberComponents(parent);
+        union(parent, hvdcEdges);
+        connectedComponentByBus = numberComponents(parent);
+        synchronousComponents = createComponents(synchronousComponentByBus);
+        connectedComponents = createComponents(connectedComponentByBus);
+    }
+
+    static NetworkComponents calculate(NetworkObjectIndex index, int version) {
+        List<VoltageLevelImpl> voltageLevels = index.getVoltageLevels().stream()
+                .filter(vl -> vl.getTopologyKind() == TopologyKind.NODE_BREAKER)
+                .map(VoltageLevelImpl.class::cast)
+                .collect(Collectors.toList());
+
+        ExecutorService executorService = index.getExecutorService();
+        List<BusViewImpl.CalculatedTopology> topologies = map(executorService, voltageLevels,
+            vl -> vl.getBusView().getCalculatedTopology());
+
+        Map<String, Integer> voltageLevelNumById = new HashMap<>(voltageLevels.size());
+        List<int[]> busesByVoltageLevel = new ArrayList<>(voltageLevels.size());
+        int[] busOffsets = new int[voltageLevels.size() + 1];
+        for (int v = 0; v < voltageLevels.size(); v++) {
+            voltageLevelNumById.put(voltageLevels.get(v).getId(), v);
+            busesByVoltageLevel.add(topologies.get(v).getTopology().getBuses());
+            busOffsets[v + 1] = busOffsets[v] + busesByVoltageLevel.get(v).length;
+        }
+
+        NetworkComponents components = new NetworkComponents(version, topologies, voltageLevelNumById, busesByVoltageLevel, busOffsets);
+        List<int[]> acEdges = map(executorService, voltageLevels, vl -> components.getAcEdges(index, vl.getId()));
+        int[] hvdcEdges = components.getHvdcEdges(index);
+        components.computeComponents(acEdges.stream().flatMapToInt(Arrays::stream).toArray(), hvdcEdges);
+        return components;
+    }
+
+    /**
+     * Apply a function to each voltage level, concurrently if there is an executor.
+     */
+    private static <T> List<T> map(ExecutorService executorService, List<VoltageLevelImpl> voltageLevels,
+                                   Function<VoltageLevelImpl, T> function) {
+        if (executorService == null) {
+            return voltageLevels.stream().map(function).collect(Collectors.toList());
+        }
+        List<Future<T>> futures = new ArrayList<>(voltageLevels.size());
+        for (VoltageLevelImpl voltageLevel : voltageLevels) {
+            futures.add(executorService.submit(() -> function.apply(voltageLevel)));
+        }
+        List<T> results = new ArrayList<>(voltageLevels.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
+        }
+        return results;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    private static int find(int[] parent, int bus) {
+        int b = bus;
+        while (parent[b] != b) {
+            parent[b] = parent[parent[b]];
+            b = parent[b];
+        }
+        return b;
+    }
+
+    private static void union(int[] parent, int[] edges) {
+        for (int i = 0; i < edges.length; i += 2) {
+            int root1 = find(parent, edges[i]);
+            int root2 = find(parent, edges[i + 1]);
+            if (root1 != root2) {
+                parent[Math.max(root1, root2)] = Math.min(root1, root2);
+            }
+        }
+    }
+
+    /**
+     * Components are numbered by decreasing size, the main component being the biggest one.
+     */
+    private static int[] numberComponents(int[] parent) {
+        int busCount = parent.length;
+        int[] sizeByRoot = new int[busCount];
+        for (int b = 0; b < busCount; b++) {
+            sizeByRoot[find(parent, b)]++;
+        }
+        int[] roots = IntStream.range(0, busCount)
+                .filter(b -> sizeByRoot[b] > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(root -> sizeByRoot[root]).reversed().thenComparingInt(root -> root))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int[] numByRoot = new int[busCount];
+        for (int num = 0; num < roots.length; num++) {
+            numByRoot[roots[num]] = num;
+        }
+        int[] componentByBus = new int[busCount];
+        for (int b = 0; b < busCount; b++) {
+            componentByBus[b] = numByRoot[find(parent, b)];
+        }
+        return componentByBus;
+    }
+
+    private List<Component> createComponents(int[] componentByBus) {
+        int componentCount = 0;
+        for (int num : componentByBus) {
+            componentCount = Math.max(componentCount, num + 1);
+        }
+        int[] busStart = new int[componentCount + 1];
+        for (int num : componentByBus) {
+            busStart[num + 1]++;
+        }
+        for (int num = 0; num < componentCount; num++) {
+            busStart[num + 1] += busStart[num];
+        }
+        int[] buses = new int[componentByBus.length];
+        int[] next = Arrays.copyOf(busStart, componentCount);
+        for (int b = 0; b < componentByBus.length; b++) {
+            buses[next[componentByBus[b]]++] = b;
+        }
+        List<Component> components = new ArrayList<>(componentCount);
+        for (int num = 0; num < componentCount; num++) {
+            components.add(new ComponentImpl(num, buses, busStart[num], busStart[num + 1]));
+        }
+        return Collections.unmodifiableList(components);
+    }
+
+    /**
+     * @return the global number of the bus of the terminal or -1 if the terminal is not connected to a calculated bus
+     */
+    private int getBusNum(Terminal terminal) {
+        Integer v = voltageLevelNumById.get(terminal.getVoltageLevel().getId());
+        if (v == null) {
+            return -1;
+        }
+        int bus = topologies.get(v).getTopology().getBus(terminal.getNodeBreakerView().getNode());
+        return bus != -1 ? busOffsets[v] + Arrays.binarySearch(busesByVoltageLevel.get(v), bus) : -1;
+    }
+
+    private void addEdges(Connectable<?> connectable, String voltageLevelId, IntArrayBuilder edges) {
+        List<? extends Terminal> terminals = connectable.getTerminals();
+        String firstVoltageLevelId = terminals.stream()
+                .map(terminal -> terminal.getVoltageLevel().getId())
+                .filter(voltageLevelNumById::containsKey)
+                .findFirst()
+                .orElse(null);
+        if (!voltageLevelId.equals(firstVoltageLevelId)) {
+            // will be processed with the voltage level of the first node/breaker side
+            return;
+        }
+        int firstBus = -1;
+        for (Terminal terminal : terminals) {
+            int bus = getBusNum(terminal);
+            if (bus != -1) {
+                if (firstBus == -1) {
+                    firstBus = bus;
+                } else {
+                    edges.add(firstBus, bus);
+                }
+            }
+        }
+    }
+
+    private int[] getAcEdges(NetworkObjectIndex index, String voltageLevelId) {
+        IntArrayBuilder edges = new IntArrayBuilder();
+        for (Line line : index.getLines(voltageLevelId)) {
+            addEdges(line, voltageLevelId, edges);
+        }
+        for (TwoWindingsTransformer twt : index.getTwoWindingsTransformers(voltageLevelId)) {
+            addEdges(twt, voltageLevelId, edges);
+        }
+        for (ThreeWindingsTransformer twt : index.getThreeWindingsTransformers(voltageLevelId)) {
+            addEdges(twt, voltageLevelId, edges);
+        }
+        return edges.toArray();
+    }
+
+    private int[] getHvdcEdges(NetworkObjectIndex index) {
+        IntArrayBuilder edges = new IntArrayBuilder();
+        for (HvdcLine hvdcLine : index.getHvdcLines()) {
+            int bus1 = getBusNum(hvdcLine.getConverterStation1().getTerminal());
+            int bus2 = getBusNum(hvdcLine.getConverterStation2().getTerminal());
+            if (bus1 != -1 && bus2 != -1) {
+                edges.add(bus1, bus2);
+            }
+        }
+        return edges.toArray();
+    }
+
+    private Bus getBus(int bus) {
+        int v = Arrays.binarySearch(busOffsets, bus);
+        if (v < 0) {
+            v = -v - 2;
+        } else {
+            // skip voltage levels without any bus
+            while (busOffsets[v + 1] == bus) {
+                v++;
+            }
+        }
+        return topologies.get(v).getBus(busesByVoltageLevel.get(v)[bus - busOffsets[v]]);
+    }
+
+    private int getBusNum(BusImpl bus) {
+        Integer v = voltageLevelNumById.get(bus.getVoltageLevel().getId());
+        if (v == null) {
+            throw new IllegalStateException("Voltage level of bus '" + bus.getId() + "' not found");
+        }
+        int num = Arrays.binarySearch(busesByVoltageLevel.get(v), bus.getNum());
+        if (num < 0) {
+            throw new IllegalStateException("Bus '" + bus.getId() + "' has been merged or split");
+        }
+        return busOffsets[v] + num;
+    }
+
+    Component getConnectedComponent(BusImpl bus) {
+        return connectedComponents.get(connectedComponentByBus[getBusNum(bus)]);
+    }
+
+    Component getSynchronousComponent(BusImpl bus) {
+        return synchronousComponents.get(synchronousComponentByBus[getBusNum(bus)]);
+    }
+
+    List<Component> getConnectedComponents() {
+        return connectedComponents;
+    }
+
+    private static final class IntArrayBuilder {
+
+        private int[] values = new int[16];
+
+        private int size = 0;
+
+        void add(int value1, int value2) {
+            if (size + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = value1;
+            values[size++] = value2;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
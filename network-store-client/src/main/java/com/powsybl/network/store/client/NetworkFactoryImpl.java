@@ -15,6 +15,7 @@ import org.joda.time.DateTime;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 /**
@@ -24,8 +25,18 @@ public class NetworkFactoryImpl implements NetworkFactory {
 
     private final Supplier<NetworkStoreClient> storeClientSupplier;
 
+    private final ExecutorService executorService;
+
     public NetworkFactoryImpl(Supplier<NetworkStoreClient> storeClientSupplier) {
+        this(storeClientSupplier, null);
+    }
+
+    /**
+     * @param executorService executor of the created networks, may be null
+     */
+    public NetworkFactoryImpl(Supplier<NetworkStoreClient> storeClientSupplier, ExecutorService executorService) {
         this.storeClientSupplier = Objects.requireNonNull(storeClientSupplier);
+        this.executorService = executorService;
     }
 
     @Override
@@ -42,6 +53,6 @@ public class NetworkFactoryImpl implements NetworkFactory {
                 .build();
         NetworkStoreClient storeClient = storeClientSupplier.get();
         storeClient.createNetworks(Collections.singletonList(resource));
-        return NetworkImpl.create(storeClient, resource);
+        return NetworkImpl.create(storeClient, resource, executorService);
     }
 }
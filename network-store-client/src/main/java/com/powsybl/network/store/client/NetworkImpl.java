@@ -13,6 +13,8 @@ import com.powsybl.network.store.model.Resource;
 import org.joda.time.DateTime;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,8 +25,18 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
 
     BusBreakerView busBreakerView = new BusBreakerViewImpl();
 
+    BusView busView = new BusViewImpl();
+
+    private final List<BusTopologyListener> busTopologyListeners = new CopyOnWriteArrayList<>();
+
+    private volatile NetworkComponents components;
+
     public NetworkImpl(NetworkStoreClient storeClient, Resource<NetworkAttributes> resource) {
-        super(new NetworkObjectIndex(storeClient), resource);
+        this(storeClient, resource, null);
+    }
+
+    public NetworkImpl(NetworkStoreClient storeClient, Resource<NetworkAttributes> resource, ExecutorService executorService) {
+        super(new NetworkObjectIndex(storeClient, executorService), resource);
         index.setNetwork(this);
     }
 
@@ -32,6 +44,10 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         return new NetworkImpl(storeClient, resource);
     }
 
+    static NetworkImpl create(NetworkStoreClient storeClient, Resource<NetworkAttributes> resource, ExecutorService executorService) {
+        return new NetworkImpl(storeClient, resource, executorService);
+    }
+
     class BusBreakerViewImpl implements BusBreakerView {
 
         @Override
@@ -68,6 +84,44 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         }
     }
 
+    class BusViewImpl implements BusView {
+
+        @Override
+        public Iterable<Bus> getBuses() {
+            return getBusStream().collect(Collectors.toList());
+        }
+
+        @Override
+        public Stream<Bus> getBusStream() {
+            return getVoltageLevelStream()
+                    .filter(vl -> vl.getTopologyKind() == TopologyKind.NODE_BREAKER)
+                    .flatMap(vl -> vl.getBusView().getBusStream());
+        }
+
+        @Override
+        public Collection<Component> getConnectedComponents() {
+            return getComponents().getConnectedComponents();
+        }
+    }
+
+    /**
+     * Components are calculated again only if the calculated buses of a voltage level have changed.
+     */
+    NetworkComponents getComponents() {
+        NetworkComponents current = components;
+        int version = index.getBusTopologyVersion();
+        if (current == null || current.getVersion() != version) {
+            synchronized (this) {
+                current = components;
+                if (current == null || current.getVersion() != version) {
+                    current = NetworkComponents.calculate(index, version);
+                    components = current;
+                }
+            }
+        }
+        return current;
+    }
+
     public NetworkObjectIndex getIndex() {
         return index;
     }
@@ -94,6 +148,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
     @Override
     public Network setCaseDate(DateTime date) {
         resource.getAttributes().setCaseDate(date);
+        updateResource();
         return this;
     }
 
@@ -105,6 +160,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
     @Override
     public Network setForecastDistance(int forecastDistance) {
         resource.getAttributes().setForecastDistance(forecastDistance);
+        updateResource();
         return this;
     }
 
@@ -576,7 +632,7 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
 
     @Override
     public BusView getBusView() {
-        throw new UnsupportedOperationException("TODO");
+        return busView;
     }
 
     @Override
@@ -589,6 +645,20 @@ public class NetworkImpl extends AbstractIdentifiableImpl<Network, NetworkAttrib
         throw new UnsupportedOperationException("TODO");
     }
 
+    public void addBusTopologyListener(BusTopologyListener listener) {
+        busTopologyListeners.add(Objects.requireNonNull(listener));
+    }
+
+    public void removeBusTopologyListener(BusTopologyListener listener) {
+        busTopologyListeners.remove(listener);
+    }
+
+    void notifyBusTopologyChange(BusTopologyChange change) {
+        for (BusTopologyListener listener : busTopologyListeners) {
+            listener.onBusTopologyChange(change);
+        }
+    }
+
     @Override
     public void addListener(NetworkListener listener) {
         //throw new UnsupportedOperationException("TODO");
@@ -6,15 +6,22 @@
  */
 package com.powsybl.network.store.client;
 
+import com.google.common.util.concurrent.Striped;
 import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * A network global object index that guaranty a single instance of identifiable per network.
+ * The index can be shared by several threads: lookups of already created objects are lock free and objects are
+ * created under a lock striped by id.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -24,46 +31,72 @@ public class NetworkObjectIndex {
 
     private NetworkImpl network;
 
-    private final Map<String, Substation> substationById = new HashMap<>();
+    private final Map<String, Substation> substationById = new ConcurrentHashMap<>();
 
-    private final Map<String, VoltageLevel> voltageLevelById = new HashMap<>();
+    private final Map<String, VoltageLevel> voltageLevelById = new ConcurrentHashMap<>();
 
-    private final Map<String, Generator> generatorById = new HashMap<>();
+    private final Map<String, Generator> generatorById = new ConcurrentHashMap<>();
 
-    private final Map<String, ShuntCompensator> shuntCompensatorById = new HashMap<>();
+    private final Map<String, ShuntCompensator> shuntCompensatorById = new ConcurrentHashMap<>();
 
-    private final Map<String, VscConverterStation> vscConverterStationById = new HashMap<>();
+    private final Map<String, VscConverterStation> vscConverterStationById = new ConcurrentHashMap<>();
 
-    private final Map<String, LccConverterStation> lccConverterStationById = new HashMap<>();
+    private final Map<String, LccConverterStation> lccConverterStationById = new ConcurrentHashMap<>();
 
-    private final Map<String, StaticVarCompensator> staticVarCompensatorById = new HashMap<>();
+    private final Map<String, StaticVarCompensator> staticVarCompensatorById = new ConcurrentHashMap<>();
 
-    private final Map<String, Load> loadById = new HashMap<>();
+    private final Map<String, Load> loadById = new ConcurrentHashMap<>();
 
-    private final Map<String, BusbarSection> busbarSectionById = new HashMap<>();
+    private final Map<String, BusbarSection> busbarSectionById = new ConcurrentHashMap<>();
 
-    private final Map<String, Switch> switchById = new HashMap<>();
+    private final Map<String, Switch> switchById = new ConcurrentHashMap<>();
 
-    private final Map<String, TwoWindingsTransformer> twoWindingsTransformerById = new HashMap<>();
+    private final Map<String, TwoWindingsTransformer> twoWindingsTransformerById = new ConcurrentHashMap<>();
 
-    private final Map<String, ThreeWindingsTransformer> threeWindingsTransformerById = new HashMap<>();
+    private final Map<String, ThreeWindingsTransformer> threeWindingsTransformerById = new ConcurrentHashMap<>();
 
-    private final Map<String, Line> lineById = new HashMap<>();
+    private final Map<String, Line> lineById = new ConcurrentHashMap<>();
 
-    private final Map<String, HvdcLine> hvdcLineById = new HashMap<>();
+    private final Map<String, HvdcLine> hvdcLineById = new ConcurrentHashMap<>();
 
-    private final Map<String, DanglingLine> danglingLineById = new HashMap<>();
+    private final Map<String, DanglingLine> danglingLineById = new ConcurrentHashMap<>();
 
-    private final Map<String, Bus> busesById = new HashMap<>();
+    private final Map<String, Bus> busesById = new ConcurrentHashMap<>();
+
+    /**
+     * All the objects by id whatever their type, so that a lookup by id is a single map access.
+     */
+    private final Map<String, Identifiable<?>> identifiableById = new ConcurrentHashMap<>();
+
+    private final Striped<Lock> creationLocks = Striped.lock(64);
+
+    private final AtomicInteger topologyVersion = new AtomicInteger();
+
+    private final AtomicInteger busTopologyVersion = new AtomicInteger();
+
+    private final ExecutorService executorService;
 
     public NetworkObjectIndex(NetworkStoreClient storeClient) {
+        this(storeClient, null);
+    }
+
+    /**
+     * @param executorService executor used to calculate the network components concurrently, if null they are
+     *                        calculated in the calling thread
+     */
+    public NetworkObjectIndex(NetworkStoreClient storeClient, ExecutorService executorService) {
         this.storeClient = Objects.requireNonNull(storeClient);
+        this.executorService = executorService;
     }
 
     public NetworkStoreClient getStoreClient() {
         return storeClient;
     }
 
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
     public void setNetwork(NetworkImpl network) {
         this.network = Objects.requireNonNull(network);
     }
@@ -72,32 +105,78 @@ public class NetworkObjectIndex {
         return network;
     }
 
-    private static <T extends Identifiable<T>, U extends IdentifiableAttributes> List<T> getAll(Map<String, T> objectsById,
-                                                                                                Supplier<List<Resource<U>>> resourcesSupplier,
-                                                                                                Function<Resource<U>, T> objectCreator) {
+    /**
+     * Calculated bus topologies are only valid for the topology version they have been calculated from. The version
+     * changes each time an equipment is added, switch changes being handled by each voltage level.
+     */
+    int getTopologyVersion() {
+        return topologyVersion.get();
+    }
+
+    void invalidateCalculatedTopologies() {
+        topologyVersion.incrementAndGet();
+        busTopologyVersion.incrementAndGet();
+    }
+
+    /**
+     * Changes each time the calculated buses of any voltage level may have changed.
+     */
+    int getBusTopologyVersion() {
+        return busTopologyVersion.get();
+    }
+
+    void notifyBusTopologyChanged() {
+        busTopologyVersion.incrementAndGet();
+    }
+
+    /**
+     * Objects are indexed by id in their type map and in the global identifiable map.
+     */
+    private <T extends Identifiable<?>> T register(Map<String, ? super T> objectsById, T obj) {
+        objectsById.put(obj.getId(), obj);
+        identifiableById.put(obj.getId(), obj);
+        return obj;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Identifiable<?>, V extends T> V getOrCreate(Map<String, T> objectsById, String id, Supplier<V> objectCreator) {
+        T obj = objectsById.get(id);
+        if (obj == null) {
+            Lock lock = creationLocks.get(id);
+            lock.lock();
+            try {
+                obj = objectsById.get(id);
+                if (obj == null) {
+                    obj = register(objectsById, objectCreator.get());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return (V) obj;
+    }
+
+    private <T extends Identifiable<T>, U extends IdentifiableAttributes> List<T> getAll(Map<String, T> objectsById,
+                                                                                         Supplier<List<Resource<U>>> resourcesSupplier,
+                                                                                         Function<Resource<U>, T> objectCreator) {
         List<Resource<U>> resources = resourcesSupplier.get();
         if (resources.size() != objectsById.size()) {
             for (Resource<U> resource : resources) {
                 if (!objectsById.containsKey(resource.getId())) {
-                    objectsById.put(resource.getId(), objectCreator.apply(resource));
+                    getOrCreate(objectsById, resource.getId(), () -> objectCreator.apply(resource));
                 }
             }
         }
         return new ArrayList<>(objectsById.values());
     }
 
-    private static <T extends Identifiable<T>, U extends IdentifiableAttributes> List<T> getSome(Map<String, T> objectsById,
-                                                                                                 Supplier<List<Resource<U>>> resourcesSupplier,
-                                                                                                 Function<Resource<U>, T> objectCreator) {
+    private <T extends Identifiable<T>, U extends IdentifiableAttributes> List<T> getSome(Map<String, T> objectsById,
+                                                                                          Supplier<List<Resource<U>>> resourcesSupplier,
+                                                                                          Function<Resource<U>, T> objectCreator) {
         List<Resource<U>> resources = resourcesSupplier.get();
         List<T> some = new ArrayList<>(resources.size());
         for (Resource<U> resource : resources) {
-            T object = objectsById.get(resource.getId());
-            if (object == null) {
-                object = objectCreator.apply(resource);
-                objectsById.put(object.getId(), object);
-            }
-            some.add(object);
+            some.add(getOrCreate(objectsById, resource.getId(), () -> objectCreator.apply(resource)));
         }
         return some;
     }
@@ -109,7 +188,7 @@ public class NetworkObjectIndex {
                                                                                                           Function<Resource<U>, V> objectCreator) {
         V obj = (V) objectsById.get(id);
         if (obj == null) {
-            return resourceSupplier.get().map(objectCreator);
+            return resourceSupplier.get().map(resource -> getOrCreate(objectsById, id, () -> objectCreator.apply(resource)));
         }
         return Optional.of(obj);
     }
@@ -117,12 +196,18 @@ public class NetworkObjectIndex {
     private <T extends Identifiable<T>, U extends IdentifiableAttributes> T create(Map<String, T> objectsById,
                                                                                    Resource<U> resource,
                                                                                    Function<Resource<U>, T> objectCreator) {
-        if (objectsById.containsKey(resource.getId())) {
-            throw new IllegalArgumentException("'" + resource.getId() + "' already exists");
+        Lock lock = creationLocks.get(resource.getId());
+        lock.lock();
+        try {
+            if (objectsById.containsKey(resource.getId())) {
+                throw new IllegalArgumentException("'" + resource.getId() + "' already exists");
+            }
+            T obj = register(objectsById, objectCreator.apply(resource));
+            invalidateCalculatedTopologies();
+            return obj;
+        } finally {
+            lock.unlock();
         }
-        T obj = objectCreator.apply(resource);
-        objectsById.put(resource.getId(), obj);
-        return obj;
     }
 
     // substation
@@ -578,27 +663,166 @@ public class NetworkObjectIndex {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    void updateResource(Resource<? extends IdentifiableAttributes> resource) {
+        switch (resource.getType()) {
+            case NETWORK:
+                storeClient.updateNetworks(Collections.singletonList((Resource<NetworkAttributes>) resource));
+                break;
+            case SUBSTATION:
+                storeClient.updateSubstations(network.getUuid(), Collections.singletonList((Resource<SubstationAttributes>) resource));
+                break;
+            case VOLTAGE_LEVEL:
+                storeClient.updateVoltageLevels(network.getUuid(), Collections.singletonList((Resource<VoltageLevelAttributes>) resource));
+                break;
+            case LOAD:
+                storeClient.updateLoads(network.getUuid(), Collections.singletonList((Resource<LoadAttributes>) resource));
+                break;
+            case GENERATOR:
+                storeClient.updateGenerators(network.getUuid(), Collections.singletonList((Resource<GeneratorAttributes>) resource));
+                break;
+            case SHUNT_COMPENSATOR:
+                storeClient.updateShuntCompensators(network.getUuid(), Collections.singletonList((Resource<ShuntCompensatorAttributes>) resource));
+                break;
+            case VSC_CONVERTER_STATION:
+                storeClient.updateVscConverterStations(network.getUuid(), Collections.singletonList((Resource<VscConverterStationAttributes>) resource));
+                break;
+            case LCC_CONVERTER_STATION:
+                storeClient.updateLccConverterStations(network.getUuid(), Collections.singletonList((Resource<LccConverterStationAttributes>) resource));
+                break;
+            case STATIC_VAR_COMPENSATOR:
+                storeClient.updateStaticVarCompensators(network.getUuid(), Collections.singletonList((Resource<StaticVarCompensatorAttributes>) resource));
+                break;
+            case BUSBAR_SECTION:
+                storeClient.updateBusbarSections(network.getUuid(), Collections.singletonList((Resource<BusbarSectionAttributes>) resource));
+                break;
+            case SWITCH:
+                storeClient.updateSwitches(network.getUuid(), Collections.singletonList((Resource<SwitchAttributes>) resource));
+                break;
+            case TWO_WINDINGS_TRANSFORMER:
+                storeClient.updateTwoWindingsTransformers(network.getUuid(), Collections.singletonList((Resource<TwoWindingsTransformerAttributes>) resource));
+                break;
+            case THREE_WINDINGS_TRANSFORMER:
+                storeClient.updateThreeWindingsTransformers(network.getUuid(), Collections.singletonList((Resource<ThreeWindingsTransformerAttributes>) resource));
+                break;
+            case LINE:
+                storeClient.updateLines(network.getUuid(), Collections.singletonList((Resource<LineAttributes>) resource));
+                break;
+            case HVDC_LINE:
+                storeClient.updateHvdcLines(network.getUuid(), Collections.singletonList((Resource<HvdcLineAttributes>) resource));
+                break;
+            case DANGLING_LINE:
+                storeClient.updateDanglingLines(network.getUuid(), Collections.singletonList((Resource<DanglingLineAttributes>) resource));
+                break;
+            case CONFIGURED_BUS:
+                storeClient.updateConfiguredBuses(network.getUuid(), Collections.singletonList((Resource<ConfiguredBusAttributes>) resource));
+                break;
+            default:
+                throw new IllegalStateException("Unknown resource type: " + resource.getType());
+        }
+    }
+
+    /**
+     * Same as {@link #updateResource(Resource)} when only the operational state (flows, generator targets, switch status) of the
+     * resource has changed, so that only this state is sent to the store.
+     */
+    @SuppressWarnings("unchecked")
+    void updateResourceState(Resource<? extends IdentifiableAttributes> resource) {
+        switch (resource.getType()) {
+            case LOAD:
+                storeClient.updateLoadStates(network.getUuid(), Collections.singletonList((Resource<LoadAttributes>) resource));
+                break;
+            case GENERATOR:
+                storeClient.updateGeneratorStates(network.getUuid(), Collections.singletonList((Resource<GeneratorAttributes>) resource));
+                break;
+            case SHUNT_COMPENSATOR:
+                storeClient.updateShuntCompensatorStates(network.getUuid(), Collections.singletonList((Resource<ShuntCompensatorAttributes>) resource));
+                break;
+            case VSC_CONVERTER_STATION:
+                storeClient.updateVscConverterStationStates(network.getUuid(), Collections.singletonList((Resource<VscConverterStationAttributes>) resource));
+                break;
+            case LCC_CONVERTER_STATION:
+                storeClient.updateLccConverterStationStates(network.getUuid(), Collections.singletonList((Resource<LccConverterStationAttributes>) resource));
+                break;
+            case STATIC_VAR_COMPENSATOR:
+                storeClient.updateStaticVarCompensatorStates(network.getUuid(), Collections.singletonList((Resource<StaticVarCompensatorAttributes>) resource));
+                break;
+            case SWITCH:
+                storeClient.updateSwitchStates(network.getUuid(), Collections.singletonList((Resource<SwitchAttributes>) resource));
+                break;
+            case TWO_WINDINGS_TRANSFORMER:
+                storeClient.updateTwoWindingsTransformerStates(network.getUuid(), Collections.singletonList((Resource<TwoWindingsTransformerAttributes>) resource));
+                break;
+            case THREE_WINDINGS_TRANSFORMER:
+                storeClient.updateThreeWindingsTransformerStates(network.getUuid(), Collections.singletonList((Resource<ThreeWindingsTransformerAttributes>) resource));
+                break;
+            case LINE:
+                storeClient.updateLineStates(network.getUuid(), Collections.singletonList((Resource<LineAttributes>) resource));
+                break;
+            case DANGLING_LINE:
+                storeClient.updateDanglingLineStates(network.getUuid(), Collections.singletonList((Resource<DanglingLineAttributes>) resource));
+                break;
+            default:
+                updateResource(resource);
+                break;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Identifiable<?> createIdentifiable(Resource<? extends IdentifiableAttributes> resource) {
+        switch (resource.getType()) {
+            case SUBSTATION:
+                return getOrCreate(substationById, resource.getId(), () -> SubstationImpl.create(this, (Resource<SubstationAttributes>) resource));
+            case VOLTAGE_LEVEL:
+                return getOrCreate(voltageLevelById, resource.getId(), () -> VoltageLevelImpl.create(this, (Resource<VoltageLevelAttributes>) resource));
+            case LOAD:
+                return getOrCreate(loadById, resource.getId(), () -> LoadImpl.create(this, (Resource<LoadAttributes>) resource));
+            case GENERATOR:
+                return getOrCreate(generatorById, resource.getId(), () -> GeneratorImpl.create(this, (Resource<GeneratorAttributes>) resource));
+            case SHUNT_COMPENSATOR:
+                return getOrCreate(shuntCompensatorById, resource.getId(), () -> ShuntCompensatorImpl.create(this, (Resource<ShuntCompensatorAttributes>) resource));
+            case VSC_CONVERTER_STATION:
+                return getOrCreate(vscConverterStationById, resource.getId(), () -> VscConverterStationImpl.create(this, (Resource<VscConverterStationAttributes>) resource));
+            case LCC_CONVERTER_STATION:
+                return getOrCreate(lccConverterStationById, resource.getId(), () -> LccConverterStationImpl.create(this, (Resource<LccConverterStationAttributes>) resource));
+            case STATIC_VAR_COMPENSATOR:
+                return getOrCreate(staticVarCompensatorById, resource.getId(), () -> StaticVarCompensatorImpl.create(this, (Resource<StaticVarCompensatorAttributes>) resource));
+            case BUSBAR_SECTION:
+                return getOrCreate(busbarSectionById, resource.getId(), () -> BusbarSectionImpl.create(this, (Resource<BusbarSectionAttributes>) resource));
+            case SWITCH:
+                return getOrCreate(switchById, resource.getId(), () -> SwitchImpl.create(this, (Resource<SwitchAttributes>) resource));
+            case TWO_WINDINGS_TRANSFORMER:
+                return getOrCreate(twoWindingsTransformerById, resource.getId(), () -> TwoWindingsTransformerImpl.create(this, (Resource<TwoWindingsTransformerAttributes>) resource));
+            case THREE_WINDINGS_TRANSFORMER:
+                return getOrCreate(threeWindingsTransformerById, resource.getId(), () -> ThreeWindingsTransformerImpl.create(this, (Resource<ThreeWindingsTransformerAttributes>) resource));
+            case LINE:
+                return getOrCreate(lineById, resource.getId(), () -> LineImpl.create(this, (Resource<LineAttributes>) resource));
+            case HVDC_LINE:
+                return getOrCreate(hvdcLineById, resource.getId(), () -> HvdcLineImpl.create(this, (Resource<HvdcLineAttributes>) resource));
+            case DANGLING_LINE:
+                return getOrCreate(danglingLineById, resource.getId(), () -> DanglingLineImpl.create(this, (Resource<DanglingLineAttributes>) resource));
+            case CONFIGURED_BUS:
+                return getOrCreate(busesById, resource.getId(), () -> ConfiguredBusImpl.create(this, (Resource<ConfiguredBusAttributes>) resource));
+            default:
+                throw new IllegalStateException("Unexpected identifiable type: " + resource.getType());
+        }
+    }
+
+    /**
+     * One lookup in the index for already loaded objects, one request to the store otherwise.
+     */
     public Identifiable<?> getIdentifiable(String id) {
-        for (Map<String, ? extends Identifiable> map : Arrays.asList(substationById,
-                                                                     voltageLevelById,
-                                                                     generatorById,
-                                                                     shuntCompensatorById,
-                                                                     vscConverterStationById,
-                                                                     staticVarCompensatorById,
-                                                                     loadById,
-                                                                     busbarSectionById,
-                                                                     switchById,
-                                                                     twoWindingsTransformerById,
-                                                                     threeWindingsTransformerById,
-                                                                     lineById,
-                                                                     hvdcLineById,
-                                                                     danglingLineById)) {
-            Identifiable identifiable = map.get(id);
-            if (identifiable != null) {
-                return identifiable;
+        Objects.requireNonNull(id);
+        Identifiable<?> identifiable = identifiableById.get(id);
+        if (identifiable == null) {
+            if (id.equals(network.getId())) {
+                return network;
             }
+            identifiable = storeClient.getIdentifiable(network.getUuid(), id)
+                    .map(this::createIdentifiable)
+                    .orElse(null);
         }
-        return null;
+        return identifiable;
     }
 
     //buses
@@ -28,6 +28,15 @@ public interface NetworkStoreClient {
 
     void deleteNetwork(UUID networkUuid);
 
+    void updateNetworks(List<Resource<NetworkAttributes>> networkResources);
+
+    // identifiable
+
+    /**
+     * Get an identifiable whatever its type.
+     */
+    Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id);
+
     // substation
 
     void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources);
@@ -38,6 +47,8 @@ public interface NetworkStoreClient {
 
     int getSubstationCount(UUID networkUuid);
 
+    void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources);
+
     // voltage level
 
     void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources);
@@ -50,6 +61,14 @@ public interface NetworkStoreClient {
 
     int getVoltageLevelCount(UUID networkUuid);
 
+    /**
+     * Get the buses calculated by the server from the switches, internal connections and equipments of a
+     * node/breaker voltage level.
+     */
+    Optional<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(UUID networkUuid, String voltageLevelId);
+
+    void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources);
+
     List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId);
 
     List<Resource<SwitchAttributes>> getVoltageLevelSwitches(UUID networkUuid, String voltageLevelId);
@@ -84,6 +103,10 @@ public interface NetworkStoreClient {
 
     int getSwitchCount(UUID networkUuid);
 
+    void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources);
+
+    void updateSwitchStates(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources);
+
     // busbar section
 
     void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources);
@@ -94,6 +117,8 @@ public interface NetworkStoreClient {
 
     int getBusbarSectionCount(UUID networkUuid);
 
+    void updateBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources);
+
     // load
 
     void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources);
@@ -104,6 +129,10 @@ public interface NetworkStoreClient {
 
     int getLoadCount(UUID networkUuid);
 
+    void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources);
+
+    void updateLoadStates(UUID networkUuid, List<Resource<LoadAttributes>> loadResources);
+
     // generator
 
     void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources);
@@ -114,6 +143,10 @@ public interface NetworkStoreClient {
 
     int getGeneratorCount(UUID networkUuid);
 
+    void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources);
+
+    void updateGeneratorStates(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources);
+
     // 2 windings transformer
 
     void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources);
@@ -124,6 +157,10 @@ public interface NetworkStoreClient {
 
     int getTwoWindingsTransformerCount(UUID networkUuid);
 
+    void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources);
+
+    void updateTwoWindingsTransformerStates(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources);
+
     // 3 windings transformer
 
     void createThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources);
@@ -134,6 +171,10 @@ public interface NetworkStoreClient {
 
     int getThreeWindingsTransformerCount(UUID networkUuid);
 
+    void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources);
+
+    void updateThreeWindingsTransformerStates(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources);
+
     // line
 
     void createLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources);
@@ -144,6 +185,10 @@ public interface NetworkStoreClient {
 
     int getLineCount(UUID networkUuid);
 
+    void updateLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources);
+
+    void updateLineStates(UUID networkUuid, List<Resource<LineAttributes>> lineResources);
+
     // shunt compensator
 
     void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources);
@@ -154,6 +199,10 @@ public interface NetworkStoreClient {
 
     int getShuntCompensatorCount(UUID networkUuid);
 
+    void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources);
+
+    void updateShuntCompensatorStates(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources);
+
     // VSC converter station
 
     void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources);
@@ -164,6 +213,10 @@ public interface NetworkStoreClient {
 
     int getVscConverterStationCount(UUID networkUuid);
 
+    void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources);
+
+    void updateVscConverterStationStates(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources);
+
     // LCC converter station
 
     void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources);
@@ -174,6 +227,10 @@ public interface NetworkStoreClient {
 
     int getLccConverterStationCount(UUID networkUuid);
 
+    void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources);
+
+    void updateLccConverterStationStates(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources);
+
     // SVC
 
     void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources);
@@ -184,6 +241,10 @@ public interface NetworkStoreClient {
 
     int getStaticVarCompensatorCount(UUID networkUuid);
 
+    void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources);
+
+    void updateStaticVarCompensatorStates(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources);
+
     // HVDC line
 
     void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources);
@@ -194,6 +255,8 @@ public interface NetworkStoreClient {
 
     int getHvdcLineCount(UUID networkUuid);
 
+    void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources);
+
     // Dangling line
 
     void createDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources);
@@ -204,6 +267,10 @@ public interface NetworkStoreClient {
 
     int getDanglingLineCount(UUID networkUuid);
 
+    void updateDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources);
+
+    void updateDanglingLineStates(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources);
+
     // Bus
 
     void createConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesRessources);
@@ -214,5 +281,7 @@ public interface NetworkStoreClient {
 
     Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, String busId);
 
+    void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources);
+
     void flush();
 }
@@ -21,10 +21,48 @@ public final class NetworkStoreConfig {
 
     private static final PreloadingStrategy DEFAULT_PRELOADING_STRATEGY = PreloadingStrategy.NONE;
 
+    private static final int DEFAULT_FLUSH_PARALLELISM = 1;
+
+    private static final int DEFAULT_PRELOADING_PARALLELISM = 4;
+
+    private static final long DEFAULT_SHARED_CACHE_MAX_SIZE = 0;
+
+    private static final long DEFAULT_SHARED_CACHE_EXPIRE_AFTER_ACCESS = 600;
+
+    private static final int DEFAULT_CONNECT_TIMEOUT = 0;
+
+    private static final int DEFAULT_READ_TIMEOUT = 0;
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+
+    private static final boolean DEFAULT_COMPRESSION = true;
+
+    private static final int DEFAULT_COMPRESSION_MIN_SIZE = 2048;
+
     private String baseUrl;
 
     private PreloadingStrategy preloadingStrategy = DEFAULT_PRELOADING_STRATEGY;
 
+    private int flushParallelism = DEFAULT_FLUSH_PARALLELISM;
+
+    private int preloadingParallelism = DEFAULT_PRELOADING_PARALLELISM;
+
+    private long sharedCacheMaxSize = DEFAULT_SHARED_CACHE_MAX_SIZE;
+
+    private long sharedCacheExpireAfterAccess = DEFAULT_SHARED_CACHE_EXPIRE_AFTER_ACCESS;
+
+    private boolean useSmile = false;
+
+    private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    private int readTimeout = DEFAULT_READ_TIMEOUT;
+
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+    private boolean compression = DEFAULT_COMPRESSION;
+
+    private int compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
+
     public NetworkStoreConfig(String baseUrl) {
         this.baseUrl = Objects.requireNonNull(baseUrl);
     }
@@ -40,8 +78,38 @@ public final class NetworkStoreConfig {
                 .orElse(DEFAULT_BASE_URL);
         PreloadingStrategy preloadingStrategy = moduleConfig.flatMap(mc -> mc.getOptionalEnumProperty("preloading-strategy", PreloadingStrategy.class))
                 .orElse(DEFAULT_PRELOADING_STRATEGY);
+        int flushParallelism = moduleConfig.map(mc -> mc.getIntProperty("flush-parallelism", DEFAULT_FLUSH_PARALLELISM))
+                .orElse(DEFAULT_FLUSH_PARALLELISM);
+        int preloadingParallelism = moduleConfig.map(mc -> mc.getIntProperty("preloading-parallelism", DEFAULT_PRELOADING_PARALLELISM))
+                .orElse(DEFAULT_PRELOADING_PARALLELISM);
+        long sharedCacheMaxSize = moduleConfig.map(mc -> mc.getLongProperty("shared-cache-max-size", DEFAULT_SHARED_CACHE_MAX_SIZE))
+                .orElse(DEFAULT_SHARED_CACHE_MAX_SIZE);
+        long sharedCacheExpireAfterAccess = moduleConfig.map(mc -> mc.getLongProperty("shared-cache-expire-after-access", DEFAULT_SHARED_CACHE_EXPIRE_AFTER_ACCESS))
+                .orElse(DEFAULT_SHARED_CACHE_EXPIRE_AFTER_ACCESS);
+        boolean useSmile = moduleConfig.map(mc -> mc.getBooleanProperty("use-smile", false))
+                .orElse(false);
+        int connectTimeout = moduleConfig.map(mc -> mc.getIntProperty("connect-timeout", DEFAULT_CONNECT_TIMEOUT))
+                .orElse(DEFAULT_CONNECT_TIMEOUT);
+        int readTimeout = moduleConfig.map(mc -> mc.getIntProperty("read-timeout", DEFAULT_READ_TIMEOUT))
+                .orElse(DEFAULT_READ_TIMEOUT);
+        int maxConnections = moduleConfig.map(mc -> mc.getIntProperty("max-connections", DEFAULT_MAX_CONNECTIONS))
+                .orElse(DEFAULT_MAX_CONNECTIONS);
+        boolean compression = moduleConfig.map(mc -> mc.getBooleanProperty("compression", DEFAULT_COMPRESSION))
+                .orElse(DEFAULT_COMPRESSION);
+        int compressionMinSize = moduleConfig.map(mc -> mc.getIntProperty("compression-min-size", DEFAULT_COMPRESSION_MIN_SIZE))
+                .orElse(DEFAULT_COMPRESSION_MIN_SIZE);
         return new NetworkStoreConfig(baseUrl)
-                .setPreloadingStrategy(preloadingStrategy);
+                .setPreloadingStrategy(preloadingStrategy)
+                .setFlushParallelism(flushParallelism)
+                .setPreloadingParallelism(preloadingParallelism)
+                .setSharedCacheMaxSize(sharedCacheMaxSize)
+                .setSharedCacheExpireAfterAccess(sharedCacheExpireAfterAccess)
+                .setUseSmile(useSmile)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setMaxConnections(maxConnections)
+                .setCompression(compression)
+                .setCompressionMinSize(compressionMinSize);
     }
 
     public String getBaseUrl() {
@@ -61,4 +129,144 @@ public final class NetworkStoreConfig {
         this.preloadingStrategy = Objects.requireNonNull(preloadingStrategy);
         return this;
     }
+
+    public int getFlushParallelism() {
+        return flushParallelism;
+    }
+
+    public NetworkStoreConfig setFlushParallelism(int flushParallelism) {
+        if (flushParallelism < 1) {
+            throw new IllegalArgumentException("Invalid flush parallelism: " + flushParallelism);
+        }
+        this.flushParallelism = flushParallelism;
+        return this;
+    }
+
+    /**
+     * Max number of collections downloaded concurrently with the {@link PreloadingStrategy#ALL_COLLECTIONS} strategy.
+     */
+    public int getPreloadingParallelism() {
+        return preloadingParallelism;
+    }
+
+    public NetworkStoreConfig setPreloadingParallelism(int preloadingParallelism) {
+        if (preloadingParallelism < 1) {
+            throw new IllegalArgumentException("Invalid preloading parallelism: " + preloadingParallelism);
+        }
+        this.preloadingParallelism = preloadingParallelism;
+        return this;
+    }
+
+    /**
+     * Max size in bytes of the collections cache shared by all the networks of the service, 0 means no shared cache.
+     * Only modifications flushed by this service invalidate the cache, so it is meant for networks that are read only
+     * for other processes.
+     */
+    public long getSharedCacheMaxSize() {
+        return sharedCacheMaxSize;
+    }
+
+    public NetworkStoreConfig setSharedCacheMaxSize(long sharedCacheMaxSize) {
+        if (sharedCacheMaxSize < 0) {
+            throw new IllegalArgumentException("Invalid shared cache max size: " + sharedCacheMaxSize);
+        }
+        this.sharedCacheMaxSize = sharedCacheMaxSize;
+        return this;
+    }
+
+    /**
+     * Delay in seconds after which a collection that has not been read is evicted from the shared cache.
+     */
+    public long getSharedCacheExpireAfterAccess() {
+        return sharedCacheExpireAfterAccess;
+    }
+
+    public NetworkStoreConfig setSharedCacheExpireAfterAccess(long sharedCacheExpireAfterAccess) {
+        if (sharedCacheExpireAfterAccess < 1) {
+            throw new IllegalArgumentException("Invalid shared cache expire after access delay: " + sharedCacheExpireAfterAccess);
+        }
+        this.sharedCacheExpireAfterAccess = sharedCacheExpireAfterAccess;
+        return this;
+    }
+
+    public boolean isUseSmile() {
+        return useSmile;
+    }
+
+    public NetworkStoreConfig setUseSmile(boolean useSmile) {
+        this.useSmile = useSmile;
+        return this;
+    }
+
+    /**
+     * Connection timeout in milliseconds, 0 means no timeout.
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public NetworkStoreConfig setConnectTimeout(int connectTimeout) {
+        if (connectTimeout < 0) {
+            throw new IllegalArgumentException("Invalid connect timeout: " + connectTimeout);
+        }
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    /**
+     * Read timeout in milliseconds, 0 means no timeout.
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public NetworkStoreConfig setReadTimeout(int readTimeout) {
+        if (readTimeout < 0) {
+            throw new IllegalArgumentException("Invalid read timeout: " + readTimeout);
+        }
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    /**
+     * Max number of pooled connections to the server.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public NetworkStoreConfig setMaxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("Invalid max connections: " + maxConnections);
+        }
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * If true, request and response bodies are compressed with gzip.
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public NetworkStoreConfig setCompression(boolean compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    /**
+     * Minimum size in bytes of a request body to be compressed, smaller bodies are not worth the CPU.
+     */
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+    public NetworkStoreConfig setCompressionMinSize(int compressionMinSize) {
+        if (compressionMinSize < 0) {
+            throw new IllegalArgumentException("Invalid compression min size: " + compressionMinSize);
+        }
+        this.compressionMinSize = compressionMinSize;
+        return this;
+    }
 }
@@ -6,6 +6,7 @@
  */
 package com.powsybl.network.store.client;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
@@ -16,22 +17,33 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.NetworkFactory;
 import com.powsybl.network.store.model.NetworkStoreApi;
 import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.StringDictionary;
 import com.powsybl.tools.Version;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -46,40 +58,132 @@ public class NetworkStoreService implements AutoCloseable {
 
     private final PreloadingStrategy defaultPreloadingStrategy;
 
+    private final ExecutorService flushExecutorService;
+
+    private final ExecutorService preloadingExecutorService;
+
+    private final SharedResourceCache sharedCache;
+
+    private CloseableHttpClient httpClient;
+
     public NetworkStoreService(String baseUri) {
         this(baseUri, PreloadingStrategy.NONE);
     }
 
+    public NetworkStoreService(String baseUri, PreloadingStrategy defaultPreloadingStrategy) {
+        this(new NetworkStoreConfig(baseUri).setPreloadingStrategy(defaultPreloadingStrategy));
+    }
+
     @Autowired
     public NetworkStoreService(@Value("${network-store-server.base-uri:http://network-store-server/}") String baseUri,
-                               @Value("${network-store-server.preloading-strategy:NONE}") PreloadingStrategy defaultPreloadingStrategy) {
-        this(new RestNetworkStoreClient(createRestTemplateBuilder(baseUri)), defaultPreloadingStrategy);
+                               @Value("${network-store-server.preloading-strategy:NONE}") PreloadingStrategy defaultPreloadingStrategy,
+                               @Value("${network-store-server.flush-parallelism:1}") int flushParallelism,
+                               @Value("${network-store-server.preloading-parallelism:4}") int preloadingParallelism,
+                               @Value("${network-store-server.shared-cache-max-size:0}") long sharedCacheMaxSize,
+                               @Value("${network-store-server.shared-cache-expire-after-access:600}") long sharedCacheExpireAfterAccess,
+                               @Value("${network-store-server.use-smile:false}") boolean useSmile,
+                               @Value("${network-store-server.connect-timeout:0}") int connectTimeout,
+                               @Value("${network-store-server.read-timeout:0}") int readTimeout,
+                               @Value("${network-store-server.max-connections:20}") int maxConnections,
+                               @Value("${network-store-server.compression:true}") boolean compression,
+                               @Value("${network-store-server.compression-min-size:2048}") int compressionMinSize) {
+        this(new NetworkStoreConfig(baseUri)
+                .setPreloadingStrategy(defaultPreloadingStrategy)
+                .setFlushParallelism(flushParallelism)
+                .setPreloadingParallelism(preloadingParallelism)
+                .setSharedCacheMaxSize(sharedCacheMaxSize)
+                .setSharedCacheExpireAfterAccess(sharedCacheExpireAfterAccess)
+                .setUseSmile(useSmile)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setMaxConnections(maxConnections)
+                .setCompression(compression)
+                .setCompressionMinSize(compressionMinSize));
+    }
+
+    public NetworkStoreService(NetworkStoreConfig config) {
+        this(config, createHttpClient(config));
+    }
+
+    private NetworkStoreService(NetworkStoreConfig config, CloseableHttpClient httpClient) {
+        this(new RestNetworkStoreClient(createRestTemplateBuilder(config, httpClient), config.isUseSmile()),
+             config.getPreloadingStrategy(), config.getFlushParallelism(), config.getPreloadingParallelism(),
+             config.getSharedCacheMaxSize() > 0 ? new SharedResourceCache(config.getSharedCacheMaxSize(), config.getSharedCacheExpireAfterAccess()) : null);
+        this.httpClient = httpClient;
     }
 
     NetworkStoreService(RestNetworkStoreClient restStoreClient, PreloadingStrategy defaultPreloadingStrategy) {
+        this(restStoreClient, defaultPreloadingStrategy, 1, 1, null);
+    }
+
+    NetworkStoreService(RestNetworkStoreClient restStoreClient, PreloadingStrategy defaultPreloadingStrategy, int flushParallelism,
+                        int preloadingParallelism, SharedResourceCache sharedCache) {
         this.restStoreClient = Objects.requireNonNull(restStoreClient);
         this.defaultPreloadingStrategy = Objects.requireNonNull(defaultPreloadingStrategy);
+        // parallelism is validated by the configuration, with a parallelism of 1 flush and preloading are done in the
+        // calling thread
+        flushExecutorService = flushParallelism > 1 ? createExecutorService("network-store-flush-%d", flushParallelism) : null;
+        preloadingExecutorService = preloadingParallelism > 1 ? createExecutorService("network-store-preloading-%d", preloadingParallelism) : null;
+        // shared by all the networks of the service, null if disabled
+        this.sharedCache = sharedCache;
+    }
+
+    /**
+     * Threads are daemons so that a service which is not closed does not prevent the JVM from exiting.
+     */
+    private static ExecutorService createExecutorService(String nameFormat, int parallelism) {
+        return Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .setDaemon(true)
+                .build());
     }
 
     public static NetworkStoreService create(NetworkStoreConfig config) {
         Objects.requireNonNull(config);
-        return new NetworkStoreService(config.getBaseUrl(), config.getPreloadingStrategy());
+        return new NetworkStoreService(config);
+    }
+
+    private static CloseableHttpClient createHttpClient(NetworkStoreConfig config) {
+        // keep alive connections are reused between requests
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(config.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxConnections());
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(config.getConnectTimeout())
+                        .setSocketTimeout(config.getReadTimeout())
+                        .build());
+        if (!config.isCompression()) {
+            httpClientBuilder.disableContentCompression();
+        }
+        return httpClientBuilder.build();
     }
 
-    private static RestTemplateBuilder createRestTemplateBuilder(String baseUri) {
-        return new RestTemplateBuilder()
-                .uriTemplateHandler(new DefaultUriBuilderFactory(UriComponentsBuilder.fromUriString(baseUri)
-                        .path(NetworkStoreApi.VERSION)));
+    private static RestTemplateBuilder createRestTemplateBuilder(NetworkStoreConfig config, CloseableHttpClient httpClient) {
+        RestTemplateBuilder builder = new RestTemplateBuilder()
+                .uriTemplateHandler(new DefaultUriBuilderFactory(UriComponentsBuilder.fromUriString(config.getBaseUrl())
+                        .path(NetworkStoreApi.VERSION)))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient));
+        if (config.isCompression()) {
+            builder = builder.additionalInterceptors(new GzipRequestInterceptor(config.getCompressionMinSize()));
+        }
+        return builder;
     }
 
     private NetworkStoreClient createStoreClient(PreloadingStrategy preloadingStrategy) {
         PreloadingStrategy chosenPreloadingStrategy = preloadingStrategy != null ? preloadingStrategy : defaultPreloadingStrategy;
         LOGGER.info("Preloading strategy: {}", chosenPreloadingStrategy);
+        // one dictionary per network, so that strings are shared by all the resources of the network
+        RestNetworkStoreClient networkRestStoreClient = restStoreClient.withStringDictionary(new StringDictionary());
         switch (chosenPreloadingStrategy) {
             case NONE:
-                return new BufferedRestNetworkStoreClient(restStoreClient);
+                return new BufferedRestNetworkStoreClient(networkRestStoreClient, flushExecutorService);
             case COLLECTION:
-                return new PreloadingRestNetworkStoreClient(restStoreClient);
+            case ALL_COLLECTIONS:
+            case CONTAINER:
+            case SNAPSHOT:
+                return new PreloadingRestNetworkStoreClient(networkRestStoreClient, flushExecutorService, chosenPreloadingStrategy, preloadingExecutorService, sharedCache);
             default:
                 throw new IllegalStateException("Unknown preloading strategy: " + chosenPreloadingStrategy);
         }
@@ -90,7 +194,7 @@ public class NetworkStoreService implements AutoCloseable {
     }
 
     public NetworkFactory getNetworkFactory(PreloadingStrategy preloadingStrategy) {
-        return new NetworkFactoryImpl(() -> createStoreClient(preloadingStrategy));
+        return new NetworkFactoryImpl(() -> createStoreClient(preloadingStrategy), preloadingExecutorService);
     }
 
     public Network createNetwork(String id, String sourceFormat) {
@@ -138,7 +242,7 @@ public class NetworkStoreService implements AutoCloseable {
         Objects.requireNonNull(uuid);
         NetworkStoreClient storeClient = createStoreClient(preloadingStrategy);
         return NetworkImpl.create(storeClient, storeClient.getNetwork(uuid)
-                .orElseThrow(() -> new PowsyblException("Network '" + uuid + "' not found")));
+                .orElseThrow(() -> new PowsyblException("Network '" + uuid + "' not found")), preloadingExecutorService);
     }
 
     public void deleteNetwork(UUID uuid) {
@@ -173,5 +277,18 @@ public class NetworkStoreService implements AutoCloseable {
     @Override
     @PreDestroy
     public void close() {
+        if (flushExecutorService != null) {
+            flushExecutorService.shutdown();
+        }
+        if (preloadingExecutorService != null) {
+            preloadingExecutorService.shutdown();
+        }
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 }
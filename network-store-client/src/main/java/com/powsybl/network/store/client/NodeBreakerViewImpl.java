@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,14 +42,21 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
         return voltageLevelResource.getAttributes().getNodeCount();
     }
 
+    private BusViewImpl.CalculatedTopology getCalculatedTopology() {
+        return index.getVoltageLevel(voltageLevelResource.getId())
+                .map(vl -> vl.getBusView().getCalculatedTopology())
+                .orElseThrow(IllegalStateException::new);
+    }
+
     @Override
     public int[] getNodes() {
-        throw new UnsupportedOperationException("TODO");
+        return getCalculatedTopology().getTopology().getNodes();
     }
 
     @Override
     public VoltageLevel.NodeBreakerView setNodeCount(int count) {
         voltageLevelResource.getAttributes().setNodeCount(count);
+        index.updateResource(voltageLevelResource);
         return this;
     }
 
@@ -82,8 +90,10 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
 
     @Override
     public void traverse(int node, Traverser traverser) {
-        // TODO
-        //throw new UnsupportedOperationException("TODO");
+        Objects.requireNonNull(traverser);
+        BusViewImpl.CalculatedTopology calculatedTopology = getCalculatedTopology();
+        calculatedTopology.getTopology().traverse(node, (node1, edge, node2) ->
+                traverser.traverse(node1, calculatedTopology.getSwitch(edge), node2));
     }
 
     @Override
@@ -93,7 +103,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
 
     @Override
     public InternalConnectionAdder newInternalConnection() {
-        return new InternalConnectionAdderNodeBreakerImpl(voltageLevelResource);
+        return new InternalConnectionAdderNodeBreakerImpl(voltageLevelResource, index);
     }
 
     @Override
@@ -145,8 +155,7 @@ public class NodeBreakerViewImpl implements VoltageLevel.NodeBreakerView {
 
     @Override
     public Terminal getTerminal(int node) {
-        // TODO
-        return null;
+        return getCalculatedTopology().getTerminal(node);
     }
 
     @Override
@@ -6,75 +6,315 @@
  */
 package com.powsybl.network.store.client;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.model.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 /**
+ * A network can be read by several threads at the same time. A collection or a container needed by several threads
+ * at the same time is only loaded once, by the first of them, the others waiting for it. Modifications are buffered
+ * until the next flush and are serialized.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
 
+    /**
+     * Resources needed to calculate the buses of a voltage level.
+     */
+    private static final Set<ResourceType> VOLTAGE_LEVEL_CONTENT_TYPES = EnumSet.of(ResourceType.VOLTAGE_LEVEL,
+            ResourceType.BUSBAR_SECTION, ResourceType.SWITCH, ResourceType.GENERATOR, ResourceType.LOAD,
+            ResourceType.SHUNT_COMPENSATOR, ResourceType.STATIC_VAR_COMPENSATOR, ResourceType.VSC_CONVERTER_STATION,
+            ResourceType.LCC_CONVERTER_STATION, ResourceType.TWO_WINDINGS_TRANSFORMER,
+            ResourceType.THREE_WINDINGS_TRANSFORMER, ResourceType.LINE, ResourceType.DANGLING_LINE);
+
+    private final RestNetworkStoreClient restStoreClient;
+
     private final BufferedRestNetworkStoreClient restClient;
 
     private final CacheNetworkStoreClient cacheClient = new CacheNetworkStoreClient();
 
-    private final Map<UUID, Set<ResourceType>> cachedResourceTypes = new HashMap<>();
+    /**
+     * Collection loadings of each network. With the snapshot and all collections strategies, the whole network is
+     * loaded at once under the {@link ResourceType#NETWORK} key.
+     */
+    private final Map<UUID, Map<ResourceType, CompletableFuture<Void>>> loadingsByNetworkUuid = new ConcurrentHashMap<>();
+
+    private final Map<ResourceType, CompletableFuture<Void>> networksLoading = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Map<String, CompletableFuture<Void>>> containerLoadingsByNetworkUuid = new ConcurrentHashMap<>();
+
+    private final PreloadingStrategy preloadingStrategy;
+
+    private final ExecutorService preloadingExecutorService;
+
+    private final SharedResourceCache sharedCache;
+
+    private final Set<UUID> modifiedNetworkUuids = ConcurrentHashMap.newKeySet();
 
     public PreloadingRestNetworkStoreClient(RestNetworkStoreClient restStoreClient) {
-        this.restClient = new BufferedRestNetworkStoreClient(restStoreClient);
+        this(restStoreClient, null);
+    }
+
+    public PreloadingRestNetworkStoreClient(RestNetworkStoreClient restStoreClient, ExecutorService flushExecutorService) {
+        this(restStoreClient, flushExecutorService, PreloadingStrategy.COLLECTION, null, null);
+    }
+
+    /**
+     * @param preloadingStrategy how resources are loaded the first time one of them is needed: only the needed
+     *                           collection ({@link PreloadingStrategy#COLLECTION}), all the collections of the network
+     *                           ({@link PreloadingStrategy#ALL_COLLECTIONS}), all the equipments of the accessed
+     *                           substation or voltage level ({@link PreloadingStrategy#CONTAINER}) or the whole network
+     *                           in one request ({@link PreloadingStrategy#SNAPSHOT})
+     * @param preloadingExecutorService executor used to load all the collections concurrently, if null they are
+     *                                  loaded one after the other in the calling thread
+     * @param sharedCache cache of collections shared with the other clients, if null collections are always loaded
+     *                    from the server
+     */
+    public PreloadingRestNetworkStoreClient(RestNetworkStoreClient restStoreClient, ExecutorService flushExecutorService,
+                                            PreloadingStrategy preloadingStrategy, ExecutorService preloadingExecutorService,
+                                            SharedResourceCache sharedCache) {
+        this.restStoreClient = Objects.requireNonNull(restStoreClient);
+        this.restClient = new BufferedRestNetworkStoreClient(restStoreClient, flushExecutorService);
+        this.preloadingStrategy = Objects.requireNonNull(preloadingStrategy);
+        if (preloadingStrategy == PreloadingStrategy.NONE) {
+            throw new IllegalArgumentException("Invalid preloading strategy: " + preloadingStrategy);
+        }
+        this.preloadingExecutorService = preloadingExecutorService;
+        this.sharedCache = sharedCache;
     }
 
-    private void loadToCache(ResourceType resourceType, UUID networkUuid) {
+    private void loadFromServer(ResourceType resourceType, UUID networkUuid, Consumer<Resource<? extends IdentifiableAttributes>> consumer) {
         switch (resourceType) {
-            case NETWORK:
-                cacheClient.createNetworks(restClient.getNetworks());
-                break;
             case SUBSTATION:
-                cacheClient.createSubstations(networkUuid, restClient.getSubstations(networkUuid));
+                restStoreClient.getSubstations(networkUuid, consumer::accept);
                 break;
             case VOLTAGE_LEVEL:
-                cacheClient.createVoltageLevels(networkUuid, restClient.getVoltageLevels(networkUuid));
+                restStoreClient.getVoltageLevels(networkUuid, consumer::accept);
                 break;
             case LOAD:
+                restStoreClient.getLoads(networkUuid, consumer::accept);
                 break;
             case GENERATOR:
+                restStoreClient.getGenerators(networkUuid, consumer::accept);
                 break;
             case SHUNT_COMPENSATOR:
+                restStoreClient.getShuntCompensators(networkUuid, consumer::accept);
                 break;
             case VSC_CONVERTER_STATION:
+                restStoreClient.getVscConverterStations(networkUuid, consumer::accept);
+                break;
+            case LCC_CONVERTER_STATION:
+                restStoreClient.getLccConverterStations(networkUuid, consumer::accept);
                 break;
             case STATIC_VAR_COMPENSATOR:
+                restStoreClient.getStaticVarCompensators(networkUuid, consumer::accept);
                 break;
             case BUSBAR_SECTION:
+                restStoreClient.getBusbarSections(networkUuid, consumer::accept);
                 break;
             case SWITCH:
+                restStoreClient.getSwitches(networkUuid, consumer::accept);
                 break;
             case TWO_WINDINGS_TRANSFORMER:
-                cacheClient.createTwoWindingsTransformers(networkUuid, restClient.getTwoWindingsTransformers(networkUuid));
+                restStoreClient.getTwoWindingsTransformers(networkUuid, consumer::accept);
                 break;
             case THREE_WINDINGS_TRANSFORMER:
-                cacheClient.createThreeWindingsTransformers(networkUuid, restClient.getThreeWindingsTransformers(networkUuid));
+                restStoreClient.getThreeWindingsTransformers(networkUuid, consumer::accept);
                 break;
             case LINE:
-                cacheClient.createLines(networkUuid, restClient.getLines(networkUuid));
+                restStoreClient.getLines(networkUuid, consumer::accept);
                 break;
             case HVDC_LINE:
+                restStoreClient.getHvdcLines(networkUuid, consumer::accept);
+                break;
+            case DANGLING_LINE:
+                restStoreClient.getDanglingLines(networkUuid, consumer::accept);
                 break;
             case CONFIGURED_BUS:
+                restStoreClient.getConfiguredBuses(networkUuid, consumer::accept);
                 break;
+            default:
+                throw new IllegalStateException("Unknown resource type: " + resourceType);
+        }
+    }
+
+    private void loadToCache(ResourceType resourceType, UUID networkUuid, Consumer<Resource<? extends IdentifiableAttributes>> consumer) {
+        if (sharedCache != null) {
+            sharedCache.get(networkUuid, resourceType, c -> loadFromServer(resourceType, networkUuid, c), consumer,
+                            restStoreClient.getStringDictionary());
+        } else {
+            loadFromServer(resourceType, networkUuid, consumer);
+        }
+    }
+
+    /**
+     * Shared cached collections of a modified network are invalidated once the modifications are sent to the server.
+     */
+    private void invalidateOnFlush(UUID networkUuid) {
+        if (sharedCache != null) {
+            modifiedNetworkUuids.add(networkUuid);
+        }
+    }
+
+    /**
+     * The first thread asking for a key runs the loader, the others wait for its end. A failed loading is forgotten so
+     * that it is tried again next time.
+     */
+    private static <K> void loadOnce(Map<K, CompletableFuture<Void>> loadings, K key, Runnable loader) {
+        CompletableFuture<Void> loading = loadings.get(key);
+        if (loading == null) {
+            CompletableFuture<Void> newLoading = new CompletableFuture<>();
+            loading = loadings.putIfAbsent(key, newLoading);
+            if (loading == null) {
+                try {
+                    loader.run();
+                } catch (RuntimeException | Error e) {
+                    loadings.remove(key, newLoading);
+                    newLoading.completeExceptionally(e);
+                    throw e;
+                }
+                newLoading.complete(null);
+                return;
+            }
+        }
+        try {
+            loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
         }
     }
 
+    private static boolean isLoaded(CompletableFuture<Void> loading) {
+        return loading != null && loading.isDone() && !loading.isCompletedExceptionally();
+    }
+
+    private Map<ResourceType, CompletableFuture<Void>> getLoadings(UUID networkUuid) {
+        return loadingsByNetworkUuid.computeIfAbsent(networkUuid, k -> new ConcurrentHashMap<>());
+    }
+
+    private Map<String, CompletableFuture<Void>> getContainerLoadings(UUID networkUuid) {
+        return containerLoadingsByNetworkUuid.computeIfAbsent(networkUuid, k -> new ConcurrentHashMap<>());
+    }
+
     private void ensureCached(ResourceType resourceType, UUID networkUuid) {
         Objects.requireNonNull(resourceType);
-        if (resourceType != ResourceType.NETWORK) {
-            Objects.requireNonNull(networkUuid);
+        if (resourceType == ResourceType.NETWORK) {
+            loadOnce(networksLoading, resourceType, () -> cacheClient.createNetworks(restClient.getNetworks()));
+            return;
+        }
+        Objects.requireNonNull(networkUuid);
+        Map<ResourceType, CompletableFuture<Void>> loadings = getLoadings(networkUuid);
+        if (isLoaded(loadings.get(ResourceType.NETWORK))) {
+            return;
+        }
+        if (preloadingStrategy == PreloadingStrategy.SNAPSHOT) {
+            loadOnce(loadings, ResourceType.NETWORK, () -> loadSnapshotToCache(networkUuid));
+        } else if (preloadingStrategy == PreloadingStrategy.ALL_COLLECTIONS) {
+            loadOnce(loadings, ResourceType.NETWORK, () -> loadAllCollectionsToCache(networkUuid));
+        } else {
+            loadOnce(loadings, resourceType, () -> {
+                ensureCached(ResourceType.NETWORK, null);
+                loadToCache(resourceType, networkUuid, cacheClient.getNetworkCache(networkUuid)::addResource);
+            });
         }
-        Set<ResourceType> resourceTypes = cachedResourceTypes.computeIfAbsent(networkUuid, k -> EnumSet.noneOf(ResourceType.class));
-        if (!resourceTypes.contains(resourceType)) {
-            loadToCache(resourceType, networkUuid);
-            resourceTypes.add(resourceType);
+    }
+
+    private boolean isCached(ResourceType resourceType, UUID networkUuid) {
+        Map<ResourceType, CompletableFuture<Void>> loadings = loadingsByNetworkUuid.getOrDefault(networkUuid, Collections.emptyMap());
+        return isLoaded(loadings.get(ResourceType.NETWORK)) || isLoaded(loadings.get(resourceType));
+    }
+
+    private boolean isFullyCached(UUID networkUuid) {
+        return EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK)).stream()
+                .allMatch(resourceType -> isCached(resourceType, networkUuid));
+    }
+
+    private boolean isVoltageLevelContentCached(UUID networkUuid, String voltageLevelId) {
+        return VOLTAGE_LEVEL_CONTENT_TYPES.stream().allMatch(resourceType -> isCached(resourceType, networkUuid))
+                || isLoaded(getContainerLoadings(networkUuid).get(voltageLevelId));
+    }
+
+    /**
+     * With the container strategy, only the equipments of the voltage level are loaded, otherwise the whole
+     * collection.
+     */
+    private void ensureVoltageLevelCached(ResourceType resourceType, UUID networkUuid, String voltageLevelId) {
+        if (preloadingStrategy != PreloadingStrategy.CONTAINER) {
+            ensureCached(resourceType, networkUuid);
+        } else if (!isCached(resourceType, networkUuid)) {
+            ensureCached(ResourceType.NETWORK, null);
+            loadOnce(getContainerLoadings(networkUuid), voltageLevelId,
+                () -> restStoreClient.getVoltageLevelContent(networkUuid, voltageLevelId, cacheClient.getNetworkCache(networkUuid)::addResource));
+        }
+    }
+
+    /**
+     * With the container strategy, the substation, its voltage levels and all their equipments are loaded, otherwise
+     * the whole collection.
+     */
+    private void ensureSubstationCached(ResourceType resourceType, UUID networkUuid, String substationId) {
+        if (preloadingStrategy != PreloadingStrategy.CONTAINER) {
+            ensureCached(resourceType, networkUuid);
+        } else if (!isCached(resourceType, networkUuid)) {
+            ensureCached(ResourceType.NETWORK, null);
+            Map<String, CompletableFuture<Void>> containerLoadings = getContainerLoadings(networkUuid);
+            loadOnce(containerLoadings, substationId, () -> {
+                CacheNetworkStoreClient.NetworkCache networkCache = cacheClient.getNetworkCache(networkUuid);
+                List<String> voltageLevelIds = new ArrayList<>();
+                restStoreClient.getSubstationContent(networkUuid, substationId, resource -> {
+                    networkCache.addResource(resource);
+                    if (resource.getType() == ResourceType.VOLTAGE_LEVEL) {
+                        voltageLevelIds.add(resource.getId());
+                    }
+                });
+                // voltage levels have been loaded with the substation
+                for (String voltageLevelId : voltageLevelIds) {
+                    containerLoadings.putIfAbsent(voltageLevelId, CompletableFuture.completedFuture(null));
+                }
+            });
+        }
+    }
+
+    private void loadSnapshotToCache(UUID networkUuid) {
+        ensureCached(ResourceType.NETWORK, null);
+        restStoreClient.getSnapshot(networkUuid, cacheClient.getNetworkCache(networkUuid)::addResource);
+    }
+
+    private void loadAllCollectionsToCache(UUID networkUuid) {
+        ensureCached(ResourceType.NETWORK, null);
+        CacheNetworkStoreClient.NetworkCache networkCache = cacheClient.getNetworkCache(networkUuid);
+        Set<ResourceType> resourceTypes = EnumSet.complementOf(EnumSet.of(ResourceType.NETWORK));
+        if (preloadingExecutorService == null) {
+            for (ResourceType resourceType : resourceTypes) {
+                loadToCache(resourceType, networkUuid, networkCache::addResource);
+            }
+        } else {
+            List<Future<?>> futures = new ArrayList<>(resourceTypes.size());
+            for (ResourceType resourceType : resourceTypes) {
+                futures.add(preloadingExecutorService.submit(() -> loadToCache(resourceType, networkUuid, networkCache::addResource)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new PowsyblException(e);
+                } catch (ExecutionException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new PowsyblException(e.getCause());
+                }
+            }
         }
     }
 
@@ -85,10 +325,14 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
     }
 
     @Override
-    public void createNetworks(List<Resource<NetworkAttributes>> networkResources) {
+    public synchronized void createNetworks(List<Resource<NetworkAttributes>> networkResources) {
         ensureCached(ResourceType.NETWORK, null);
         restClient.createNetworks(networkResources);
         cacheClient.createNetworks(networkResources);
+        // nothing to load from the server for a new network
+        for (Resource<NetworkAttributes> networkResource : networkResources) {
+            getLoadings(networkResource.getAttributes().getUuid()).put(ResourceType.NETWORK, CompletableFuture.completedFuture(null));
+        }
     }
 
     @Override
@@ -98,14 +342,37 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
     }
 
     @Override
-    public void deleteNetwork(UUID networkUuid) {
+    public synchronized void deleteNetwork(UUID networkUuid) {
         restClient.deleteNetwork(networkUuid);
         cacheClient.deleteNetwork(networkUuid);
-        cachedResourceTypes.remove(networkUuid);
+        loadingsByNetworkUuid.remove(networkUuid);
+        containerLoadingsByNetworkUuid.remove(networkUuid);
+        if (sharedCache != null) {
+            sharedCache.invalidate(networkUuid);
+        }
     }
 
     @Override
-    public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+    public synchronized void updateNetworks(List<Resource<NetworkAttributes>> networkResources) {
+        restClient.updateNetworks(networkResources);
+    }
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        ensureCached(ResourceType.NETWORK, null);
+        Optional<Resource<IdentifiableAttributes>> resource = cacheClient.getIdentifiable(networkUuid, id);
+        if (!resource.isPresent() && !isFullyCached(networkUuid)) {
+            // not loaded yet, the resource is added to the cache so that it is the one found afterwards
+            restStoreClient.getIdentifiable(networkUuid, id)
+                    .ifPresent(cacheClient.getNetworkCache(networkUuid)::addResource);
+            resource = cacheClient.getIdentifiable(networkUuid, id);
+        }
+        return resource;
+    }
+
+    @Override
+    public synchronized void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+        invalidateOnFlush(networkUuid);
         ensureCached(ResourceType.SUBSTATION, networkUuid);
         restClient.createSubstations(networkUuid, substationResources);
         cacheClient.createSubstations(networkUuid, substationResources);
@@ -119,7 +386,7 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public Optional<Resource<SubstationAttributes>> getSubstation(UUID networkUuid, String substationId) {
-        ensureCached(ResourceType.SUBSTATION, networkUuid);
+        ensureSubstationCached(ResourceType.SUBSTATION, networkUuid, substationId);
         return cacheClient.getSubstation(networkUuid, substationId);
     }
 
@@ -130,7 +397,14 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
     }
 
     @Override
-    public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
+    public synchronized void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateSubstations(networkUuid, substationResources);
+    }
+
+    @Override
+    public synchronized void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
+        invalidateOnFlush(networkUuid);
         ensureCached(ResourceType.VOLTAGE_LEVEL, networkUuid);
         restClient.createVoltageLevels(networkUuid, voltageLevelResources);
         cacheClient.createVoltageLevels(networkUuid, voltageLevelResources);
@@ -138,7 +412,16 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public Optional<Resource<VoltageLevelAttributes>> getVoltageLevel(UUID networkUuid, String voltageLevelId) {
-        ensureCached(ResourceType.VOLTAGE_LEVEL, networkUuid);
+        if (preloadingStrategy == PreloadingStrategy.CONTAINER && !isCached(ResourceType.VOLTAGE_LEVEL, networkUuid)) {
+            ensureCached(ResourceType.NETWORK, null);
+            if (!cacheClient.getVoltageLevel(networkUuid, voltageLevelId).isPresent()) {
+                // the substation is needed to load the voltage level with all its neighbours
+                restStoreClient.getVoltageLevel(networkUuid, voltageLevelId)
+                        .ifPresent(resource -> ensureSubstationCached(ResourceType.VOLTAGE_LEVEL, networkUuid, resource.getAttributes().getSubstationId()));
+            }
+        } else {
+            ensureCached(ResourceType.VOLTAGE_LEVEL, networkUuid);
+        }
         return cacheClient.getVoltageLevel(networkUuid, voltageLevelId);
     }
 
@@ -150,7 +433,7 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
 
     @Override
     public List<Resource<VoltageLevelAttributes>> getVoltageLevelsInSubstation(UUID networkUuid, String substationId) {
-        ensureCached(ResourceType.VOLTAGE_LEVEL, networkUuid);
+        ensureSubstationCached(ResourceType.VOLTAGE_LEVEL, networkUuid, substationId);
         return cacheClient.getVoltageLevelsInSubstation(networkUuid, substationId);
     }
 
@@ -160,156 +443,244 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
         return cacheClient.getVoltageLevelCount(networkUuid);
     }
 
+    @Override
+    public Optional<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(UUID networkUuid, String voltageLevelId) {
+        if (isVoltageLevelContentCached(networkUuid, voltageLevelId)) {
+            return cacheClient.getVoltageLevelCalculatedBuses(networkUuid, voltageLevelId);
+        }
+        // calculated on server side when there is no pending modification, not cached
+        synchronized (this) {
+            return restClient.getVoltageLevelCalculatedBuses(networkUuid, voltageLevelId);
+        }
+    }
+
+    @Override
+    public synchronized void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateVoltageLevels(networkUuid, voltageLevelResources);
+    }
+
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelBusbarSections(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.BUSBAR_SECTION, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelBusbarSections(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<SwitchAttributes>> getVoltageLevelSwitches(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelSwitches(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.SWITCH, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelSwitches(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<GeneratorAttributes>> getVoltageLevelGenerators(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelGenerators(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.GENERATOR, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelGenerators(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<LoadAttributes>> getVoltageLevelLoads(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelLoads(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.LOAD, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelLoads(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<ShuntCompensatorAttributes>> getVoltageLevelShuntCompensators(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelShuntCompensators(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.SHUNT_COMPENSATOR, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelShuntCompensators(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<StaticVarCompensatorAttributes>> getVoltageLevelStaticVarCompensators(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelStaticVarCompensators(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.STATIC_VAR_COMPENSATOR, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelStaticVarCompensators(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<VscConverterStationAttributes>> getVoltageLevelVscConverterStation(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelVscConverterStation(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.VSC_CONVERTER_STATION, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelVscConverterStation(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<LccConverterStationAttributes>> getVoltageLevelLccConverterStation(UUID networkUuid, String voltageLevelId) {
-        return restClient.getVoltageLevelLccConverterStation(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.LCC_CONVERTER_STATION, networkUuid, voltageLevelId);
+        return cacheClient.getVoltageLevelLccConverterStation(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        ensureCached(ResourceType.TWO_WINDINGS_TRANSFORMER, networkUuid);
+        ensureVoltageLevelCached(ResourceType.TWO_WINDINGS_TRANSFORMER, networkUuid, voltageLevelId);
         return cacheClient.getVoltageLevelTwoWindingsTransformers(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        ensureCached(ResourceType.THREE_WINDINGS_TRANSFORMER, networkUuid);
+        ensureVoltageLevelCached(ResourceType.THREE_WINDINGS_TRANSFORMER, networkUuid, voltageLevelId);
         return cacheClient.getVoltageLevelThreeWindingsTransformers(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, String voltageLevelId) {
-        ensureCached(ResourceType.LINE, networkUuid);
+        ensureVoltageLevelCached(ResourceType.LINE, networkUuid, voltageLevelId);
         return cacheClient.getVoltageLevelLines(networkUuid, voltageLevelId);
     }
 
     @Override
     public List<Resource<DanglingLineAttributes>> getVoltageLevelDanglingLines(UUID networkUuid, String voltageLevelId) {
-        ensureCached(ResourceType.DANGLING_LINE, networkUuid);
+        ensureVoltageLevelCached(ResourceType.DANGLING_LINE, networkUuid, voltageLevelId);
         return cacheClient.getVoltageLevelDanglingLines(networkUuid, voltageLevelId);
     }
 
     @Override
-    public void createSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+    public synchronized void createSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.SWITCH, networkUuid);
         restClient.createSwitches(networkUuid, switchResources);
         cacheClient.createSwitches(networkUuid, switchResources);
     }
 
     @Override
     public List<Resource<SwitchAttributes>> getSwitches(UUID networkUuid) {
-        return restClient.getSwitches(networkUuid);
+        ensureCached(ResourceType.SWITCH, networkUuid);
+        return cacheClient.getSwitches(networkUuid);
     }
 
     @Override
     public Optional<Resource<SwitchAttributes>> getSwitch(UUID networkUuid, String switchId) {
-        return restClient.getSwitch(networkUuid, switchId);
+        ensureCached(ResourceType.SWITCH, networkUuid);
+        return cacheClient.getSwitch(networkUuid, switchId);
     }
 
     @Override
     public int getSwitchCount(UUID networkUuid) {
-        return restClient.getSwitchCount(networkUuid);
+        ensureCached(ResourceType.SWITCH, networkUuid);
+        return cacheClient.getSwitchCount(networkUuid);
     }
 
     @Override
-    public void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
+    public synchronized void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateSwitches(networkUuid, switchResources);
+    }
+
+    @Override
+    public synchronized void updateSwitchStates(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateSwitchStates(networkUuid, switchResources);
+    }
+
+    @Override
+    public synchronized void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.BUSBAR_SECTION, networkUuid);
         restClient.createBusbarSections(networkUuid, busbarSectionResources);
         cacheClient.createBusbarSections(networkUuid, busbarSectionResources);
     }
 
     @Override
     public List<Resource<BusbarSectionAttributes>> getBusbarSections(UUID networkUuid) {
-        return restClient.getBusbarSections(networkUuid);
+        ensureCached(ResourceType.BUSBAR_SECTION, networkUuid);
+        return cacheClient.getBusbarSections(networkUuid);
     }
 
     @Override
     public Optional<Resource<BusbarSectionAttributes>> getBusbarSection(UUID networkUuid, String busbarSectionId) {
-        return restClient.getBusbarSection(networkUuid, busbarSectionId);
+        ensureCached(ResourceType.BUSBAR_SECTION, networkUuid);
+        return cacheClient.getBusbarSection(networkUuid, busbarSectionId);
     }
 
     @Override
     public int getBusbarSectionCount(UUID networkUuid) {
-        return restClient.getBusbarSectionCount(networkUuid);
+        ensureCached(ResourceType.BUSBAR_SECTION, networkUuid);
+        return cacheClient.getBusbarSectionCount(networkUuid);
+    }
+
+    @Override
+    public synchronized void updateBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateBusbarSections(networkUuid, busbarSectionResources);
     }
 
     @Override
-    public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+    public synchronized void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.LOAD, networkUuid);
         restClient.createLoads(networkUuid, loadResources);
         cacheClient.createLoads(networkUuid, loadResources);
     }
 
     @Override
     public List<Resource<LoadAttributes>> getLoads(UUID networkUuid) {
-        return restClient.getLoads(networkUuid);
+        ensureCached(ResourceType.LOAD, networkUuid);
+        return cacheClient.getLoads(networkUuid);
     }
 
     @Override
     public Optional<Resource<LoadAttributes>> getLoad(UUID networkUuid, String loadId) {
-        return restClient.getLoad(networkUuid, loadId);
+        ensureCached(ResourceType.LOAD, networkUuid);
+        return cacheClient.getLoad(networkUuid, loadId);
     }
 
     @Override
     public int getLoadCount(UUID networkUuid) {
-        return restClient.getLoadCount(networkUuid);
+        ensureCached(ResourceType.LOAD, networkUuid);
+        return cacheClient.getLoadCount(networkUuid);
+    }
+
+    @Override
+    public synchronized void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateLoads(networkUuid, loadResources);
     }
 
     @Override
-    public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+    public synchronized void updateLoadStates(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateLoadStates(networkUuid, loadResources);
+    }
+
+    @Override
+    public synchronized void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.GENERATOR, networkUuid);
         restClient.createGenerators(networkUuid, generatorResources);
         cacheClient.createGenerators(networkUuid, generatorResources);
     }
 
     @Override
     public List<Resource<GeneratorAttributes>> getGenerators(UUID networkUuid) {
-        return restClient.getGenerators(networkUuid);
+        ensureCached(ResourceType.GENERATOR, networkUuid);
+        return cacheClient.getGenerators(networkUuid);
     }
 
     @Override
     public Optional<Resource<GeneratorAttributes>> getGenerator(UUID networkUuid, String generatorId) {
-        return restClient.getGenerator(networkUuid, generatorId);
+        ensureCached(ResourceType.GENERATOR, networkUuid);
+        return cacheClient.getGenerator(networkUuid, generatorId);
     }
 
     @Override
     public int getGeneratorCount(UUID networkUuid) {
-        return restClient.getGeneratorCount(networkUuid);
+        ensureCached(ResourceType.GENERATOR, networkUuid);
+        return cacheClient.getGeneratorCount(networkUuid);
+    }
+
+    @Override
+    public synchronized void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateGenerators(networkUuid, generatorResources);
     }
 
     @Override
-    public void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+    public synchronized void updateGeneratorStates(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateGeneratorStates(networkUuid, generatorResources);
+    }
+
+    @Override
+    public synchronized void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        invalidateOnFlush(networkUuid);
         ensureCached(ResourceType.TWO_WINDINGS_TRANSFORMER, networkUuid);
         restClient.createTwoWindingsTransformers(networkUuid, twoWindingsTransformerResources);
         cacheClient.createTwoWindingsTransformers(networkUuid, twoWindingsTransformerResources);
@@ -333,10 +704,23 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
         return cacheClient.getTwoWindingsTransformerCount(networkUuid);
     }
 
+    @Override
+    public synchronized void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateTwoWindingsTransformers(networkUuid, twoWindingsTransformerResources);
+    }
+
+    @Override
+    public synchronized void updateTwoWindingsTransformerStates(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateTwoWindingsTransformerStates(networkUuid, twoWindingsTransformerResources);
+    }
+
     // 3 windings transformer
 
     @Override
-    public void createThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+    public synchronized void createThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        invalidateOnFlush(networkUuid);
         ensureCached(ResourceType.THREE_WINDINGS_TRANSFORMER, networkUuid);
         restClient.createThreeWindingsTransformers(networkUuid, threeWindingsTransformerResources);
         cacheClient.createThreeWindingsTransformers(networkUuid, threeWindingsTransformerResources);
@@ -361,7 +745,20 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
     }
 
     @Override
-    public void createLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+    public synchronized void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateThreeWindingsTransformers(networkUuid, threeWindingsTransformerResources);
+    }
+
+    @Override
+    public synchronized void updateThreeWindingsTransformerStates(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateThreeWindingsTransformerStates(networkUuid, threeWindingsTransformerResources);
+    }
+
+    @Override
+    public synchronized void createLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        invalidateOnFlush(networkUuid);
         ensureCached(ResourceType.LINE, networkUuid);
         restClient.createLines(networkUuid, lineResources);
         cacheClient.createLines(networkUuid, lineResources);
@@ -386,155 +783,278 @@ public class PreloadingRestNetworkStoreClient implements NetworkStoreClient {
     }
 
     @Override
-    public void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+    public synchronized void updateLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateLines(networkUuid, lineResources);
+    }
+
+    @Override
+    public synchronized void updateLineStates(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateLineStates(networkUuid, lineResources);
+    }
+
+    @Override
+    public synchronized void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.SHUNT_COMPENSATOR, networkUuid);
         restClient.createShuntCompensators(networkUuid, shuntCompensatorResources);
         cacheClient.createShuntCompensators(networkUuid, shuntCompensatorResources);
     }
 
     @Override
     public List<Resource<ShuntCompensatorAttributes>> getShuntCompensators(UUID networkUuid) {
-        return restClient.getShuntCompensators(networkUuid);
+        ensureCached(ResourceType.SHUNT_COMPENSATOR, networkUuid);
+        return cacheClient.getShuntCompensators(networkUuid);
     }
 
     @Override
     public Optional<Resource<ShuntCompensatorAttributes>> getShuntCompensator(UUID networkUuid, String shuntCompensatorId) {
-        return restClient.getShuntCompensator(networkUuid, shuntCompensatorId);
+        ensureCached(ResourceType.SHUNT_COMPENSATOR, networkUuid);
+        return cacheClient.getShuntCompensator(networkUuid, shuntCompensatorId);
     }
 
     @Override
     public int getShuntCompensatorCount(UUID networkUuid) {
-        return restClient.getShuntCompensatorCount(networkUuid);
+        ensureCached(ResourceType.SHUNT_COMPENSATOR, networkUuid);
+        return cacheClient.getShuntCompensatorCount(networkUuid);
+    }
+
+    @Override
+    public synchronized void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateShuntCompensators(networkUuid, shuntCompensatorResources);
     }
 
     @Override
-    public void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+    public synchronized void updateShuntCompensatorStates(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateShuntCompensatorStates(networkUuid, shuntCompensatorResources);
+    }
+
+    @Override
+    public synchronized void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.VSC_CONVERTER_STATION, networkUuid);
         restClient.createVscConverterStations(networkUuid, vscConverterStationResources);
         cacheClient.createVscConverterStations(networkUuid, vscConverterStationResources);
     }
 
     @Override
     public List<Resource<VscConverterStationAttributes>> getVscConverterStations(UUID networkUuid) {
-        return restClient.getVscConverterStations(networkUuid);
+        ensureCached(ResourceType.VSC_CONVERTER_STATION, networkUuid);
+        return cacheClient.getVscConverterStations(networkUuid);
     }
 
     @Override
     public Optional<Resource<VscConverterStationAttributes>> getVscConverterStation(UUID networkUuid, String vscConverterStationId) {
-        return restClient.getVscConverterStation(networkUuid, vscConverterStationId);
+        ensureCached(ResourceType.VSC_CONVERTER_STATION, networkUuid);
+        return cacheClient.getVscConverterStation(networkUuid, vscConverterStationId);
     }
 
     @Override
     public int getVscConverterStationCount(UUID networkUuid) {
-        return restClient.getVscConverterStationCount(networkUuid);
+        ensureCached(ResourceType.VSC_CONVERTER_STATION, networkUuid);
+        return cacheClient.getVscConverterStationCount(networkUuid);
+    }
+
+    @Override
+    public synchronized void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateVscConverterStations(networkUuid, vscConverterStationResources);
+    }
+
+    @Override
+    public synchronized void updateVscConverterStationStates(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateVscConverterStationStates(networkUuid, vscConverterStationResources);
     }
 
     @Override
-    public void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+    public synchronized void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.LCC_CONVERTER_STATION, networkUuid);
         restClient.createLccConverterStations(networkUuid, lccConverterStationResources);
         cacheClient.createLccConverterStations(networkUuid, lccConverterStationResources);
     }
 
     @Override
     public List<Resource<LccConverterStationAttributes>> getLccConverterStations(UUID networkUuid) {
-        return restClient.getLccConverterStations(networkUuid);
+        ensureCached(ResourceType.LCC_CONVERTER_STATION, networkUuid);
+        return cacheClient.getLccConverterStations(networkUuid);
     }
 
     @Override
     public Optional<Resource<LccConverterStationAttributes>> getLccConverterStation(UUID networkUuid, String lccConverterStationId) {
-        return restClient.getLccConverterStation(networkUuid, lccConverterStationId);
+        ensureCached(ResourceType.LCC_CONVERTER_STATION, networkUuid);
+        return cacheClient.getLccConverterStation(networkUuid, lccConverterStationId);
     }
 
     @Override
     public int getLccConverterStationCount(UUID networkUuid) {
-        return restClient.getLccConverterStationCount(networkUuid);
+        ensureCached(ResourceType.LCC_CONVERTER_STATION, networkUuid);
+        return cacheClient.getLccConverterStationCount(networkUuid);
     }
 
     @Override
-    public void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+    public synchronized void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateLccConverterStations(networkUuid, lccConverterStationResources);
+    }
+
+    @Override
+    public synchronized void updateLccConverterStationStates(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateLccConverterStationStates(networkUuid, lccConverterStationResources);
+    }
+
+    @Override
+    public synchronized void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.STATIC_VAR_COMPENSATOR, networkUuid);
         restClient.createStaticVarCompensators(networkUuid, svcResources);
         cacheClient.createStaticVarCompensators(networkUuid, svcResources);
     }
 
     @Override
     public List<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensators(UUID networkUuid) {
-        return restClient.getStaticVarCompensators(networkUuid);
+        ensureCached(ResourceType.STATIC_VAR_COMPENSATOR, networkUuid);
+        return cacheClient.getStaticVarCompensators(networkUuid);
     }
 
     @Override
     public Optional<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensator(UUID networkUuid, String staticVarCompensatorId) {
-        return restClient.getStaticVarCompensator(networkUuid, staticVarCompensatorId);
+        ensureCached(ResourceType.STATIC_VAR_COMPENSATOR, networkUuid);
+        return cacheClient.getStaticVarCompensator(networkUuid, staticVarCompensatorId);
     }
 
     @Override
     public int getStaticVarCompensatorCount(UUID networkUuid) {
-        return restClient.getStaticVarCompensatorCount(networkUuid);
+        ensureCached(ResourceType.STATIC_VAR_COMPENSATOR, networkUuid);
+        return cacheClient.getStaticVarCompensatorCount(networkUuid);
     }
 
     @Override
-    public void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
+    public synchronized void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateStaticVarCompensators(networkUuid, svcResources);
+    }
+
+    @Override
+    public synchronized void updateStaticVarCompensatorStates(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> svcResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateStaticVarCompensatorStates(networkUuid, svcResources);
+    }
+
+    @Override
+    public synchronized void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.HVDC_LINE, networkUuid);
         restClient.createHvdcLines(networkUuid, hvdcLineResources);
         cacheClient.createHvdcLines(networkUuid, hvdcLineResources);
     }
 
     @Override
     public List<Resource<HvdcLineAttributes>> getHvdcLines(UUID networkUuid) {
-        return restClient.getHvdcLines(networkUuid);
+        ensureCached(ResourceType.HVDC_LINE, networkUuid);
+        return cacheClient.getHvdcLines(networkUuid);
     }
 
     @Override
     public Optional<Resource<HvdcLineAttributes>> getHvdcLine(UUID networkUuid, String hvdcLineId) {
-        return restClient.getHvdcLine(networkUuid, hvdcLineId);
+        ensureCached(ResourceType.HVDC_LINE, networkUuid);
+        return cacheClient.getHvdcLine(networkUuid, hvdcLineId);
     }
 
     @Override
     public int getHvdcLineCount(UUID networkUuid) {
-        return restClient.getHvdcLineCount(networkUuid);
+        ensureCached(ResourceType.HVDC_LINE, networkUuid);
+        return cacheClient.getHvdcLineCount(networkUuid);
+    }
+
+    @Override
+    public synchronized void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateHvdcLines(networkUuid, hvdcLineResources);
     }
 
     @Override
-    public void createDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+    public synchronized void createDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.DANGLING_LINE, networkUuid);
         restClient.createDanglingLines(networkUuid, danglingLineResources);
         cacheClient.createDanglingLines(networkUuid, danglingLineResources);
     }
 
     @Override
     public List<Resource<DanglingLineAttributes>> getDanglingLines(UUID networkUuid) {
-        return restClient.getDanglingLines(networkUuid);
+        ensureCached(ResourceType.DANGLING_LINE, networkUuid);
+        return cacheClient.getDanglingLines(networkUuid);
     }
 
     @Override
     public Optional<Resource<DanglingLineAttributes>> getDanglingLine(UUID networkUuid, String danglingLineId) {
-        return restClient.getDanglingLine(networkUuid, danglingLineId);
+        ensureCached(ResourceType.DANGLING_LINE, networkUuid);
+        return cacheClient.getDanglingLine(networkUuid, danglingLineId);
     }
 
     @Override
     public int getDanglingLineCount(UUID networkUuid) {
-        return restClient.getDanglingLineCount(networkUuid);
+        ensureCached(ResourceType.DANGLING_LINE, networkUuid);
+        return cacheClient.getDanglingLineCount(networkUuid);
     }
 
     @Override
-    public void createConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
+    public synchronized void updateDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateDanglingLines(networkUuid, danglingLineResources);
+    }
+
+    @Override
+    public synchronized void updateDanglingLineStates(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateDanglingLineStates(networkUuid, danglingLineResources);
+    }
+
+    @Override
+    public synchronized void createConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
+        invalidateOnFlush(networkUuid);
+        ensureCached(ResourceType.CONFIGURED_BUS, networkUuid);
         restClient.createConfiguredBuses(networkUuid, busesResources);
         cacheClient.createConfiguredBuses(networkUuid, busesResources);
     }
 
     @Override
     public List<Resource<ConfiguredBusAttributes>> getConfiguredBuses(UUID networkUuid) {
-        return restClient.getConfiguredBuses(networkUuid);
+        ensureCached(ResourceType.CONFIGURED_BUS, networkUuid);
+        return cacheClient.getConfiguredBuses(networkUuid);
     }
 
     @Override
     public List<Resource<ConfiguredBusAttributes>> getConfiguredBuses(UUID networkUuid, String voltageLevelId) {
-        return restClient.getConfiguredBuses(networkUuid, voltageLevelId);
+        ensureVoltageLevelCached(ResourceType.CONFIGURED_BUS, networkUuid, voltageLevelId);
+        return cacheClient.getConfiguredBuses(networkUuid, voltageLevelId);
     }
 
     @Override
     public Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, String busId) {
-        return restClient.getConfiguredBus(networkUuid, busId);
+        ensureCached(ResourceType.CONFIGURED_BUS, networkUuid);
+        return cacheClient.getConfiguredBus(networkUuid, busId);
     }
 
     @Override
-    public void flush() {
+    public synchronized void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
+        invalidateOnFlush(networkUuid);
+        restClient.updateConfiguredBuses(networkUuid, busesResources);
+    }
+
+    @Override
+    public synchronized void flush() {
         restClient.flush();
         cacheClient.flush();
+        if (sharedCache != null) {
+            modifiedNetworkUuids.forEach(sharedCache::invalidate);
+            modifiedNetworkUuids.clear();
+        }
     }
 }
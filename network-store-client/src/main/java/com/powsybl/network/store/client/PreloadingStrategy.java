@@ -11,5 +11,8 @@ package com.powsybl.network.store.client;
  */
 public enum PreloadingStrategy {
     NONE,
-    COLLECTION
+    COLLECTION,
+    ALL_COLLECTIONS,
+    CONTAINER,
+    SNAPSHOT
 }
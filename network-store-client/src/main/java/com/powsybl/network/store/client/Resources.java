@@ -6,17 +6,28 @@
  */
 package com.powsybl.network.store.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.network.store.model.IdentifiableAttributes;
 import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.StringDictionary;
 import com.powsybl.network.store.model.TopLevelDocument;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -25,14 +36,66 @@ public class Resources {
 
     private final RestTemplate restTemplate;
 
+    private final MediaType mediaType;
+
+    private final StringDictionary stringDictionary;
+
     public Resources(RestTemplate restTemplate) {
+        this(restTemplate, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * @param mediaType media type used to send resources and requested for responses, JSON or Smile
+     */
+    public Resources(RestTemplate restTemplate, MediaType mediaType) {
+        this(restTemplate, mediaType, null);
+    }
+
+    private Resources(RestTemplate restTemplate, MediaType mediaType, StringDictionary stringDictionary) {
         this.restTemplate = Objects.requireNonNull(restTemplate);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.stringDictionary = stringDictionary;
+    }
+
+    /**
+     * @return resources sharing the same rest template, strings of the resource lists being taken from the dictionary
+     */
+    public Resources withStringDictionary(StringDictionary stringDictionary) {
+        return new Resources(restTemplate, mediaType, Objects.requireNonNull(stringDictionary));
+    }
+
+    public StringDictionary getStringDictionary() {
+        return stringDictionary;
+    }
+
+    private HttpHeaders createHeaders(boolean withBody) {
+        HttpHeaders headers = new HttpHeaders();
+        if (withBody) {
+            headers.setContentType(mediaType);
+        }
+        headers.setAccept(Collections.singletonList(mediaType));
+        return headers;
+    }
+
+    /**
+     * Get the mapper of the converter able to read the content type, so that the configuration is the same as for
+     * other requests.
+     */
+    private ObjectMapper getObjectMapper(MediaType contentType) {
+        MediaType type = contentType != null ? contentType : MediaType.APPLICATION_JSON;
+        return restTemplate.getMessageConverters().stream()
+                .filter(AbstractJackson2HttpMessageConverter.class::isInstance)
+                .map(AbstractJackson2HttpMessageConverter.class::cast)
+                .filter(converter -> converter.getSupportedMediaTypes().stream().anyMatch(supportedType -> supportedType.includes(type)))
+                .map(AbstractJackson2HttpMessageConverter::getObjectMapper)
+                .findFirst()
+                .orElseThrow(() -> new PowsyblException("No converter found for content type " + type));
     }
 
     private <T extends IdentifiableAttributes> ResponseEntity<TopLevelDocument<T>> getDocument(String url, Object... uriVariables) {
         return restTemplate.exchange(url,
                 HttpMethod.GET,
-                new HttpEntity<>(new HttpHeaders()),
+                new HttpEntity<>(createHeaders(false)),
                 new ParameterizedTypeReference<TopLevelDocument<T>>() {
                 },
                 uriVariables);
@@ -46,7 +109,11 @@ public class Resources {
     }
 
     public <T extends IdentifiableAttributes> void create(String url, List<Resource<T>> resources, Object... uriVariables) {
-        restTemplate.postForObject(url, resources, Void.class, uriVariables);
+        restTemplate.postForObject(url, new HttpEntity<>(resources, createHeaders(true)), Void.class, uriVariables);
+    }
+
+    public <E> void update(String url, List<E> resources, Object... uriVariables) {
+        restTemplate.put(url, new HttpEntity<>(resources, createHeaders(true)), uriVariables);
     }
 
     public <T extends IdentifiableAttributes> void delete(String url, Object... uriVariables) {
@@ -64,12 +131,71 @@ public class Resources {
         }
     }
 
+    /**
+     * Get a document which is not a resource.
+     */
+    public <E> Optional<E> getObject(String target, String url, Class<E> clazz, Object... uriVariables) {
+        ResponseEntity<E> response = restTemplate.exchange(url,
+                HttpMethod.GET,
+                new HttpEntity<>(createHeaders(false)),
+                clazz,
+                uriVariables);
+        if (response.getStatusCode() == HttpStatus.OK) {
+            return Optional.ofNullable(response.getBody());
+        } else if (response.getStatusCode() == HttpStatus.NOT_FOUND) {
+            return Optional.empty();
+        } else {
+            throw new PowsyblException("Fail to get " + target + ", status: " + response.getStatusCode());
+        }
+    }
+
     public <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
-        ResponseEntity<TopLevelDocument<T>> response = getDocument(url, uriVariables);
+        List<Resource<T>> resources = new ArrayList<>();
+        this.<T>getAll(target, url, resources::add, uriVariables);
+        return resources;
+    }
+
+    /**
+     * Parse the document data array element by element and give each resource to the consumer as soon as it is read,
+     * so that the whole document is never buffered.
+     */
+    public <T extends IdentifiableAttributes> void getAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        restTemplate.execute(url,
+                HttpMethod.GET,
+            request -> request.getHeaders().setAccept(Collections.singletonList(mediaType)),
+            response -> {
+                readDocument(target, response, consumer);
+                return null;
+            },
+                uriVariables);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends IdentifiableAttributes> void readDocument(String target, ClientHttpResponse response, Consumer<Resource<T>> consumer) throws IOException {
         if (response.getStatusCode() != HttpStatus.OK) {
             throw new PowsyblException("Fail to get " + target + " list, status: " + response.getStatusCode());
         }
-        return getBody(response).getData();
+        ObjectMapper objectMapper = getObjectMapper(response.getHeaders().getContentType());
+        ObjectReader reader = objectMapper.readerFor(Resource.class);
+        if (stringDictionary != null) {
+            reader = reader.withAttribute(StringDictionary.class, stringDictionary);
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new PowsyblException("Fail to get " + target + " list, a top level document is expected");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("data".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        consumer.accept(reader.readValue(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
     }
 
     public <T extends IdentifiableAttributes> int getTotalCount(String target, String url, Object... uriVariables) {
@@ -12,7 +12,9 @@ import com.google.common.collect.Lists;
 import com.powsybl.network.store.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -20,6 +22,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -32,8 +36,60 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
 
     private final Resources resources;
 
+    @Autowired
     public RestNetworkStoreClient(RestTemplateBuilder restTemplateBuilder) {
-        resources = new Resources(restTemplateBuilder.errorHandler(new RestTemplateResponseErrorHandler()).build());
+        this(restTemplateBuilder, false);
+    }
+
+    /**
+     * @param useSmile if true, resources are exchanged with the server using the Smile binary format instead of JSON
+     */
+    public RestNetworkStoreClient(RestTemplateBuilder restTemplateBuilder, boolean useSmile) {
+        resources = new Resources(restTemplateBuilder.errorHandler(new RestTemplateResponseErrorHandler()).build(),
+                                  useSmile ? MediaType.valueOf(NetworkStoreApi.APPLICATION_SMILE_VALUE) : MediaType.APPLICATION_JSON);
+    }
+
+    private RestNetworkStoreClient(Resources resources) {
+        this.resources = resources;
+    }
+
+    /**
+     * @return a client sharing the same connections, loaded resource lists being deduplicated with the dictionary
+     */
+    public RestNetworkStoreClient withStringDictionary(StringDictionary stringDictionary) {
+        return new RestNetworkStoreClient(resources.withStringDictionary(stringDictionary));
+    }
+
+    /**
+     * @return the dictionary of the client or null if strings are not deduplicated
+     */
+    public StringDictionary getStringDictionary() {
+        return resources.getStringDictionary();
+    }
+
+    // snapshot
+
+    /**
+     * Load the network and all its resources in one request.
+     */
+    public void getSnapshot(UUID networkUuid, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        getAll("snapshot", "/networks/{networkUuid}/snapshot", consumer, networkUuid);
+    }
+
+    // container
+
+    /**
+     * Load all the equipments of a voltage level in one request.
+     */
+    public void getVoltageLevelContent(UUID networkUuid, String voltageLevelId, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        getAll("voltage level content", "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/content", consumer, networkUuid, voltageLevelId);
+    }
+
+    /**
+     * Load a substation, its voltage levels and all their equipments in one request.
+     */
+    public void getSubstationContent(UUID networkUuid, String substationId, Consumer<Resource<IdentifiableAttributes>> consumer) {
+        getAll("substation content", "/networks/{networkUuid}/substations/{substationId}/content", consumer, networkUuid, substationId);
     }
 
     // network
@@ -57,6 +113,86 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         }
     }
 
+    private <E> void update(String target, String url, List<E> resourceList, Object... uriVariables) {
+        for (List<E> resourcePartition : Lists.partition(resourceList, RESOURCES_CREATION_CHUNK_SIZE)) {
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Updating {} {} resources ({})...", resourcePartition.size(), target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
+            }
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            try {
+                resources.update(url, resourcePartition, uriVariables);
+            } catch (ResourceAccessException e) {
+                LOGGER.error(e.toString(), e);
+                // retry only one time
+                LOGGER.info("Retrying...");
+                resources.update(url, resourcePartition, uriVariables);
+            }
+            stopwatch.stop();
+            LOGGER.info("{} {} resources updated in {} ms", resourcePartition.size(), target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static <T extends InjectionAttributes> List<InjectionStateAttributes> toInjectionStates(List<Resource<T>> resources) {
+        return resources.stream()
+                .map(resource -> InjectionStateAttributes.builder()
+                        .id(resource.getId())
+                        .voltageLevelId(resource.getAttributes().getVoltageLevelId())
+                        .p(resource.getAttributes().getP())
+                        .q(resource.getAttributes().getQ())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<GeneratorStateAttributes> toGeneratorStates(List<Resource<GeneratorAttributes>> resources) {
+        return resources.stream()
+                .map(resource -> GeneratorStateAttributes.builder()
+                        .id(resource.getId())
+                        .voltageLevelId(resource.getAttributes().getVoltageLevelId())
+                        .p(resource.getAttributes().getP())
+                        .q(resource.getAttributes().getQ())
+                        .targetP(resource.getAttributes().getTargetP())
+                        .targetQ(resource.getAttributes().getTargetQ())
+                        .targetV(resource.getAttributes().getTargetV())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static <T extends BranchAttributes> List<BranchStateAttributes> toBranchStates(List<Resource<T>> resources) {
+        return resources.stream()
+                .map(resource -> BranchStateAttributes.builder()
+                        .id(resource.getId())
+                        .p1(resource.getAttributes().getP1())
+                        .q1(resource.getAttributes().getQ1())
+                        .p2(resource.getAttributes().getP2())
+                        .q2(resource.getAttributes().getQ2())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<ThreeWindingsTransformerStateAttributes> toThreeWindingsTransformerStates(List<Resource<ThreeWindingsTransformerAttributes>> resources) {
+        return resources.stream()
+                .map(resource -> ThreeWindingsTransformerStateAttributes.builder()
+                        .id(resource.getId())
+                        .p1(resource.getAttributes().getP1())
+                        .q1(resource.getAttributes().getQ1())
+                        .p2(resource.getAttributes().getP2())
+                        .q2(resource.getAttributes().getQ2())
+                        .p3(resource.getAttributes().getP3())
+                        .q3(resource.getAttributes().getQ3())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<SwitchStateAttributes> toSwitchStates(List<Resource<SwitchAttributes>> resources) {
+        return resources.stream()
+                .map(resource -> SwitchStateAttributes.builder()
+                        .id(resource.getId())
+                        .voltageLevelId(resource.getAttributes().getVoltageLevelId())
+                        .open(resource.getAttributes().isOpen())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     private  <T extends IdentifiableAttributes> List<Resource<T>> getAll(String target, String url, Object... uriVariables) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Loading {} resources {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
@@ -68,6 +204,20 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return resourceList;
     }
 
+    private <T extends IdentifiableAttributes> void getAll(String target, String url, Consumer<Resource<T>> consumer, Object... uriVariables) {
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading {} resources {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        int[] count = new int[1];
+        resources.<T>getAll(target, url, resource -> {
+            consumer.accept(resource);
+            count[0]++;
+        }, uriVariables);
+        stopwatch.stop();
+        LOGGER.info("{} {} resources loaded in {} ms", count[0], target, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+
     private  <T extends IdentifiableAttributes> Optional<Resource<T>> get(String target, String url, Object... uriVariables) {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Loading {} resource {}", target, UriComponentsBuilder.fromUriString(url).buildAndExpand(uriVariables));
@@ -110,6 +260,18 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         resources.delete("/networks/{networkUuid}", networkUuid);
     }
 
+    @Override
+    public void updateNetworks(List<Resource<NetworkAttributes>> networkResources) {
+        update("network", "/networks", networkResources);
+    }
+
+    // identifiable
+
+    @Override
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        return get("identifiable", "/networks/{networkUuid}/identifiables/{id}", networkUuid, id);
+    }
+
     // substation
 
     @Override
@@ -122,6 +284,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("substation", "/networks/{networkUuid}/substations", networkUuid);
     }
 
+    public void getSubstations(UUID networkUuid, Consumer<Resource<SubstationAttributes>> consumer) {
+        getAll("substation", "/networks/{networkUuid}/substations", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<SubstationAttributes>> getSubstation(UUID networkUuid, String substationId) {
         return get("substation", "/networks/{networkUuid}/substations/{substationId}", networkUuid, substationId);
@@ -132,6 +298,11 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("substation", "/networks/{networkUuid}/substations?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+        update("substation", "/networks/{networkUuid}/substations", substationResources, networkUuid);
+    }
+
     // voltage level
 
     @Override
@@ -149,6 +320,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("voltage level", "/networks/{networkUuid}/voltage-levels", networkUuid);
     }
 
+    public void getVoltageLevels(UUID networkUuid, Consumer<Resource<VoltageLevelAttributes>> consumer) {
+        getAll("voltage level", "/networks/{networkUuid}/voltage-levels", consumer, networkUuid);
+    }
+
     @Override
     public List<Resource<VoltageLevelAttributes>> getVoltageLevelsInSubstation(UUID networkUuid, String substationId) {
         return getAll("voltage level", "/networks/{networkUuid}/substations/{substationId}/voltage-levels", networkUuid, substationId);
@@ -159,6 +334,24 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("voltage level", "/networks/{networkUuid}/voltage-levels?limit=0", networkUuid);
     }
 
+    @Override
+    public Optional<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(UUID networkUuid, String voltageLevelId) {
+        String url = "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/calculated-buses";
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Loading calculated buses {}", UriComponentsBuilder.fromUriString(url).buildAndExpand(networkUuid, voltageLevelId));
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Optional<CalculatedBusesAttributes> calculatedBuses = resources.getObject("calculated buses", url, CalculatedBusesAttributes.class, networkUuid, voltageLevelId);
+        stopwatch.stop();
+        LOGGER.info("calculated buses loaded in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return calculatedBuses;
+    }
+
+    @Override
+    public void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
+        update("voltage level", "/networks/{networkUuid}/voltage-levels", voltageLevelResources, networkUuid);
+    }
+
     @Override
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
         return getAll("busbar section", "/networks/{networkUuid}/voltage-levels/{voltageLevelId}/busbar-sections", networkUuid, voltageLevelId);
@@ -230,6 +423,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("switch", "/networks/{networkUuid}/switches", networkUuid);
     }
 
+    public void getSwitches(UUID networkUuid, Consumer<Resource<SwitchAttributes>> consumer) {
+        getAll("switch", "/networks/{networkUuid}/switches", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<SwitchAttributes>> getSwitch(UUID networkUuid, String switchId) {
         return get("switch", "/networks/{networkUuid}/switches/{switchId}", networkUuid, switchId);
@@ -240,6 +437,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("switch", "/networks/{networkUuid}/switches?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        update("switch", "/networks/{networkUuid}/switches", switchResources, networkUuid);
+    }
+
+    @Override
+    public void updateSwitchStates(UUID networkUuid, List<Resource<SwitchAttributes>> switchResources) {
+        update("switch state", "/networks/{networkUuid}/switches/state", toSwitchStates(switchResources), networkUuid);
+    }
+
     // busbar section
 
     @Override
@@ -252,6 +459,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("busbar section", "/networks/{networkUuid}/busbar-sections", networkUuid);
     }
 
+    public void getBusbarSections(UUID networkUuid, Consumer<Resource<BusbarSectionAttributes>> consumer) {
+        getAll("busbar section", "/networks/{networkUuid}/busbar-sections", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<BusbarSectionAttributes>> getBusbarSection(UUID networkUuid, String busbarSectionId) {
         return get("busbar section", "/networks/{networkUuid}/busbar-sections/{busbarSectionId}", networkUuid, busbarSectionId);
@@ -262,6 +473,11 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("busbar section", "/networks/{networkUuid}/busbar-sections?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
+        update("busbar section", "/networks/{networkUuid}/busbar-sections", busbarSectionResources, networkUuid);
+    }
+
     // load
 
     @Override
@@ -274,6 +490,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("load", "/networks/{networkUuid}/loads", networkUuid);
     }
 
+    public void getLoads(UUID networkUuid, Consumer<Resource<LoadAttributes>> consumer) {
+        getAll("load", "/networks/{networkUuid}/loads", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<LoadAttributes>> getLoad(UUID networkUuid, String loadId) {
         return get("load", "/networks/{networkUuid}/loads/{loadId}", networkUuid, loadId);
@@ -284,6 +504,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("load", "/networks/{networkUuid}/loads?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        update("load", "/networks/{networkUuid}/loads", loadResources, networkUuid);
+    }
+
+    @Override
+    public void updateLoadStates(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+        update("load state", "/networks/{networkUuid}/loads/state", toInjectionStates(loadResources), networkUuid);
+    }
+
     // generator
 
     @Override
@@ -296,6 +526,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("generator", "/networks/{networkUuid}/generators", networkUuid);
     }
 
+    public void getGenerators(UUID networkUuid, Consumer<Resource<GeneratorAttributes>> consumer) {
+        getAll("generator", "/networks/{networkUuid}/generators", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<GeneratorAttributes>> getGenerator(UUID networkUuid, String generatorId) {
         return get("generator", "/networks/{networkUuid}/generators/{generatorId}", networkUuid, generatorId);
@@ -306,6 +540,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("generator", "/networks/{networkUuid}/generators?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        update("generator", "/networks/{networkUuid}/generators", generatorResources, networkUuid);
+    }
+
+    @Override
+    public void updateGeneratorStates(UUID networkUuid, List<Resource<GeneratorAttributes>> generatorResources) {
+        update("generator state", "/networks/{networkUuid}/generators/state", toGeneratorStates(generatorResources), networkUuid);
+    }
+
     // 2 windings transformer
 
     @Override
@@ -318,6 +562,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("2 windings transformer", "/networks/{networkUuid}/2-windings-transformers", networkUuid);
     }
 
+    public void getTwoWindingsTransformers(UUID networkUuid, Consumer<Resource<TwoWindingsTransformerAttributes>> consumer) {
+        getAll("2 windings transformer", "/networks/{networkUuid}/2-windings-transformers", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformer(UUID networkUuid, String twoWindingsTransformerId) {
         return get("2 windings transformer", "/networks/{networkUuid}/2-windings-transformers/{twoWindingsTransformerId}", networkUuid, twoWindingsTransformerId);
@@ -328,6 +576,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("2 windings transformer", "/networks/{networkUuid}/2-windings-transformers?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        update("2 windings transformer", "/networks/{networkUuid}/2-windings-transformers", twoWindingsTransformerResources, networkUuid);
+    }
+
+    @Override
+    public void updateTwoWindingsTransformerStates(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        update("2 windings transformer state", "/networks/{networkUuid}/2-windings-transformers/state", toBranchStates(twoWindingsTransformerResources), networkUuid);
+    }
+
     // 3 windings transformer
 
     @Override
@@ -340,6 +598,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("3 windings transformer", "/networks/{networkUuid}/3-windings-transformers", networkUuid);
     }
 
+    public void getThreeWindingsTransformers(UUID networkUuid, Consumer<Resource<ThreeWindingsTransformerAttributes>> consumer) {
+        getAll("3 windings transformer", "/networks/{networkUuid}/3-windings-transformers", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformer(UUID networkUuid, String threeWindingsTransformerId) {
         return get("3 windings transformer", "/networks/{networkUuid}/3-windings-transformers/{threeWindingsTransformerId}", networkUuid, threeWindingsTransformerId);
@@ -350,6 +612,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("3 windings transformer", "/networks/{networkUuid}/3-windings-transformers?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        update("3 windings transformer", "/networks/{networkUuid}/3-windings-transformers", threeWindingsTransformerResources, networkUuid);
+    }
+
+    @Override
+    public void updateThreeWindingsTransformerStates(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        update("3 windings transformer state", "/networks/{networkUuid}/3-windings-transformers/state", toThreeWindingsTransformerStates(threeWindingsTransformerResources), networkUuid);
+    }
+
     // line
 
     @Override
@@ -362,6 +634,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("line", "/networks/{networkUuid}/lines", networkUuid);
     }
 
+    public void getLines(UUID networkUuid, Consumer<Resource<LineAttributes>> consumer) {
+        getAll("line", "/networks/{networkUuid}/lines", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<LineAttributes>> getLine(UUID networkUuid, String lineId) {
         return get("line", "/networks/{networkUuid}/lines/{lineId}", networkUuid, lineId);
@@ -372,6 +648,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("line", "/networks/{networkUuid}/lines?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateLines(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        update("line", "/networks/{networkUuid}/lines", lineResources, networkUuid);
+    }
+
+    @Override
+    public void updateLineStates(UUID networkUuid, List<Resource<LineAttributes>> lineResources) {
+        update("line state", "/networks/{networkUuid}/lines/state", toBranchStates(lineResources), networkUuid);
+    }
+
     // shunt compensator
 
     @Override
@@ -384,6 +670,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("shunt compensator", "/networks/{networkUuid}/shunt-compensators", networkUuid);
     }
 
+    public void getShuntCompensators(UUID networkUuid, Consumer<Resource<ShuntCompensatorAttributes>> consumer) {
+        getAll("shunt compensator", "/networks/{networkUuid}/shunt-compensators", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<ShuntCompensatorAttributes>> getShuntCompensator(UUID networkUuid, String shuntCompensatorId) {
         return get("shunt compensator", "/networks/{networkUuid}/shunt-compensators/{shuntCompensatorId}", networkUuid, shuntCompensatorId);
@@ -394,6 +684,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("shunt compensator", "/networks/{networkUuid}/shunt-compensators?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        update("shunt compensator", "/networks/{networkUuid}/shunt-compensators", shuntCompensatorResources, networkUuid);
+    }
+
+    @Override
+    public void updateShuntCompensatorStates(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> shuntCompensatorResources) {
+        update("shunt compensator state", "/networks/{networkUuid}/shunt-compensators/state", toInjectionStates(shuntCompensatorResources), networkUuid);
+    }
+
     // VSC converter station
 
     @Override
@@ -406,6 +706,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("VSC converter station", "/networks/{networkUuid}/vsc-converter-stations", networkUuid);
     }
 
+    public void getVscConverterStations(UUID networkUuid, Consumer<Resource<VscConverterStationAttributes>> consumer) {
+        getAll("VSC converter station", "/networks/{networkUuid}/vsc-converter-stations", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<VscConverterStationAttributes>> getVscConverterStation(UUID networkUuid, String vscConverterStationId) {
         return get("VSC converter station", "/networks/{networkUuid}/vsc-converter-stations/{vscConverterStationId}", networkUuid, vscConverterStationId);
@@ -416,6 +720,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("VSC converter station", "/networks/{networkUuid}/vsc-converter-stations?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        update("VSC converter station", "/networks/{networkUuid}/vsc-converter-stations", vscConverterStationResources, networkUuid);
+    }
+
+    @Override
+    public void updateVscConverterStationStates(UUID networkUuid, List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        update("VSC converter station state", "/networks/{networkUuid}/vsc-converter-stations/state", toInjectionStates(vscConverterStationResources), networkUuid);
+    }
+
     // LCC converter station
 
     @Override
@@ -428,6 +742,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("LCC converter station", "/networks/{networkUuid}/lcc-converter-stations", networkUuid);
     }
 
+    public void getLccConverterStations(UUID networkUuid, Consumer<Resource<LccConverterStationAttributes>> consumer) {
+        getAll("LCC converter station", "/networks/{networkUuid}/lcc-converter-stations", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<LccConverterStationAttributes>> getLccConverterStation(UUID networkUuid, String lccConverterStationId) {
         return get("LCC converter station", "/networks/{networkUuid}/lcc-converter-stations/{vscConverterStationId}", networkUuid, lccConverterStationId);
@@ -438,6 +756,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("LCC converter station", "/networks/{networkUuid}/lcc-converter-stations?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        update("LCC converter station", "/networks/{networkUuid}/lcc-converter-stations", lccConverterStationResources, networkUuid);
+    }
+
+    @Override
+    public void updateLccConverterStationStates(UUID networkUuid, List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        update("LCC converter station state", "/networks/{networkUuid}/lcc-converter-stations/state", toInjectionStates(lccConverterStationResources), networkUuid);
+    }
+
     // SVC
 
     @Override
@@ -450,6 +778,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("static var compensator", "/networks/{networkUuid}/static-var-compensators", networkUuid);
     }
 
+    public void getStaticVarCompensators(UUID networkUuid, Consumer<Resource<StaticVarCompensatorAttributes>> consumer) {
+        getAll("static var compensator", "/networks/{networkUuid}/static-var-compensators", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensator(UUID networkUuid, String staticVarCompensatorId) {
         return get("static compensator", "/networks/{networkUuid}/static-var-compensators/{staticVarCompensatorId}", networkUuid, staticVarCompensatorId);
@@ -460,6 +792,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("static var compensator", "/networks/{networkUuid}/static-var-compensators?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> staticVarCompensatorResources) {
+        update("static var compensator", "/networks/{networkUuid}/static-var-compensators", staticVarCompensatorResources, networkUuid);
+    }
+
+    @Override
+    public void updateStaticVarCompensatorStates(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> staticVarCompensatorResources) {
+        update("static var compensator state", "/networks/{networkUuid}/static-var-compensators/state", toInjectionStates(staticVarCompensatorResources), networkUuid);
+    }
+
     // HVDC line
 
     @Override
@@ -472,6 +814,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("hvdc line", "/networks/{networkUuid}/hvdc-lines", networkUuid);
     }
 
+    public void getHvdcLines(UUID networkUuid, Consumer<Resource<HvdcLineAttributes>> consumer) {
+        getAll("hvdc line", "/networks/{networkUuid}/hvdc-lines", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<HvdcLineAttributes>> getHvdcLine(UUID networkUuid, String hvdcLineId) {
         return get("hvdc line", "/networks/{networkUuid}/hvdc-lines/{hvdcLineId}", networkUuid, hvdcLineId);
@@ -482,6 +828,11 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("hvdc line", "/networks/{networkUuid}/hvdc-lines?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> hvdcLineResources) {
+        update("hvdc line", "/networks/{networkUuid}/hvdc-lines", hvdcLineResources, networkUuid);
+    }
+
     // Dangling line
 
     @Override
@@ -494,6 +845,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("dangling line", "/networks/{networkUuid}/dangling-lines", networkUuid);
     }
 
+    public void getDanglingLines(UUID networkUuid, Consumer<Resource<DanglingLineAttributes>> consumer) {
+        getAll("dangling line", "/networks/{networkUuid}/dangling-lines", consumer, networkUuid);
+    }
+
     @Override
     public Optional<Resource<DanglingLineAttributes>> getDanglingLine(UUID networkUuid, String danglingLineId) {
         return get("dangling line", "/networks/{networkUuid}/dangling-lines/{danglingLineId}", networkUuid, danglingLineId);
@@ -504,6 +859,16 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getTotalCount("dangling line", "/networks/{networkUuid}/dangling-lines?limit=0", networkUuid);
     }
 
+    @Override
+    public void updateDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        update("dangling line", "/networks/{networkUuid}/dangling-lines", danglingLineResources, networkUuid);
+    }
+
+    @Override
+    public void updateDanglingLineStates(UUID networkUuid, List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        update("dangling line state", "/networks/{networkUuid}/dangling-lines/state", toInjectionStates(danglingLineResources), networkUuid);
+    }
+
     @Override
     public void createConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
         create("bus", "/networks/{networkUuid}/configured-buses", busesResources, networkUuid);
@@ -514,6 +879,10 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return getAll("bus", "/networks/{networkUuid}/configured-buses", networkUuid);
     }
 
+    public void getConfiguredBuses(UUID networkUuid, Consumer<Resource<ConfiguredBusAttributes>> consumer) {
+        getAll("bus", "/networks/{networkUuid}/configured-buses", consumer, networkUuid);
+    }
+
     @Override
     public List<Resource<ConfiguredBusAttributes>> getConfiguredBuses(UUID networkUuid, String voltageLevelId) {
         return getAll("bus", "/networks/{networkUuid}/voltage-level/{voltageLevelId}/configured-buses", networkUuid, voltageLevelId);
@@ -524,6 +893,11 @@ public class RestNetworkStoreClient implements NetworkStoreClient {
         return get("bus", "/networks/{networkUuid}/configured-buses/{busId}", networkUuid, busId);
     }
 
+    @Override
+    public void updateConfiguredBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> busesResources) {
+        update("bus", "/networks/{networkUuid}/configured-buses", busesResources, networkUuid);
+    }
+
     @Override
     public void flush() {
         // nothing to do
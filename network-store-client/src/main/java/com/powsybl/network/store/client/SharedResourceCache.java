@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
+import com.powsybl.network.store.model.StringDictionary;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Second level cache of network collections, shared by all the network clients of a {@link NetworkStoreService}.
+ * Collections are stored Smile encoded: each client reads its own copy of the resources, that it is free to modify,
+ * and the weight of an entry is its exact size in bytes.
+ * <p>
+ * The cache is only invalidated by the flushes of the clients of this service: it must only be enabled for networks
+ * that are not modified by other processes, otherwise stale collections are read until they expire.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SharedResourceCache {
+
+    private static final class Key {
+
+        private final UUID networkUuid;
+
+        private final ResourceType resourceType;
+
+        private Key(UUID networkUuid, ResourceType resourceType) {
+            this.networkUuid = Objects.requireNonNull(networkUuid);
+            this.resourceType = Objects.requireNonNull(resourceType);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return networkUuid.equals(other.networkUuid) && resourceType == other.resourceType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(networkUuid, resourceType);
+        }
+    }
+
+    /**
+     * Loads a collection from the server, resources have to be passed to the consumer.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        void load(Consumer<Resource<? extends IdentifiableAttributes>> consumer);
+    }
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+    private final Cache<Key, byte[]> cache;
+
+    /**
+     * @param maxSize max total size in bytes of the cached collections
+     * @param expireAfterAccess delay in seconds after which a collection that has not been read is evicted
+     */
+    public SharedResourceCache(long maxSize, long expireAfterAccess) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid max size: " + maxSize);
+        }
+        if (expireAfterAccess < 1) {
+            throw new IllegalArgumentException("Invalid expire after access delay: " + expireAfterAccess);
+        }
+        // a single segment, otherwise the weight limit is split between segments and a collection larger than
+        // maxSize / concurrencyLevel would be evicted as soon as it is loaded
+        cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(maxSize)
+                .<Key, byte[]>weigher((key, bytes) -> bytes.length)
+                .expireAfterAccess(expireAfterAccess, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Pass the cached resources of a collection to the consumer, the collection is loaded and cached if it is not.
+     * Concurrent requests of a collection being loaded wait for the loading to be done.
+     */
+    public void get(UUID networkUuid, ResourceType resourceType, Loader loader, Consumer<Resource<? extends IdentifiableAttributes>> consumer) {
+        get(networkUuid, resourceType, loader, consumer, null);
+    }
+
+    /**
+     * @param stringDictionary dictionary the strings of the decoded resources are taken from, may be null
+     */
+    public void get(UUID networkUuid, ResourceType resourceType, Loader loader, Consumer<Resource<? extends IdentifiableAttributes>> consumer,
+                    StringDictionary stringDictionary) {
+        Objects.requireNonNull(loader);
+        Objects.requireNonNull(consumer);
+        byte[] bytes;
+        try {
+            bytes = cache.get(new Key(networkUuid, resourceType), () -> encode(loader));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
+        }
+        decode(bytes, consumer, stringDictionary);
+    }
+
+    public void invalidate(UUID networkUuid) {
+        Objects.requireNonNull(networkUuid);
+        for (ResourceType resourceType : ResourceType.values()) {
+            cache.invalidate(new Key(networkUuid, resourceType));
+        }
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private byte[] encode(Loader loader) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(os)) {
+            generator.writeStartArray();
+            loader.load(resource -> {
+                try {
+                    generator.writeObject(resource);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+        return os.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void decode(byte[] bytes, Consumer<Resource<? extends IdentifiableAttributes>> consumer, StringDictionary stringDictionary) {
+        ObjectReader reader = objectMapper.readerFor(Resource.class);
+        if (stringDictionary != null) {
+            reader = reader.withAttribute(StringDictionary.class, stringDictionary);
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(bytes)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Start array token was expected");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                consumer.accept(reader.readValue(parser));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -42,6 +42,7 @@ public class ShuntCompensatorImpl extends AbstractInjectionImpl<ShuntCompensator
     @Override
     public ShuntCompensator setbPerSection(double bPerSection) {
         resource.getAttributes().setBPerSection(bPerSection);
+        updateResource();
         return this;
     }
 
@@ -53,6 +54,7 @@ public class ShuntCompensatorImpl extends AbstractInjectionImpl<ShuntCompensator
     @Override
     public ShuntCompensator setMaximumSectionCount(int maximumSectionCount) {
         resource.getAttributes().setMaximumSectionCount(maximumSectionCount);
+        updateResource();
         return this;
     }
 
@@ -64,6 +66,7 @@ public class ShuntCompensatorImpl extends AbstractInjectionImpl<ShuntCompensator
     @Override
     public ShuntCompensator setCurrentSectionCount(int currentSectionCount) {
         resource.getAttributes().setCurrentSectionCount(currentSectionCount);
+        updateResource();
         return this;
     }
 
@@ -42,6 +42,7 @@ public class StaticVarCompensatorImpl extends AbstractInjectionImpl<StaticVarCom
     @Override
     public StaticVarCompensator setBmin(double bMin) {
         resource.getAttributes().setBmin(bMin);
+        updateResource();
         return this;
     }
 
@@ -53,6 +54,7 @@ public class StaticVarCompensatorImpl extends AbstractInjectionImpl<StaticVarCom
     @Override
     public StaticVarCompensator setBmax(double bMax) {
         resource.getAttributes().setBmax(bMax);
+        updateResource();
         return this;
     }
 
@@ -64,6 +66,7 @@ public class StaticVarCompensatorImpl extends AbstractInjectionImpl<StaticVarCom
     @Override
     public StaticVarCompensator setVoltageSetPoint(double voltageSetPoint) {
         resource.getAttributes().setVoltageSetPoint(voltageSetPoint);
+        updateResource();
         return this;
     }
 
@@ -75,6 +78,7 @@ public class StaticVarCompensatorImpl extends AbstractInjectionImpl<StaticVarCom
     @Override
     public StaticVarCompensator setReactivePowerSetPoint(double reactivePowerSetPoint) {
         resource.getAttributes().setReactivePowerSetPoint(reactivePowerSetPoint);
+        updateResource();
         return this;
     }
 
@@ -86,6 +90,7 @@ public class StaticVarCompensatorImpl extends AbstractInjectionImpl<StaticVarCom
     @Override
     public StaticVarCompensator setRegulationMode(RegulationMode regulationMode) {
         resource.getAttributes().setRegulationMode(regulationMode);
+        updateResource();
         return this;
     }
 }
@@ -55,6 +55,7 @@ public class SubstationImpl extends AbstractIdentifiableImpl<Substation, Substat
     @Override
     public Substation setCountry(Country country) {
         resource.getAttributes().setCountry(country);
+        updateResource();
         return this;
     }
 
@@ -66,6 +67,7 @@ public class SubstationImpl extends AbstractIdentifiableImpl<Substation, Substat
     @Override
     public Substation setTso(String tso) {
         resource.getAttributes().setTso(tso);
+        updateResource();
         return this;
     }
 
@@ -8,6 +8,7 @@ package com.powsybl.network.store.client;
 
 import com.powsybl.iidm.network.Switch;
 import com.powsybl.iidm.network.SwitchKind;
+import com.powsybl.iidm.network.TopologyKind;
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.network.store.model.Resource;
 import com.powsybl.network.store.model.SwitchAttributes;
@@ -58,7 +59,17 @@ public class SwitchImpl extends AbstractIdentifiableImpl<Switch, SwitchAttribute
 
     @Override
     public void setOpen(boolean open) {
-        resource.getAttributes().setOpen(open);
+        if (open != resource.getAttributes().isOpen()) {
+            resource.getAttributes().setOpen(open);
+            updateResourceState();
+            VoltageLevelImpl voltageLevel = index.getVoltageLevel(resource.getAttributes().getVoltageLevelId()).orElseThrow(AssertionError::new);
+            if (voltageLevel.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                BusTopologyChange change = voltageLevel.getBusView().updateSwitch(resource.getId(), open);
+                if (change != null) {
+                    index.getNetwork().notifyBusTopologyChange(change);
+                }
+            }
+        }
     }
 
     @Override
@@ -69,6 +80,7 @@ public class SwitchImpl extends AbstractIdentifiableImpl<Switch, SwitchAttribute
     @Override
     public void setRetained(boolean retained) {
         resource.getAttributes().setRetained(retained);
+        updateResource();
     }
 
     @Override
@@ -79,5 +91,6 @@ public class SwitchImpl extends AbstractIdentifiableImpl<Switch, SwitchAttribute
     @Override
     public void setFictitious(boolean fictitious) {
         resource.getAttributes().setFictitious(fictitious);
+        updateResource();
     }
 }
@@ -16,19 +16,23 @@ import java.util.Objects;
  */
 class TerminalBusViewImpl implements Terminal.BusView {
 
-    private final NetworkObjectIndex index;
+    private final Terminal terminal;
 
-    TerminalBusViewImpl(NetworkObjectIndex index) {
-        this.index = Objects.requireNonNull(index);
+    TerminalBusViewImpl(Terminal terminal) {
+        this.terminal = Objects.requireNonNull(terminal);
+    }
+
+    private BusViewImpl getVoltageLevelBusView() {
+        return ((VoltageLevelImpl) terminal.getVoltageLevel()).getBusView();
     }
 
     @Override
     public Bus getBus() {
-        return BusImpl.create(index);
+        return getVoltageLevelBusView().getBus(terminal.getNodeBreakerView().getNode());
     }
 
     @Override
     public Bus getConnectableBus() {
-        return BusImpl.create(index);
+        return getVoltageLevelBusView().getConnectableBus(terminal.getNodeBreakerView().getNode());
     }
 }
@@ -40,7 +40,7 @@ public class TerminalNodeBreakerImpl<T extends IdentifiableAttributes, U extends
         this.connectable = connectable;
         this.attributesAdapter = attributesAdapter;
         nodeBreakerView = new TerminalNodeBreakerViewImpl<>(resource, attributesAdapter);
-        busView = new TerminalBusViewImpl(index);
+        busView = new TerminalBusViewImpl(this);
     }
 
     static <T extends IdentifiableAttributes, U extends InjectionAttributes> TerminalNodeBreakerImpl create(NetworkObjectIndex index, Resource<T> resource,
@@ -82,6 +82,7 @@ public class TerminalNodeBreakerImpl<T extends IdentifiableAttributes, U extends
     @Override
     public Terminal setP(double p) {
         attributesAdapter.apply(resource.getAttributes()).setP(p);
+        index.updateResourceState(resource);
         return this;
     }
 
@@ -93,6 +94,7 @@ public class TerminalNodeBreakerImpl<T extends IdentifiableAttributes, U extends
     @Override
     public Terminal setQ(double q) {
         attributesAdapter.apply(resource.getAttributes()).setQ(q);
+        index.updateResourceState(resource);
         return this;
     }
 
@@ -65,6 +65,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setR(double r) {
             attributes.setR(r);
+            transformer.updateResource();
             return this;
         }
 
@@ -76,6 +77,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setX(double x) {
             attributes.setX(x);
+            transformer.updateResource();
             return this;
         }
 
@@ -87,6 +89,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setG(double g) {
             attributes.setG(g);
+            transformer.updateResource();
             return this;
         }
 
@@ -98,6 +101,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setB(double b) {
             attributes.setB(b);
+            transformer.updateResource();
             return this;
         }
 
@@ -109,6 +113,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public Leg setRatedU(double ratedU) {
             attributes.setRatedU(ratedU);
+            transformer.updateResource();
             return this;
         }
 
@@ -145,6 +150,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
         @Override
         public void setCurrentLimits(Void side, CurrentLimitsAttributes currentLimitsAttributes) {
             this.attributes.setCurrentLimitsAttributes(currentLimitsAttributes);
+            transformer.updateResource();
         }
     }
 
@@ -426,6 +432,7 @@ public class ThreeWindingsTransformerImpl extends AbstractIdentifiableImpl<Three
                     .order(position.getFeeder3().getOrder())
                     .direction(ConnectableDirection.valueOf(position.getFeeder3().getDirection().name()))
                     .build());
+            updateResource();
         }
     }
 
@@ -74,6 +74,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     @Override
     public TwoWindingsTransformer setR(double r) {
         resource.getAttributes().setR(r);
+        updateResource();
         return this;
     }
 
@@ -85,6 +86,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     @Override
     public TwoWindingsTransformer setX(double x) {
         resource.getAttributes().setX(x);
+        updateResource();
         return this;
     }
 
@@ -96,6 +98,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     @Override
     public TwoWindingsTransformer setG(double g) {
         resource.getAttributes().setG(g);
+        updateResource();
         return this;
     }
 
@@ -107,6 +110,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     @Override
     public TwoWindingsTransformer setB(double b) {
         resource.getAttributes().setB(b);
+        updateResource();
         return this;
     }
 
@@ -118,6 +122,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     @Override
     public TwoWindingsTransformer setRatedU1(double ratedU1) {
         resource.getAttributes().setRatedU1(ratedU1);
+        updateResource();
         return this;
     }
 
@@ -129,6 +134,7 @@ public class TwoWindingsTransformerImpl extends AbstractBranchImpl<TwoWindingsTr
     @Override
     public TwoWindingsTransformer setRatedU2(double ratedU2) {
         resource.getAttributes().setRatedU2(ratedU2);
+        updateResource();
         return this;
     }
 }
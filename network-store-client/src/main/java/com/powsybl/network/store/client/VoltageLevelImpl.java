@@ -29,14 +29,18 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
 
     private final BusBreakerViewImpl busBreakerView;
 
+    private final BusViewImpl busView;
+
     public VoltageLevelImpl(NetworkObjectIndex index, Resource<VoltageLevelAttributes> resource) {
         super(index, resource);
         if (resource.getAttributes().getTopologyKind() == TopologyKind.NODE_BREAKER) {
             nodeBreakerView = NodeBreakerViewImpl.create(resource, index);
             busBreakerView = null;
+            busView = BusViewImpl.create(resource, index);
         } else {
             nodeBreakerView = null;
             busBreakerView = BusBreakerViewImpl.create(resource, index);
+            busView = null;
         }
     }
 
@@ -62,6 +66,7 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
     @Override
     public VoltageLevel setNominalV(double nominalV) {
         resource.getAttributes().setNominalV(nominalV);
+        updateResource();
         return this;
     }
 
@@ -73,6 +78,7 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
     @Override
     public VoltageLevel setLowVoltageLimit(double lowVoltageLimit) {
         resource.getAttributes().setLowVoltageLimit(lowVoltageLimit);
+        updateResource();
         return this;
     }
 
@@ -84,6 +90,7 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
     @Override
     public VoltageLevel setHighVoltageLimit(double highVoltageLimit) {
         resource.getAttributes().setHighVoltageLimit(highVoltageLimit);
+        updateResource();
         return this;
     }
 
@@ -103,8 +110,11 @@ public class VoltageLevelImpl extends AbstractIdentifiableImpl<VoltageLevel, Vol
     }
 
     @Override
-    public BusView getBusView() {
-        throw new UnsupportedOperationException("TODO");
+    public BusViewImpl getBusView() {
+        if (busView == null) {
+            throw new UnsupportedOperationException("TODO");
+        }
+        return busView;
     }
 
     @Override
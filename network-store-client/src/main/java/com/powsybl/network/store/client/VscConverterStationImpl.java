@@ -51,6 +51,7 @@ public class VscConverterStationImpl extends AbstractInjectionImpl<VscConverterS
     @Override
     public HvdcConverterStation setVoltageRegulatorOn(boolean voltageRegulatorOn) {
         resource.getAttributes().setVoltageRegulatorOn(voltageRegulatorOn);
+        updateResource();
         return this;
     }
 
@@ -62,6 +63,7 @@ public class VscConverterStationImpl extends AbstractInjectionImpl<VscConverterS
     @Override
     public HvdcConverterStation setVoltageSetpoint(double voltageSetpoint) {
         resource.getAttributes().setVoltageSetPoint(voltageSetpoint);
+        updateResource();
         return this;
     }
 
@@ -73,6 +75,7 @@ public class VscConverterStationImpl extends AbstractInjectionImpl<VscConverterS
     @Override
     public HvdcConverterStation setReactivePowerSetpoint(double reactivePowerSetpoint) {
         resource.getAttributes().setReactivePowerSetPoint(reactivePowerSetpoint);
+        updateResource();
         return this;
     }
 
@@ -84,12 +87,14 @@ public class VscConverterStationImpl extends AbstractInjectionImpl<VscConverterS
     @Override
     public VscConverterStation setLossFactor(float lossFactor) {
         resource.getAttributes().setLossFactor(lossFactor);
+        updateResource();
         return this;
     }
 
     @Override
     public void setReactiveLimits(ReactiveLimitsAttributes reactiveLimits) {
         resource.getAttributes().setReactiveLimits(reactiveLimits);
+        updateResource();
     }
 
     @Override
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.network.store.model.*;
+import org.junit.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BufferedRestNetworkStoreClientTest {
+
+    @Test
+    public void testFlushFailure() {
+        List<String> createdIds = new ArrayList<>();
+        List<String> updatedIds = new ArrayList<>();
+        boolean[] fail = {true};
+        RestNetworkStoreClient restStoreClient = new RestNetworkStoreClient(new RestTemplateBuilder()) {
+            @Override
+            public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+                if (fail[0]) {
+                    throw new PowsyblException("Server not available");
+                }
+                substationResources.forEach(resource -> createdIds.add(resource.getId()));
+            }
+
+            @Override
+            public void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> substationResources) {
+                substationResources.forEach(resource -> updatedIds.add(resource.getId()));
+            }
+        };
+        BufferedRestNetworkStoreClient bufferedStoreClient = new BufferedRestNetworkStoreClient(restStoreClient);
+
+        UUID networkUuid = UUID.randomUUID();
+        Resource<SubstationAttributes> s1 = Resource.substationBuilder()
+                .id("s1")
+                .attributes(SubstationAttributes.builder()
+                        .country(Country.FR)
+                        .build())
+                .build();
+        bufferedStoreClient.createSubstations(networkUuid, Collections.singletonList(s1));
+        bufferedStoreClient.updateSubstations(networkUuid, Collections.singletonList(s1));
+
+        try {
+            bufferedStoreClient.flush();
+            fail();
+        } catch (PowsyblException ignored) {
+            // expected
+        }
+        assertTrue(createdIds.isEmpty());
+
+        // the substation which could not be created is kept for the next flush
+        fail[0] = false;
+        bufferedStoreClient.flush();
+        assertEquals(Collections.singletonList("s1"), createdIds);
+        assertTrue(updatedIds.isEmpty());
+
+        // and is not sent again
+        bufferedStoreClient.flush();
+        assertEquals(Collections.singletonList("s1"), createdIds);
+    }
+
+    private static Resource<LoadAttributes> createLoad(String id, String voltageLevelId) {
+        return Resource.loadBuilder()
+                .id(id)
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId(voltageLevelId)
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void testPendingVoltageLevelContent() {
+        Resource<LoadAttributes> storedLoad = createLoad("l1", "vl1");
+        RestNetworkStoreClient restStoreClient = new RestNetworkStoreClient(new RestTemplateBuilder()) {
+            @Override
+            public List<Resource<LoadAttributes>> getVoltageLevelLoads(UUID networkUuid, String voltageLevelId) {
+                return Collections.singletonList(storedLoad);
+            }
+
+            @Override
+            public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+                fail();
+            }
+
+            @Override
+            public void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> loadResources) {
+                fail();
+            }
+
+            @Override
+            public Optional<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(UUID networkUuid, String voltageLevelId) {
+                return Optional.of(new CalculatedBusesAttributes());
+            }
+        };
+        BufferedRestNetworkStoreClient bufferedStoreClient = new BufferedRestNetworkStoreClient(restStoreClient);
+
+        UUID networkUuid = UUID.randomUUID();
+        assertTrue(bufferedStoreClient.getVoltageLevelCalculatedBuses(networkUuid, "vl1").isPresent());
+
+        // pending creations and updates of the voltage level are seen without being flushed
+        Resource<LoadAttributes> updatedLoad = createLoad("l1", "vl1");
+        Resource<LoadAttributes> createdLoad = createLoad("l2", "vl1");
+        bufferedStoreClient.updateLoads(networkUuid, Collections.singletonList(updatedLoad));
+        bufferedStoreClient.createLoads(networkUuid, Arrays.asList(createdLoad, createLoad("l3", "vl2")));
+        List<Resource<LoadAttributes>> loads = bufferedStoreClient.getVoltageLevelLoads(networkUuid, "vl1");
+        assertEquals(2, loads.size());
+        assertSame(updatedLoad, loads.get(0));
+        assertSame(createdLoad, loads.get(1));
+
+        // buses calculated by the server are outdated
+        assertFalse(bufferedStoreClient.getVoltageLevelCalculatedBuses(networkUuid, "vl1").isPresent());
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.model.NetworkAttributes;
+import com.powsybl.network.store.model.Resource;
+import org.junit.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BusViewImplTest {
+
+    private static NetworkFactory createNetworkFactory() {
+        // the created network is fully cached, the server is never requested
+        RestNetworkStoreClient restStoreClient = new RestNetworkStoreClient(new RestTemplateBuilder()) {
+            @Override
+            public List<Resource<NetworkAttributes>> getNetworks() {
+                return Collections.emptyList();
+            }
+        };
+        return new NetworkFactoryImpl(() -> new PreloadingRestNetworkStoreClient(restStoreClient));
+    }
+
+    private static void addLoad(VoltageLevel vl, String id, int busbarSectionNode, int node) {
+        vl.getNodeBreakerView().newBreaker()
+                .setId(id + "Breaker")
+                .setNode1(busbarSectionNode)
+                .setNode2(node)
+                .setOpen(false)
+                .add();
+        vl.newLoad()
+                .setId(id)
+                .setNode(node)
+                .setP0(10)
+                .setQ0(1)
+                .add();
+    }
+
+    /**
+     * Busbar sections 1 and 2 connected by a coupler, busbar section 3 alone, each one with a load.
+     */
+    private static Network createNetwork() {
+        Network network = createNetworkFactory().createNetwork("n", "test");
+        Substation s = network.newSubstation()
+                .setId("s")
+                .setCountry(Country.FR)
+                .add();
+        VoltageLevel vl = s.newVoltageLevel()
+                .setId("vl")
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.NODE_BREAKER)
+                .add();
+        vl.getNodeBreakerView().setNodeCount(6);
+        for (int i = 0; i < 3; i++) {
+            vl.getNodeBreakerView().newBusbarSection()
+                    .setId("bbs" + (i + 1))
+                    .setNode(i)
+                    .add();
+        }
+        vl.getNodeBreakerView().newBreaker()
+                .setId("coupler")
+                .setNode1(0)
+                .setNode2(1)
+                .setOpen(false)
+                .add();
+        addLoad(vl, "load1", 0, 3);
+        addLoad(vl, "load2", 1, 4);
+        addLoad(vl, "load3", 2, 5);
+        return network;
+    }
+
+    private static List<String> getBusIds(Network network) {
+        return network.getVoltageLevel("vl").getBusView().getBusStream()
+                .map(Identifiable::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testSwitchCoupler() {
+        Network network = createNetwork();
+        Bus bus3 = network.getLoad("load3").getTerminal().getBusView().getBus();
+        assertEquals("vl_2", bus3.getId());
+        assertEquals(Arrays.asList("vl_0", "vl_2"), getBusIds(network));
+        assertSame(network.getLoad("load1").getTerminal().getBusView().getBus(),
+                   network.getLoad("load2").getTerminal().getBusView().getBus());
+
+        // splitting the first bus does not change the other bus
+        network.getSwitch("coupler").setOpen(true);
+        assertEquals(Arrays.asList("vl_0", "vl_1", "vl_2"), getBusIds(network));
+        assertEquals("vl_0", network.getLoad("load1").getTerminal().getBusView().getBus().getId());
+        assertEquals("vl_1", network.getLoad("load2").getTerminal().getBusView().getBus().getId());
+        assertSame(bus3, network.getLoad("load3").getTerminal().getBusView().getBus());
+        assertEquals(2, bus3.getConnectedTerminalCount());
+
+        network.getSwitch("coupler").setOpen(false);
+        assertEquals(Arrays.asList("vl_0", "vl_2"), getBusIds(network));
+        assertSame(bus3, network.getLoad("load3").getTerminal().getBusView().getBus());
+        assertEquals(4, network.getLoad("load2").getTerminal().getBusView().getBus().getConnectedTerminalCount());
+    }
+
+    @Test
+    public void testStoredBuses() {
+        Network network = createNetwork();
+        // listed from the buses calculated by the store, then kept once the topology is calculated locally
+        List<Bus> buses = network.getVoltageLevel("vl").getBusView().getBusStream().collect(Collectors.toList());
+        assertEquals(2, buses.size());
+        assertSame(buses.get(1), network.getVoltageLevel("vl").getBusView().getBus("vl_2"));
+        assertEquals(2, buses.get(1).getConnectedTerminalCount());
+        assertSame(buses.get(0), network.getLoad("load2").getTerminal().getBusView().getBus());
+        assertSame(buses.get(1), network.getLoad("load3").getTerminal().getBusView().getBus());
+        assertEquals(buses, network.getVoltageLevel("vl").getBusView().getBusStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testTraverse() {
+        Network network = createNetwork();
+        network.getSwitch("coupler").setOpen(true);
+        List<String> switchIds = new ArrayList<>();
+        network.getVoltageLevel("vl").getNodeBreakerView().traverse(0, (node1, sw, node2) -> {
+            switchIds.add(sw.getId());
+            return true;
+        });
+        switchIds.sort(null);
+        assertEquals(Arrays.asList("coupler", "load1Breaker", "load2Breaker"), switchIds);
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.network.store.model.NetworkAttributes;
+import com.powsybl.network.store.model.Resource;
+import org.junit.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NetworkComponentsTest {
+
+    private static NetworkFactory createNetworkFactory(ExecutorService executorService) {
+        // the created network is fully cached, the server is never requested
+        RestNetworkStoreClient restStoreClient = new RestNetworkStoreClient(new RestTemplateBuilder()) {
+            @Override
+            public List<Resource<NetworkAttributes>> getNetworks() {
+                return Collections.emptyList();
+            }
+        };
+        return new NetworkFactoryImpl(() -> new PreloadingRestNetworkStoreClient(restStoreClient), executorService);
+    }
+
+    /**
+     * A node/breaker voltage level with a busbar section at node 0 and a load at node 1.
+     */
+    private static void createNodeBreakerVoltageLevel(Substation s, String id) {
+        VoltageLevel vl = s.newVoltageLevel()
+                .setId(id)
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.NODE_BREAKER)
+                .add();
+        vl.getNodeBreakerView().setNodeCount(4);
+        vl.getNodeBreakerView().newBusbarSection()
+                .setId(id + "Bbs")
+                .setNode(0)
+                .add();
+        vl.getNodeBreakerView().newBreaker()
+                .setId(id + "LoadBreaker")
+                .setNode1(0)
+                .setNode2(1)
+                .setOpen(false)
+                .add();
+        vl.newLoad()
+                .setId(id + "Load")
+                .setNode(1)
+                .setP0(10)
+                .setQ0(1)
+                .add();
+    }
+
+    /**
+     * Node/breaker voltage levels vl1 to vl4 and a bus/breaker voltage level vlbb. vl1 and vl2 are linked by a line,
+     * vl2 and vl3 by the legs 2 and 3 of a three windings transformer whose leg 1 is in vlbb, vl4 is isolated.
+     */
+    private static Network createNetwork(ExecutorService executorService) {
+        Network network = createNetworkFactory(executorService).createNetwork("n", "test");
+        Substation s = network.newSubstation()
+                .setId("s")
+                .setCountry(Country.FR)
+                .add();
+        for (int i = 1; i <= 4; i++) {
+            createNodeBreakerVoltageLevel(s, "vl" + i);
+        }
+        VoltageLevel vlbb = s.newVoltageLevel()
+                .setId("vlbb")
+                .setNominalV(225)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        vlbb.getBusBreakerView().newBus()
+                .setId("b")
+                .add();
+        network.newLine()
+                .setId("l12")
+                .setVoltageLevel1("vl1")
+                .setNode1(2)
+                .setVoltageLevel2("vl2")
+                .setNode2(2)
+                .setR(1)
+                .setX(10)
+                .setG1(0)
+                .setB1(0)
+                .setG2(0)
+                .setB2(0)
+                .add();
+        for (int i = 1; i <= 2; i++) {
+            network.getVoltageLevel("vl" + i).getNodeBreakerView().newBreaker()
+                    .setId("l12Breaker" + i)
+                    .setNode1(0)
+                    .setNode2(2)
+                    .setOpen(false)
+                    .add();
+        }
+        s.newThreeWindingsTransformer()
+                .setId("twt")
+                .newLeg1()
+                    .setVoltageLevel("vlbb")
+                    .setBus("b")
+                    .setConnectableBus("b")
+                    .setR(1)
+                    .setX(10)
+                    .setG(0)
+                    .setB(0)
+                    .setRatedU(225)
+                .add()
+                .newLeg2()
+                    .setVoltageLevel("vl2")
+                    .setNode(3)
+                    .setR(1)
+                    .setX(10)
+                    .setRatedU(400)
+                .add()
+                .newLeg3()
+                    .setVoltageLevel("vl3")
+                    .setNode(3)
+                    .setR(1)
+                    .setX(10)
+                    .setRatedU(400)
+                .add()
+                .add();
+        for (int i = 2; i <= 3; i++) {
+            network.getVoltageLevel("vl" + i).getNodeBreakerView().newBreaker()
+                    .setId("twtBreaker" + i)
+                    .setNode1(0)
+                    .setNode2(3)
+                    .setOpen(false)
+                    .add();
+        }
+        return network;
+    }
+
+    private static Bus getBus(Network network, String voltageLevelId) {
+        return network.getLoad(voltageLevelId + "Load").getTerminal().getBusView().getBus();
+    }
+
+    private static void checkComponents(Network network) {
+        Bus bus1 = getBus(network, "vl1");
+        Bus bus2 = getBus(network, "vl2");
+        Bus bus3 = getBus(network, "vl3");
+        Bus bus4 = getBus(network, "vl4");
+
+        // the legs 2 and 3 link vl2 and vl3 even if the leg 1 is in a bus/breaker voltage level
+        assertTrue(bus1.isInMainConnectedComponent());
+        assertTrue(bus3.isInMainSynchronousComponent());
+        assertEquals(3, bus2.getConnectedComponent().getSize());
+        assertSame(bus1.getSynchronousComponent(), bus3.getSynchronousComponent());
+        assertFalse(bus4.isInMainConnectedComponent());
+        assertEquals(1, bus4.getConnectedComponent().getSize());
+        assertEquals(2, network.getBusView().getConnectedComponents().size());
+
+        // opening the breaker of the leg 3 separates the load of vl3, the leg 3 being alone on its bus
+        network.getSwitch("twtBreaker3").setOpen(true);
+        assertFalse(getBus(network, "vl3").isInMainConnectedComponent());
+        assertEquals(1, getBus(network, "vl3").getConnectedComponent().getSize());
+        Bus leg3Bus = network.getThreeWindingsTransformer("twt").getLeg3().getTerminal().getBusView().getBus();
+        assertSame(getBus(network, "vl2").getConnectedComponent(), leg3Bus.getConnectedComponent());
+        assertEquals(3, network.getBusView().getConnectedComponents().size());
+    }
+
+    @Test
+    public void test() {
+        checkComponents(createNetwork(null));
+    }
+
+    @Test
+    public void testWithExecutor() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            checkComponents(createNetwork(executorService));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.network.store.model.NetworkAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.SubstationAttributes;
+import org.joda.time.DateTime;
+import org.junit.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class PreloadingRestNetworkStoreClientTest {
+
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private static final int SUBSTATION_COUNT = 100;
+
+    /**
+     * Slow server answers so that all the reading threads ask for the collections while they are being loaded.
+     */
+    private static class CountingRestNetworkStoreClient extends RestNetworkStoreClient {
+
+        private final AtomicInteger networkLoadCount = new AtomicInteger();
+
+        private final AtomicInteger substationLoadCount = new AtomicInteger();
+
+        CountingRestNetworkStoreClient() {
+            super(new RestTemplateBuilder());
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public List<Resource<NetworkAttributes>> getNetworks() {
+            networkLoadCount.incrementAndGet();
+            sleep();
+            return Collections.singletonList(Resource.networkBuilder()
+                    .id("n1")
+                    .attributes(NetworkAttributes.builder()
+                            .uuid(NETWORK_UUID)
+                            .caseDate(DateTime.parse("2015-01-01T00:00:00.000Z"))
+                            .build())
+                    .build());
+        }
+
+        @Override
+        public void getSubstations(UUID networkUuid, Consumer<Resource<SubstationAttributes>> consumer) {
+            substationLoadCount.incrementAndGet();
+            sleep();
+            for (int i = 0; i < SUBSTATION_COUNT; i++) {
+                consumer.accept(Resource.substationBuilder()
+                        .id("s" + i)
+                        .attributes(SubstationAttributes.builder()
+                                .country(Country.FR)
+                                .tso("RTE")
+                                .build())
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        CountingRestNetworkStoreClient restStoreClient = new CountingRestNetworkStoreClient();
+        PreloadingRestNetworkStoreClient client = new PreloadingRestNetworkStoreClient(restStoreClient);
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(threadCount);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                String substationId = "s" + i;
+                futures.add(executorService.submit(() -> {
+                    barrier.await();
+                    assertTrue(client.getNetwork(NETWORK_UUID).isPresent());
+                    assertTrue(client.getSubstation(NETWORK_UUID, substationId).isPresent());
+                    return client.getSubstations(NETWORK_UUID).size();
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(SUBSTATION_COUNT, (int) future.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // each collection has been loaded once, the other threads have waited for it
+        assertEquals(1, restStoreClient.networkLoadCount.get());
+        assertEquals(1, restStoreClient.substationLoadCount.get());
+        assertEquals(SUBSTATION_COUNT, client.getSubstationCount(NETWORK_UUID));
+    }
+}
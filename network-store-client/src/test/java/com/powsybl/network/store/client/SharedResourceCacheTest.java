@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.client;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.network.store.model.IdentifiableAttributes;
+import com.powsybl.network.store.model.Resource;
+import com.powsybl.network.store.model.ResourceType;
+import com.powsybl.network.store.model.SubstationAttributes;
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class SharedResourceCacheTest {
+
+    private static final UUID NETWORK_UUID = UUID.fromString("7928181c-7977-4592-ba19-88027e4254e4");
+
+    private static SharedResourceCache.Loader createLoader(int substationCount, AtomicInteger loadCount) {
+        return consumer -> {
+            loadCount.incrementAndGet();
+            for (int i = 0; i < substationCount; i++) {
+                consumer.accept(Resource.substationBuilder()
+                        .id("s" + i)
+                        .attributes(SubstationAttributes.builder()
+                                .country(Country.FR)
+                                .tso("RTE")
+                                .build())
+                        .build());
+            }
+        };
+    }
+
+    private static List<Resource<? extends IdentifiableAttributes>> get(SharedResourceCache cache, SharedResourceCache.Loader loader) {
+        List<Resource<? extends IdentifiableAttributes>> resources = new ArrayList<>();
+        cache.get(NETWORK_UUID, ResourceType.SUBSTATION, loader, resources::add);
+        return resources;
+    }
+
+    @Test
+    public void test() {
+        SharedResourceCache cache = new SharedResourceCache(1000000, 600);
+        AtomicInteger loadCount = new AtomicInteger();
+        SharedResourceCache.Loader loader = createLoader(10, loadCount);
+
+        List<Resource<? extends IdentifiableAttributes>> resources1 = get(cache, loader);
+        assertEquals(10, resources1.size());
+        assertEquals("s0", resources1.get(0).getId());
+        assertEquals("RTE", ((SubstationAttributes) resources1.get(0).getAttributes()).getTso());
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.size());
+
+        // each read gets its own copy
+        List<Resource<? extends IdentifiableAttributes>> resources2 = get(cache, loader);
+        assertEquals(10, resources2.size());
+        assertEquals(1, loadCount.get());
+        assertNotSame(resources1.get(0), resources2.get(0));
+        assertNotSame(resources1.get(0).getAttributes(), resources2.get(0).getAttributes());
+
+        cache.invalidate(NETWORK_UUID);
+        assertEquals(0, cache.size());
+        get(cache, loader);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testLargeCollection() throws IOException {
+        AtomicInteger loadCount = new AtomicInteger();
+        SharedResourceCache.Loader loader = createLoader(100, loadCount);
+
+        // encoded size of the collection
+        List<Resource<? extends IdentifiableAttributes>> resources = new ArrayList<>();
+        loader.load(resources::add);
+        long collectionSize = Jackson2ObjectMapperBuilder.smile().build().writeValueAsBytes(resources).length;
+
+        // a collection almost as large as the cache is kept
+        SharedResourceCache cache = new SharedResourceCache(collectionSize + collectionSize / 10, 600);
+        loadCount.set(0);
+        get(cache, loader);
+        get(cache, loader);
+        assertEquals(1, cache.size());
+        assertEquals(1, loadCount.get());
+    }
+}
@@ -8,6 +8,7 @@
 package com.powsybl.network.store.integration;
 
 import com.google.common.collect.ImmutableSet;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.cgmes.conformity.test.CgmesConformity1Catalog;
 import com.powsybl.commons.datasource.ResourceDataSource;
@@ -150,6 +151,46 @@ public class NetworkStoreIT {
         }
     }
 
+    @Test
+    public void nodeBreakerBusVoltageTest() {
+        try (NetworkStoreService service = new NetworkStoreService(getBaseUrl())) {
+            Network network = NetworkTest1Factory.create(service.getNetworkFactory());
+            service.flush(network);
+            Bus bus = network.getLoad("load1").getTerminal().getBusView().getBus();
+            assertNotNull(bus);
+            assertTrue(Double.isNaN(bus.getV()));
+            bus.setV(381).setAngle(3);
+            service.flush(network);
+        }
+
+        try (NetworkStoreService service = new NetworkStoreService(getBaseUrl())) {
+            Map<UUID, String> networkIds = service.getNetworkIds();
+            assertEquals(1, networkIds.size());
+            Network readNetwork = service.getNetwork(networkIds.keySet().stream().findFirst().get());
+
+            // voltages are kept by the store, whatever the calculated bus the node belongs to
+            Bus bus = readNetwork.getLoad("load1").getTerminal().getBusView().getBus();
+            assertEquals(381, bus.getV(), 0);
+            assertEquals(3, bus.getAngle(), 0);
+            try {
+                readNetwork.getVoltageLevel("voltageLevel1").getBusView().getMergedBus("unknown");
+                fail();
+            } catch (PowsyblException ignored) {
+                // node/breaker voltage levels have no bus/breaker view
+            }
+
+            bus.setV(Double.NaN);
+            service.flush(readNetwork);
+        }
+
+        try (NetworkStoreService service = new NetworkStoreService(getBaseUrl())) {
+            Network readNetwork = service.getNetwork(service.getNetworkIds().keySet().stream().findFirst().get());
+            Bus bus = readNetwork.getLoad("load1").getTerminal().getBusView().getBus();
+            assertTrue(Double.isNaN(bus.getV()));
+            assertEquals(3, bus.getAngle(), 0);
+        }
+    }
+
     @Test
     public void svcTest() {
         try (NetworkStoreService service = new NetworkStoreService(getBaseUrl())) {
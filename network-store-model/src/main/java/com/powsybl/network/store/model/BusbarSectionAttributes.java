@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -27,6 +28,7 @@ import java.util.Map;
 public class BusbarSectionAttributes implements IdentifiableAttributes {
 
     @ApiModelProperty("Voltage level ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -35,6 +37,7 @@ public class BusbarSectionAttributes implements IdentifiableAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
     @ApiModelProperty("Connection node in node/breaker topology")
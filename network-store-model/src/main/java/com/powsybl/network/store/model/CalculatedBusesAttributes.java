@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Calculated buses of a node/breaker voltage level.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ApiModel("Calculated buses attributes")
+public class CalculatedBusesAttributes {
+
+    @ApiModelProperty(value = "Voltage level ID", required = true)
+    private String voltageLevelId;
+
+    @ApiModelProperty(value = "Bus number of each node, -1 for a node which is not part of any bus", required = true)
+    private List<Integer> busByNode;
+
+    @ApiModelProperty(value = "Bus IDs, by bus number", required = true)
+    private List<String> busIds;
+}
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -37,6 +38,7 @@ public class ConfiguredBusAttributes implements IdentifiableAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("voltage level id")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -49,6 +51,7 @@ public class ConfiguredBusAttributes implements IdentifiableAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
 }
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -27,6 +28,7 @@ import java.util.Map;
 public class DanglingLineAttributes implements InjectionAttributes {
 
     @ApiModelProperty("Voltage level ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -35,6 +37,7 @@ public class DanglingLineAttributes implements InjectionAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
     @ApiModelProperty("Connection node in node/breaker topology")
@@ -74,8 +77,10 @@ public class DanglingLineAttributes implements InjectionAttributes {
     private ConnectablePositionAttributes position;
 
     @ApiModelProperty("Connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String bus;
 
     @ApiModelProperty("Possible connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String connectableBus;
 }
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.powsybl.iidm.network.EnergySource;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -28,6 +29,7 @@ import java.util.Map;
 public class GeneratorAttributes implements InjectionAttributes {
 
     @ApiModelProperty("Voltage level ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -36,15 +38,18 @@ public class GeneratorAttributes implements InjectionAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
     @ApiModelProperty("Connection node in node/breaker topology")
     private Integer node;
 
     @ApiModelProperty("Connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String bus;
 
     @ApiModelProperty("Possible connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String connectableBus;
 
     @ApiModelProperty("Energy source")
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ApiModel("Generator state attributes")
+public class GeneratorStateAttributes {
+
+    @ApiModelProperty(value = "Generator ID", required = true)
+    private String id;
+
+    @ApiModelProperty(value = "Voltage level ID", required = true)
+    private String voltageLevelId;
+
+    @ApiModelProperty("Active power in MW")
+    private double p;
+
+    @ApiModelProperty("Reactive power in MVar")
+    private double q;
+
+    @ApiModelProperty("Active power target in MW")
+    private double targetP;
+
+    @ApiModelProperty("Reactive power target in MVar")
+    private double targetQ;
+
+    @ApiModelProperty("Voltage target in kV")
+    private double targetV;
+}
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.powsybl.iidm.network.HvdcLine;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -33,6 +34,7 @@ public class HvdcLineAttributes implements IdentifiableAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
     @ApiModelProperty("Resistance")
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Deserialize a string as the instance of the {@link StringDictionary} given as attribute of the deserialization
+ * context, strings are deserialized as usual when there is no dictionary.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class InternedStringDeserializer extends StdDeserializer<String> {
+
+    public InternedStringDeserializer() {
+        super(String.class);
+    }
+
+    static String intern(String str, DeserializationContext ctxt) {
+        StringDictionary dictionary = (StringDictionary) ctxt.getAttribute(StringDictionary.class);
+        return dictionary != null ? dictionary.intern(str) : str;
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        return intern(StringDeserializer.instance.deserialize(parser, ctxt), ctxt);
+    }
+}
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -25,15 +26,18 @@ import lombok.NoArgsConstructor;
 public class LegAttributes implements TapChangerParentAttributes {
 
     @ApiModelProperty("Voltage level ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId;
 
     @ApiModelProperty("Connection node in node/breaker topology")
     private Integer node;
 
     @ApiModelProperty("Connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String bus;
 
     @ApiModelProperty("Possible connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String connectableBus;
 
     @ApiModelProperty("Nominal series resistance specified in ohm at the voltage of the leg")
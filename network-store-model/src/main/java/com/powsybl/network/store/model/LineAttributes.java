@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -27,9 +28,11 @@ import java.util.Map;
 public class LineAttributes implements BranchAttributes {
 
     @ApiModelProperty("Side 1 voltage level ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId1;
 
     @ApiModelProperty("Side 2 voltage level ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId2;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -38,6 +41,7 @@ public class LineAttributes implements BranchAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
     @ApiModelProperty("Side 1 connection node in node/breaker topology")
@@ -50,16 +54,20 @@ public class LineAttributes implements BranchAttributes {
 
     @ApiModelProperty("Side 1 connection bus in bus/breaker topology")
     @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String bus1;
 
     @ApiModelProperty("Side 2 connection bus in bus/breaker topology")
     @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String bus2;
 
     @ApiModelProperty("Side 1 possible connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String connectableBus1;
 
     @ApiModelProperty("Side 2 possible connection bus in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String connectableBus2;
 
     @ApiModelProperty("Resistance in Ohm")
@@ -15,4 +15,9 @@ public final class NetworkStoreApi {
     }
 
     public static final String VERSION = "v1";
+
+    /**
+     * Binary Jackson format, more compact and faster to encode and decode than JSON.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
 }
@@ -0,0 +1,625 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import com.google.common.primitives.ImmutableIntArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Bus topology of a node/breaker voltage level.
+ * <p>
+ * The graph of switches and internal connections is stored in compressed sparse row int arrays, without any object
+ * per node or per edge. Calculated buses are the sets of nodes connected through closed switches and internal
+ * connections, computed with a union-find, that contain at least one equipment other than a busbar section.
+ * <p>
+ * A bus is numbered by its lowest node, so that the number of a bus does not depend on the other buses.
+ * <p>
+ * A topology is immutable. Opening or closing a switch gives a new topology that shares the graph arrays and
+ * only relabels the nodes of the components the switch belongs to: closing a switch merges two components,
+ * opening a switch splits a component only if its two sides are not connected any more.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class NodeBreakerTopology {
+
+    public interface EdgeTraverser {
+
+        /**
+         * @param edge switch number, internal connections being numbered after switches
+         * @return true to continue the traversal through node2
+         */
+        boolean traverse(int node1, int edge, int node2);
+    }
+
+    /**
+     * Work arrays of a traversal, reused by the following traversals of the same thread.
+     */
+    private static final class TraversalWorkspace {
+
+        private int[] stack = new int[16];
+
+        private final BitSet visitedNodes = new BitSet();
+
+        private final BitSet visitedEdges = new BitSet();
+
+        private boolean inUse = false;
+
+        private void reset(int nodeCount) {
+            if (stack.length < nodeCount) {
+                stack = new int[nodeCount];
+            }
+            visitedNodes.clear();
+            visitedEdges.clear();
+        }
+    }
+
+    private static final ThreadLocal<TraversalWorkspace> TRAVERSAL_WORKSPACE = ThreadLocal.withInitial(TraversalWorkspace::new);
+
+    public static class Builder {
+
+        private int nodeCount;
+
+        private final ImmutableIntArray.Builder switchNodes1 = ImmutableIntArray.builder();
+
+        private final ImmutableIntArray.Builder switchNodes2 = ImmutableIntArray.builder();
+
+        private final BitSet openSwitches = new BitSet();
+
+        private int switchCount = 0;
+
+        private final ImmutableIntArray.Builder internalConnectionNodes1 = ImmutableIntArray.builder();
+
+        private final ImmutableIntArray.Builder internalConnectionNodes2 = ImmutableIntArray.builder();
+
+        private final BitSet terminalNodes = new BitSet();
+
+        private final BitSet feederNodes = new BitSet();
+
+        public Builder(int nodeCount) {
+            this.nodeCount = nodeCount;
+        }
+
+        private void checkNode(int node) {
+            if (node < 0) {
+                throw new IllegalArgumentException("Invalid node: " + node);
+            }
+            nodeCount = Math.max(nodeCount, node + 1);
+        }
+
+        public Builder addSwitch(int node1, int node2, boolean open) {
+            checkNode(node1);
+            checkNode(node2);
+            switchNodes1.add(node1);
+            switchNodes2.add(node2);
+            openSwitches.set(switchCount, open);
+            switchCount++;
+            return this;
+        }
+
+        public Builder addInternalConnection(int node1, int node2) {
+            checkNode(node1);
+            checkNode(node2);
+            internalConnectionNodes1.add(node1);
+            internalConnectionNodes2.add(node2);
+            return this;
+        }
+
+        /**
+         * @param feeder false for a busbar section, true for any other equipment
+         */
+        public Builder addTerminal(int node, boolean feeder) {
+            checkNode(node);
+            terminalNodes.set(node);
+            if (feeder) {
+                feederNodes.set(node);
+            }
+            return this;
+        }
+
+        private void addTerminal(String voltageLevelId, String terminalVoltageLevelId, Integer node) {
+            // a branch might have only some of its sides in the voltage level
+            if (node != null && voltageLevelId.equals(terminalVoltageLevelId)) {
+                addTerminal(node, true);
+            }
+        }
+
+        /**
+         * Add a switch or the terminals of an equipment of the voltage level.
+         */
+        public Builder addEquipment(String voltageLevelId, IdentifiableAttributes attributes) {
+            if (attributes instanceof SwitchAttributes) {
+                SwitchAttributes sw = (SwitchAttributes) attributes;
+                addSwitch(sw.getNode1(), sw.getNode2(), sw.isOpen());
+            } else if (attributes instanceof BusbarSectionAttributes) {
+                addTerminal(((BusbarSectionAttributes) attributes).getNode(), false);
+            } else if (attributes instanceof InjectionAttributes) {
+                InjectionAttributes injection = (InjectionAttributes) attributes;
+                addTerminal(voltageLevelId, injection.getVoltageLevelId(), injection.getNode());
+            } else if (attributes instanceof BranchAttributes) {
+                BranchAttributes branch = (BranchAttributes) attributes;
+                addTerminal(voltageLevelId, branch.getVoltageLevelId1(), branch.getNode1());
+                addTerminal(voltageLevelId, branch.getVoltageLevelId2(), branch.getNode2());
+            } else if (attributes instanceof ThreeWindingsTransformerAttributes) {
+                ThreeWindingsTransformerAttributes twt = (ThreeWindingsTransformerAttributes) attributes;
+                for (LegAttributes leg : Arrays.asList(twt.getLeg1(), twt.getLeg2(), twt.getLeg3())) {
+                    addTerminal(voltageLevelId, leg.getVoltageLevelId(), leg.getNode());
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Add the internal connections of the voltage level.
+         */
+        public Builder addVoltageLevel(VoltageLevelAttributes voltageLevel) {
+            if (voltageLevel.getInternalConnections() != null) {
+                for (InternalConnectionAttributes internalConnection : voltageLevel.getInternalConnections()) {
+                    addInternalConnection(internalConnection.getNode1(), internalConnection.getNode2());
+                }
+            }
+            return this;
+        }
+
+        public NodeBreakerTopology build() {
+            // switches first, then internal connections
+            int[] edgeNodes1 = switchNodes1.addAll(internalConnectionNodes1.build()).build().toArray();
+            int[] edgeNodes2 = switchNodes2.addAll(internalConnectionNodes2.build()).build().toArray();
+            return new NodeBreakerTopology(nodeCount, edgeNodes1, edgeNodes2, switchCount, openSwitches, terminalNodes, feederNodes);
+        }
+    }
+
+    /**
+     * Node labels are stored in chunks so that a topology change only copies the chunks of the relabeled nodes.
+     */
+    private static final int CHUNK_BITS = 8;
+
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    private final int nodeCount;
+
+    private final int[] edgeNodes1;
+
+    private final int[] edgeNodes2;
+
+    private final int switchCount;
+
+    private final BitSet openSwitches;
+
+    /**
+     * Label of each node: the lowest node of its component through closed switches and internal connections if the
+     * component is a bus, (-1 - lowest node) otherwise. The lowest node identifies the bus, it does not change when a
+     * switch elsewhere in the voltage level is opened or closed.
+     */
+    private final int[][] labelChunks;
+
+    /**
+     * Edges of node n are adjacentEdges[adjacencyStart[n]] to adjacentEdges[adjacencyStart[n + 1] - 1].
+     */
+    private final int[] adjacencyStart;
+
+    private final int[] adjacentEdges;
+
+    private final BitSet terminalNodes;
+
+    private final BitSet feederNodes;
+
+    private NodeBreakerTopology(int nodeCount, int[] edgeNodes1, int[] edgeNodes2, int switchCount, BitSet openSwitches,
+                                BitSet terminalNodes, BitSet feederNodes) {
+        this.nodeCount = nodeCount;
+        this.edgeNodes1 = edgeNodes1;
+        this.edgeNodes2 = edgeNodes2;
+        this.switchCount = switchCount;
+        this.openSwitches = openSwitches;
+        this.terminalNodes = terminalNodes;
+        this.feederNodes = feederNodes;
+
+        adjacencyStart = new int[nodeCount + 1];
+        for (int e = 0; e < edgeNodes1.length; e++) {
+            adjacencyStart[edgeNodes1[e] + 1]++;
+            adjacencyStart[edgeNodes2[e] + 1]++;
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            adjacencyStart[n + 1] += adjacencyStart[n];
+        }
+        adjacentEdges = new int[adjacencyStart[nodeCount]];
+        int[] next = Arrays.copyOf(adjacencyStart, nodeCount);
+        for (int e = 0; e < edgeNodes1.length; e++) {
+            adjacentEdges[next[edgeNodes1[e]]++] = e;
+            adjacentEdges[next[edgeNodes2[e]]++] = e;
+        }
+
+        labelChunks = computeLabels();
+    }
+
+    private NodeBreakerTopology(NodeBreakerTopology other, BitSet openSwitches, int[][] labelChunks) {
+        this.nodeCount = other.nodeCount;
+        this.edgeNodes1 = other.edgeNodes1;
+        this.edgeNodes2 = other.edgeNodes2;
+        this.switchCount = other.switchCount;
+        this.adjacencyStart = other.adjacencyStart;
+        this.adjacentEdges = other.adjacentEdges;
+        this.terminalNodes = other.terminalNodes;
+        this.feederNodes = other.feederNodes;
+        this.openSwitches = openSwitches;
+        this.labelChunks = labelChunks;
+    }
+
+    private static int find(int[] parent, int node) {
+        int n = node;
+        while (parent[n] != n) {
+            // path halving
+            parent[n] = parent[parent[n]];
+            n = parent[n];
+        }
+        return n;
+    }
+
+    private static void union(int[] parent, byte[] rank, int node1, int node2) {
+        int root1 = find(parent, node1);
+        int root2 = find(parent, node2);
+        if (root1 == root2) {
+            return;
+        }
+        if (rank[root1] < rank[root2]) {
+            parent[root1] = root2;
+        } else if (rank[root1] > rank[root2]) {
+            parent[root2] = root1;
+        } else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+    }
+
+    private static int label(int lowestNode, boolean bus) {
+        return bus ? lowestNode : -1 - lowestNode;
+    }
+
+    private static int lowestNode(int label) {
+        return label >= 0 ? label : -1 - label;
+    }
+
+    private int[][] computeLabels() {
+        int[] parent = new int[nodeCount];
+        for (int n = 0; n < nodeCount; n++) {
+            parent[n] = n;
+        }
+        byte[] rank = new byte[nodeCount];
+        for (int e = 0; e < edgeNodes1.length; e++) {
+            if (!isOpen(openSwitches, e)) {
+                union(parent, rank, edgeNodes1[e], edgeNodes2[e]);
+            }
+        }
+
+        // nodes are visited by increasing number, so the first node of a component is its lowest one
+        int[] lowestNodeByRoot = new int[nodeCount];
+        Arrays.fill(lowestNodeByRoot, -1);
+        BitSet busRoots = new BitSet(nodeCount);
+        for (int n = 0; n < nodeCount; n++) {
+            int root = find(parent, n);
+            parent[n] = root;
+            if (lowestNodeByRoot[root] == -1) {
+                lowestNodeByRoot[root] = n;
+            }
+            if (feederNodes.get(n)) {
+                busRoots.set(root);
+            }
+        }
+
+        int[][] chunks = new int[(nodeCount + CHUNK_SIZE - 1) >> CHUNK_BITS][];
+        for (int c = 0; c < chunks.length; c++) {
+            chunks[c] = new int[Math.min(CHUNK_SIZE, nodeCount - (c << CHUNK_BITS))];
+        }
+        for (int n = 0; n < nodeCount; n++) {
+            int root = parent[n];
+            chunks[n >> CHUNK_BITS][n & (CHUNK_SIZE - 1)] = label(lowestNodeByRoot[root], busRoots.get(root));
+        }
+        return chunks;
+    }
+
+    private int getLabel(int node) {
+        return labelChunks[node >> CHUNK_BITS][node & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Copy on write of the label chunks: only the chunks of the relabeled nodes are copied.
+     */
+    private static int[][] relabel(int[][] chunks, int[][] oldChunks, BitSet nodes, int label) {
+        int[][] newChunks = chunks == oldChunks ? oldChunks.clone() : chunks;
+        for (int n = nodes.nextSetBit(0); n >= 0; n = nodes.nextSetBit(n + 1)) {
+            int c = n >> CHUNK_BITS;
+            if (newChunks[c] == oldChunks[c]) {
+                newChunks[c] = oldChunks[c].clone();
+            }
+            newChunks[c][n & (CHUNK_SIZE - 1)] = label;
+        }
+        return newChunks;
+    }
+
+    private boolean containsFeeder(BitSet nodes) {
+        return nodes.intersects(feederNodes);
+    }
+
+    private boolean isOpen(BitSet open, int edge) {
+        return edge < switchCount && open.get(edge);
+    }
+
+    /**
+     * Nodes connected to a start node through closed edges, the search being stopped as soon as the target node
+     * is reached (-1 for no target).
+     */
+    private BitSet findConnectedNodes(int start, int target, BitSet open) {
+        BitSet visited = new BitSet(nodeCount);
+        int[] queue = new int[16];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited.set(start);
+        while (head < tail && (target < 0 || !visited.get(target))) {
+            int n = queue[head++];
+            for (int i = adjacencyStart[n]; i < adjacencyStart[n + 1]; i++) {
+                int e = adjacentEdges[i];
+                int other = edgeNodes1[e] == n ? edgeNodes2[e] : edgeNodes1[e];
+                if (!isOpen(open, e) && !visited.get(other)) {
+                    visited.set(other);
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                    }
+                    queue[tail++] = other;
+                }
+            }
+        }
+        return visited;
+    }
+
+    private void checkSwitch(int sw) {
+        if (sw < 0 || sw >= switchCount) {
+            throw new IllegalArgumentException("Invalid switch: " + sw);
+        }
+    }
+
+    /**
+     * @return the topology after closing the switch, this topology if the switch is already closed
+     */
+    public NodeBreakerTopology closeSwitch(int sw) {
+        checkSwitch(sw);
+        if (!openSwitches.get(sw)) {
+            return this;
+        }
+        BitSet newOpenSwitches = (BitSet) openSwitches.clone();
+        newOpenSwitches.clear(sw);
+        int node1 = edgeNodes1[sw];
+        int node2 = edgeNodes2[sw];
+        int label1 = getLabel(node1);
+        int label2 = getLabel(node2);
+        if (label1 == label2) {
+            return new NodeBreakerTopology(this, newOpenSwitches, labelChunks);
+        }
+        // merge, only the nodes whose label changes are relabeled
+        int label = label(Math.min(lowestNode(label1), lowestNode(label2)), label1 >= 0 || label2 >= 0);
+        int[][] newLabelChunks = labelChunks;
+        if (label1 != label) {
+            newLabelChunks = relabel(newLabelChunks, labelChunks, findConnectedNodes(node1, -1, openSwitches), label);
+        }
+        if (label2 != label) {
+            newLabelChunks = relabel(newLabelChunks, labelChunks, findConnectedNodes(node2, -1, openSwitches), label);
+        }
+        return new NodeBreakerTopology(this, newOpenSwitches, newLabelChunks);
+    }
+
+    /**
+     * @return the topology after opening the switch, this topology if the switch is already open
+     */
+    public NodeBreakerTopology openSwitch(int sw) {
+        checkSwitch(sw);
+        if (openSwitches.get(sw)) {
+            return this;
+        }
+        BitSet newOpenSwitches = (BitSet) openSwitches.clone();
+        newOpenSwitches.set(sw);
+        int node1 = edgeNodes1[sw];
+        int node2 = edgeNodes2[sw];
+        BitSet nodes1 = findConnectedNodes(node1, node2, newOpenSwitches);
+        if (nodes1.get(node2)) {
+            // still connected through another path
+            return new NodeBreakerTopology(this, newOpenSwitches, labelChunks);
+        }
+        // split, each side is identified by its lowest node, the side with the lowest node of the component keeps
+        // its identifier
+        int oldLabel = getLabel(node1);
+        BitSet nodes2 = findConnectedNodes(node2, -1, newOpenSwitches);
+        int label1 = label(nodes1.nextSetBit(0), containsFeeder(nodes1));
+        int label2 = label(nodes2.nextSetBit(0), containsFeeder(nodes2));
+        int[][] newLabelChunks = labelChunks;
+        if (label1 != oldLabel) {
+            newLabelChunks = relabel(newLabelChunks, labelChunks, nodes1, label1);
+        }
+        if (label2 != oldLabel) {
+            newLabelChunks = relabel(newLabelChunks, labelChunks, nodes2, label2);
+        }
+        return new NodeBreakerTopology(this, newOpenSwitches, newLabelChunks);
+    }
+
+    public boolean isSwitchOpen(int sw) {
+        checkSwitch(sw);
+        return openSwitches.get(sw);
+    }
+
+    public int getSwitchNode1(int sw) {
+        checkSwitch(sw);
+        return edgeNodes1[sw];
+    }
+
+    public int getSwitchNode2(int sw) {
+        checkSwitch(sw);
+        return edgeNodes2[sw];
+    }
+
+    /**
+     * @return true if the buses of the other topology, which is a previous or a next version of this one, have the
+     * same nodes
+     */
+    public boolean hasSameBuses(NodeBreakerTopology other) {
+        return labelChunks == other.labelChunks;
+    }
+
+    private boolean isUsed(int node) {
+        return terminalNodes.get(node) || adjacencyStart[node + 1] > adjacencyStart[node];
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Nodes with an equipment, a switch or an internal connection.
+     */
+    public int[] getNodes() {
+        return IntStream.range(0, nodeCount).filter(this::isUsed).toArray();
+    }
+
+    /**
+     * Buses by increasing number, the number of a bus being its lowest node. Every node is visited.
+     */
+    public int[] getBuses() {
+        return IntStream.range(0, nodeCount).filter(n -> getLabel(n) == n).toArray();
+    }
+
+    /**
+     * @return the calculated bus of the node, i.e. the lowest node of the bus, or -1 if the node is not part of a
+     * valid bus
+     */
+    public int getBus(int node) {
+        if (node < 0 || node >= nodeCount) {
+            return -1;
+        }
+        int label = getLabel(node);
+        return label >= 0 ? label : -1;
+    }
+
+    public static String getBusId(String voltageLevelId, int bus) {
+        return voltageLevelId + "_" + bus;
+    }
+
+    /**
+     * Buses of the topology as stored on the server: buses are numbered by increasing lowest node from 0.
+     */
+    public CalculatedBusesAttributes getCalculatedBuses(String voltageLevelId) {
+        int[] buses = getBuses();
+        List<Integer> busByNode = new ArrayList<>(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            int bus = getBus(node);
+            busByNode.add(bus != -1 ? Arrays.binarySearch(buses, bus) : -1);
+        }
+        List<String> busIds = new ArrayList<>(buses.length);
+        for (int bus : buses) {
+            busIds.add(getBusId(voltageLevelId, bus));
+        }
+        return CalculatedBusesAttributes.builder()
+                .voltageLevelId(voltageLevelId)
+                .busByNode(busByNode)
+                .busIds(busIds)
+                .build();
+    }
+
+    /**
+     * Nodes of a bus, by increasing number. Only the nodes of the bus are visited.
+     */
+    public void forEachBusNode(int bus, IntConsumer consumer) {
+        if (getBus(bus) != bus) {
+            return;
+        }
+        BitSet nodes = findConnectedNodes(bus, -1, openSwitches);
+        for (int n = nodes.nextSetBit(0); n >= 0; n = nodes.nextSetBit(n + 1)) {
+            consumer.accept(n);
+        }
+    }
+
+    /**
+     * Depth first traversal from a node through switches, whatever their status, and internal connections. Each
+     * edge is given once to the traverser.
+     */
+    public void traverse(int node, EdgeTraverser traverser) {
+        if (node < 0 || node >= nodeCount) {
+            return;
+        }
+        TraversalWorkspace workspace = TRAVERSAL_WORKSPACE.get();
+        if (workspace.inUse) {
+            // traversal started from a traverser
+            workspace = new TraversalWorkspace();
+        }
+        workspace.inUse = true;
+        try {
+            workspace.reset(nodeCount);
+            int[] stack = workspace.stack;
+            BitSet visitedNodes = workspace.visitedNodes;
+            BitSet visitedEdges = workspace.visitedEdges;
+            int size = 0;
+            stack[size++] = node;
+            visitedNodes.set(node);
+            while (size > 0) {
+                int n = stack[--size];
+                for (int i = adjacencyStart[n]; i < adjacencyStart[n + 1]; i++) {
+                    int e = adjacentEdges[i];
+                    if (!visitedEdges.get(e)) {
+                        visitedEdges.set(e);
+                        int other = edgeNodes1[e] == n ? edgeNodes2[e] : edgeNodes1[e];
+                        if (traverser.traverse(n, e, other) && !visitedNodes.get(other)) {
+                            visitedNodes.set(other);
+                            stack[size++] = other;
+                        }
+                    }
+                }
+            }
+        } finally {
+            workspace.inUse = false;
+        }
+    }
+
+    /**
+     * The bus the node would be connected to by closing switches: the bus of the nearest node, switches being
+     * considered whatever their status.
+     *
+     * @return the connectable bus of the node or -1 if no bus can be reached
+     */
+    public int getConnectableBus(int node) {
+        if (node < 0 || node >= nodeCount || getBus(node) != -1) {
+            return getBus(node);
+        }
+        // breadth first search
+        BitSet visited = new BitSet(nodeCount);
+        int[] queue = new int[16];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = node;
+        visited.set(node);
+        while (head < tail) {
+            int n = queue[head++];
+            for (int i = adjacencyStart[n]; i < adjacencyStart[n + 1]; i++) {
+                int e = adjacentEdges[i];
+                int other = edgeNodes1[e] == n ? edgeNodes2[e] : edgeNodes1[e];
+                if (!visited.get(other)) {
+                    int bus = getBus(other);
+                    if (bus != -1) {
+                        return bus;
+                    }
+                    visited.set(other);
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, queue.length * 2);
+                    }
+                    queue[tail++] = other;
+                }
+            }
+        }
+        return -1;
+    }
+}
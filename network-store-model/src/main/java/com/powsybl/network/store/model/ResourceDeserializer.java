@@ -15,6 +15,9 @@ import java.io.IOException;
 import java.util.Objects;
 
 /**
+ * Attributes are deserialized with the same context, so that their container, bus and property strings are taken
+ * from the {@link StringDictionary} given as attribute of the context, if any. Ids being unique, they are not.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public class ResourceDeserializer extends StdDeserializer<Resource> {
@@ -84,7 +87,8 @@ public class ResourceDeserializer extends StdDeserializer<Resource> {
                         break;
                     case "attributes":
                         parser.nextValue();
-                        attributes = parser.readValueAs(getTypeClass(type));
+                        // with the same context so that its attributes are kept
+                        attributes = ctxt.readValue(parser, getTypeClass(type));
                         break;
                     default:
                         break;
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary of the strings of a network, so that strings repeated in many resources (container ids, buses, property
+ * keys...) are shared by all of them instead of being deserialized as distinct instances.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class StringDictionary {
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * @return the instance of the dictionary equal to the string, the string itself if it was not in the dictionary
+     */
+    public String intern(String str) {
+        if (str == null) {
+            return null;
+        }
+        String interned = strings.putIfAbsent(str, str);
+        return interned != null ? interned : str;
+    }
+
+    public int size() {
+        return strings.size();
+    }
+}
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.powsybl.iidm.network.SwitchKind;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -28,6 +29,7 @@ import java.util.Map;
 public class SwitchAttributes implements ConnectableAttributes {
 
     @ApiModelProperty("Voltage level ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String voltageLevelId;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -36,6 +38,7 @@ public class SwitchAttributes implements ConnectableAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
     @ApiModelProperty("Switch kind")
@@ -48,9 +51,11 @@ public class SwitchAttributes implements ConnectableAttributes {
     private int node2;
 
     @ApiModelProperty("Connection bus side 1 in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String bus1;
 
     @ApiModelProperty("Connection bus side 2 in bus/breaker topology")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String bus2;
 
     @ApiModelProperty("Switch open status")
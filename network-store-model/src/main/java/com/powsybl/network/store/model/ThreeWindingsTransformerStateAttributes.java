@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ApiModel("Three windings transformer state attributes")
+public class ThreeWindingsTransformerStateAttributes {
+
+    @ApiModelProperty(value = "Three windings transformer ID", required = true)
+    private String id;
+
+    @ApiModelProperty("Side 1 active power in MW")
+    private double p1;
+
+    @ApiModelProperty("Side 1 reactive power in MVar")
+    private double q1;
+
+    @ApiModelProperty("Side 2 active power in MW")
+    private double p2;
+
+    @ApiModelProperty("Side 2 reactive power in MVar")
+    private double q2;
+
+    @ApiModelProperty("Side 3 active power in MW")
+    private double p3;
+
+    @ApiModelProperty("Side 3 reactive power in MVar")
+    private double q3;
+}
@@ -7,6 +7,7 @@
 package com.powsybl.network.store.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.powsybl.iidm.network.TopologyKind;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -31,6 +32,7 @@ public class VoltageLevelAttributes implements IdentifiableAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Substation ID")
+    @JsonDeserialize(using = InternedStringDeserializer.class)
     private String substationId;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -39,6 +41,7 @@ public class VoltageLevelAttributes implements IdentifiableAttributes {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @ApiModelProperty("Properties")
+    @JsonDeserialize(keyUsing = InternedStringKeyDeserializer.class, contentUsing = InternedStringDeserializer.class)
     private Map<String, String> properties;
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -64,4 +67,12 @@ public class VoltageLevelAttributes implements IdentifiableAttributes {
     @ApiModelProperty("Internal connection of the voltage level")
     @Builder.Default
     private List<InternalConnectionAttributes> internalConnections = new ArrayList<>();
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @ApiModelProperty("Voltage magnitude in kV of the calculated bus of each node")
+    private Map<Integer, Double> busVByNode;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @ApiModelProperty("Voltage angle in degree of the calculated bus of each node")
+    private Map<Integer, Double> busAngleByNode;
 }
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NodeBreakerTopologyTest {
+
+    /**
+     * Busbar sections at nodes 0, 1 and 2, a coupler between 0 and 1, loads at 3, 4 and 5 connected to the busbar
+     * sections by breakers, an open breaker between 1 and 6 and an internal connection between 5 and 7.
+     */
+    private static NodeBreakerTopology createTopology() {
+        return new NodeBreakerTopology.Builder(8)
+                .addSwitch(0, 1, false) // coupler
+                .addSwitch(0, 3, false)
+                .addSwitch(1, 4, false)
+                .addSwitch(2, 5, false)
+                .addSwitch(1, 6, true)
+                .addInternalConnection(5, 7)
+                .addTerminal(0, false)
+                .addTerminal(1, false)
+                .addTerminal(2, false)
+                .addTerminal(3, true)
+                .addTerminal(4, true)
+                .addTerminal(5, true)
+                .build();
+    }
+
+    private static List<Integer> getBusNodes(NodeBreakerTopology topology, int bus) {
+        List<Integer> nodes = new ArrayList<>();
+        topology.forEachBusNode(bus, nodes::add);
+        return nodes;
+    }
+
+    @Test
+    public void testBuses() {
+        NodeBreakerTopology topology = createTopology();
+        assertEquals(8, topology.getNodeCount());
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7}, topology.getNodes());
+        assertArrayEquals(new int[] {0, 2}, topology.getBuses());
+        assertEquals(0, topology.getBus(4));
+        assertEquals(2, topology.getBus(7));
+        assertEquals(-1, topology.getBus(6));
+        assertEquals(-1, topology.getBus(8));
+        assertEquals(0, topology.getConnectableBus(6));
+        assertEquals(2, topology.getConnectableBus(5));
+        assertEquals(Arrays.asList(0, 1, 3, 4), getBusNodes(topology, 0));
+        assertEquals(Arrays.asList(2, 5, 7), getBusNodes(topology, 2));
+        assertTrue(getBusNodes(topology, 1).isEmpty());
+    }
+
+    @Test
+    public void testSplitAndMerge() {
+        NodeBreakerTopology topology = createTopology();
+
+        // opening the coupler splits the first bus, the bus of node 2 keeps its number
+        NodeBreakerTopology split = topology.openSwitch(0);
+        assertTrue(split.isSwitchOpen(0));
+        assertFalse(split.hasSameBuses(topology));
+        assertArrayEquals(new int[] {0, 1, 2}, split.getBuses());
+        assertEquals(0, split.getBus(3));
+        assertEquals(1, split.getBus(4));
+        assertEquals(2, split.getBus(5));
+        assertSame(split, split.openSwitch(0));
+
+        // the previous topology is not modified
+        assertFalse(topology.isSwitchOpen(0));
+        assertArrayEquals(new int[] {0, 2}, topology.getBuses());
+
+        NodeBreakerTopology merged = split.closeSwitch(0);
+        assertArrayEquals(new int[] {0, 2}, merged.getBuses());
+        assertEquals(0, merged.getBus(4));
+
+        // closing the open breaker merges its node into the bus of the busbar section
+        NodeBreakerTopology connected = topology.closeSwitch(4);
+        assertEquals(0, connected.getBus(6));
+        assertArrayEquals(new int[] {0, 2}, connected.getBuses());
+
+        // the busbar section without any feeder is not a bus any more, the load side is numbered by its lowest node
+        NodeBreakerTopology disconnected = topology.openSwitch(3);
+        assertArrayEquals(new int[] {0, 5}, disconnected.getBuses());
+        assertEquals(-1, disconnected.getBus(2));
+        assertEquals(5, disconnected.getBus(7));
+        assertEquals(2, disconnected.closeSwitch(3).getBus(7));
+    }
+
+    @Test
+    public void testParallelCoupler() {
+        NodeBreakerTopology topology = new NodeBreakerTopology.Builder(4)
+                .addSwitch(0, 1, false)
+                .addSwitch(0, 1, false)
+                .addSwitch(1, 2, false)
+                .addTerminal(2, true)
+                .build();
+        NodeBreakerTopology opened = topology.openSwitch(0);
+        assertTrue(opened.hasSameBuses(topology));
+        assertFalse(opened.openSwitch(1).hasSameBuses(topology));
+        assertEquals(1, opened.openSwitch(1).getBus(2));
+    }
+
+    private static NodeBreakerTopology createChain(int nodeCount, BitSet openSwitches) {
+        NodeBreakerTopology.Builder builder = new NodeBreakerTopology.Builder(nodeCount);
+        for (int n = 0; n < nodeCount - 1; n++) {
+            builder.addSwitch(n, n + 1, openSwitches.get(n));
+        }
+        for (int n = 0; n < nodeCount; n += 7) {
+            builder.addTerminal(n, n % 2 == 0);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testIncrementalUpdates() {
+        // several label chunks
+        int nodeCount = 1000;
+        BitSet openSwitches = new BitSet();
+        NodeBreakerTopology topology = createChain(nodeCount, openSwitches);
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            int sw = random.nextInt(nodeCount - 1);
+            boolean open = !openSwitches.get(sw);
+            openSwitches.set(sw, open);
+            topology = open ? topology.openSwitch(sw) : topology.closeSwitch(sw);
+
+            // same buses as a topology calculated from scratch
+            NodeBreakerTopology expected = createChain(nodeCount, openSwitches);
+            assertArrayEquals(expected.getBuses(), topology.getBuses());
+            for (int n = 0; n < nodeCount; n++) {
+                assertEquals(expected.getBus(n), topology.getBus(n));
+            }
+        }
+    }
+
+    @Test
+    public void testCalculatedBuses() {
+        // the line has only its first side in the voltage level, its second side being at node 1 of another one
+        NodeBreakerTopology topology = new NodeBreakerTopology.Builder(4)
+                .addEquipment("vl", BusbarSectionAttributes.builder().voltageLevelId("vl").node(0).build())
+                .addEquipment("vl", SwitchAttributes.builder().voltageLevelId("vl").node1(0).node2(1).open(false).build())
+                .addEquipment("vl", LineAttributes.builder().voltageLevelId1("vl").node1(3).voltageLevelId2("vl2").node2(1).build())
+                .addEquipment("vl", LoadAttributes.builder().voltageLevelId("vl").node(1).build())
+                .build();
+        CalculatedBusesAttributes calculatedBuses = topology.getCalculatedBuses("vl");
+        assertEquals("vl", calculatedBuses.getVoltageLevelId());
+        assertEquals(Arrays.asList("vl_0", "vl_3"), calculatedBuses.getBusIds());
+        assertEquals(Arrays.asList(0, 0, -1, 1), calculatedBuses.getBusByNode());
+    }
+
+    private static List<Integer> traverse(NodeBreakerTopology topology, int node, int stopEdge) {
+        List<Integer> edges = new ArrayList<>();
+        topology.traverse(node, (node1, edge, node2) -> {
+            edges.add(edge);
+            return edge != stopEdge;
+        });
+        edges.sort(null);
+        return edges;
+    }
+
+    @Test
+    public void testTraverse() {
+        NodeBreakerTopology topology = createTopology();
+
+        // open switches are traversed too, internal connections are numbered after switches
+        assertEquals(Arrays.asList(0, 1, 2, 4), traverse(topology, 0, -1));
+        assertEquals(Arrays.asList(3, 5), traverse(topology, 7, -1));
+
+        // the coupler is given to the traverser but the traversal does not go through it
+        assertEquals(Arrays.asList(0, 1), traverse(topology, 0, 0));
+        assertTrue(traverse(topology, 8, -1).isEmpty());
+
+        // a traversal started from a traverser does not disturb the outer one
+        List<Integer> outerEdges = new ArrayList<>();
+        topology.traverse(0, (node1, edge, node2) -> {
+            outerEdges.add(edge);
+            assertEquals(Arrays.asList(3, 5), traverse(topology, 2, -1));
+            return true;
+        });
+        assertEquals(4, outerEdges.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSwitch() {
+        createTopology().openSwitch(5);
+    }
+}
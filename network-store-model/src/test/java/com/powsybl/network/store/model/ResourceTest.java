@@ -68,4 +68,28 @@ public class ResourceTest {
         assertEquals(Country.FR, resource2.getAttributes().getCountry());
         assertEquals("RTE", resource2.getAttributes().getTso());
     }
+
+    @Test
+    public void stringDictionaryTest() throws IOException {
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+        String json = objectMapper.writeValueAsString(Resource.loadBuilder()
+                .id("L")
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("VL")
+                        .bus("B")
+                        .build())
+                .build());
+        StringDictionary dictionary = new StringDictionary();
+        String vl = dictionary.intern(new String("VL"));
+        String id = dictionary.intern(new String("L"));
+        Resource<LoadAttributes> resource = objectMapper.readerFor(new TypeReference<Resource<LoadAttributes>>() { })
+                .withAttribute(StringDictionary.class, dictionary)
+                .readValue(json);
+
+        // container and bus strings are shared, ids are not
+        assertSame(vl, resource.getAttributes().getVoltageLevelId());
+        assertEquals("L", resource.getId());
+        assertNotSame(id, resource.getId());
+        assertEquals(3, dictionary.size());
+    }
 }
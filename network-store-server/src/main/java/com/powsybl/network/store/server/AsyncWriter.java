@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2019, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.network.store.server;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pipelines write statements using the driver asynchronous API. The number of requests in flight is bounded by a
+ * semaphore shared by all writers, so that {@link #write(Statement)} blocks when the cluster does not keep up.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class AsyncWriter {
+
+    private final Session session;
+
+    private final Semaphore inFlightRequests;
+
+    private final List<ListenableFuture<ResultSet>> futures = new ArrayList<>();
+
+    private int previousCount = 0;
+
+    AsyncWriter(Session session, Semaphore inFlightRequests) {
+        this.session = Objects.requireNonNull(session);
+        this.inFlightRequests = Objects.requireNonNull(inFlightRequests);
+    }
+
+    void write(Statement statement) {
+        inFlightRequests.acquireUninterruptibly();
+        ListenableFuture<ResultSet> future;
+        try {
+            future = session.executeAsync(statement);
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            throw e;
+        }
+        future.addListener(inFlightRequests::release, MoreExecutors.directExecutor());
+        futures.add(future);
+    }
+
+    /**
+     * Write statements once the statements written since the previous call are written, without waiting for them.
+     * The statements are not written if one of them fails.
+     */
+    void writeAfterPrevious(List<? extends Statement> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        ListenableFuture<List<ResultSet>> previous = Futures.allAsList(new ArrayList<>(futures.subList(previousCount, futures.size())));
+        for (Statement statement : statements) {
+            // the permit is taken by the caller, as a driver thread must not block
+            inFlightRequests.acquireUninterruptibly();
+            ListenableFuture<ResultSet> future = Futures.transformAsync(previous, resultSets -> session.executeAsync(statement),
+                                                                        MoreExecutors.directExecutor());
+            future.addListener(inFlightRequests::release, MoreExecutors.directExecutor());
+            futures.add(future);
+        }
+        previousCount = futures.size();
+    }
+
+    /**
+     * Wait for all the statements to be written and rethrow the first failure.
+     */
+    void await() {
+        try {
+            for (ListenableFuture<ResultSet> future : futures) {
+                try {
+                    Uninterruptibles.getUninterruptibly(future);
+                } catch (ExecutionException e) {
+                    Throwables.throwIfUnchecked(e.getCause());
+                    throw new UncheckedExecutionException(e.getCause());
+                }
+            }
+        } finally {
+            futures.clear();
+            previousCount = 0;
+        }
+    }
+}
@@ -6,20 +6,34 @@
  */
 package com.powsybl.network.store.server;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.powsybl.network.store.model.*;
 import io.swagger.annotations.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.powsybl.network.store.model.NetworkStoreApi.APPLICATION_SMILE_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
 
@@ -34,6 +48,21 @@ public class NetworkStoreController {
     @Autowired
     private NetworkStoreRepository repository;
 
+    private static final MediaType SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ObjectMapper smileObjectMapper;
+
+    /**
+     * The Smile mapper is built from the application builder, so that it shares the configuration of the JSON one.
+     */
+    @Autowired
+    public NetworkStoreController(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        smileObjectMapper = objectMapperBuilder.createXmlMapper(false).factory(new SmileFactory()).build();
+    }
+
     private <T extends IdentifiableAttributes> ResponseEntity<TopLevelDocument<T>> get(Supplier<Optional<Resource<T>>> f) {
         return f.get()
                 .map(resource -> ResponseEntity.ok(TopLevelDocument.of(resource)))
@@ -52,6 +81,60 @@ public class NetworkStoreController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    private <T extends IdentifiableAttributes> ResponseEntity<Void> updateAll(Consumer<List<Resource<T>>> f, List<Resource<T>> resources) {
+        f.accept(resources);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * JSON is used by default, Smile only if the client prefers it.
+     */
+    private static boolean acceptsSmile(HttpServletRequest request) {
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (mediaType.isCompatibleWith(SMILE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write resources one by one to the response, so that a whole network collection is never fully loaded in
+     * memory. Resources are fetched lazily from Cassandra thanks to the driver paging. The first page and the count
+     * are read before the status is committed, so that a failing query still results in an error response.
+     */
+    private void streamAll(Supplier<Stream<? extends Resource<?>>> resourcesSupplier, IntSupplier countSupplier,
+                           Integer limit, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // with a zero limit only the total count is requested, no need to load the resources
+        Iterator<? extends Resource<?>> it = limit == null || limit > 0 ? resourcesSupplier.get().iterator() : Collections.emptyIterator();
+        it.hasNext();
+        String totalCount = limit != null ? Integer.toString(countSupplier.getAsInt()) : null;
+
+        boolean smile = acceptsSmile(request);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(smile ? APPLICATION_SMILE_VALUE : APPLICATION_JSON_VALUE);
+        ObjectMapper mapper = smile ? smileObjectMapper : objectMapper;
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            int count = 0;
+            while (it.hasNext() && (limit == null || count < limit)) {
+                generator.writeObject(it.next());
+                count++;
+            }
+            generator.writeEndArray();
+            generator.writeObjectFieldStart("meta");
+            generator.writeStringField("totalCount", totalCount != null ? totalCount : Integer.toString(count));
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
     private <T extends IdentifiableAttributes> ResponseEntity<TopLevelDocument<T>> getAll(Supplier<List<Resource<T>>> resourcesSupplier, Integer limit) {
         List<Resource<T>> resources = resourcesSupplier.get();
         List<Resource<T>> limitedResources;
@@ -68,14 +151,14 @@ public class NetworkStoreController {
 
     // network
 
-    @RequestMapping(method = GET, produces = APPLICATION_JSON_VALUE)
+    @RequestMapping(method = GET, produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get network list", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get network list"))
     public TopLevelDocument<NetworkAttributes> getNetworks() {
         return TopLevelDocument.of(repository.getNetworks());
     }
 
-    @GetMapping(value = "/{networkId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a network by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get network"),
@@ -85,14 +168,21 @@ public class NetworkStoreController {
         return get(() -> repository.getNetwork(id));
     }
 
-    @PostMapping(consumes = APPLICATION_JSON_VALUE)
+    @PostMapping(consumes = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Create networks")
     @ApiResponses(@ApiResponse(code = 201, message = "Successfully create networks"))
     public ResponseEntity<Void> createNetworks(@ApiParam(value = "Network resources", required = true) @RequestBody List<Resource<NetworkAttributes>> networkResources) {
         return createAll(repository::createNetworks, networkResources);
     }
 
-    @DeleteMapping(value = "/{networkId}", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(consumes = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Update networks")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update networks"))
+    public ResponseEntity<Void> updateNetworks(@ApiParam(value = "Network resources", required = true) @RequestBody List<Resource<NetworkAttributes>> networkResources) {
+        return updateAll(repository::updateNetworks, networkResources);
+    }
+
+    @DeleteMapping(value = "/{networkId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Delete a network by id")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully delete network"),
@@ -103,17 +193,69 @@ public class NetworkStoreController {
         return ResponseEntity.ok().build();
     }
 
+    // snapshot
+
+    @GetMapping(value = "/{networkId}/snapshot", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get the network and all its resources", response = TopLevelDocument.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get network snapshot"),
+            @ApiResponse(code = 404, message = "Network has not been found")
+        })
+    public void getSnapshot(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        Optional<Resource<NetworkAttributes>> networkResource = repository.getNetwork(networkId);
+        if (!networkResource.isPresent()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        streamAll(() -> Stream.concat(Stream.of(networkResource.get()), repository.streamNetworkResources(networkId)), null, null, request, response);
+    }
+
+    @PostMapping(value = "/{networkId}/snapshot", consumes = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Create the network and all its resources")
+    @ApiResponses(@ApiResponse(code = 201, message = "Successfully create network snapshot"))
+    public ResponseEntity<Void> createSnapshot(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                               @ApiParam(value = "Network and resources of any type", required = true) @RequestBody List<Resource<IdentifiableAttributes>> resources) {
+        return createAll(r -> repository.createSnapshot(networkId, r), resources);
+    }
+
+    // identifiable
+
+    @GetMapping(value = "/{networkId}/identifiables/{id}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get an identifiable by id, whatever its type", response = TopLevelDocument.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get identifiable"),
+            @ApiResponse(code = 404, message = "Identifiable has not been found")
+        })
+    public ResponseEntity<TopLevelDocument<IdentifiableAttributes>> getIdentifiable(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                                    @ApiParam(value = "Identifiable ID", required = true) @PathVariable("id") String id) {
+        return get(() -> repository.getIdentifiable(networkId, id));
+    }
+
     // substation
 
-    @GetMapping(value = "/{networkId}/substations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/substations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get substations", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get substation list"))
-    public ResponseEntity<TopLevelDocument<SubstationAttributes>> getSubstations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                 @ApiParam(value = "Max number of substation to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getSubstations(networkId), limit);
+    public void getSubstations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                               @ApiParam(value = "Max number of substation to get") @RequestParam(required = false) Integer limit,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamSubstations(networkId), () -> repository.getSubstationCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/substations/{substationId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/substations/{substationId}/content", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get a substation, its voltage levels and all their equipments", response = TopLevelDocument.class)
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully get substation content"))
+    public void getSubstationContent(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                     @ApiParam(value = "Substation ID", required = true) @PathVariable("substationId") String substationId,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.getSubstationContent(networkId, substationId).stream(), null, null, request, response);
+    }
+
+    @GetMapping(value = "/{networkId}/substations/{substationId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a substation by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get substation"),
@@ -132,17 +274,27 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createSubstations(networkId, resource), substationResources);
     }
 
+    @PutMapping(value = "/{networkId}/substations")
+    @ApiOperation(value = "Update substations")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update substations"))
+    public ResponseEntity<Void> updateSubstations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                  @ApiParam(value = "Substation resources", required = true) @RequestBody List<Resource<SubstationAttributes>> substationResources) {
+        return updateAll(resources -> repository.updateSubstations(networkId, resources), substationResources);
+    }
+
     // voltage level
 
-    @GetMapping(value = "/{networkId}/voltage-levels", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get voltage levels", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get voltage level list"))
-    public ResponseEntity<TopLevelDocument<VoltageLevelAttributes>> getVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                     @ApiParam(value = "Max number of voltage level to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getVoltageLevels(networkId), limit);
+    public void getVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                 @ApiParam(value = "Max number of voltage level to get") @RequestParam(required = false) Integer limit,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamVoltageLevels(networkId), () -> repository.getVoltageLevelCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a voltage level by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get voltage level"),
@@ -161,7 +313,15 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createVoltageLevels(networkId, resource), voltageLevelResources);
     }
 
-    @GetMapping(value = "/{networkId}/substations/{substationId}/voltage-levels", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/voltage-levels")
+    @ApiOperation(value = "Update voltage levels")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update voltage levels"))
+    public ResponseEntity<Void> updateVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                    @ApiParam(value = "Voltage level resources", required = true) @RequestBody List<Resource<VoltageLevelAttributes>> voltageLevelResources) {
+        return updateAll(resources -> repository.updateVoltageLevels(networkId, resources), voltageLevelResources);
+    }
+
+    @GetMapping(value = "/{networkId}/substations/{substationId}/voltage-levels", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get voltage levels for a substation", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get voltage level list for a substation"))
     public ResponseEntity<TopLevelDocument<VoltageLevelAttributes>> getVoltageLevels(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -169,7 +329,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevels(networkId, substationId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/busbar-sections", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/busbar-sections", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get busbar sections connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get busbar sections connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<BusbarSectionAttributes>> getVoltageLevelBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -177,7 +337,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelBusbarSections(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/switches", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/switches", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get switches connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get busbar sections connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<SwitchAttributes>> getVoltageLevelSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -185,7 +345,30 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelSwitches(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/generators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/content", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get all the equipments of a voltage level", response = TopLevelDocument.class)
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully get voltage level content"))
+    public void getVoltageLevelContent(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                       @ApiParam(value = "Voltage level ID", required = true) @PathVariable("voltageLevelId") String voltageLevelId,
+                                       HttpServletRequest request,
+                                       HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.getVoltageLevelContent(networkId, voltageLevelId).stream(), null, null, request, response);
+    }
+
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/calculated-buses", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
+    @ApiOperation(value = "Get the calculated buses of a node/breaker voltage level", response = CalculatedBusesAttributes.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully get calculated buses"),
+            @ApiResponse(code = 404, message = "Node/breaker voltage level has not been found")
+        })
+    public ResponseEntity<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                                    @ApiParam(value = "Voltage level ID", required = true) @PathVariable("voltageLevelId") String voltageLevelId) {
+        return repository.getVoltageLevelCalculatedBuses(networkId, voltageLevelId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/generators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get generators connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get generators connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<GeneratorAttributes>> getVoltageLevelGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -193,7 +376,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelGenerators(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/loads", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/loads", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get loads connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get loads connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<LoadAttributes>> getVoltageLevelLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -201,7 +384,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelLoads(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/shunt-compensators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/shunt-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get shunt compensators connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get shunt compensators connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<ShuntCompensatorAttributes>> getVoltageLevelShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -209,7 +392,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelShuntCompensators(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/vsc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/vsc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static VSC converter stations connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get VSC converter stations connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<VscConverterStationAttributes>> getVoltageLevelVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -217,7 +400,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelVscConverterStations(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lcc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lcc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static LCC converter stations connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get LCC converter stations connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<LccConverterStationAttributes>> getVoltageLevelLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -225,7 +408,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelLccConverterStations(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/static-var-compensators", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/static-var-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static var compensators connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get static var compensators connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<StaticVarCompensatorAttributes>> getVoltageLevelStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -233,7 +416,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelStaticVarCompensators(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/2-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/2-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 2 windings transformers connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 2 windings transformers connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -241,7 +424,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelTwoWindingsTransformers(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/3-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/3-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 3 windings transformers connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 3 windings transformers connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -249,7 +432,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelThreeWindingsTransformers(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lines", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get lines connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get lines connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<LineAttributes>> getVoltageLevelLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -257,7 +440,7 @@ public class NetworkStoreController {
         return getAll(() -> repository.getVoltageLevelLines(networkId, voltageLevelId), null);
     }
 
-    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/dangling-lines", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-levels/{voltageLevelId}/dangling-lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get dangling lines connected to voltage level", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get dangling lines connected to the voltage level"))
     public ResponseEntity<TopLevelDocument<DanglingLineAttributes>> getVoltageLevelDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
@@ -275,15 +458,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createGenerators(networkId, resource), generatorResources);
     }
 
-    @GetMapping(value = "/{networkId}/generators", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/generators")
+    @ApiOperation(value = "Update generators")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update generators"))
+    public ResponseEntity<Void> updateGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                 @ApiParam(value = "Generator resources", required = true) @RequestBody List<Resource<GeneratorAttributes>> generatorResources) {
+        return updateAll(resources -> repository.updateGenerators(networkId, resources), generatorResources);
+    }
+
+    @PutMapping(value = "/{networkId}/generators/state")
+    @ApiOperation(value = "Update generator states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update generator states"))
+    public ResponseEntity<Void> updateGeneratorStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                      @ApiParam(value = "Generator states", required = true) @RequestBody List<GeneratorStateAttributes> states) {
+        repository.updateGeneratorStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/generators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get generators", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get generator list"))
-    public ResponseEntity<TopLevelDocument<GeneratorAttributes>> getGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                               @ApiParam(value = "Max number of generator to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getGenerators(networkId), limit);
+    public void getGenerators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                              @ApiParam(value = "Max number of generator to get") @RequestParam(required = false) Integer limit,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamGenerators(networkId), () -> repository.getGeneratorCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/generators/{generatorId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/generators/{generatorId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a generator by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get generator"),
@@ -304,15 +506,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createLoads(networkId, resource), loadResources);
     }
 
-    @GetMapping(value = "/{networkId}/loads", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/loads")
+    @ApiOperation(value = "Update loads")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update loads"))
+    public ResponseEntity<Void> updateLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                            @ApiParam(value = "Load resources", required = true) @RequestBody List<Resource<LoadAttributes>> loadResources) {
+        return updateAll(resources -> repository.updateLoads(networkId, resources), loadResources);
+    }
+
+    @PutMapping(value = "/{networkId}/loads/state")
+    @ApiOperation(value = "Update load states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update load states"))
+    public ResponseEntity<Void> updateLoadStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                 @ApiParam(value = "Load states", required = true) @RequestBody List<InjectionStateAttributes> states) {
+        repository.updateLoadStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/loads", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get loads", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get load list"))
-    public ResponseEntity<TopLevelDocument<LoadAttributes>> getLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                     @ApiParam(value = "Max number of load to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getLoads(networkId), limit);
+    public void getLoads(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                         @ApiParam(value = "Max number of load to get") @RequestParam(required = false) Integer limit,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamLoads(networkId), () -> repository.getLoadCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/loads/{loadId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/loads/{loadId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a load by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get load"),
@@ -333,15 +554,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createShuntCompensators(networkId, resource), shuntResources);
     }
 
-    @GetMapping(value = "/{networkId}/shunt-compensators", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/shunt-compensators")
+    @ApiOperation(value = "Update shunt compensators")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update shunt compensators"))
+    public ResponseEntity<Void> updateShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                        @ApiParam(value = "Shunt compensator resources", required = true) @RequestBody List<Resource<ShuntCompensatorAttributes>> shuntResources) {
+        return updateAll(resources -> repository.updateShuntCompensators(networkId, resources), shuntResources);
+    }
+
+    @PutMapping(value = "/{networkId}/shunt-compensators/state")
+    @ApiOperation(value = "Update shunt compensator states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update shunt compensator states"))
+    public ResponseEntity<Void> updateShuntCompensatorStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                             @ApiParam(value = "Shunt compensator states", required = true) @RequestBody List<InjectionStateAttributes> states) {
+        repository.updateShuntCompensatorStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/shunt-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get shunt compensators", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get shunt compensator list"))
-    public ResponseEntity<TopLevelDocument<ShuntCompensatorAttributes>> getShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                             @ApiParam(value = "Max number of shunt compensator to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getShuntCompensators(networkId), limit);
+    public void getShuntCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                     @ApiParam(value = "Max number of shunt compensator to get") @RequestParam(required = false) Integer limit,
+                                     HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamShuntCompensators(networkId), () -> repository.getShuntCompensatorCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/shunt-compensators/{shuntCompensatorId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/shunt-compensators/{shuntCompensatorId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a shunt compensator by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get shunt compensator"),
@@ -362,15 +602,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createVscConverterStations(networkId, resource), vscConverterStationResources);
     }
 
-    @GetMapping(value = "/{networkId}/vsc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/vsc-converter-stations")
+    @ApiOperation(value = "Update VSC converter stations")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update VSC converter stations"))
+    public ResponseEntity<Void> updateVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                           @ApiParam(value = "VSC converter station resources", required = true) @RequestBody List<Resource<VscConverterStationAttributes>> vscConverterStationResources) {
+        return updateAll(resources -> repository.updateVscConverterStations(networkId, resources), vscConverterStationResources);
+    }
+
+    @PutMapping(value = "/{networkId}/vsc-converter-stations/state")
+    @ApiOperation(value = "Update VSC converter station states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update VSC converter station states"))
+    public ResponseEntity<Void> updateVscConverterStationStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                @ApiParam(value = "VSC converter station states", required = true) @RequestBody List<InjectionStateAttributes> states) {
+        repository.updateVscConverterStationStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/vsc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get VSC converter stations", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get VSC converter stations list"))
-    public ResponseEntity<TopLevelDocument<VscConverterStationAttributes>> getVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                   @ApiParam(value = "Max number of VSC converter stations to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getVscConverterStations(networkId), limit);
+    public void getVscConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                        @ApiParam(value = "Max number of VSC converter stations to get") @RequestParam(required = false) Integer limit,
+                                        HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamVscConverterStations(networkId), () -> repository.getVscConverterStationCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/vsc-converter-stations/{vscConverterStationId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/vsc-converter-stations/{vscConverterStationId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a VSC converter station by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get VSC converter station"),
@@ -391,15 +650,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createLccConverterStations(networkId, resource), lccConverterStationResources);
     }
 
-    @GetMapping(value = "/{networkId}/lcc-converter-stations", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/lcc-converter-stations")
+    @ApiOperation(value = "Update LCC converter stations")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update LCC converter stations"))
+    public ResponseEntity<Void> updateLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                           @ApiParam(value = "LCC converter station resources", required = true) @RequestBody List<Resource<LccConverterStationAttributes>> lccConverterStationResources) {
+        return updateAll(resources -> repository.updateLccConverterStations(networkId, resources), lccConverterStationResources);
+    }
+
+    @PutMapping(value = "/{networkId}/lcc-converter-stations/state")
+    @ApiOperation(value = "Update LCC converter station states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update LCC converter station states"))
+    public ResponseEntity<Void> updateLccConverterStationStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                @ApiParam(value = "LCC converter station states", required = true) @RequestBody List<InjectionStateAttributes> states) {
+        repository.updateLccConverterStationStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/lcc-converter-stations", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get LCC converter stations", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get LCC converter stations list"))
-    public ResponseEntity<TopLevelDocument<LccConverterStationAttributes>> getLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                   @ApiParam(value = "Max number of LCC converter stations to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getLccConverterStations(networkId), limit);
+    public void getLccConverterStations(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                        @ApiParam(value = "Max number of LCC converter stations to get") @RequestParam(required = false) Integer limit,
+                                        HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamLccConverterStations(networkId), () -> repository.getLccConverterStationCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/lcc-converter-stations/{lccConverterStationId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/lcc-converter-stations/{lccConverterStationId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a LCC converter station by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get LCC converter station"),
@@ -420,15 +698,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createStaticVarCompensators(networkId, resource), staticVarCompenstatorResources);
     }
 
-    @GetMapping(value = "/{networkId}/static-var-compensators", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/static-var-compensators")
+    @ApiOperation(value = "Update static var compensators")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update static var compensators"))
+    public ResponseEntity<Void> updateStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                            @ApiParam(value = "Static var compensator resources", required = true) @RequestBody List<Resource<StaticVarCompensatorAttributes>> staticVarCompenstatorResources) {
+        return updateAll(resources -> repository.updateStaticVarCompensators(networkId, resources), staticVarCompenstatorResources);
+    }
+
+    @PutMapping(value = "/{networkId}/static-var-compensators/state")
+    @ApiOperation(value = "Update static var compensator states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update static var compensator states"))
+    public ResponseEntity<Void> updateStaticVarCompensatorStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                 @ApiParam(value = "Static var compensator states", required = true) @RequestBody List<InjectionStateAttributes> states) {
+        repository.updateStaticVarCompensatorStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/static-var-compensators", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get static var compensators", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get static var compensator list"))
-    public ResponseEntity<TopLevelDocument<StaticVarCompensatorAttributes>> getStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                     @ApiParam(value = "Max number of static var compensators to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getStaticVarCompensators(networkId), limit);
+    public void getStaticVarCompensators(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                         @ApiParam(value = "Max number of static var compensators to get") @RequestParam(required = false) Integer limit,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamStaticVarCompensators(networkId), () -> repository.getStaticVarCompensatorCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/static-var-compensators/{staticVarCompensatorId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/static-var-compensators/{staticVarCompensatorId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a static var compensator by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get static var compensator"),
@@ -449,15 +746,25 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createBusbarSections(networkId, resource), busbarSectionResources);
     }
 
-    @GetMapping(value = "/{networkId}/busbar-sections", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/busbar-sections")
+    @ApiOperation(value = "Update busbar sections")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update busbar sections"))
+    public ResponseEntity<Void> updateBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                     @ApiParam(value = "Busbar section resources", required = true) @RequestBody List<Resource<BusbarSectionAttributes>> busbarSectionResources) {
+        return updateAll(resources -> repository.updateBusbarSections(networkId, resources), busbarSectionResources);
+    }
+
+    @GetMapping(value = "/{networkId}/busbar-sections", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get busbar sections", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get busbar section list"))
-    public ResponseEntity<TopLevelDocument<BusbarSectionAttributes>> getBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                       @ApiParam(value = "Max number of busbar section to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getBusbarSections(networkId), limit);
+    public void getBusbarSections(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                  @ApiParam(value = "Max number of busbar section to get") @RequestParam(required = false) Integer limit,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamBusbarSections(networkId), () -> repository.getBusbarSectionCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/busbar-sections/{busbarSectionId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/busbar-sections/{busbarSectionId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a busbar section by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get busbar section"),
@@ -478,15 +785,34 @@ public class NetworkStoreController {
         return createAll(resources -> repository.createSwitches(networkId, resources), switchResources);
     }
 
-    @GetMapping(value = "/{networkId}/switches", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/switches")
+    @ApiOperation(value = "Update switches")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update switches"))
+    public ResponseEntity<Void> updateSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                               @ApiParam(value = "Switch resource", required = true) @RequestBody List<Resource<SwitchAttributes>> switchResources) {
+        return updateAll(resources -> repository.updateSwitches(networkId, resources), switchResources);
+    }
+
+    @PutMapping(value = "/{networkId}/switches/state")
+    @ApiOperation(value = "Update switch states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update switch states"))
+    public ResponseEntity<Void> updateSwitchStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                   @ApiParam(value = "Switch states", required = true) @RequestBody List<SwitchStateAttributes> states) {
+        repository.updateSwitchStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/switches", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get switches", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get switch list"))
-    public ResponseEntity<TopLevelDocument<SwitchAttributes>> getSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                          @ApiParam(value = "Max number of switch to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getSwitches(networkId), limit);
+    public void getSwitches(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                            @ApiParam(value = "Max number of switch to get") @RequestParam(required = false) Integer limit,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamSwitches(networkId), () -> repository.getSwitchCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/switch/{switchId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/switch/{switchId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a switch by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get switch"),
@@ -507,15 +833,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createTwoWindingsTransformers(networkId, resource), twoWindingsTransformerResources);
     }
 
-    @GetMapping(value = "/{networkId}/2-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/2-windings-transformers")
+    @ApiOperation(value = "Update 2 windings transformers")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update 2 windings transformers"))
+    public ResponseEntity<Void> updateTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                              @ApiParam(value = "2 windings transformer resources", required = true) @RequestBody List<Resource<TwoWindingsTransformerAttributes>> twoWindingsTransformerResources) {
+        return updateAll(resources -> repository.updateTwoWindingsTransformers(networkId, resources), twoWindingsTransformerResources);
+    }
+
+    @PutMapping(value = "/{networkId}/2-windings-transformers/state")
+    @ApiOperation(value = "Update 2 windings transformer states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update 2 windings transformer states"))
+    public ResponseEntity<Void> updateTwoWindingsTransformerStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                   @ApiParam(value = "2 windings transformer states", required = true) @RequestBody List<BranchStateAttributes> states) {
+        repository.updateTwoWindingsTransformerStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/2-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 2 windings transformers", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 2 windings transformer list"))
-    public ResponseEntity<TopLevelDocument<TwoWindingsTransformerAttributes>> getTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                         @ApiParam(value = "Max number of 2 windings transformer to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getTwoWindingsTransformers(networkId), limit);
+    public void getTwoWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                           @ApiParam(value = "Max number of 2 windings transformer to get") @RequestParam(required = false) Integer limit,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamTwoWindingsTransformers(networkId), () -> repository.getTwoWindingsTransformerCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/2-windings-transformers/{twoWindingsTransformerId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/2-windings-transformers/{twoWindingsTransformerId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a 2 windings transformer by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get 2 windings transformer"),
@@ -536,15 +881,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createThreeWindingsTransformers(networkId, resource), threeWindingsTransformerResources);
     }
 
-    @GetMapping(value = "/{networkId}/3-windings-transformers", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/3-windings-transformers")
+    @ApiOperation(value = "Update 3 windings transformers")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update 3 windings transformers"))
+    public ResponseEntity<Void> updateThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                @ApiParam(value = "3 windings transformer resources", required = true) @RequestBody List<Resource<ThreeWindingsTransformerAttributes>> threeWindingsTransformerResources) {
+        return updateAll(resources -> repository.updateThreeWindingsTransformers(networkId, resources), threeWindingsTransformerResources);
+    }
+
+    @PutMapping(value = "/{networkId}/3-windings-transformers/state")
+    @ApiOperation(value = "Update 3 windings transformer states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update 3 windings transformer states"))
+    public ResponseEntity<Void> updateThreeWindingsTransformerStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                                     @ApiParam(value = "3 windings transformer states", required = true) @RequestBody List<ThreeWindingsTransformerStateAttributes> states) {
+        repository.updateThreeWindingsTransformerStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/3-windings-transformers", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get 3 windings transformers", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get 3 windings transformer list"))
-    public ResponseEntity<TopLevelDocument<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                             @ApiParam(value = "Max number of 3 windings transformer to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getThreeWindingsTransformers(networkId), limit);
+    public void getThreeWindingsTransformers(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                             @ApiParam(value = "Max number of 3 windings transformer to get") @RequestParam(required = false) Integer limit,
+                                             HttpServletRequest request,
+                                             HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamThreeWindingsTransformers(networkId), () -> repository.getThreeWindingsTransformerCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/3-windings-transformers/{threeWindingsTransformerId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/3-windings-transformers/{threeWindingsTransformerId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a 3 windings transformer by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get 3 windings transformer"),
@@ -565,15 +929,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createLines(networkId, resource), lineResources);
     }
 
-    @GetMapping(value = "/{networkId}/lines", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/lines")
+    @ApiOperation(value = "Update lines")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update lines"))
+    public ResponseEntity<Void> updateLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                            @ApiParam(value = "line resources", required = true) @RequestBody List<Resource<LineAttributes>> lineResources) {
+        return updateAll(resources -> repository.updateLines(networkId, resources), lineResources);
+    }
+
+    @PutMapping(value = "/{networkId}/lines/state")
+    @ApiOperation(value = "Update line states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update line states"))
+    public ResponseEntity<Void> updateLineStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                 @ApiParam(value = "Line states", required = true) @RequestBody List<BranchStateAttributes> states) {
+        repository.updateLineStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get lines", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get line list"))
-    public ResponseEntity<TopLevelDocument<LineAttributes>> getLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                        @ApiParam(value = "Max number of line to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getLines(networkId), limit);
+    public void getLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                         @ApiParam(value = "Max number of line to get") @RequestParam(required = false) Integer limit,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamLines(networkId), () -> repository.getLineCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/lines/{lineId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/lines/{lineId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a line by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get line"),
@@ -594,15 +977,25 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createHvdcLines(networkId, resource), hvdcLineResources);
     }
 
-    @GetMapping(value = "/{networkId}/hvdc-lines", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/hvdc-lines")
+    @ApiOperation(value = "Update hvdc lines")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update hvdc lines"))
+    public ResponseEntity<Void> updateHvdcLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                @ApiParam(value = "Hvdc line resources", required = true) @RequestBody List<Resource<HvdcLineAttributes>> hvdcLineResources) {
+        return updateAll(resources -> repository.updateHvdcLines(networkId, resources), hvdcLineResources);
+    }
+
+    @GetMapping(value = "/{networkId}/hvdc-lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get hvdc lines", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get hvdc line list"))
-    public ResponseEntity<TopLevelDocument<HvdcLineAttributes>> getHvdcLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                             @ApiParam(value = "Max number of hvdc line to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getHvdcLines(networkId), limit);
+    public void getHvdcLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                             @ApiParam(value = "Max number of hvdc line to get") @RequestParam(required = false) Integer limit,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamHvdcLines(networkId), () -> repository.getHvdcLineCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/hvdc-lines/{hvdcLineId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/hvdc-lines/{hvdcLineId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a hvdc line by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get hvdc line"),
@@ -623,15 +1016,34 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createDanglingLines(networkId, resource), danglingLineResources);
     }
 
-    @GetMapping(value = "/{networkId}/dangling-lines", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/dangling-lines")
+    @ApiOperation(value = "Update dangling lines")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update dangling lines"))
+    public ResponseEntity<Void> updateDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                    @ApiParam(value = "Dangling line resources", required = true) @RequestBody List<Resource<DanglingLineAttributes>> danglingLineResources) {
+        return updateAll(resources -> repository.updateDanglingLines(networkId, resources), danglingLineResources);
+    }
+
+    @PutMapping(value = "/{networkId}/dangling-lines/state")
+    @ApiOperation(value = "Update dangling line states")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update dangling line states"))
+    public ResponseEntity<Void> updateDanglingLineStates(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                                         @ApiParam(value = "Dangling line states", required = true) @RequestBody List<InjectionStateAttributes> states) {
+        repository.updateDanglingLineStates(networkId, states);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping(value = "/{networkId}/dangling-lines", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get dangling lines", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get dangling line list"))
-    public ResponseEntity<TopLevelDocument<DanglingLineAttributes>> getDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                     @ApiParam(value = "Max number of dangling line to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getDanglingLines(networkId), limit);
+    public void getDanglingLines(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                 @ApiParam(value = "Max number of dangling line to get") @RequestParam(required = false) Integer limit,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamDanglingLines(networkId), () -> repository.getDanglingLineCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/dangling-lines/{danglingLineId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/dangling-lines/{danglingLineId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a dangling line by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get dangling line"),
@@ -652,15 +1064,25 @@ public class NetworkStoreController {
         return createAll(resource -> repository.createBuses(networkId, busesResources), busesResources);
     }
 
-    @GetMapping(value = "/{networkId}/configured-buses", produces = APPLICATION_JSON_VALUE)
+    @PutMapping(value = "/{networkId}/configured-buses")
+    @ApiOperation(value = "Update buses")
+    @ApiResponses(@ApiResponse(code = 200, message = "Successfully update buses"))
+    public ResponseEntity<Void> updateBuses(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                                            @ApiParam(value = "Buses resources", required = true) @RequestBody List<Resource<ConfiguredBusAttributes>> busesResources) {
+        return updateAll(resources -> repository.updateBuses(networkId, resources), busesResources);
+    }
+
+    @GetMapping(value = "/{networkId}/configured-buses", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get buses", response = TopLevelDocument.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Successfully get buses list"))
-    public ResponseEntity<TopLevelDocument<ConfiguredBusAttributes>> getBuses(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
-                                                                                                         @ApiParam(value = "Max number of buses to get") @RequestParam(required = false) Integer limit) {
-        return getAll(() -> repository.getConfiguredBuses(networkId), limit);
+    public void getBuses(@ApiParam(value = "Network ID", required = true) @PathVariable("networkId") UUID networkId,
+                         @ApiParam(value = "Max number of buses to get") @RequestParam(required = false) Integer limit,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        streamAll(() -> repository.streamConfiguredBuses(networkId), () -> repository.getConfiguredBusCount(networkId), limit, request, response);
     }
 
-    @GetMapping(value = "/{networkId}/configured-buses/{busId}", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/configured-buses/{busId}", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a bus by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get bus"),
@@ -671,7 +1093,7 @@ public class NetworkStoreController {
         return get(() -> repository.getConfiguredBus(networkId, busId));
     }
 
-    @GetMapping(value = "/{networkId}/voltage-level/{voltageLevelId}/configured-buses", produces = APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/{networkId}/voltage-level/{voltageLevelId}/configured-buses", produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE})
     @ApiOperation(value = "Get a bus by id", response = TopLevelDocument.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully get buses"),
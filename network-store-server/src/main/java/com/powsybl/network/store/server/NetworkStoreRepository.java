@@ -7,8 +7,18 @@
 package com.powsybl.network.store.server;
 
 import com.datastax.driver.core.*;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.powsybl.iidm.network.*;
 import com.powsybl.network.store.model.*;
 import org.joda.time.DateTime;
@@ -16,10 +26,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
 import static com.powsybl.network.store.server.CassandraConstants.KEYSPACE_IIDM;
@@ -32,9 +59,26 @@ public class NetworkStoreRepository {
 
     private static final int BATCH_SIZE = 1000;
 
+    private static final int MAX_IN_FLIGHT_REQUESTS = 128;
+
+    private static final int IN_CLAUSE_SIZE = 100;
+
+    private static final String INDEXES_MIGRATION = "indexes";
+
     @Autowired
     private Session session;
 
+    private final Semaphore inFlightRequests = new Semaphore(MAX_IN_FLIGHT_REQUESTS);
+
+    /**
+     * Threads of the read executor wait for permits of the semaphore, so there is no need for more threads than
+     * permits: other reads are queued.
+     */
+    private final ExecutorService readExecutor = Executors.newFixedThreadPool(MAX_IN_FLIGHT_REQUESTS, new ThreadFactoryBuilder()
+            .setNameFormat("network-store-read-%d")
+            .setDaemon(true)
+            .build());
+
     private PreparedStatement psInsertNetwork;
     private PreparedStatement psInsertSubstation;
     private PreparedStatement psInsertVoltageLevel;
@@ -52,6 +96,75 @@ public class NetworkStoreRepository {
     private PreparedStatement psInsertHvdcLine;
     private PreparedStatement psInsertDanglingLine;
     private PreparedStatement psInsertConfiguredBus;
+    private PreparedStatement psUpdateGeneratorState;
+    private PreparedStatement psUpdateLoadState;
+    private PreparedStatement psUpdateShuntCompensatorState;
+    private PreparedStatement psUpdateVscConverterStationState;
+    private PreparedStatement psUpdateLccConverterStationState;
+    private PreparedStatement psUpdateStaticVarCompensatorState;
+    private PreparedStatement psUpdateSwitchState;
+    private PreparedStatement psUpdateTwoWindingsTransformerState;
+    private PreparedStatement psUpdateThreeWindingsTransformerState;
+    private PreparedStatement psUpdateLineState;
+    private PreparedStatement psUpdateDanglingLineState;
+    private PreparedStatement psGetNetworks;
+    private PreparedStatement psGetNetwork;
+    private PreparedStatement psGetSubstations;
+    private PreparedStatement psGetSubstation;
+    private PreparedStatement psGetSubstationVoltageLevels;
+    private PreparedStatement psGetVoltageLevel;
+    private PreparedStatement psGetVoltageLevels;
+    private PreparedStatement psGetGenerator;
+    private PreparedStatement psGetGenerators;
+    private PreparedStatement psGetVoltageLevelGenerators;
+    private PreparedStatement psGetLoad;
+    private PreparedStatement psGetLoads;
+    private PreparedStatement psGetVoltageLevelLoads;
+    private PreparedStatement psGetShuntCompensator;
+    private PreparedStatement psGetShuntCompensators;
+    private PreparedStatement psGetVoltageLevelShuntCompensators;
+    private PreparedStatement psGetVscConverterStation;
+    private PreparedStatement psGetVscConverterStations;
+    private PreparedStatement psGetVoltageLevelVscConverterStations;
+    private PreparedStatement psGetLccConverterStation;
+    private PreparedStatement psGetLccConverterStations;
+    private PreparedStatement psGetVoltageLevelLccConverterStations;
+    private PreparedStatement psGetStaticVarCompensator;
+    private PreparedStatement psGetStaticVarCompensators;
+    private PreparedStatement psGetVoltageLevelStaticVarCompensators;
+    private PreparedStatement psGetBusbarSection;
+    private PreparedStatement psGetBusbarSections;
+    private PreparedStatement psGetVoltageLevelBusbarSections;
+    private PreparedStatement psGetSwitch;
+    private PreparedStatement psGetSwitches;
+    private PreparedStatement psGetVoltageLevelSwitches;
+    private PreparedStatement psGetTwoWindingsTransformer;
+    private PreparedStatement psGetTwoWindingsTransformers;
+    private final Map<Branch.Side, PreparedStatement> psGetVoltageLevelTwoWindingsTransformers = new EnumMap<>(Branch.Side.class);
+    private PreparedStatement psGetThreeWindingsTransformer;
+    private PreparedStatement psGetThreeWindingsTransformers;
+    private final Map<ThreeWindingsTransformer.Side, PreparedStatement> psGetVoltageLevelThreeWindingsTransformers = new EnumMap<>(ThreeWindingsTransformer.Side.class);
+    private PreparedStatement psGetLine;
+    private PreparedStatement psGetLines;
+    private final Map<Branch.Side, PreparedStatement> psGetVoltageLevelLines = new EnumMap<>(Branch.Side.class);
+    private PreparedStatement psGetHvdcLines;
+    private PreparedStatement psGetHvdcLine;
+    private PreparedStatement psGetDanglingLines;
+    private PreparedStatement psGetDanglingLine;
+    private PreparedStatement psGetVoltageLevelDanglingLines;
+    private PreparedStatement psGetConfiguredBus;
+    private PreparedStatement psGetConfiguredBuses;
+    private PreparedStatement psGetVoltageLevelBuses;
+    private final Map<String, PreparedStatement> psCountByTable = new ConcurrentHashMap<>();
+    private final Map<String, PreparedStatement> psInsertIndexByTable = new ConcurrentHashMap<>();
+    private final Map<String, PreparedStatement> psGetIndexedIdsByTable = new ConcurrentHashMap<>();
+    private PreparedStatement psInsertIdentifiable;
+    private PreparedStatement psInsertMigration;
+    private PreparedStatement psGetIdentifiableType;
+    private PreparedStatement psInsertCalculatedBuses;
+    private PreparedStatement psUpdateCalculatedBuses;
+    private PreparedStatement psGetCalculatedBuses;
+    private PreparedStatement psInvalidateCalculatedBuses;
 
     @PostConstruct
     void prepareStatements() {
@@ -80,7 +193,9 @@ public class NetworkStoreRepository {
                 .value("highVoltageLimit", bindMarker())
                 .value("topologyKind", bindMarker())
                 .value("nodeCount", bindMarker())
-                .value("internalConnections", bindMarker()));
+                .value("internalConnections", bindMarker())
+                .value("busVByNode", bindMarker())
+                .value("busAngleByNode", bindMarker()));
         psInsertGenerator = session.prepare(insertInto(KEYSPACE_IIDM, "generator")
                 .value("networkUuid", bindMarker())
                 .value("id", bindMarker())
@@ -182,6 +297,40 @@ public class NetworkStoreRepository {
                 .value("position", bindMarker())
                 .value("bus", bindMarker())
                 .value("connectableBus", bindMarker()));
+        // all the writes of calculated buses are lightweight transactions, so that they are linearizable
+        psInsertCalculatedBuses = session.prepare(insertInto(KEYSPACE_IIDM, "calculatedBuses")
+                .value("networkUuid", bindMarker())
+                .value("voltageLevelId", bindMarker())
+                .value("version", bindMarker())
+                .ifNotExists());
+        psUpdateCalculatedBuses = session.prepare(update(KEYSPACE_IIDM, "calculatedBuses")
+                .with(set("busByNode", bindMarker()))
+                .and(set("busIds", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .onlyIf(eq("version", bindMarker())));
+        psGetCalculatedBuses = session.prepare(select("version", "busByNode", "busIds")
+                .from(KEYSPACE_IIDM, "calculatedBuses")
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker())));
+        psInvalidateCalculatedBuses = session.prepare(update(KEYSPACE_IIDM, "calculatedBuses")
+                .with(set("version", bindMarker()))
+                .and(set("busByNode", null))
+                .and(set("busIds", null))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
+        psInsertIdentifiable = session.prepare(insertInto(KEYSPACE_IIDM, "identifiable")
+                .value("networkUuid", bindMarker())
+                .value("id", bindMarker())
+                .value("type", bindMarker()));
+        psInsertMigration = session.prepare(insertInto(KEYSPACE_IIDM, "migration")
+                .value("name", bindMarker())
+                .value("networkUuid", bindMarker()));
+        psGetIdentifiableType = session.prepare(select("type")
+                .from(KEYSPACE_IIDM, "identifiable")
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker())));
         psInsertBusbarSection = session.prepare(insertInto(KEYSPACE_IIDM, "busbarSection")
                 .value("networkUuid", bindMarker())
                 .value("id", bindMarker())
@@ -343,244 +492,152 @@ public class NetworkStoreRepository {
                 .value("properties", bindMarker())
                 .value("v", bindMarker())
                 .value("angle", bindMarker()));
-    }
-
-    // network
 
-    public List<Resource<NetworkAttributes>> getNetworks() {
-        ResultSet resultSet = session.execute(select("uuid",
-                                                     "id",
-                                                     "properties",
-                                                     "caseDate",
-                                                     "forecastDistance",
-                                                     "sourceFormat")
-                .from(KEYSPACE_IIDM, "network"));
-        List<Resource<NetworkAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.networkBuilder()
-                    .id(row.getString(1))
-                    .attributes(NetworkAttributes.builder()
-                            .uuid(row.getUUID(0))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .caseDate(new DateTime(row.getTimestamp(3)))
-                            .forecastDistance(row.getInt(4))
-                            .sourceFormat(row.getString(5))
-                            .build())
-                    .build());
-        }
-        return resources;
-    }
+        // state updates are conditional so that the state of a missing equipment does not create a partial row
+        psUpdateGeneratorState = session.prepare(update(KEYSPACE_IIDM, "generator")
+                .with(set("p", bindMarker()))
+                .and(set("q", bindMarker()))
+                .and(set("targetP", bindMarker()))
+                .and(set("targetQ", bindMarker()))
+                .and(set("targetV", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    public Optional<Resource<NetworkAttributes>> getNetwork(UUID uuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "properties",
-                                                     "caseDate",
-                                                     "forecastDistance",
-                                                     "sourceFormat")
-                .from(KEYSPACE_IIDM, "network")
-                .where(eq("uuid", uuid)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.networkBuilder()
-                    .id(one.getString(0))
-                    .attributes(NetworkAttributes.builder()
-                            .uuid(uuid)
-                            .properties(one.getMap(1, String.class, String.class))
-                            .caseDate(new DateTime(one.getTimestamp(2)))
-                            .forecastDistance(one.getInt(3))
-                            .sourceFormat(one.getString(4))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
-    }
+        psUpdateLoadState = session.prepare(update(KEYSPACE_IIDM, "load")
+                .with(set("p", bindMarker()))
+                .and(set("q", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    public void createNetworks(List<Resource<NetworkAttributes>> resources) {
-        for (List<Resource<NetworkAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<NetworkAttributes> resource : subresources) {
-                batch.add(psInsertNetwork.bind(
-                        resource.getAttributes().getUuid(),
-                        resource.getId(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getCaseDate().toDate(),
-                        resource.getAttributes().getForecastDistance(),
-                        resource.getAttributes().getSourceFormat()
-                        ));
-            }
-            session.execute(batch);
-        }
-    }
+        psUpdateShuntCompensatorState = session.prepare(update(KEYSPACE_IIDM, "shuntCompensator")
+                .with(set("p", bindMarker()))
+                .and(set("q", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    public void deleteNetwork(UUID uuid) {
-        BatchStatement batch = new BatchStatement();
-        batch.add(delete().from("network").where(eq("uuid", uuid)));
-        batch.add(delete().from("substation").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("voltageLevel").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("busbarSection").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("switch").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("generator").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("load").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("staticVarCompensator").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("vscConverterStation").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("lccConverterStation").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("twoWindingsTransformer").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("threeWindingsTransformer").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("line").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("hvdcLine").where(eq("networkUuid", uuid)));
-        batch.add(delete().from("danglingLine").where(eq("networkUuid", uuid)));
-        session.execute(batch);
-    }
+        psUpdateVscConverterStationState = session.prepare(update(KEYSPACE_IIDM, "vscConverterStation")
+                .with(set("p", bindMarker()))
+                .and(set("q", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    // substation
+        psUpdateLccConverterStationState = session.prepare(update(KEYSPACE_IIDM, "lccConverterStation")
+                .with(set("p", bindMarker()))
+                .and(set("q", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    public List<Resource<SubstationAttributes>> getSubstations(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id", "name", "properties", "country", "tso").from(KEYSPACE_IIDM, "substation")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<SubstationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.substationBuilder()
-                    .id(row.getString(0))
-                    .attributes(SubstationAttributes.builder()
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .country(row.getString(3) != null ? Country.valueOf(row.getString(3)) : null)
-                            .tso(row.getString(4))
-                            .build())
-                    .build());
-        }
-        return resources;
-    }
+        psUpdateStaticVarCompensatorState = session.prepare(update(KEYSPACE_IIDM, "staticVarCompensator")
+                .with(set("p", bindMarker()))
+                .and(set("q", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    public Optional<Resource<SubstationAttributes>> getSubstation(UUID networkUuid, String substationId) {
-        ResultSet resultSet = session.execute(select("name",
-                                                     "properties",
-                                                     "country",
-                                                     "tso")
-                .from(KEYSPACE_IIDM, "substation")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", substationId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.substationBuilder()
-                    .id(substationId)
-                    .attributes(SubstationAttributes.builder()
-                            .name(one.getString(0))
-                            .properties(one.getMap(1, String.class, String.class))
-                            .country(one.getString(2) != null ? Country.valueOf(one.getString(2)) : null)
-                            .tso(one.getString(3))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
-    }
+        psUpdateSwitchState = session.prepare(update(KEYSPACE_IIDM, "switch")
+                .with(set("open", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> resources) {
-        for (List<Resource<SubstationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<SubstationAttributes> resource : subresources) {
-                batch.add(psInsertSubstation.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getCountry() != null ? resource.getAttributes().getCountry().toString() : null,
-                        resource.getAttributes().getTso()
-                        ));
-            }
-            session.execute(batch);
-        }
-    }
+        psUpdateTwoWindingsTransformerState = session.prepare(update(KEYSPACE_IIDM, "twoWindingsTransformer")
+                .with(set("p1", bindMarker()))
+                .and(set("q1", bindMarker()))
+                .and(set("p2", bindMarker()))
+                .and(set("q2", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .ifExists());
 
-    // voltage level
+        psUpdateThreeWindingsTransformerState = session.prepare(update(KEYSPACE_IIDM, "threeWindingsTransformer")
+                .with(set("p1", bindMarker()))
+                .and(set("q1", bindMarker()))
+                .and(set("p2", bindMarker()))
+                .and(set("q2", bindMarker()))
+                .and(set("p3", bindMarker()))
+                .and(set("q3", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .ifExists());
 
-    public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> resources) {
-        for (List<Resource<VoltageLevelAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<VoltageLevelAttributes> resource : subresources) {
-                batch.add(psInsertVoltageLevel.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getSubstationId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNominalV(),
-                        resource.getAttributes().getLowVoltageLimit(),
-                        resource.getAttributes().getHighVoltageLimit(),
-                        resource.getAttributes().getTopologyKind().toString(),
-                        resource.getAttributes().getNodeCount(),
-                        resource.getAttributes().getInternalConnections()
-                        ));
-            }
-            session.execute(batch);
-        }
-    }
+        psUpdateLineState = session.prepare(update(KEYSPACE_IIDM, "line")
+                .with(set("p1", bindMarker()))
+                .and(set("q1", bindMarker()))
+                .and(set("p2", bindMarker()))
+                .and(set("q2", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .ifExists());
 
-    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid, String substationId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "nominalV",
-                                                     "lowVoltageLimit",
-                                                     "highVoltageLimit",
-                                                     "topologyKind",
-                                                     "nodeCount",
-                                                     "internalConnections")
-                .from(KEYSPACE_IIDM, "voltageLevelBySubstation")
-                .where(eq("networkUuid", networkUuid)).and(eq("substationId", substationId)));
-        List<Resource<VoltageLevelAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.voltageLevelBuilder()
-                    .id(row.getString(0))
-                    .attributes(VoltageLevelAttributes.builder()
-                            .substationId(substationId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .nominalV(row.getDouble(3))
-                            .lowVoltageLimit(row.getDouble(4))
-                            .highVoltageLimit(row.getDouble(5))
-                            .topologyKind(TopologyKind.valueOf(row.getString(6)))
-                            .nodeCount(row.getInt(7))
-                            .internalConnections(row.getList(8, InternalConnectionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
-    }
+        psUpdateDanglingLineState = session.prepare(update(KEYSPACE_IIDM, "danglingLine")
+                .with(set("p", bindMarker()))
+                .and(set("q", bindMarker()))
+                .where(eq("networkUuid", bindMarker()))
+                .and(eq("id", bindMarker()))
+                .and(eq("voltageLevelId", bindMarker()))
+                .ifExists());
 
-    public Optional<Resource<VoltageLevelAttributes>> getVoltageLevel(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("substationId",
-                                                     "name",
-                                                     "properties",
-                                                     "nominalV",
-                                                     "lowVoltageLimit",
-                                                     "highVoltageLimit",
-                                                     "topologyKind",
-                                                     "nodeCount",
-                                                     "internalConnections")
+        psGetNetworks = session.prepare(select("uuid",
+                                               "id",
+                                               "properties",
+                                               "caseDate",
+                                               "forecastDistance",
+                                               "sourceFormat")
+                .from(KEYSPACE_IIDM, "network"));
+        psGetNetwork = session.prepare(select("id",
+                                              "properties",
+                                              "caseDate",
+                                              "forecastDistance",
+                                              "sourceFormat")
+                .from(KEYSPACE_IIDM, "network")
+                .where(eq("uuid", bindMarker())));
+        psGetSubstations = session.prepare(select("id", "name", "properties", "country", "tso").from(KEYSPACE_IIDM, "substation")
+                .where(eq("networkUuid", bindMarker())));
+        psGetSubstation = session.prepare(select("name",
+                                                 "properties",
+                                                 "country",
+                                                 "tso")
+                .from(KEYSPACE_IIDM, "substation")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetSubstationVoltageLevels = session.prepare(select("id",
+                                                              "name",
+                                                              "properties",
+                                                              "nominalV",
+                                                              "lowVoltageLimit",
+                                                              "highVoltageLimit",
+                                                              "topologyKind",
+                                                              "nodeCount",
+                                                              "internalConnections",
+                                                              "busVByNode",
+                                                              "busAngleByNode")
                 .from(KEYSPACE_IIDM, "voltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", voltageLevelId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            return Optional.of(Resource.voltageLevelBuilder()
-                    .id(voltageLevelId)
-                    .attributes(VoltageLevelAttributes.builder()
-                            .substationId(one.getString(0))
-                            .name(one.getString(1))
-                            .properties(one.getMap(2, String.class, String.class))
-                            .nominalV(one.getDouble(3))
-                            .lowVoltageLimit(one.getDouble(4))
-                            .highVoltageLimit(one.getDouble(5))
-                            .topologyKind(TopologyKind.valueOf(one.getString(6)))
-                            .nodeCount(one.getInt(7))
-                            .internalConnections(one.getList(8, InternalConnectionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
-    }
-
-    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
+                .where(eq("networkUuid", bindMarker())).and(in("id", bindMarker())));
+        psGetVoltageLevel = session.prepare(select("substationId",
+                                                   "name",
+                                                   "properties",
+                                                   "nominalV",
+                                                   "lowVoltageLimit",
+                                                   "highVoltageLimit",
+                                                   "topologyKind",
+                                                   "nodeCount",
+                                                   "internalConnections",
+                                                   "busVByNode",
+                                                   "busAngleByNode")
+                .from(KEYSPACE_IIDM, "voltageLevel")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetVoltageLevels = session.prepare(select("id",
                 "substationId",
                 "name",
                 "properties",
@@ -589,103 +646,1618 @@ public class NetworkStoreRepository {
                 "highVoltageLimit",
                 "topologyKind",
                 "nodeCount",
-                "internalConnections")
+                "internalConnections",
+                "busVByNode",
+                "busAngleByNode")
                 .from(KEYSPACE_IIDM, "voltageLevel")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<VoltageLevelAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.voltageLevelBuilder()
-                    .id(row.getString(0))
-                    .attributes(VoltageLevelAttributes.builder()
-                            .substationId(row.getString(1))
-                            .name(row.getString(2))
-                            .properties(row.getMap(3, String.class, String.class))
-                            .nominalV(row.getDouble(4))
-                            .lowVoltageLimit(row.getDouble(5))
-                            .highVoltageLimit(row.getDouble(6))
-                            .topologyKind(TopologyKind.valueOf(row.getString(7)))
-                            .nodeCount(row.getInt(8))
-                            .internalConnections(row.getList(9, InternalConnectionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
-    }
-
-    // generator
-
-    public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> resources) {
-        for (List<Resource<GeneratorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
-            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
-            for (Resource<GeneratorAttributes> resource : subresources) {
-                ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
-                batch.add(psInsertGenerator.bind(
-                        networkUuid,
-                        resource.getId(),
-                        resource.getAttributes().getVoltageLevelId(),
-                        resource.getAttributes().getName(),
-                        resource.getAttributes().getProperties(),
-                        resource.getAttributes().getNode(),
-                        resource.getAttributes().getEnergySource().toString(),
-                        resource.getAttributes().getMinP(),
-                        resource.getAttributes().getMaxP(),
-                        resource.getAttributes().isVoltageRegulatorOn(),
-                        resource.getAttributes().getTargetP(),
-                        resource.getAttributes().getTargetQ(),
-                        resource.getAttributes().getTargetV(),
-                        resource.getAttributes().getRatedS(),
-                        resource.getAttributes().getP(),
-                        resource.getAttributes().getQ(),
-                        resource.getAttributes().getPosition(),
-                        reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
-                        reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
-                        resource.getAttributes().getBus(),
-                        resource.getAttributes().getConnectableBus()));
-            }
-            session.execute(batch);
-        }
-    }
-
-    public Optional<Resource<GeneratorAttributes>> getGenerator(UUID networkUuid, String generatorId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "energySource",
-                                                     "minP",
-                                                     "maxP",
-                                                     "voltageRegulatorOn",
-                                                     "targetP",
-                                                     "targetQ",
-                                                     "targetV",
-                                                     "ratedS",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "minMaxReactiveLimits",
-                                                     "reactiveCapabilityCurve",
-                                                     "bus",
-                                                     "connectableBus")
+                .where(eq("networkUuid", bindMarker())));
+        psGetGenerator = session.prepare(select("voltageLevelId",
+                                                "name",
+                                                "properties",
+                                                "node",
+                                                "energySource",
+                                                "minP",
+                                                "maxP",
+                                                "voltageRegulatorOn",
+                                                "targetP",
+                                                "targetQ",
+                                                "targetV",
+                                                "ratedS",
+                                                "p",
+                                                "q",
+                                                "position",
+                                                "minMaxReactiveLimits",
+                                                "reactiveCapabilityCurve",
+                                                "bus",
+                                                "connectableBus")
                 .from(KEYSPACE_IIDM, "generator")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", generatorId)));
-        Row one = resultSet.one();
-        if (one != null) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = one.get(15, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = one.get(16, ReactiveCapabilityCurveAttributes.class);
-            return Optional.of(Resource.generatorBuilder()
-                    .id(generatorId)
-                    .attributes(GeneratorAttributes.builder()
-                            .voltageLevelId(one.getString(0))
-                            .name(one.getString(1))
-                            .properties(one.getMap(2, String.class, String.class))
-                            .node(one.getInt(3))
-                            .energySource(EnergySource.valueOf(one.getString(4)))
-                            .minP(one.getDouble(5))
-                            .maxP(one.getDouble(6))
-                            .voltageRegulatorOn(one.getBool(7))
-                            .targetP(one.getDouble(8))
-                            .targetQ(one.getDouble(9))
-                            .targetV(one.getDouble(10))
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetGenerators = session.prepare(select("id",
+                                                 "voltageLevelId",
+                                                 "name",
+                                                 "properties",
+                                                 "node",
+                                                 "energySource",
+                                                 "minP",
+                                                 "maxP",
+                                                 "voltageRegulatorOn",
+                                                 "targetP",
+                                                 "targetQ",
+                                                 "targetV",
+                                                 "ratedS",
+                                                 "p",
+                                                 "q",
+                                                 "position",
+                                                 "minMaxReactiveLimits",
+                                                 "reactiveCapabilityCurve",
+                                                 "bus",
+                                                 "connectableBus")
+                .from(KEYSPACE_IIDM, "generator")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelGenerators = session.prepare(select("id",
+                                                             "name",
+                                                             "properties",
+                                                             "node",
+                                                             "energySource",
+                                                             "minP",
+                                                             "maxP",
+                                                             "voltageRegulatorOn",
+                                                             "targetP",
+                                                             "targetQ",
+                                                             "targetV",
+                                                             "ratedS",
+                                                             "p",
+                                                             "q",
+                                                             "position",
+                                                             "minMaxReactiveLimits",
+                                                             "reactiveCapabilityCurve",
+                                                             "bus",
+                                                             "connectableBus")
+                .from(KEYSPACE_IIDM, "generator")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetLoad = session.prepare(select("voltageLevelId",
+                                           "name",
+                                           "properties",
+                                           "node",
+                                           "loadType",
+                                           "p0",
+                                           "q0",
+                                           "p",
+                                           "q",
+                                           "position",
+                                           "bus",
+                                           "connectableBus")
+                .from(KEYSPACE_IIDM, "load")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetLoads = session.prepare(select("id",
+                                            "voltageLevelId",
+                                            "name",
+                                            "properties",
+                                            "node",
+                                            "loadType",
+                                            "p0",
+                                            "q0",
+                                            "p",
+                                            "q",
+                                            "position",
+                                            "bus",
+                                            "connectableBus")
+                .from(KEYSPACE_IIDM, "load")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelLoads = session.prepare(select("id",
+                                                        "name",
+                                                        "properties",
+                                                        "node",
+                                                        "loadType",
+                                                        "p0",
+                                                        "q0",
+                                                        "p",
+                                                        "q",
+                                                        "position",
+                                                        "bus",
+                                                        "connectableBus")
+                .from(KEYSPACE_IIDM, "load")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetShuntCompensator = session.prepare(select("voltageLevelId",
+                                                       "name",
+                                                       "properties",
+                                                       "node",
+                                                       "bPerSection",
+                                                       "maximumSectionCount",
+                                                       "currentSectionCount",
+                                                       "p",
+                                                       "q",
+                                                       "position",
+                                                       "bus",
+                                                       "connectableBus")
+                .from(KEYSPACE_IIDM, "shuntCompensator")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetShuntCompensators = session.prepare(select("id",
+                                                        "voltageLevelId",
+                                                        "name",
+                                                        "properties",
+                                                        "node",
+                                                        "bPerSection",
+                                                        "maximumSectionCount",
+                                                        "currentSectionCount",
+                                                        "p",
+                                                        "q",
+                                                        "position",
+                                                        "bus",
+                                                        "connectableBus")
+                .from(KEYSPACE_IIDM, "shuntCompensator")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelShuntCompensators = session.prepare(select("id",
+                                                                    "name",
+                                                                    "properties",
+                                                                    "node",
+                                                                    "bPerSection",
+                                                                    "maximumSectionCount",
+                                                                    "currentSectionCount",
+                                                                    "p",
+                                                                    "q",
+                                                                    "position",
+                                                                    "bus",
+                                                                    "connectableBus")
+                .from(KEYSPACE_IIDM, "shuntCompensator")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetVscConverterStation = session.prepare(select("voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "lossFactor",
+                "voltageRegulatorOn",
+                "reactivePowerSetPoint",
+                "voltageSetPoint",
+                "minMaxReactiveLimits",
+                "reactiveCapabilityCurve",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "vscConverterStation")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetVscConverterStations = session.prepare(select("id",
+                "voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "lossFactor",
+                "voltageRegulatorOn",
+                "reactivePowerSetPoint",
+                "voltageSetPoint",
+                "minMaxReactiveLimits",
+                "reactiveCapabilityCurve",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "vscConverterStation")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelVscConverterStations = session.prepare(select("id",
+                "name",
+                "properties",
+                "node",
+                "lossFactor",
+                "voltageRegulatorOn",
+                "reactivePowerSetPoint",
+                "voltageSetPoint",
+                "minMaxReactiveLimits",
+                "reactiveCapabilityCurve",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "vscConverterStation")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetLccConverterStation = session.prepare(select("voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "powerFactor",
+                "lossFactor",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "lccConverterStation")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetLccConverterStations = session.prepare(select("id",
+                "voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "powerFactor",
+                "lossFactor",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "lccConverterStation")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelLccConverterStations = session.prepare(select("id",
+                "name",
+                "properties",
+                "node",
+                "powerFactor",
+                "lossFactor",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "lccConverterStation")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetStaticVarCompensator = session.prepare(select("voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "bMin",
+                "bMax",
+                "voltageSetPoint",
+                "reactivePowerSetPoint",
+                "regulationMode",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "staticVarCompensator")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetStaticVarCompensators = session.prepare(select("id",
+                "voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "bMin",
+                "bMax",
+                "voltageSetPoint",
+                "reactivePowerSetPoint",
+                "regulationMode",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "staticVarCompensator")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelStaticVarCompensators = session.prepare(select("id",
+                "name",
+                "properties",
+                "node",
+                "bMin",
+                "bMax",
+                "voltageSetPoint",
+                "reactivePowerSetPoint",
+                "regulationMode",
+                "p",
+                "q",
+                "position",
+                "bus",
+                "connectableBus")
+                .from(KEYSPACE_IIDM, "staticVarCompensator")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetBusbarSection = session.prepare(select("voltageLevelId",
+                                                    "name",
+                                                    "properties",
+                                                    "node",
+                                                    "position")
+                .from(KEYSPACE_IIDM, "busbarSection")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetBusbarSections = session.prepare(select("id",
+                                                     "voltageLevelId",
+                                                     "name",
+                                                     "properties",
+                                                     "node",
+                                                     "position")
+                .from(KEYSPACE_IIDM, "busbarSection")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelBusbarSections = session.prepare(select("id",
+                                                                 "name",
+                                                                 "properties",
+                                                                 "node",
+                                                                 "position")
+                .from(KEYSPACE_IIDM, "busbarSection")
+                .where(eq("networkUuid", bindMarker())).and(in("id", bindMarker())));
+        psGetSwitch = session.prepare(select("voltageLevelId",
+                                             "name",
+                                             "properties",
+                                             "kind",
+                                             "node1",
+                                             "node2",
+                                             "open",
+                                             "retained",
+                                             "fictitious")
+                .from(KEYSPACE_IIDM, "switch")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetSwitches = session.prepare(select("id",
+                                               "voltageLevelId",
+                                               "name",
+                                               "properties",
+                                               "kind",
+                                               "node1",
+                                               "node2",
+                                               "open",
+                                               "retained",
+                                               "fictitious")
+                .from(KEYSPACE_IIDM, "switch")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelSwitches = session.prepare(select("id",
+                                                           "name",
+                                                           "properties",
+                                                           "kind",
+                                                           "node1",
+                                                           "node2",
+                                                           "open",
+                                                           "retained",
+                                                           "fictitious")
+                .from(KEYSPACE_IIDM, "switch")
+                .where(eq("networkUuid", bindMarker())).and(in("id", bindMarker())));
+        psGetTwoWindingsTransformer = session.prepare(select("voltageLevelId1",
+                                                             "voltageLevelId2",
+                                                             "name",
+                                                             "properties",
+                                                             "node1",
+                                                             "node2",
+                                                             "r",
+                                                             "x",
+                                                             "g",
+                                                             "b",
+                                                             "ratedU1",
+                                                             "ratedU2",
+                                                             "p1",
+                                                             "q1",
+                                                             "p2",
+                                                             "q2",
+                                                             "position1",
+                                                             "position2",
+                                                             "phaseTapChanger",
+                                                             "ratioTapChanger",
+                                                             "bus1",
+                                                             "bus2",
+                                                             "connectableBus1",
+                                                             "connectableBus2")
+                .from(KEYSPACE_IIDM, "twoWindingsTransformer")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetTwoWindingsTransformers = session.prepare(select("id",
+                                                              "voltageLevelId1",
+                                                              "voltageLevelId2",
+                                                              "name",
+                                                              "properties",
+                                                              "node1",
+                                                              "node2",
+                                                              "r",
+                                                              "x",
+                                                              "g",
+                                                              "b",
+                                                              "ratedU1",
+                                                              "ratedU2",
+                                                              "p1",
+                                                              "q1",
+                                                              "p2",
+                                                              "q2",
+                                                              "position1",
+                                                              "position2",
+                                                              "phaseTapChanger",
+                                                              "ratioTapChanger",
+                                                              "bus1",
+                                                              "bus2",
+                                                              "connectableBus1",
+                                                              "connectableBus2")
+                .from(KEYSPACE_IIDM, "twoWindingsTransformer")
+                .where(eq("networkUuid", bindMarker())));
+        for (Branch.Side side : Branch.Side.values()) {
+            psGetVoltageLevelTwoWindingsTransformers.put(side, session.prepare(select("id",
+                                                                                      "voltageLevelId" + (side == Branch.Side.ONE ? 2 : 1),
+                                                                                      "name",
+                                                                                      "properties",
+                                                                                      "node1",
+                                                                                      "node2",
+                                                                                      "r",
+                                                                                      "x",
+                                                                                      "g",
+                                                                                      "b",
+                                                                                      "ratedU1",
+                                                                                      "ratedU2",
+                                                                                      "p1",
+                                                                                      "q1",
+                                                                                      "p2",
+                                                                                      "q2",
+                                                                                      "position1",
+                                                                                      "position2",
+                                                                                      "phaseTapChanger",
+                                                                                      "ratioTapChanger",
+                                                                                      "bus1",
+                                                                                      "bus2",
+                                                                                      "connectableBus1",
+                                                                                      "connectableBus2")
+                    .from(KEYSPACE_IIDM, "twoWindingsTransformer")
+                    .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker()))));
+        }
+        psGetThreeWindingsTransformer = session.prepare(select("name",
+                "properties",
+                "ratedU0",
+                "voltageLevelId1",
+                "node1",
+                "r1",
+                "x1",
+                "g1",
+                "b1",
+                "ratedU1",
+                "p1",
+                "q1",
+                "phaseTapChanger1",
+                "ratioTapChanger1",
+                "voltageLevelId2",
+                "node2",
+                "r2",
+                "x2",
+                "g2",
+                "b2",
+                "ratedU2",
+                "p2",
+                "q2",
+                "phaseTapChanger1",
+                "ratioTapChanger1",
+                "voltageLevelId3",
+                "node3",
+                "r3",
+                "x3",
+                "g3",
+                "b3",
+                "ratedU3",
+                "p3",
+                "q3",
+                "phaseTapChanger1",
+                "ratioTapChanger1",
+                "position1",
+                "position2",
+                "position3",
+                "currentLimits1",
+                "currentLimits2",
+                "currentLimits3",
+                "bus1",
+                "connectableBus1",
+                "bus2",
+                "connectableBus2",
+                "bus3",
+                "connectableBus3")
+                .from(KEYSPACE_IIDM, "threeWindingsTransformer")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetThreeWindingsTransformers = session.prepare(select("id",
+                "name",
+                "properties",
+                "ratedU0",
+                "voltageLevelId1",
+                "node1",
+                "r1",
+                "x1",
+                "g1",
+                "b1",
+                "ratedU1",
+                "p1",
+                "q1",
+                "phaseTapChanger1",
+                "ratioTapChanger1",
+                "voltageLevelId2",
+                "node2",
+                "r2",
+                "x2",
+                "g2",
+                "b2",
+                "ratedU2",
+                "p2",
+                "q2",
+                "phaseTapChanger2",
+                "ratioTapChanger2",
+                "voltageLevelId3",
+                "node3",
+                "r3",
+                "x3",
+                "g3",
+                "b3",
+                "ratedU3",
+                "p3",
+                "q3",
+                "phaseTapChanger3",
+                "ratioTapChanger3",
+                "position1",
+                "position2",
+                "position3",
+                "currentLimits1",
+                "currentLimits2",
+                "currentLimits3",
+                "bus1",
+                "connectableBus1",
+                "bus2",
+                "connectableBus2",
+                "bus3",
+                "connectableBus3")
+                .from(KEYSPACE_IIDM, "threeWindingsTransformer")
+                .where(eq("networkUuid", bindMarker())));
+        for (ThreeWindingsTransformer.Side side : ThreeWindingsTransformer.Side.values()) {
+            psGetVoltageLevelThreeWindingsTransformers.put(side, session.prepare(select("id",
+                    "voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 2 : 1),
+                    "voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 3 : (side == ThreeWindingsTransformer.Side.TWO ? 3 : 2)),
+                    "name",
+                    "properties",
+                    "ratedU0",
+                    "node1",
+                    "r1",
+                    "x1",
+                    "g1",
+                    "b1",
+                    "ratedU1",
+                    "p1",
+                    "q1",
+                    "phaseTapChanger1",
+                    "ratioTapChanger1",
+                    "node2",
+                    "r2",
+                    "x2",
+                    "g2",
+                    "b2",
+                    "ratedU2",
+                    "p2",
+                    "q2",
+                    "phaseTapChanger2",
+                    "ratioTapChanger2",
+                    "node3",
+                    "r3",
+                    "x3",
+                    "g3",
+                    "b3",
+                    "ratedU3",
+                    "p3",
+                    "q3",
+                    "phaseTapChanger3",
+                    "ratioTapChanger3",
+                    "position1",
+                    "position2",
+                    "position3",
+                    "currentLimits1",
+                    "currentLimits2",
+                    "currentLimits3",
+                    "bus1",
+                    "connectableBus1",
+                    "bus2",
+                    "connectableBus2",
+                    "bus3",
+                    "connectableBus3")
+                    .from(KEYSPACE_IIDM, "threeWindingsTransformer")
+                    .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker()))));
+        }
+        psGetLine = session.prepare(select("voltageLevelId1",
+                                           "voltageLevelId2",
+                                           "name",
+                                           "properties",
+                                           "node1",
+                                           "node2",
+                                           "r",
+                                           "x",
+                                           "g1",
+                                           "b1",
+                                           "g1",
+                                           "b1",
+                                           "p1",
+                                           "q1",
+                                           "p2",
+                                           "q2",
+                                           "position1",
+                                           "position2")
+                .from(KEYSPACE_IIDM, "line")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetLines = session.prepare(select("id",
+                                            "voltageLevelId1",
+                                            "voltageLevelId2",
+                                            "name",
+                                            "properties",
+                                            "node1",
+                                            "node2",
+                                            "r",
+                                            "x",
+                                            "g1",
+                                            "b1",
+                                            "g2",
+                                            "b2",
+                                            "p1",
+                                            "q1",
+                                            "p2",
+                                            "q2",
+                                            "position1",
+                                            "position2")
+                .from(KEYSPACE_IIDM, "line")
+                .where(eq("networkUuid", bindMarker())));
+        for (Branch.Side side : Branch.Side.values()) {
+            psGetVoltageLevelLines.put(side, session.prepare(select("id",
+                                                                    "voltageLevelId" + (side == Branch.Side.ONE ? 2 : 1),
+                                                                    "name",
+                                                                    "properties",
+                                                                    "node1",
+                                                                    "node2",
+                                                                    "r",
+                                                                    "x",
+                                                                    "g1",
+                                                                    "b1",
+                                                                    "g2",
+                                                                    "b2",
+                                                                    "p1",
+                                                                    "q1",
+                                                                    "p2",
+                                                                    "q2",
+                                                                    "position1",
+                                                                    "position2")
+                    .from(KEYSPACE_IIDM, "line")
+                    .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker()))));
+        }
+        psGetHvdcLines = session.prepare(select("id",
+                "name",
+                "properties",
+                "r",
+                "convertersMode",
+                "nominalV",
+                "activePowerSetpoint",
+                "maxP",
+                "converterStationId1",
+                "converterStationId2")
+                .from(KEYSPACE_IIDM, "hvdcLine")
+                .where(eq("networkUuid", bindMarker())));
+        psGetHvdcLine = session.prepare(select("name",
+                "properties",
+                "r",
+                "convertersMode",
+                "nominalV",
+                "activePowerSetpoint",
+                "maxP",
+                "converterStationId1",
+                "converterStationId2")
+                .from(KEYSPACE_IIDM, "hvdcLine")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetDanglingLines = session.prepare(select("id",
+                "voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "p0",
+                "q0",
+                "r",
+                "x",
+                "g",
+                "b",
+                "ucteXNodeCode",
+                "currentLimits",
+                "p",
+                "q",
+                "position")
+                .from(KEYSPACE_IIDM, "danglingLine")
+                .where(eq("networkUuid", bindMarker())));
+        psGetDanglingLine = session.prepare(select("voltageLevelId",
+                "name",
+                "properties",
+                "node",
+                "p0",
+                "q0",
+                "r",
+                "x",
+                "g",
+                "b",
+                "ucteXNodeCode",
+                "currentLimits",
+                "p",
+                "q",
+                "position")
+                .from(KEYSPACE_IIDM, "danglingLine")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetVoltageLevelDanglingLines = session.prepare(select("id",
+                "name",
+                "properties",
+                "node",
+                "p0",
+                "q0",
+                "r",
+                "x",
+                "g",
+                "b",
+                "ucteXNodeCode",
+                "currentLimits",
+                "p",
+                "q",
+                "position")
+                .from(KEYSPACE_IIDM, "danglingLine")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetConfiguredBus = session.prepare(select("voltageLevelId",
+                "name",
+                "properties",
+                "v",
+                "angle")
+                .from(KEYSPACE_IIDM, "configuredBus")
+                .where(eq("networkUuid", bindMarker())).and(eq("id", bindMarker())));
+        psGetConfiguredBuses = session.prepare(select("id",
+                "name",
+                "voltageLevelId",
+                "v",
+                "angle",
+                "properties")
+                .from(KEYSPACE_IIDM, "configuredBus")
+                .where(eq("networkUuid", bindMarker())));
+        psGetVoltageLevelBuses = session.prepare(select("id",
+                "name",
+                "v",
+                "angle",
+                "properties")
+                .from(KEYSPACE_IIDM, "configuredBus")
+                .where(eq("networkUuid", bindMarker())).and(in("id", bindMarker())));
+    }
+
+    // network
+
+    public List<Resource<NetworkAttributes>> getNetworks() {
+        ResultSet resultSet = session.execute(psGetNetworks.bind());
+        List<Resource<NetworkAttributes>> resources = new ArrayList<>();
+        for (Row row : resultSet) {
+            resources.add(Resource.networkBuilder()
+                    .id(row.getString(1))
+                    .attributes(NetworkAttributes.builder()
+                            .uuid(row.getUUID(0))
+                            .properties(row.getMap(2, String.class, String.class))
+                            .caseDate(new DateTime(row.getTimestamp(3)))
+                            .forecastDistance(row.getInt(4))
+                            .sourceFormat(row.getString(5))
+                            .build())
+                    .build());
+        }
+        return resources;
+    }
+
+    public Optional<Resource<NetworkAttributes>> getNetwork(UUID uuid) {
+        ResultSet resultSet = session.execute(psGetNetwork.bind(uuid));
+        Row one = resultSet.one();
+        if (one != null) {
+            return Optional.of(Resource.networkBuilder()
+                    .id(one.getString(0))
+                    .attributes(NetworkAttributes.builder()
+                            .uuid(uuid)
+                            .properties(one.getMap(1, String.class, String.class))
+                            .caseDate(new DateTime(one.getTimestamp(2)))
+                            .forecastDistance(one.getInt(3))
+                            .sourceFormat(one.getString(4))
+                            .build())
+                    .build());
+        }
+        return Optional.empty();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        readExecutor.shutdown();
+    }
+
+    private int getCount(String table, UUID networkUuid) {
+        PreparedStatement psCount = psCountByTable.computeIfAbsent(table, t -> session.prepare(select().countAll()
+                .from(KEYSPACE_IIDM, t)
+                .where(eq("networkUuid", bindMarker()))));
+        Row one = session.execute(psCount.bind(networkUuid)).one();
+        return (int) one.getLong(0);
+    }
+
+    private AsyncWriter newWriter() {
+        return new AsyncWriter(session, inFlightRequests);
+    }
+
+    /**
+     * Identifiables of all types are also indexed by id in a global table to be found without knowing their type.
+     */
+    private void writeIdentifiables(AsyncWriter writer, UUID networkUuid, List<? extends Resource<?>> resources) {
+        BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+        for (Resource<?> resource : resources) {
+            batch.add(psInsertIdentifiable.bind(networkUuid, resource.getId(), resource.getType().name()));
+        }
+        writer.write(batch);
+    }
+
+    private PreparedStatement getInsertIndexStatement(String table, String containerColumn) {
+        return psInsertIndexByTable.computeIfAbsent(table, t -> session.prepare(insertInto(KEYSPACE_IIDM, t)
+                .value("networkUuid", bindMarker())
+                .value(containerColumn, bindMarker())
+                .value("id", bindMarker())));
+    }
+
+    /**
+     * Resources are indexed by container in key only tables, written with the same writer as the resources themselves.
+     */
+    private <T extends IdentifiableAttributes> void writeIndex(AsyncWriter writer, String table, String containerColumn, UUID networkUuid,
+                                                              List<Resource<T>> resources, Function<T, String> containerId) {
+        PreparedStatement psInsertIndex = getInsertIndexStatement(table, containerColumn);
+        BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+        for (Resource<T> resource : resources) {
+            String id = containerId.apply(resource.getAttributes());
+            if (id != null) {
+                batch.add(psInsertIndex.bind(networkUuid, id, resource.getId()));
+            }
+        }
+        if (batch.size() > 0) {
+            writer.write(batch);
+        }
+    }
+
+    /**
+     * Index tables replace materialized views of previous schema versions and, like the identifiable table, are not
+     * filled for networks written before the migration, so the indexes of these networks are rebuilt from their base
+     * tables. A network is marked as migrated in the migration table once its indexes are written, so that it is
+     * rebuilt only once. Writes being upserts, rebuilding again a network whose migration was interrupted is harmless.
+     */
+    public void backfillIndexes() {
+        Set<UUID> migratedNetworkUuids = new HashSet<>();
+        for (Row row : session.execute(select("networkUuid").from(KEYSPACE_IIDM, "migration").where(eq("name", INDEXES_MIGRATION)))) {
+            migratedNetworkUuids.add(row.getUUID(0));
+        }
+        for (Row networkRow : session.execute(select("uuid").from(KEYSPACE_IIDM, "network"))) {
+            UUID networkUuid = networkRow.getUUID(0);
+            if (migratedNetworkUuids.contains(networkUuid)) {
+                continue;
+            }
+            AsyncWriter writer = newWriter();
+            backfillIdentifiables(writer, networkUuid);
+            backfillIndex(writer, networkUuid, "voltageLevelBySubstation", "substationId", "voltageLevel", "substationId");
+            backfillIndex(writer, networkUuid, "generatorByVoltageLevel", "voltageLevelId", "generator", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "loadByVoltageLevel", "voltageLevelId", "load", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "shuntCompensatorByVoltageLevel", "voltageLevelId", "shuntCompensator", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "vscConverterStationByVoltageLevel", "voltageLevelId", "vscConverterStation", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "lccConverterStationByVoltageLevel", "voltageLevelId", "lccConverterStation", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "staticVarCompensatorByVoltageLevel", "voltageLevelId", "staticVarCompensator", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "busbarSectionByVoltageLevel", "voltageLevelId", "busbarSection", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "switchByVoltageLevel", "voltageLevelId", "switch", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "twoWindingsTransformerByVoltageLevel1", "voltageLevelId", "twoWindingsTransformer", "voltageLevelId1");
+            backfillIndex(writer, networkUuid, "twoWindingsTransformerByVoltageLevel2", "voltageLevelId", "twoWindingsTransformer", "voltageLevelId2");
+            backfillIndex(writer, networkUuid, "threeWindingsTransformerByVoltageLevel1", "voltageLevelId", "threeWindingsTransformer", "voltageLevelId1");
+            backfillIndex(writer, networkUuid, "threeWindingsTransformerByVoltageLevel2", "voltageLevelId", "threeWindingsTransformer", "voltageLevelId2");
+            backfillIndex(writer, networkUuid, "threeWindingsTransformerByVoltageLevel3", "voltageLevelId", "threeWindingsTransformer", "voltageLevelId3");
+            backfillIndex(writer, networkUuid, "lineByVoltageLevel1", "voltageLevelId", "line", "voltageLevelId1");
+            backfillIndex(writer, networkUuid, "lineByVoltageLevel2", "voltageLevelId", "line", "voltageLevelId2");
+            backfillIndex(writer, networkUuid, "danglingLineByVoltageLevel", "voltageLevelId", "danglingLine", "voltageLevelId");
+            backfillIndex(writer, networkUuid, "configuredBusByVoltageLevel", "voltageLevelId", "configuredBus", "voltageLevelId");
+            writer.await();
+            session.execute(psInsertMigration.bind(INDEXES_MIGRATION, networkUuid));
+        }
+    }
+
+    private void backfillIdentifiables(AsyncWriter writer, UUID networkUuid) {
+        backfillIdentifiables(writer, networkUuid, "substation", ResourceType.SUBSTATION);
+        backfillIdentifiables(writer, networkUuid, "voltageLevel", ResourceType.VOLTAGE_LEVEL);
+        backfillIdentifiables(writer, networkUuid, "load", ResourceType.LOAD);
+        backfillIdentifiables(writer, networkUuid, "generator", ResourceType.GENERATOR);
+        backfillIdentifiables(writer, networkUuid, "shuntCompensator", ResourceType.SHUNT_COMPENSATOR);
+        backfillIdentifiables(writer, networkUuid, "vscConverterStation", ResourceType.VSC_CONVERTER_STATION);
+        backfillIdentifiables(writer, networkUuid, "lccConverterStation", ResourceType.LCC_CONVERTER_STATION);
+        backfillIdentifiables(writer, networkUuid, "staticVarCompensator", ResourceType.STATIC_VAR_COMPENSATOR);
+        backfillIdentifiables(writer, networkUuid, "busbarSection", ResourceType.BUSBAR_SECTION);
+        backfillIdentifiables(writer, networkUuid, "switch", ResourceType.SWITCH);
+        backfillIdentifiables(writer, networkUuid, "twoWindingsTransformer", ResourceType.TWO_WINDINGS_TRANSFORMER);
+        backfillIdentifiables(writer, networkUuid, "threeWindingsTransformer", ResourceType.THREE_WINDINGS_TRANSFORMER);
+        backfillIdentifiables(writer, networkUuid, "line", ResourceType.LINE);
+        backfillIdentifiables(writer, networkUuid, "hvdcLine", ResourceType.HVDC_LINE);
+        backfillIdentifiables(writer, networkUuid, "danglingLine", ResourceType.DANGLING_LINE);
+        backfillIdentifiables(writer, networkUuid, "configuredBus", ResourceType.CONFIGURED_BUS);
+    }
+
+    private void backfillIdentifiables(AsyncWriter writer, UUID networkUuid, String table, ResourceType type) {
+        for (Row row : session.execute(select("id").from(KEYSPACE_IIDM, table).where(eq("networkUuid", networkUuid)))) {
+            writer.write(psInsertIdentifiable.bind(networkUuid, row.getString(0), type.name()));
+        }
+    }
+
+    private void backfillIndex(AsyncWriter writer, UUID networkUuid, String indexTable, String containerColumn, String table, String column) {
+        PreparedStatement psInsertIndex = getInsertIndexStatement(indexTable, containerColumn);
+        for (Row row : session.execute(select("id", column).from(KEYSPACE_IIDM, table).where(eq("networkUuid", networkUuid)))) {
+            String containerId = row.getString(1);
+            if (containerId != null) {
+                writer.write(psInsertIndex.bind(networkUuid, containerId, row.getString(0)));
+            }
+        }
+    }
+
+    /**
+     * Reads are sent asynchronously too, and take a permit of the same semaphore as the writers so that a large
+     * fan-out does not flood the cluster.
+     */
+    private ListenableFuture<ResultSet> executeAsync(Statement statement) {
+        inFlightRequests.acquireUninterruptibly();
+        ResultSetFuture future;
+        try {
+            future = session.executeAsync(statement);
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            throw e;
+        }
+        future.addListener(inFlightRequests::release, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    /**
+     * Rows of the resources of a container: ids are read from the index table, then rows are fetched from the base
+     * table by chunks of ids, queries being sent in parallel. Cassandra does not allow an IN restriction on a
+     * clustering column when a non frozen user type column is selected, so rows of the tables having such columns
+     * are fetched one id at a time. Nothing blocks the caller, so that queries of several containers or equipment
+     * types can be sent before waiting for the first result. Rows are fetched from the read executor and not from a
+     * driver thread because waiting for a permit may block.
+     */
+    private ListenableFuture<Iterable<Row>> getContainerRowsAsync(String indexTable, String containerColumn, PreparedStatement psGetRows,
+                                                                  UUID networkUuid, String containerId) {
+        PreparedStatement psGetIndexedIds = psGetIndexedIdsByTable.computeIfAbsent(indexTable, t -> session.prepare(select("id")
+                .from(KEYSPACE_IIDM, t)
+                .where(eq("networkUuid", bindMarker())).and(eq(containerColumn, bindMarker()))));
+        // index rows are small enough to be read in a single page, so that iterating them in the callback never
+        // triggers a synchronous fetch
+        Statement statement = psGetIndexedIds.bind(networkUuid, containerId).setFetchSize(Integer.MAX_VALUE);
+        return Futures.transformAsync(executeAsync(statement), indexRows -> {
+            List<String> ids = new ArrayList<>();
+            for (Row row : indexRows) {
+                ids.add(row.getString(0));
+            }
+            List<ListenableFuture<ResultSet>> futures = new ArrayList<>();
+            if (psGetRows.getVariables().getType(1).isCollection()) {
+                for (List<String> idsChunk : Lists.partition(ids, IN_CLAUSE_SIZE)) {
+                    futures.add(executeAsync(psGetRows.bind(networkUuid, idsChunk)));
+                }
+            } else {
+                for (String id : ids) {
+                    futures.add(executeAsync(psGetRows.bind(networkUuid, id)));
+                }
+            }
+            return Futures.transform(Futures.allAsList(futures), resultSets -> Iterables.concat(resultSets), MoreExecutors.directExecutor());
+        }, readExecutor);
+    }
+
+    private static <T> T await(ListenableFuture<T> future) {
+        try {
+            return Uninterruptibles.getUninterruptibly(future);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    public void createNetworks(List<Resource<NetworkAttributes>> resources) {
+        AsyncWriter writer = newWriter();
+        writeNetworks(writer, resources);
+        // new networks are written with their indexes, so they never have to be migrated
+        for (Resource<NetworkAttributes> resource : resources) {
+            writer.write(psInsertMigration.bind(INDEXES_MIGRATION, resource.getAttributes().getUuid()));
+        }
+        writer.await();
+    }
+
+    private void writeNetworks(AsyncWriter writer, List<Resource<NetworkAttributes>> resources) {
+        // each network is its own partition, so no batch here
+        for (Resource<NetworkAttributes> resource : resources) {
+            writer.write(psInsertNetwork.bind(
+                    resource.getAttributes().getUuid(),
+                    resource.getId(),
+                    resource.getAttributes().getProperties(),
+                    resource.getAttributes().getCaseDate().toDate(),
+                    resource.getAttributes().getForecastDistance(),
+                    resource.getAttributes().getSourceFormat()
+                    ));
+        }
+    }
+
+    public void updateNetworks(List<Resource<NetworkAttributes>> resources) {
+        // in Cassandra an insert of an existing primary key overwrites the row
+        AsyncWriter writer = newWriter();
+        writeNetworks(writer, resources);
+        writer.await();
+    }
+
+    public void deleteNetwork(UUID uuid) {
+        BatchStatement batch = new BatchStatement();
+        batch.add(delete().from("network").where(eq("uuid", uuid)));
+        batch.add(delete().from("substation").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("voltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("busbarSection").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("switch").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("generator").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("load").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("staticVarCompensator").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("vscConverterStation").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("lccConverterStation").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("twoWindingsTransformer").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("threeWindingsTransformer").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("line").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("hvdcLine").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("danglingLine").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("shuntCompensator").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("configuredBus").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("identifiable").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("calculatedBuses").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("voltageLevelBySubstation").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("generatorByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("loadByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("shuntCompensatorByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("vscConverterStationByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("lccConverterStationByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("staticVarCompensatorByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("busbarSectionByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("switchByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("twoWindingsTransformerByVoltageLevel1").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("twoWindingsTransformerByVoltageLevel2").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("threeWindingsTransformerByVoltageLevel1").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("threeWindingsTransformerByVoltageLevel2").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("threeWindingsTransformerByVoltageLevel3").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("lineByVoltageLevel1").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("lineByVoltageLevel2").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("danglingLineByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("configuredBusByVoltageLevel").where(eq("networkUuid", uuid)));
+        batch.add(delete().from("migration").where(eq("name", INDEXES_MIGRATION)).and(eq("networkUuid", uuid)));
+        session.execute(batch);
+    }
+
+    // snapshot
+
+    /**
+     * All the resources of a network, except the network itself. Collections are queried one after the other while
+     * the stream is consumed. Iterators are used instead of flatMap which would buffer a whole collection.
+     */
+    public Stream<Resource<? extends IdentifiableAttributes>> streamNetworkResources(UUID networkUuid) {
+        List<Supplier<Iterator<? extends Resource<? extends IdentifiableAttributes>>>> iteratorSuppliers = new ArrayList<>();
+        iteratorSuppliers.add(() -> streamSubstations(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamVoltageLevels(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamLoads(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamGenerators(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamShuntCompensators(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamVscConverterStations(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamLccConverterStations(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamStaticVarCompensators(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamBusbarSections(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamSwitches(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamTwoWindingsTransformers(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamThreeWindingsTransformers(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamLines(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamHvdcLines(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamDanglingLines(networkUuid).iterator());
+        iteratorSuppliers.add(() -> streamConfiguredBuses(networkUuid).iterator());
+        Iterator<Resource<? extends IdentifiableAttributes>> it = Iterators.concat(Iterators.transform(iteratorSuppliers.iterator(), Supplier::get));
+        return Streams.stream(it);
+    }
+
+    // identifiable
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Resource<IdentifiableAttributes>> cast(Optional<? extends Resource<? extends IdentifiableAttributes>> resource) {
+        return (Optional<Resource<IdentifiableAttributes>>) (Optional<?>) resource;
+    }
+
+    /**
+     * Find an identifiable whatever its type, using the global id table.
+     */
+    public Optional<Resource<IdentifiableAttributes>> getIdentifiable(UUID networkUuid, String id) {
+        Row one = session.execute(psGetIdentifiableType.bind(networkUuid, id)).one();
+        if (one == null) {
+            return Optional.empty();
+        }
+        ResourceType type = ResourceType.valueOf(one.getString(0));
+        switch (type) {
+            case SUBSTATION:
+                return cast(getSubstation(networkUuid, id));
+            case VOLTAGE_LEVEL:
+                return cast(getVoltageLevel(networkUuid, id));
+            case LOAD:
+                return cast(getLoad(networkUuid, id));
+            case GENERATOR:
+                return cast(getGenerator(networkUuid, id));
+            case SHUNT_COMPENSATOR:
+                return cast(getShuntCompensator(networkUuid, id));
+            case VSC_CONVERTER_STATION:
+                return cast(getVscConverterStation(networkUuid, id));
+            case LCC_CONVERTER_STATION:
+                return cast(getLccConverterStation(networkUuid, id));
+            case STATIC_VAR_COMPENSATOR:
+                return cast(getStaticVarCompensator(networkUuid, id));
+            case BUSBAR_SECTION:
+                return cast(getBusbarSection(networkUuid, id));
+            case SWITCH:
+                return cast(getSwitch(networkUuid, id));
+            case TWO_WINDINGS_TRANSFORMER:
+                return cast(getTwoWindingsTransformer(networkUuid, id));
+            case THREE_WINDINGS_TRANSFORMER:
+                return cast(getThreeWindingsTransformer(networkUuid, id));
+            case LINE:
+                return cast(getLine(networkUuid, id));
+            case HVDC_LINE:
+                return cast(getHvdcLine(networkUuid, id));
+            case DANGLING_LINE:
+                return cast(getDanglingLine(networkUuid, id));
+            case CONFIGURED_BUS:
+                return cast(getConfiguredBus(networkUuid, id));
+            default:
+                throw new IllegalStateException("Unexpected identifiable type: " + type);
+        }
+    }
+
+    // calculated buses
+
+    /**
+     * Node/breaker voltage levels whose buses depend on the resource: its own voltage level for a switch, a busbar
+     * section or a voltage level, the voltage levels of its node/breaker terminals otherwise.
+     */
+    private static Stream<String> getTopologyVoltageLevelIds(Resource<? extends IdentifiableAttributes> resource) {
+        IdentifiableAttributes attributes = resource.getAttributes();
+        if (attributes instanceof VoltageLevelAttributes) {
+            return Stream.of(resource.getId());
+        } else if (attributes instanceof SwitchAttributes) {
+            return Stream.of(((SwitchAttributes) attributes).getVoltageLevelId());
+        } else if (attributes instanceof BusbarSectionAttributes) {
+            return Stream.of(((BusbarSectionAttributes) attributes).getVoltageLevelId());
+        } else if (attributes instanceof InjectionAttributes) {
+            InjectionAttributes injection = (InjectionAttributes) attributes;
+            return injection.getNode() != null ? Stream.of(injection.getVoltageLevelId()) : Stream.empty();
+        } else if (attributes instanceof BranchAttributes) {
+            BranchAttributes branch = (BranchAttributes) attributes;
+            return Stream.of(branch.getNode1() != null ? branch.getVoltageLevelId1() : null,
+                             branch.getNode2() != null ? branch.getVoltageLevelId2() : null);
+        } else if (attributes instanceof ThreeWindingsTransformerAttributes) {
+            ThreeWindingsTransformerAttributes twt = (ThreeWindingsTransformerAttributes) attributes;
+            return Stream.of(twt.getLeg1(), twt.getLeg2(), twt.getLeg3())
+                    .filter(leg -> leg.getNode() != null)
+                    .map(LegAttributes::getVoltageLevelId);
+        }
+        return Stream.empty();
+    }
+
+    private void invalidateCalculatedBuses(AsyncWriter writer, UUID networkUuid, List<? extends Resource<? extends IdentifiableAttributes>> resources) {
+        invalidateCalculatedBusesOfVoltageLevels(writer, networkUuid, resources.stream().flatMap(NetworkStoreRepository::getTopologyVoltageLevelIds));
+    }
+
+    /**
+     * Calculated buses depend on the switches, the internal connections and the terminals of the voltage level. Once
+     * the resources are written, calculated buses are cleared and get a new version so that a
+     * calculation which has read the voltage level before cannot store its outdated result. A voltage level without
+     * calculated buses row has no calculation in progress, as a calculation creates the row before reading the
+     * voltage level.
+     */
+    private void invalidateCalculatedBusesOfVoltageLevels(AsyncWriter writer, UUID networkUuid, Stream<String> voltageLevelIds) {
+        // conditional updates are not batched, as a conditional batch is not applied if one of its rows is missing
+        writer.writeAfterPrevious(voltageLevelIds.filter(Objects::nonNull)
+                .distinct()
+                .map(voltageLevelId -> psInvalidateCalculatedBuses.bind(UUID.randomUUID(), networkUuid, voltageLevelId))
+                .collect(Collectors.toList()));
+    }
+
+    public Optional<CalculatedBusesAttributes> getVoltageLevelCalculatedBuses(UUID networkUuid, String voltageLevelId) {
+        // serial read so that the last invalidation is seen
+        Row one = session.execute(psGetCalculatedBuses.bind(networkUuid, voltageLevelId)
+                .setConsistencyLevel(ConsistencyLevel.SERIAL)).one();
+        if (one != null && !one.isNull(1)) {
+            return Optional.of(CalculatedBusesAttributes.builder()
+                    .voltageLevelId(voltageLevelId)
+                    .busByNode(one.getList(1, Integer.class))
+                    .busIds(one.getList(2, String.class))
+                    .build());
+        }
+        Optional<Resource<VoltageLevelAttributes>> voltageLevel = getVoltageLevel(networkUuid, voltageLevelId);
+        if (!voltageLevel.isPresent() || voltageLevel.get().getAttributes().getTopologyKind() != TopologyKind.NODE_BREAKER) {
+            return Optional.empty();
+        }
+        UUID version;
+        if (one != null) {
+            version = one.getUUID(0);
+        } else {
+            // the row has to exist before the voltage level is read, so that a later write invalidates it
+            version = UUID.randomUUID();
+            ResultSet resultSet = session.execute(psInsertCalculatedBuses.bind(networkUuid, voltageLevelId, version));
+            if (!resultSet.wasApplied()) {
+                version = resultSet.one().getUUID("version");
+            }
+        }
+        CalculatedBusesAttributes calculatedBuses = calculateBuses(networkUuid, voltageLevel.get());
+        // stored only if the voltage level has not been modified since the read, returned in any case
+        session.execute(psUpdateCalculatedBuses.bind(calculatedBuses.getBusByNode(), calculatedBuses.getBusIds(),
+                networkUuid, voltageLevelId, version));
+        return Optional.of(calculatedBuses);
+    }
+
+    private CalculatedBusesAttributes calculateBuses(UUID networkUuid, Resource<VoltageLevelAttributes> voltageLevel) {
+        String voltageLevelId = voltageLevel.getId();
+        NodeBreakerTopology.Builder builder = new NodeBreakerTopology.Builder(voltageLevel.getAttributes().getNodeCount())
+                .addVoltageLevel(voltageLevel.getAttributes());
+        for (Resource<? extends IdentifiableAttributes> resource : getVoltageLevelContent(networkUuid, voltageLevelId)) {
+            builder.addEquipment(voltageLevelId, resource.getAttributes());
+        }
+        return builder.build().getCalculatedBuses(voltageLevelId);
+    }
+
+    // container
+
+    /**
+     * All the equipments of a voltage level, whatever their type. Queries of all the types are sent concurrently, the
+     * returned suppliers wait for their results.
+     */
+    private List<Supplier<? extends List<? extends Resource<? extends IdentifiableAttributes>>>> getVoltageLevelContentAsync(UUID networkUuid, String voltageLevelId) {
+        List<Supplier<? extends List<? extends Resource<? extends IdentifiableAttributes>>>> contents = new ArrayList<>();
+        contents.add(getVoltageLevelBusbarSectionsAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelSwitchesAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelBusesAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelLoadsAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelGeneratorsAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelShuntCompensatorsAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelVscConverterStationsAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelLccConverterStationsAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelStaticVarCompensatorsAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelTwoWindingsTransformersAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelThreeWindingsTransformersAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelLinesAsync(networkUuid, voltageLevelId));
+        contents.add(getVoltageLevelDanglingLinesAsync(networkUuid, voltageLevelId));
+        return contents;
+    }
+
+    public List<Resource<? extends IdentifiableAttributes>> getVoltageLevelContent(UUID networkUuid, String voltageLevelId) {
+        List<Resource<? extends IdentifiableAttributes>> resources = new ArrayList<>();
+        for (Supplier<? extends List<? extends Resource<? extends IdentifiableAttributes>>> content : getVoltageLevelContentAsync(networkUuid, voltageLevelId)) {
+            resources.addAll(content.get());
+        }
+        return resources;
+    }
+
+    /**
+     * The substation, its voltage levels and all their equipments. Branches between two voltage levels of the
+     * substation are returned only once. Contents of all the voltage levels are queried concurrently.
+     */
+    public List<Resource<? extends IdentifiableAttributes>> getSubstationContent(UUID networkUuid, String substationId) {
+        List<Resource<? extends IdentifiableAttributes>> resources = new ArrayList<>();
+        getSubstation(networkUuid, substationId).ifPresent(resources::add);
+        List<Resource<VoltageLevelAttributes>> voltageLevels = getVoltageLevels(networkUuid, substationId);
+        resources.addAll(voltageLevels);
+        List<Supplier<? extends List<? extends Resource<? extends IdentifiableAttributes>>>> contents = new ArrayList<>();
+        for (Resource<VoltageLevelAttributes> voltageLevel : voltageLevels) {
+            contents.addAll(getVoltageLevelContentAsync(networkUuid, voltageLevel.getId()));
+        }
+        Set<String> ids = new HashSet<>();
+        for (Supplier<? extends List<? extends Resource<? extends IdentifiableAttributes>>> content : contents) {
+            for (Resource<? extends IdentifiableAttributes> resource : content.get()) {
+                if (ids.add(resource.getId())) {
+                    resources.add(resource);
+                }
+            }
+        }
+        return resources;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends IdentifiableAttributes> List<Resource<T>> cast(List<Resource<IdentifiableAttributes>> resources) {
+        return (List<Resource<T>>) (List<?>) resources;
+    }
+
+    /**
+     * Create the network and all the resources of a snapshot, whatever their type.
+     */
+    public void createSnapshot(UUID networkUuid, List<Resource<IdentifiableAttributes>> resources) {
+        // enum map iteration order ensures that the network and containers are created first
+        Map<ResourceType, List<Resource<IdentifiableAttributes>>> resourcesByType = resources.stream()
+                .collect(Collectors.groupingBy(Resource::getType, () -> new EnumMap<>(ResourceType.class), Collectors.toList()));
+        for (Map.Entry<ResourceType, List<Resource<IdentifiableAttributes>>> e : resourcesByType.entrySet()) {
+            switch (e.getKey()) {
+                case NETWORK:
+                    createNetworks(cast(e.getValue()));
+                    break;
+                case SUBSTATION:
+                    createSubstations(networkUuid, cast(e.getValue()));
+                    break;
+                case VOLTAGE_LEVEL:
+                    createVoltageLevels(networkUuid, cast(e.getValue()));
+                    break;
+                case LOAD:
+                    createLoads(networkUuid, cast(e.getValue()));
+                    break;
+                case GENERATOR:
+                    createGenerators(networkUuid, cast(e.getValue()));
+                    break;
+                case SHUNT_COMPENSATOR:
+                    createShuntCompensators(networkUuid, cast(e.getValue()));
+                    break;
+                case VSC_CONVERTER_STATION:
+                    createVscConverterStations(networkUuid, cast(e.getValue()));
+                    break;
+                case LCC_CONVERTER_STATION:
+                    createLccConverterStations(networkUuid, cast(e.getValue()));
+                    break;
+                case STATIC_VAR_COMPENSATOR:
+                    createStaticVarCompensators(networkUuid, cast(e.getValue()));
+                    break;
+                case BUSBAR_SECTION:
+                    createBusbarSections(networkUuid, cast(e.getValue()));
+                    break;
+                case SWITCH:
+                    createSwitches(networkUuid, cast(e.getValue()));
+                    break;
+                case TWO_WINDINGS_TRANSFORMER:
+                    createTwoWindingsTransformers(networkUuid, cast(e.getValue()));
+                    break;
+                case THREE_WINDINGS_TRANSFORMER:
+                    createThreeWindingsTransformers(networkUuid, cast(e.getValue()));
+                    break;
+                case LINE:
+                    createLines(networkUuid, cast(e.getValue()));
+                    break;
+                case HVDC_LINE:
+                    createHvdcLines(networkUuid, cast(e.getValue()));
+                    break;
+                case DANGLING_LINE:
+                    createDanglingLines(networkUuid, cast(e.getValue()));
+                    break;
+                case CONFIGURED_BUS:
+                    createBuses(networkUuid, cast(e.getValue()));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown resource type: " + e.getKey());
+            }
+        }
+    }
+
+    // substation
+
+    public Stream<Resource<SubstationAttributes>> streamSubstations(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetSubstations.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.substationBuilder()
+                    .id(row.getString(0))
+                    .attributes(SubstationAttributes.builder()
+                            .name(row.getString(1))
+                            .properties(row.getMap(2, String.class, String.class))
+                            .country(row.getString(3) != null ? Country.valueOf(row.getString(3)) : null)
+                            .tso(row.getString(4))
+                            .build())
+                    .build());
+    }
+
+    public List<Resource<SubstationAttributes>> getSubstations(UUID networkUuid) {
+        return streamSubstations(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getSubstationCount(UUID networkUuid) {
+        return getCount("substation", networkUuid);
+    }
+
+    public Optional<Resource<SubstationAttributes>> getSubstation(UUID networkUuid, String substationId) {
+        ResultSet resultSet = session.execute(psGetSubstation.bind(networkUuid, substationId));
+        Row one = resultSet.one();
+        if (one != null) {
+            return Optional.of(Resource.substationBuilder()
+                    .id(substationId)
+                    .attributes(SubstationAttributes.builder()
+                            .name(one.getString(0))
+                            .properties(one.getMap(1, String.class, String.class))
+                            .country(one.getString(2) != null ? Country.valueOf(one.getString(2)) : null)
+                            .tso(one.getString(3))
+                            .build())
+                    .build());
+        }
+        return Optional.empty();
+    }
+
+    public void createSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> resources) {
+        AsyncWriter writer = newWriter();
+        for (List<Resource<SubstationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
+            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            for (Resource<SubstationAttributes> resource : subresources) {
+                batch.add(psInsertSubstation.bind(
+                        networkUuid,
+                        resource.getId(),
+                        resource.getAttributes().getName(),
+                        resource.getAttributes().getProperties(),
+                        resource.getAttributes().getCountry() != null ? resource.getAttributes().getCountry().toString() : null,
+                        resource.getAttributes().getTso()
+                        ));
+            }
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateSubstations(UUID networkUuid, List<Resource<SubstationAttributes>> resources) {
+        createSubstations(networkUuid, resources);
+    }
+
+    // voltage level
+
+    public void createVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> resources) {
+        AsyncWriter writer = newWriter();
+        for (List<Resource<VoltageLevelAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
+            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            for (Resource<VoltageLevelAttributes> resource : subresources) {
+                batch.add(psInsertVoltageLevel.bind(
+                        networkUuid,
+                        resource.getId(),
+                        resource.getAttributes().getSubstationId(),
+                        resource.getAttributes().getName(),
+                        resource.getAttributes().getProperties(),
+                        resource.getAttributes().getNominalV(),
+                        resource.getAttributes().getLowVoltageLimit(),
+                        resource.getAttributes().getHighVoltageLimit(),
+                        resource.getAttributes().getTopologyKind().toString(),
+                        resource.getAttributes().getNodeCount(),
+                        resource.getAttributes().getInternalConnections(),
+                        resource.getAttributes().getBusVByNode(),
+                        resource.getAttributes().getBusAngleByNode()
+                        ));
+            }
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "voltageLevelBySubstation", "substationId", networkUuid, subresources, VoltageLevelAttributes::getSubstationId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateVoltageLevels(UUID networkUuid, List<Resource<VoltageLevelAttributes>> resources) {
+        createVoltageLevels(networkUuid, resources);
+    }
+
+    private Supplier<List<Resource<VoltageLevelAttributes>>> getVoltageLevelsAsync(UUID networkUuid, String substationId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("voltageLevelBySubstation", "substationId", psGetSubstationVoltageLevels, networkUuid, substationId);
+        return () -> {
+            List<Resource<VoltageLevelAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.voltageLevelBuilder()
+                        .id(row.getString(0))
+                        .attributes(VoltageLevelAttributes.builder()
+                                .substationId(substationId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .nominalV(row.getDouble(3))
+                                .lowVoltageLimit(row.getDouble(4))
+                                .highVoltageLimit(row.getDouble(5))
+                                .topologyKind(TopologyKind.valueOf(row.getString(6)))
+                                .nodeCount(row.getInt(7))
+                                .internalConnections(row.getList(8, InternalConnectionAttributes.class))
+                                .busVByNode(row.getMap(9, Integer.class, Double.class))
+                                .busAngleByNode(row.getMap(10, Integer.class, Double.class))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
+    }
+
+    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid, String substationId) {
+        return getVoltageLevelsAsync(networkUuid, substationId).get();
+    }
+
+    public Optional<Resource<VoltageLevelAttributes>> getVoltageLevel(UUID networkUuid, String voltageLevelId) {
+        ResultSet resultSet = session.execute(psGetVoltageLevel.bind(networkUuid, voltageLevelId));
+        Row one = resultSet.one();
+        if (one != null) {
+            return Optional.of(Resource.voltageLevelBuilder()
+                    .id(voltageLevelId)
+                    .attributes(VoltageLevelAttributes.builder()
+                            .substationId(one.getString(0))
+                            .name(one.getString(1))
+                            .properties(one.getMap(2, String.class, String.class))
+                            .nominalV(one.getDouble(3))
+                            .lowVoltageLimit(one.getDouble(4))
+                            .highVoltageLimit(one.getDouble(5))
+                            .topologyKind(TopologyKind.valueOf(one.getString(6)))
+                            .nodeCount(one.getInt(7))
+                            .internalConnections(one.getList(8, InternalConnectionAttributes.class))
+                            .busVByNode(one.getMap(9, Integer.class, Double.class))
+                            .busAngleByNode(one.getMap(10, Integer.class, Double.class))
+                            .build())
+                    .build());
+        }
+        return Optional.empty();
+    }
+
+    public Stream<Resource<VoltageLevelAttributes>> streamVoltageLevels(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetVoltageLevels.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.voltageLevelBuilder()
+                    .id(row.getString(0))
+                    .attributes(VoltageLevelAttributes.builder()
+                            .substationId(row.getString(1))
+                            .name(row.getString(2))
+                            .properties(row.getMap(3, String.class, String.class))
+                            .nominalV(row.getDouble(4))
+                            .lowVoltageLimit(row.getDouble(5))
+                            .highVoltageLimit(row.getDouble(6))
+                            .topologyKind(TopologyKind.valueOf(row.getString(7)))
+                            .nodeCount(row.getInt(8))
+                            .internalConnections(row.getList(9, InternalConnectionAttributes.class))
+                            .busVByNode(row.getMap(10, Integer.class, Double.class))
+                            .busAngleByNode(row.getMap(11, Integer.class, Double.class))
+                            .build())
+                    .build());
+    }
+
+    public List<Resource<VoltageLevelAttributes>> getVoltageLevels(UUID networkUuid) {
+        return streamVoltageLevels(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getVoltageLevelCount(UUID networkUuid) {
+        return getCount("voltageLevel", networkUuid);
+    }
+
+    // generator
+
+    public void createGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> resources) {
+        AsyncWriter writer = newWriter();
+        for (List<Resource<GeneratorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
+            BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            for (Resource<GeneratorAttributes> resource : subresources) {
+                ReactiveLimitsAttributes reactiveLimits = resource.getAttributes().getReactiveLimits();
+                batch.add(psInsertGenerator.bind(
+                        networkUuid,
+                        resource.getId(),
+                        resource.getAttributes().getVoltageLevelId(),
+                        resource.getAttributes().getName(),
+                        resource.getAttributes().getProperties(),
+                        resource.getAttributes().getNode(),
+                        resource.getAttributes().getEnergySource().toString(),
+                        resource.getAttributes().getMinP(),
+                        resource.getAttributes().getMaxP(),
+                        resource.getAttributes().isVoltageRegulatorOn(),
+                        resource.getAttributes().getTargetP(),
+                        resource.getAttributes().getTargetQ(),
+                        resource.getAttributes().getTargetV(),
+                        resource.getAttributes().getRatedS(),
+                        resource.getAttributes().getP(),
+                        resource.getAttributes().getQ(),
+                        resource.getAttributes().getPosition(),
+                        reactiveLimits.getKind() == ReactiveLimitsKind.MIN_MAX ? reactiveLimits : null,
+                        reactiveLimits.getKind() == ReactiveLimitsKind.CURVE ? reactiveLimits : null,
+                        resource.getAttributes().getBus(),
+                        resource.getAttributes().getConnectableBus()));
+            }
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "generatorByVoltageLevel", "voltageLevelId", networkUuid, subresources, GeneratorAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateGenerators(UUID networkUuid, List<Resource<GeneratorAttributes>> resources) {
+        createGenerators(networkUuid, resources);
+    }
+
+    public void updateGeneratorStates(UUID networkUuid, List<GeneratorStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (GeneratorStateAttributes state : states) {
+            writer.write(psUpdateGeneratorState.bind(
+                    state.getP(),
+                    state.getQ(),
+                    state.getTargetP(),
+                    state.getTargetQ(),
+                    state.getTargetV(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
+        }
+        writer.await();
+    }
+
+    public Optional<Resource<GeneratorAttributes>> getGenerator(UUID networkUuid, String generatorId) {
+        ResultSet resultSet = session.execute(psGetGenerator.bind(networkUuid, generatorId));
+        Row one = resultSet.one();
+        if (one != null) {
+            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = one.get(15, MinMaxReactiveLimitsAttributes.class);
+            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = one.get(16, ReactiveCapabilityCurveAttributes.class);
+            return Optional.of(Resource.generatorBuilder()
+                    .id(generatorId)
+                    .attributes(GeneratorAttributes.builder()
+                            .voltageLevelId(one.getString(0))
+                            .name(one.getString(1))
+                            .properties(one.getMap(2, String.class, String.class))
+                            .node(one.getInt(3))
+                            .energySource(EnergySource.valueOf(one.getString(4)))
+                            .minP(one.getDouble(5))
+                            .maxP(one.getDouble(6))
+                            .voltageRegulatorOn(one.getBool(7))
+                            .targetP(one.getDouble(8))
+                            .targetQ(one.getDouble(9))
+                            .targetV(one.getDouble(10))
                             .ratedS(one.getDouble(11))
                             .p(one.getDouble(12))
                             .q(one.getDouble(13))
@@ -699,34 +2271,12 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<GeneratorAttributes>> getGenerators(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "energySource",
-                                                     "minP",
-                                                     "maxP",
-                                                     "voltageRegulatorOn",
-                                                     "targetP",
-                                                     "targetQ",
-                                                     "targetV",
-                                                     "ratedS",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "minMaxReactiveLimits",
-                                                     "reactiveCapabilityCurve",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "generator")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<GeneratorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+    public Stream<Resource<GeneratorAttributes>> streamGenerators(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetGenerators.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> {
             MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(16, MinMaxReactiveLimitsAttributes.class);
             ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(17, ReactiveCapabilityCurveAttributes.class);
-            resources.add(Resource.generatorBuilder()
+            return Resource.generatorBuilder()
                     .id(row.getString(0))
                     .attributes(GeneratorAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -748,67 +2298,61 @@ public class NetworkStoreRepository {
                             .bus(row.getString(18))
                             .connectableBus(row.getString(19))
                             .build())
-                    .build());
-        }
-        return resources;
+                    .build();
+        });
+    }
+
+    public List<Resource<GeneratorAttributes>> getGenerators(UUID networkUuid) {
+        return streamGenerators(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getGeneratorCount(UUID networkUuid) {
+        return getCount("generator", networkUuid);
+    }
+
+    private Supplier<List<Resource<GeneratorAttributes>>> getVoltageLevelGeneratorsAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("generatorByVoltageLevel", "voltageLevelId", psGetVoltageLevelGenerators, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<GeneratorAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(15, MinMaxReactiveLimitsAttributes.class);
+                ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(16, ReactiveCapabilityCurveAttributes.class);
+                resources.add(Resource.generatorBuilder()
+                        .id(row.getString(0))
+                        .attributes(GeneratorAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .energySource(EnergySource.valueOf(row.getString(4)))
+                                .minP(row.getDouble(5))
+                                .maxP(row.getDouble(6))
+                                .voltageRegulatorOn(row.getBool(7))
+                                .targetP(row.getDouble(8))
+                                .targetQ(row.getDouble(9))
+                                .targetV(row.getDouble(10))
+                                .ratedS(row.getDouble(11))
+                                .p(row.getDouble(12))
+                                .q(row.getDouble(13))
+                                .position(row.get(14, ConnectablePositionAttributes.class))
+                                .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
+                                .bus(row.getString(17))
+                                .connectableBus(row.getString(18))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<GeneratorAttributes>> getVoltageLevelGenerators(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "energySource",
-                                                     "minP",
-                                                     "maxP",
-                                                     "voltageRegulatorOn",
-                                                     "targetP",
-                                                     "targetQ",
-                                                     "targetV",
-                                                     "ratedS",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "minMaxReactiveLimits",
-                                                     "reactiveCapabilityCurve",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "generatorByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<GeneratorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(15, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(16, ReactiveCapabilityCurveAttributes.class);
-            resources.add(Resource.generatorBuilder()
-                    .id(row.getString(0))
-                    .attributes(GeneratorAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .energySource(EnergySource.valueOf(row.getString(4)))
-                            .minP(row.getDouble(5))
-                            .maxP(row.getDouble(6))
-                            .voltageRegulatorOn(row.getBool(7))
-                            .targetP(row.getDouble(8))
-                            .targetQ(row.getDouble(9))
-                            .targetV(row.getDouble(10))
-                            .ratedS(row.getDouble(11))
-                            .p(row.getDouble(12))
-                            .q(row.getDouble(13))
-                            .position(row.get(14, ConnectablePositionAttributes.class))
-                            .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
-                            .bus(row.getString(17))
-                            .connectableBus(row.getString(18))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelGeneratorsAsync(networkUuid, voltageLevelId).get();
     }
 
     // load
 
     public void createLoads(UUID networkUuid, List<Resource<LoadAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<LoadAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<LoadAttributes> resource : subresources) {
@@ -829,25 +2373,34 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getConnectableBus()
                         ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "loadByVoltageLevel", "voltageLevelId", networkUuid, subresources, LoadAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
         }
+        writer.await();
+    }
+
+    public void updateLoads(UUID networkUuid, List<Resource<LoadAttributes>> resources) {
+        createLoads(networkUuid, resources);
+    }
+
+    public void updateLoadStates(UUID networkUuid, List<InjectionStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (InjectionStateAttributes state : states) {
+            writer.write(psUpdateLoadState.bind(
+                    state.getP(),
+                    state.getQ(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
+        }
+        writer.await();
     }
 
     public Optional<Resource<LoadAttributes>> getLoad(UUID networkUuid, String loadId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "loadType",
-                                                     "p0",
-                                                     "q0",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "load")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", loadId)));
+        ResultSet resultSet = session.execute(psGetLoad.bind(networkUuid, loadId));
         Row one = resultSet.one();
         if (one != null) {
             return Optional.of(Resource.loadBuilder()
@@ -871,25 +2424,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<LoadAttributes>> getLoads(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "loadType",
-                                                     "p0",
-                                                     "q0",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "load")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<LoadAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.loadBuilder()
+    public Stream<Resource<LoadAttributes>> streamLoads(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetLoads.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.loadBuilder()
                     .id(row.getString(0))
                     .attributes(LoadAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -906,51 +2443,51 @@ public class NetworkStoreRepository {
                             .connectableBus(row.getString(12))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<LoadAttributes>> getLoads(UUID networkUuid) {
+        return streamLoads(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getLoadCount(UUID networkUuid) {
+        return getCount("load", networkUuid);
+    }
+
+    private Supplier<List<Resource<LoadAttributes>>> getVoltageLevelLoadsAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("loadByVoltageLevel", "voltageLevelId", psGetVoltageLevelLoads, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<LoadAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.loadBuilder()
+                        .id(row.getString(0))
+                        .attributes(LoadAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .loadType(LoadType.valueOf(row.getString(4)))
+                                .p0(row.getDouble(5))
+                                .q0(row.getDouble(6))
+                                .p(row.getDouble(7))
+                                .q(row.getDouble(8))
+                                .position(row.get(9, ConnectablePositionAttributes.class))
+                                .bus(row.getString(10))
+                                .connectableBus(row.getString(11))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<LoadAttributes>> getVoltageLevelLoads(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "loadType",
-                                                     "p0",
-                                                     "q0",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "loadByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<LoadAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.loadBuilder()
-                    .id(row.getString(0))
-                    .attributes(LoadAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .loadType(LoadType.valueOf(row.getString(4)))
-                            .p0(row.getDouble(5))
-                            .q0(row.getDouble(6))
-                            .p(row.getDouble(7))
-                            .q(row.getDouble(8))
-                            .position(row.get(9, ConnectablePositionAttributes.class))
-                            .bus(row.getString(10))
-                            .connectableBus(row.getString(11))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelLoadsAsync(networkUuid, voltageLevelId).get();
     }
 
     // shunt compensator
 
     public void createShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<ShuntCompensatorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<ShuntCompensatorAttributes> resource : subresources) {
@@ -971,25 +2508,34 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getConnectableBus()
                         ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "shuntCompensatorByVoltageLevel", "voltageLevelId", networkUuid, subresources, ShuntCompensatorAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateShuntCompensators(UUID networkUuid, List<Resource<ShuntCompensatorAttributes>> resources) {
+        createShuntCompensators(networkUuid, resources);
+    }
+
+    public void updateShuntCompensatorStates(UUID networkUuid, List<InjectionStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (InjectionStateAttributes state : states) {
+            writer.write(psUpdateShuntCompensatorState.bind(
+                    state.getP(),
+                    state.getQ(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
         }
+        writer.await();
     }
 
     public Optional<Resource<ShuntCompensatorAttributes>> getShuntCompensator(UUID networkUuid, String shuntCompensatorId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "bPerSection",
-                                                     "maximumSectionCount",
-                                                     "currentSectionCount",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "shuntCompensator")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", shuntCompensatorId)));
+        ResultSet resultSet = session.execute(psGetShuntCompensator.bind(networkUuid, shuntCompensatorId));
         Row row = resultSet.one();
         if (row != null) {
             return Optional.of(Resource.shuntCompensatorBuilder()
@@ -1013,25 +2559,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<ShuntCompensatorAttributes>> getShuntCompensators(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "bPerSection",
-                                                     "maximumSectionCount",
-                                                     "currentSectionCount",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "shuntCompensator")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<ShuntCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.shuntCompensatorBuilder()
+    public Stream<Resource<ShuntCompensatorAttributes>> streamShuntCompensators(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetShuntCompensators.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.shuntCompensatorBuilder()
                     .id(row.getString(0))
                     .attributes(ShuntCompensatorAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -1048,51 +2578,51 @@ public class NetworkStoreRepository {
                             .connectableBus(row.getString(12))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<ShuntCompensatorAttributes>> getShuntCompensators(UUID networkUuid) {
+        return streamShuntCompensators(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getShuntCompensatorCount(UUID networkUuid) {
+        return getCount("shuntCompensator", networkUuid);
+    }
+
+    private Supplier<List<Resource<ShuntCompensatorAttributes>>> getVoltageLevelShuntCompensatorsAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("shuntCompensatorByVoltageLevel", "voltageLevelId", psGetVoltageLevelShuntCompensators, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<ShuntCompensatorAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.shuntCompensatorBuilder()
+                        .id(row.getString(0))
+                        .attributes(ShuntCompensatorAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .bPerSection(row.getDouble(4))
+                                .maximumSectionCount(row.getInt(5))
+                                .currentSectionCount(row.getInt(6))
+                                .p(row.getDouble(7))
+                                .q(row.getDouble(8))
+                                .position(row.get(9, ConnectablePositionAttributes.class))
+                                .bus(row.getString(10))
+                                .connectableBus(row.getString(11))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<ShuntCompensatorAttributes>> getVoltageLevelShuntCompensators(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "bPerSection",
-                                                     "maximumSectionCount",
-                                                     "currentSectionCount",
-                                                     "p",
-                                                     "q",
-                                                     "position",
-                                                     "bus",
-                                                     "connectableBus")
-                .from(KEYSPACE_IIDM, "shuntCompensatorByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<ShuntCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.shuntCompensatorBuilder()
-                    .id(row.getString(0))
-                    .attributes(ShuntCompensatorAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .bPerSection(row.getDouble(4))
-                            .maximumSectionCount(row.getInt(5))
-                            .currentSectionCount(row.getInt(6))
-                            .p(row.getDouble(7))
-                            .q(row.getDouble(8))
-                            .position(row.get(9, ConnectablePositionAttributes.class))
-                            .bus(row.getString(10))
-                            .connectableBus(row.getString(11))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelShuntCompensatorsAsync(networkUuid, voltageLevelId).get();
     }
 
     // VSC converter station
 
     public void createVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<VscConverterStationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<VscConverterStationAttributes> resource : subresources) {
@@ -1117,28 +2647,34 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getConnectableBus()
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "vscConverterStationByVoltageLevel", "voltageLevelId", networkUuid, subresources, VscConverterStationAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateVscConverterStations(UUID networkUuid, List<Resource<VscConverterStationAttributes>> resources) {
+        createVscConverterStations(networkUuid, resources);
+    }
+
+    public void updateVscConverterStationStates(UUID networkUuid, List<InjectionStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (InjectionStateAttributes state : states) {
+            writer.write(psUpdateVscConverterStationState.bind(
+                    state.getP(),
+                    state.getQ(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
         }
+        writer.await();
     }
 
     public Optional<Resource<VscConverterStationAttributes>> getVscConverterStation(UUID networkUuid, String vscConverterStationId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "lossFactor",
-                "voltageRegulatorOn",
-                "reactivePowerSetPoint",
-                "voltageSetPoint",
-                "minMaxReactiveLimits",
-                "reactiveCapabilityCurve",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "vscConverterStation")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", vscConverterStationId)));
+        ResultSet resultSet = session.execute(psGetVscConverterStation.bind(networkUuid, vscConverterStationId));
         Row row = resultSet.one();
         if (row != null) {
             MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(8, MinMaxReactiveLimitsAttributes.class);
@@ -1166,30 +2702,12 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<VscConverterStationAttributes>> getVscConverterStations(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "lossFactor",
-                "voltageRegulatorOn",
-                "reactivePowerSetPoint",
-                "voltageSetPoint",
-                "minMaxReactiveLimits",
-                "reactiveCapabilityCurve",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "vscConverterStation")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<VscConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
+    public Stream<Resource<VscConverterStationAttributes>> streamVscConverterStations(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetVscConverterStations.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> {
             MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(9, MinMaxReactiveLimitsAttributes.class);
             ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(10, ReactiveCapabilityCurveAttributes.class);
-            resources.add(Resource.vscConverterStationBuilder()
+            return Resource.vscConverterStationBuilder()
                     .id(row.getString(0))
                     .attributes(VscConverterStationAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -1207,59 +2725,57 @@ public class NetworkStoreRepository {
                             .bus(row.getString(14))
                             .connectableBus(row.getString(15))
                             .build())
-                    .build());
-        }
-        return resources;
+                    .build();
+        });
+    }
+
+    public List<Resource<VscConverterStationAttributes>> getVscConverterStations(UUID networkUuid) {
+        return streamVscConverterStations(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getVscConverterStationCount(UUID networkUuid) {
+        return getCount("vscConverterStation", networkUuid);
+    }
+
+    private Supplier<List<Resource<VscConverterStationAttributes>>> getVoltageLevelVscConverterStationsAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("vscConverterStationByVoltageLevel", "voltageLevelId", psGetVoltageLevelVscConverterStations, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<VscConverterStationAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(8, MinMaxReactiveLimitsAttributes.class);
+                ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(9, ReactiveCapabilityCurveAttributes.class);
+                resources.add(Resource.vscConverterStationBuilder()
+                        .id(row.getString(0))
+                        .attributes(VscConverterStationAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .lossFactor(row.getFloat(4))
+                                .voltageRegulatorOn(row.getBool(5))
+                                .reactivePowerSetPoint(row.getDouble(6))
+                                .voltageSetPoint(row.getDouble(7))
+                                .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
+                                .p(row.getDouble(10))
+                                .q(row.getDouble(11))
+                                .position(row.get(12, ConnectablePositionAttributes.class))
+                                .bus(row.getString(13))
+                                .connectableBus(row.getString(14))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<VscConverterStationAttributes>> getVoltageLevelVscConverterStations(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "lossFactor",
-                "voltageRegulatorOn",
-                "reactivePowerSetPoint",
-                "voltageSetPoint",
-                "minMaxReactiveLimits",
-                "reactiveCapabilityCurve",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "vscConverterStationByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<VscConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            MinMaxReactiveLimitsAttributes minMaxReactiveLimitsAttributes = row.get(8, MinMaxReactiveLimitsAttributes.class);
-            ReactiveCapabilityCurveAttributes reactiveCapabilityCurveAttributes = row.get(9, ReactiveCapabilityCurveAttributes.class);
-            resources.add(Resource.vscConverterStationBuilder()
-                    .id(row.getString(0))
-                    .attributes(VscConverterStationAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .lossFactor(row.getFloat(4))
-                            .voltageRegulatorOn(row.getBool(5))
-                            .reactivePowerSetPoint(row.getDouble(6))
-                            .voltageSetPoint(row.getDouble(7))
-                            .reactiveLimits(minMaxReactiveLimitsAttributes != null ? minMaxReactiveLimitsAttributes : reactiveCapabilityCurveAttributes)
-                            .p(row.getDouble(10))
-                            .q(row.getDouble(11))
-                            .position(row.get(12, ConnectablePositionAttributes.class))
-                            .bus(row.getString(13))
-                            .connectableBus(row.getString(14))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelVscConverterStationsAsync(networkUuid, voltageLevelId).get();
     }
 
     // LCC converter station
 
     public void createLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<LccConverterStationAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<LccConverterStationAttributes> resource : subresources) {
@@ -1279,24 +2795,34 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getConnectableBus()
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "lccConverterStationByVoltageLevel", "voltageLevelId", networkUuid, subresources, LccConverterStationAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
         }
-    }
-
-    public Optional<Resource<LccConverterStationAttributes>> getLccConverterStation(UUID networkUuid, String lccConverterStationId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "powerFactor",
-                "lossFactor",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "lccConverterStation")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", lccConverterStationId)));
+        writer.await();
+    }
+
+    public void updateLccConverterStations(UUID networkUuid, List<Resource<LccConverterStationAttributes>> resources) {
+        createLccConverterStations(networkUuid, resources);
+    }
+
+    public void updateLccConverterStationStates(UUID networkUuid, List<InjectionStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (InjectionStateAttributes state : states) {
+            writer.write(psUpdateLccConverterStationState.bind(
+                    state.getP(),
+                    state.getQ(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
+        }
+        writer.await();
+    }
+
+    public Optional<Resource<LccConverterStationAttributes>> getLccConverterStation(UUID networkUuid, String lccConverterStationId) {
+        ResultSet resultSet = session.execute(psGetLccConverterStation.bind(networkUuid, lccConverterStationId));
         Row row = resultSet.one();
         if (row != null) {
             return Optional.of(Resource.lccConverterStationBuilder()
@@ -1319,24 +2845,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<LccConverterStationAttributes>> getLccConverterStations(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "powerFactor",
-                "lossFactor",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "lccConverterStation")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<LccConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.lccConverterStationBuilder()
+    public Stream<Resource<LccConverterStationAttributes>> streamLccConverterStations(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetLccConverterStations.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.lccConverterStationBuilder()
                     .id(row.getString(0))
                     .attributes(LccConverterStationAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -1352,49 +2863,50 @@ public class NetworkStoreRepository {
                             .connectableBus(row.getString(11))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<LccConverterStationAttributes>> getLccConverterStations(UUID networkUuid) {
+        return streamLccConverterStations(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getLccConverterStationCount(UUID networkUuid) {
+        return getCount("lccConverterStation", networkUuid);
+    }
+
+    private Supplier<List<Resource<LccConverterStationAttributes>>> getVoltageLevelLccConverterStationsAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("lccConverterStationByVoltageLevel", "voltageLevelId", psGetVoltageLevelLccConverterStations, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<LccConverterStationAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.lccConverterStationBuilder()
+                        .id(row.getString(0))
+                        .attributes(LccConverterStationAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .powerFactor(row.getFloat(4))
+                                .lossFactor(row.getFloat(5))
+                                .p(row.getDouble(6))
+                                .q(row.getDouble(7))
+                                .position(row.get(8, ConnectablePositionAttributes.class))
+                                .bus(row.getString(9))
+                                .connectableBus(row.getString(10))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<LccConverterStationAttributes>> getVoltageLevelLccConverterStations(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "powerFactor",
-                "lossFactor",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "lccConverterStationByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<LccConverterStationAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.lccConverterStationBuilder()
-                    .id(row.getString(0))
-                    .attributes(LccConverterStationAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .powerFactor(row.getFloat(4))
-                            .lossFactor(row.getFloat(5))
-                            .p(row.getDouble(6))
-                            .q(row.getDouble(7))
-                            .position(row.get(8, ConnectablePositionAttributes.class))
-                            .bus(row.getString(9))
-                            .connectableBus(row.getString(10))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelLccConverterStationsAsync(networkUuid, voltageLevelId).get();
     }
 
     // static var compensators
 
     public void createStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<StaticVarCompensatorAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<StaticVarCompensatorAttributes> resource : subresources) {
@@ -1417,27 +2929,34 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getConnectableBus()
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "staticVarCompensatorByVoltageLevel", "voltageLevelId", networkUuid, subresources, StaticVarCompensatorAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateStaticVarCompensators(UUID networkUuid, List<Resource<StaticVarCompensatorAttributes>> resources) {
+        createStaticVarCompensators(networkUuid, resources);
+    }
+
+    public void updateStaticVarCompensatorStates(UUID networkUuid, List<InjectionStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (InjectionStateAttributes state : states) {
+            writer.write(psUpdateStaticVarCompensatorState.bind(
+                    state.getP(),
+                    state.getQ(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
         }
+        writer.await();
     }
 
     public Optional<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensator(UUID networkUuid, String staticVarCompensatorId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "bMin",
-                "bMax",
-                "voltageSetPoint",
-                "reactivePowerSetPoint",
-                "regulationMode",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "staticVarCompensator")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", staticVarCompensatorId)));
+        ResultSet resultSet = session.execute(psGetStaticVarCompensator.bind(networkUuid, staticVarCompensatorId));
         Row row = resultSet.one();
         if (row != null) {
             return Optional.of(Resource.staticVarCompensatorBuilder()
@@ -1463,27 +2982,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensators(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "bMin",
-                "bMax",
-                "voltageSetPoint",
-                "reactivePowerSetPoint",
-                "regulationMode",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "staticVarCompensator")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<StaticVarCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.staticVarCompensatorBuilder()
+    public Stream<Resource<StaticVarCompensatorAttributes>> streamStaticVarCompensators(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetStaticVarCompensators.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.staticVarCompensatorBuilder()
                     .id(row.getString(0))
                     .attributes(StaticVarCompensatorAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -1502,55 +3003,53 @@ public class NetworkStoreRepository {
                             .connectableBus(row.getString(14))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<StaticVarCompensatorAttributes>> getStaticVarCompensators(UUID networkUuid) {
+        return streamStaticVarCompensators(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getStaticVarCompensatorCount(UUID networkUuid) {
+        return getCount("staticVarCompensator", networkUuid);
+    }
+
+    private Supplier<List<Resource<StaticVarCompensatorAttributes>>> getVoltageLevelStaticVarCompensatorsAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("staticVarCompensatorByVoltageLevel", "voltageLevelId", psGetVoltageLevelStaticVarCompensators, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<StaticVarCompensatorAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.staticVarCompensatorBuilder()
+                        .id(row.getString(0))
+                        .attributes(StaticVarCompensatorAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .bmin(row.getDouble(4))
+                                .bmax(row.getDouble(5))
+                                .voltageSetPoint(row.getDouble(6))
+                                .reactivePowerSetPoint(row.getDouble(7))
+                                .regulationMode(StaticVarCompensator.RegulationMode.valueOf(row.getString(8)))
+                                .p(row.getDouble(9))
+                                .q(row.getDouble(10))
+                                .position(row.get(11, ConnectablePositionAttributes.class))
+                                .bus(row.getString(12))
+                                .connectableBus(row.getString(13))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<StaticVarCompensatorAttributes>> getVoltageLevelStaticVarCompensators(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "bMin",
-                "bMax",
-                "voltageSetPoint",
-                "reactivePowerSetPoint",
-                "regulationMode",
-                "p",
-                "q",
-                "position",
-                "bus",
-                "connectableBus")
-                .from(KEYSPACE_IIDM, "staticVarCompensatorByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<StaticVarCompensatorAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.staticVarCompensatorBuilder()
-                    .id(row.getString(0))
-                    .attributes(StaticVarCompensatorAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .bmin(row.getDouble(4))
-                            .bmax(row.getDouble(5))
-                            .voltageSetPoint(row.getDouble(6))
-                            .reactivePowerSetPoint(row.getDouble(7))
-                            .regulationMode(StaticVarCompensator.RegulationMode.valueOf(row.getString(8)))
-                            .p(row.getDouble(9))
-                            .q(row.getDouble(10))
-                            .position(row.get(11, ConnectablePositionAttributes.class))
-                            .bus(row.getString(12))
-                            .connectableBus(row.getString(13))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelStaticVarCompensatorsAsync(networkUuid, voltageLevelId).get();
     }
 
     // busbar section
 
     public void createBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<BusbarSectionAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<BusbarSectionAttributes> resource : subresources) {
@@ -1564,18 +3063,20 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getPosition()
                         ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "busbarSectionByVoltageLevel", "voltageLevelId", networkUuid, subresources, BusbarSectionAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
         }
+        writer.await();
+    }
+
+    public void updateBusbarSections(UUID networkUuid, List<Resource<BusbarSectionAttributes>> resources) {
+        createBusbarSections(networkUuid, resources);
     }
 
     public Optional<Resource<BusbarSectionAttributes>> getBusbarSection(UUID networkUuid, String busbarSectionId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "position")
-                .from(KEYSPACE_IIDM, "busbarSection")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", busbarSectionId)));
+        ResultSet resultSet = session.execute(psGetBusbarSection.bind(networkUuid, busbarSectionId));
         Row row = resultSet.one();
         if (row != null) {
             return Optional.of(Resource.busbarSectionBuilder()
@@ -1592,18 +3093,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<BusbarSectionAttributes>> getBusbarSections(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "position")
-                .from(KEYSPACE_IIDM, "busbarSection")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<BusbarSectionAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.busbarSectionBuilder()
+    public Stream<Resource<BusbarSectionAttributes>> streamBusbarSections(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetBusbarSections.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.busbarSectionBuilder()
                     .id(row.getString(0))
                     .attributes(BusbarSectionAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -1613,37 +3105,44 @@ public class NetworkStoreRepository {
                             .position(row.get(5, BusbarSectionPositionAttributes.class))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<BusbarSectionAttributes>> getBusbarSections(UUID networkUuid) {
+        return streamBusbarSections(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getBusbarSectionCount(UUID networkUuid) {
+        return getCount("busbarSection", networkUuid);
+    }
+
+    private Supplier<List<Resource<BusbarSectionAttributes>>> getVoltageLevelBusbarSectionsAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("busbarSectionByVoltageLevel", "voltageLevelId", psGetVoltageLevelBusbarSections, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<BusbarSectionAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.busbarSectionBuilder()
+                        .id(row.getString(0))
+                        .attributes(BusbarSectionAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .position(row.get(4, BusbarSectionPositionAttributes.class))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<BusbarSectionAttributes>> getVoltageLevelBusbarSections(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "node",
-                                                     "position")
-                .from(KEYSPACE_IIDM, "busbarSectionByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<BusbarSectionAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.busbarSectionBuilder()
-                    .id(row.getString(0))
-                    .attributes(BusbarSectionAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .position(row.get(4, BusbarSectionPositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelBusbarSectionsAsync(networkUuid, voltageLevelId).get();
     }
 
     // switch
 
     public void createSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<SwitchAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<SwitchAttributes> resource : subresources) {
@@ -1662,22 +3161,34 @@ public class NetworkStoreRepository {
                         kind
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "switchByVoltageLevel", "voltageLevelId", networkUuid, subresources, SwitchAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateSwitches(UUID networkUuid, List<Resource<SwitchAttributes>> resources) {
+        createSwitches(networkUuid, resources);
+    }
+
+    public void updateSwitchStates(UUID networkUuid, List<SwitchStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (SwitchStateAttributes state : states) {
+            writer.write(psUpdateSwitchState.bind(
+                    state.isOpen(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
         }
+        invalidateCalculatedBusesOfVoltageLevels(writer, networkUuid, states.stream().map(SwitchStateAttributes::getVoltageLevelId));
+        writer.await();
     }
 
     public Optional<Resource<SwitchAttributes>> getSwitch(UUID networkUuid, String switchId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "kind",
-                                                     "node1",
-                                                     "node2",
-                                                     "open",
-                                                     "retained",
-                                                     "fictitious")
-                .from(KEYSPACE_IIDM, "switch")
-                .where(eq("networkUuid", networkUuid)));
+        ResultSet resultSet = session.execute(psGetSwitch.bind(networkUuid, switchId));
         Row row = resultSet.one();
         if (row != null) {
             return Optional.of(Resource.switchBuilder()
@@ -1698,22 +3209,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<SwitchAttributes>> getSwitches(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId",
-                                                     "name",
-                                                     "properties",
-                                                     "kind",
-                                                     "node1",
-                                                     "node2",
-                                                     "open",
-                                                     "retained",
-                                                     "fictitious")
-                .from(KEYSPACE_IIDM, "switch")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<SwitchAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.switchBuilder()
+    public Stream<Resource<SwitchAttributes>> streamSwitches(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetSwitches.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.switchBuilder()
                     .id(row.getString(0))
                     .attributes(SwitchAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -1727,45 +3225,48 @@ public class NetworkStoreRepository {
                             .fictitious(row.getBool(9))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<SwitchAttributes>> getSwitches(UUID networkUuid) {
+        return streamSwitches(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getSwitchCount(UUID networkUuid) {
+        return getCount("switch", networkUuid);
+    }
+
+    private Supplier<List<Resource<SwitchAttributes>>> getVoltageLevelSwitchesAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("switchByVoltageLevel", "voltageLevelId", psGetVoltageLevelSwitches, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<SwitchAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.switchBuilder()
+                        .id(row.getString(0))
+                        .attributes(SwitchAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .kind(SwitchKind.valueOf(row.getString(3)))
+                                .node1(row.getInt(4))
+                                .node2(row.getInt(5))
+                                .open(row.getBool(6))
+                                .retained(row.getBool(7))
+                                .fictitious(row.getBool(8))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<SwitchAttributes>> getVoltageLevelSwitches(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "name",
-                                                     "properties",
-                                                     "kind",
-                                                     "node1",
-                                                     "node2",
-                                                     "open",
-                                                     "retained",
-                                                     "fictitious")
-                .from(KEYSPACE_IIDM, "switchByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<SwitchAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.switchBuilder()
-                    .id(row.getString(0))
-                    .attributes(SwitchAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .kind(SwitchKind.valueOf(row.getString(3)))
-                            .node1(row.getInt(4))
-                            .node2(row.getInt(5))
-                            .open(row.getBool(6))
-                            .retained(row.getBool(7))
-                            .fictitious(row.getBool(8))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelSwitchesAsync(networkUuid, voltageLevelId).get();
     }
 
     // 2 windings transformer
 
     public void createTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<TwoWindingsTransformerAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<TwoWindingsTransformerAttributes> resource : subresources) {
@@ -1798,37 +3299,36 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getConnectableBus2()
                         ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "twoWindingsTransformerByVoltageLevel1", "voltageLevelId", networkUuid, subresources, TwoWindingsTransformerAttributes::getVoltageLevelId1);
+            writeIndex(writer, "twoWindingsTransformerByVoltageLevel2", "voltageLevelId", networkUuid, subresources, TwoWindingsTransformerAttributes::getVoltageLevelId2);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateTwoWindingsTransformers(UUID networkUuid, List<Resource<TwoWindingsTransformerAttributes>> resources) {
+        createTwoWindingsTransformers(networkUuid, resources);
+    }
+
+    public void updateTwoWindingsTransformerStates(UUID networkUuid, List<BranchStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (BranchStateAttributes state : states) {
+            writer.write(psUpdateTwoWindingsTransformerState.bind(
+                    state.getP1(),
+                    state.getQ1(),
+                    state.getP2(),
+                    state.getQ2(),
+                    networkUuid,
+                    state.getId()
+                    ));
         }
+        writer.await();
     }
 
     public Optional<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformer(UUID networkUuid, String twoWindingsTransformerId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g",
-                                                     "b",
-                                                     "ratedU1",
-                                                     "ratedU2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "phaseTapChanger",
-                                                     "ratioTapChanger",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2")
-                .from(KEYSPACE_IIDM, "twoWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", twoWindingsTransformerId)));
+        ResultSet resultSet = session.execute(psGetTwoWindingsTransformer.bind(networkUuid, twoWindingsTransformerId));
         Row one = resultSet.one();
         if (one != null) {
             return Optional.of(Resource.twoWindingsTransformerBuilder()
@@ -1864,37 +3364,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformers(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g",
-                                                     "b",
-                                                     "ratedU1",
-                                                     "ratedU2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "phaseTapChanger",
-                                                     "ratioTapChanger",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2")
-                .from(KEYSPACE_IIDM, "twoWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<TwoWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.twoWindingsTransformerBuilder()
+    public Stream<Resource<TwoWindingsTransformerAttributes>> streamTwoWindingsTransformers(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetTwoWindingsTransformers.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.twoWindingsTransformerBuilder()
                     .id(row.getString(0))
                     .attributes(TwoWindingsTransformerAttributes.builder()
                             .voltageLevelId1(row.getString(1))
@@ -1911,94 +3383,85 @@ public class NetworkStoreRepository {
                             .ratedU2(row.getDouble(12))
                             .p1(row.getDouble(13))
                             .q1(row.getDouble(14))
-                            .p2(row.getDouble(15))
-                            .q2(row.getDouble(16))
-                            .position1(row.get(17, ConnectablePositionAttributes.class))
-                            .position2(row.get(18, ConnectablePositionAttributes.class))
-                            .phaseTapChangerAttributes(row.get(19, PhaseTapChangerAttributes.class))
-                            .ratioTapChangerAttributes(row.get(20, RatioTapChangerAttributes.class))
-                            .bus1(row.getString(21))
-                            .bus2(row.getString(22))
-                            .connectableBus1(row.getString(23))
-                            .connectableBus2(row.getString(24))
-                            .build())
-                    .build());
-        }
-        return resources;
-    }
-
-    private List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, Branch.Side side, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId" + (side == Branch.Side.ONE ? 2 : 1),
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g",
-                                                     "b",
-                                                     "ratedU1",
-                                                     "ratedU2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2",
-                                                     "phaseTapChanger",
-                                                     "ratioTapChanger",
-                                                     "bus1",
-                                                     "bus2",
-                                                     "connectableBus1",
-                                                     "connectableBus2")
-                .from(KEYSPACE_IIDM, "twoWindingsTransformerByVoltageLevel" + (side == Branch.Side.ONE ? 1 : 2))
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId" + (side == Branch.Side.ONE ? 1 : 2), voltageLevelId)));
-        List<Resource<TwoWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.twoWindingsTransformerBuilder()
-                    .id(row.getString(0))
-                    .attributes(TwoWindingsTransformerAttributes.builder()
-                            .voltageLevelId1(side == Branch.Side.ONE ? voltageLevelId : row.getString(1))
-                            .voltageLevelId2(side == Branch.Side.TWO ? voltageLevelId : row.getString(1))
-                            .name(row.getString(2))
-                            .properties(row.getMap(3, String.class, String.class))
-                            .node1(row.getInt(4))
-                            .node2(row.getInt(5))
-                            .r(row.getDouble(6))
-                            .x(row.getDouble(7))
-                            .g(row.getDouble(8))
-                            .b(row.getDouble(9))
-                            .ratedU1(row.getDouble(10))
-                            .ratedU2(row.getDouble(11))
-                            .p1(row.getDouble(12))
-                            .q1(row.getDouble(13))
-                            .p2(row.getDouble(14))
-                            .q2(row.getDouble(15))
-                            .position1(row.get(16, ConnectablePositionAttributes.class))
-                            .position2(row.get(17, ConnectablePositionAttributes.class))
-                            .phaseTapChangerAttributes(row.get(18, PhaseTapChangerAttributes.class))
-                            .ratioTapChangerAttributes(row.get(19, RatioTapChangerAttributes.class))
+                            .p2(row.getDouble(15))
+                            .q2(row.getDouble(16))
+                            .position1(row.get(17, ConnectablePositionAttributes.class))
+                            .position2(row.get(18, ConnectablePositionAttributes.class))
+                            .phaseTapChangerAttributes(row.get(19, PhaseTapChangerAttributes.class))
+                            .ratioTapChangerAttributes(row.get(20, RatioTapChangerAttributes.class))
                             .bus1(row.getString(21))
                             .bus2(row.getString(22))
                             .connectableBus1(row.getString(23))
                             .connectableBus2(row.getString(24))
                             .build())
                     .build());
-        }
-        return resources;
     }
 
-    public List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        return ImmutableList.<Resource<TwoWindingsTransformerAttributes>>builder()
-                .addAll(getVoltageLevelTwoWindingsTransformers(networkUuid, Branch.Side.ONE, voltageLevelId))
-                .addAll(getVoltageLevelTwoWindingsTransformers(networkUuid, Branch.Side.TWO, voltageLevelId))
+    public List<Resource<TwoWindingsTransformerAttributes>> getTwoWindingsTransformers(UUID networkUuid) {
+        return streamTwoWindingsTransformers(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getTwoWindingsTransformerCount(UUID networkUuid) {
+        return getCount("twoWindingsTransformer", networkUuid);
+    }
+
+    private Supplier<List<Resource<TwoWindingsTransformerAttributes>>> getVoltageLevelTwoWindingsTransformersAsync(UUID networkUuid, Branch.Side side, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("twoWindingsTransformerByVoltageLevel" + (side == Branch.Side.ONE ? 1 : 2), "voltageLevelId", psGetVoltageLevelTwoWindingsTransformers.get(side), networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<TwoWindingsTransformerAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.twoWindingsTransformerBuilder()
+                        .id(row.getString(0))
+                        .attributes(TwoWindingsTransformerAttributes.builder()
+                                .voltageLevelId1(side == Branch.Side.ONE ? voltageLevelId : row.getString(1))
+                                .voltageLevelId2(side == Branch.Side.TWO ? voltageLevelId : row.getString(1))
+                                .name(row.getString(2))
+                                .properties(row.getMap(3, String.class, String.class))
+                                .node1(row.getInt(4))
+                                .node2(row.getInt(5))
+                                .r(row.getDouble(6))
+                                .x(row.getDouble(7))
+                                .g(row.getDouble(8))
+                                .b(row.getDouble(9))
+                                .ratedU1(row.getDouble(10))
+                                .ratedU2(row.getDouble(11))
+                                .p1(row.getDouble(12))
+                                .q1(row.getDouble(13))
+                                .p2(row.getDouble(14))
+                                .q2(row.getDouble(15))
+                                .position1(row.get(16, ConnectablePositionAttributes.class))
+                                .position2(row.get(17, ConnectablePositionAttributes.class))
+                                .phaseTapChangerAttributes(row.get(18, PhaseTapChangerAttributes.class))
+                                .ratioTapChangerAttributes(row.get(19, RatioTapChangerAttributes.class))
+                                .bus1(row.getString(20))
+                                .bus2(row.getString(21))
+                                .connectableBus1(row.getString(22))
+                                .connectableBus2(row.getString(23))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
+    }
+
+    private Supplier<List<Resource<TwoWindingsTransformerAttributes>>> getVoltageLevelTwoWindingsTransformersAsync(UUID networkUuid, String voltageLevelId) {
+        // sides are queried concurrently
+        Supplier<List<Resource<TwoWindingsTransformerAttributes>>> side1 = getVoltageLevelTwoWindingsTransformersAsync(networkUuid, Branch.Side.ONE, voltageLevelId);
+        Supplier<List<Resource<TwoWindingsTransformerAttributes>>> side2 = getVoltageLevelTwoWindingsTransformersAsync(networkUuid, Branch.Side.TWO, voltageLevelId);
+        return () -> ImmutableList.<Resource<TwoWindingsTransformerAttributes>>builder()
+                .addAll(side1.get())
+                .addAll(side2.get())
                 .build();
     }
 
+    public List<Resource<TwoWindingsTransformerAttributes>> getVoltageLevelTwoWindingsTransformers(UUID networkUuid, String voltageLevelId) {
+        return getVoltageLevelTwoWindingsTransformersAsync(networkUuid, voltageLevelId).get();
+    }
+
     // 3 windings transformer
 
     public void createThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<ThreeWindingsTransformerAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<ThreeWindingsTransformerAttributes> resource : subresources) {
@@ -2055,61 +3518,39 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getLeg3().getConnectableBus()
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "threeWindingsTransformerByVoltageLevel1", "voltageLevelId", networkUuid, subresources, attributes -> attributes.getLeg1().getVoltageLevelId());
+            writeIndex(writer, "threeWindingsTransformerByVoltageLevel2", "voltageLevelId", networkUuid, subresources, attributes -> attributes.getLeg2().getVoltageLevelId());
+            writeIndex(writer, "threeWindingsTransformerByVoltageLevel3", "voltageLevelId", networkUuid, subresources, attributes -> attributes.getLeg3().getVoltageLevelId());
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateThreeWindingsTransformers(UUID networkUuid, List<Resource<ThreeWindingsTransformerAttributes>> resources) {
+        createThreeWindingsTransformers(networkUuid, resources);
+    }
+
+    public void updateThreeWindingsTransformerStates(UUID networkUuid, List<ThreeWindingsTransformerStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (ThreeWindingsTransformerStateAttributes state : states) {
+            writer.write(psUpdateThreeWindingsTransformerState.bind(
+                    state.getP1(),
+                    state.getQ1(),
+                    state.getP2(),
+                    state.getQ2(),
+                    state.getP3(),
+                    state.getQ3(),
+                    networkUuid,
+                    state.getId()
+                    ));
         }
+        writer.await();
     }
 
     public Optional<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformer(UUID networkUuid, String threeWindingsTransformerId) {
-        ResultSet resultSet = session.execute(select("name",
-                "properties",
-                "ratedU0",
-                "voltageLevelId1",
-                "node1",
-                "r1",
-                "x1",
-                "g1",
-                "b1",
-                "ratedU1",
-                "p1",
-                "q1",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "voltageLevelId2",
-                "node2",
-                "r2",
-                "x2",
-                "g2",
-                "b2",
-                "ratedU2",
-                "p2",
-                "q2",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "voltageLevelId3",
-                "node3",
-                "r3",
-                "x3",
-                "g3",
-                "b3",
-                "ratedU3",
-                "p3",
-                "q3",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "position1",
-                "position2",
-                "position3",
-                "currentLimits1",
-                "currentLimits2",
-                "currentLimits3",
-                "bus1",
-                "connectableBus1",
-                "bus2",
-                "connectableBus2",
-                "bus3",
-                "connectableBus3")
-                .from(KEYSPACE_IIDM, "threeWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", threeWindingsTransformerId)));
+        ResultSet resultSet = session.execute(psGetThreeWindingsTransformer.bind(networkUuid, threeWindingsTransformerId));
         Row one = resultSet.one();
         if (one != null) {
             return Optional.of(Resource.threeWindingsTransformerBuilder()
@@ -2157,226 +3598,55 @@ public class NetworkStoreRepository {
                                     .voltageLevelId(one.getString(25))
                                     .node(one.getInt(26))
                                     .r(one.getDouble(27))
-                                    .x(one.getDouble(28))
-                                    .g(one.getDouble(29))
-                                    .b(one.getDouble(30))
-                                    .ratedU(one.getDouble(31))
-                                    .phaseTapChangerAttributes(one.get(34, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(one.get(35, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(one.get(41, CurrentLimitsAttributes.class))
-                                    .bus(one.getString(46))
-                                    .connectableBus(one.getString(47))
-                                    .build())
-                            .p3(one.getDouble(32))
-                            .q3(one.getDouble(33))
-                            .position1(one.get(36, ConnectablePositionAttributes.class))
-                            .position2(one.get(37, ConnectablePositionAttributes.class))
-                            .position3(one.get(38, ConnectablePositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return Optional.empty();
-    }
-
-    public List<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformers(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "ratedU0",
-                "voltageLevelId1",
-                "node1",
-                "r1",
-                "x1",
-                "g1",
-                "b1",
-                "ratedU1",
-                "p1",
-                "q1",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "voltageLevelId2",
-                "node2",
-                "r2",
-                "x2",
-                "g2",
-                "b2",
-                "ratedU2",
-                "p2",
-                "q2",
-                "phaseTapChanger2",
-                "ratioTapChanger2",
-                "voltageLevelId3",
-                "node3",
-                "r3",
-                "x3",
-                "g3",
-                "b3",
-                "ratedU3",
-                "p3",
-                "q3",
-                "phaseTapChanger3",
-                "ratioTapChanger3",
-                "position1",
-                "position2",
-                "position3",
-                "currentLimits1",
-                "currentLimits2",
-                "currentLimits3",
-                "bus1",
-                "connectableBus1",
-                "bus2",
-                "connectableBus2",
-                "bus3",
-                "connectableBus3")
-                .from(KEYSPACE_IIDM, "threeWindingsTransformer")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<ThreeWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.threeWindingsTransformerBuilder()
-                    .id(row.getString(0))
-                    .attributes(ThreeWindingsTransformerAttributes.builder()
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .ratedU0(row.getDouble(3))
-                            .leg1(LegAttributes.builder()
-                                    .legNumber(1)
-                                    .voltageLevelId(row.getString(4))
-                                    .node(row.getInt(5))
-                                    .r(row.getDouble(6))
-                                    .x(row.getDouble(7))
-                                    .g(row.getDouble(8))
-                                    .b(row.getDouble(9))
-                                    .ratedU(row.getDouble(10))
-                                    .phaseTapChangerAttributes(row.get(13, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(14, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(40, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(43))
-                                    .connectableBus(row.getString(44))
-                                    .build())
-                            .p1(row.getDouble(11))
-                            .q1(row.getDouble(12))
-                            .leg2(LegAttributes.builder()
-                                    .legNumber(2)
-                                    .voltageLevelId(row.getString(15))
-                                    .node(row.getInt(16))
-                                    .r(row.getDouble(17))
-                                    .x(row.getDouble(18))
-                                    .g(row.getDouble(19))
-                                    .b(row.getDouble(20))
-                                    .ratedU(row.getDouble(21))
-                                    .phaseTapChangerAttributes(row.get(24, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(25, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(41, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(45))
-                                    .connectableBus(row.getString(46))
-                                    .build())
-                            .p2(row.getDouble(22))
-                            .q2(row.getDouble(23))
-                            .leg3(LegAttributes.builder()
-                                    .legNumber(3)
-                                    .voltageLevelId(row.getString(26))
-                                    .node(row.getInt(27))
-                                    .r(row.getDouble(28))
-                                    .x(row.getDouble(29))
-                                    .g(row.getDouble(30))
-                                    .b(row.getDouble(31))
-                                    .ratedU(row.getDouble(32))
-                                    .phaseTapChangerAttributes(row.get(35, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(36, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(42, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(47))
-                                    .connectableBus(row.getString(48))
-                                    .build())
-                            .p3(row.getDouble(33))
-                            .q3(row.getDouble(34))
-                            .position1(row.get(37, ConnectablePositionAttributes.class))
-                            .position2(row.get(38, ConnectablePositionAttributes.class))
-                            .position3(row.get(39, ConnectablePositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
-    }
-
-    private List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, ThreeWindingsTransformer.Side side, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 2 : 1),
-                "voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 3 : (side == ThreeWindingsTransformer.Side.TWO ? 3 : 2)),
-                "name",
-                "properties",
-                "ratedU0",
-                "node1",
-                "r1",
-                "x1",
-                "g1",
-                "b1",
-                "ratedU1",
-                "p1",
-                "q1",
-                "phaseTapChanger1",
-                "ratioTapChanger1",
-                "node2",
-                "r2",
-                "x2",
-                "g2",
-                "b2",
-                "ratedU2",
-                "p2",
-                "q2",
-                "phaseTapChanger2",
-                "ratioTapChanger2",
-                "node3",
-                "r3",
-                "x3",
-                "g3",
-                "b3",
-                "ratedU3",
-                "p3",
-                "q3",
-                "phaseTapChanger3",
-                "ratioTapChanger3",
-                "position1",
-                "position2",
-                "position3",
-                "currentLimits1",
-                "currentLimits2",
-                "currentLimits3",
-                "bus1",
-                "connectableBus1",
-                "bus2",
-                "connectableBus2",
-                "bus3",
-                "connectableBus3")
-                .from(KEYSPACE_IIDM, "threeWindingsTransformerByVoltageLevel" + (side == ThreeWindingsTransformer.Side.ONE ? 1 : (side == ThreeWindingsTransformer.Side.TWO ? 2 : 3)))
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId" + (side == ThreeWindingsTransformer.Side.ONE ? 1 : (side == ThreeWindingsTransformer.Side.TWO ? 2 : 3)), voltageLevelId)));
-        List<Resource<ThreeWindingsTransformerAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.threeWindingsTransformerBuilder()
+                                    .x(one.getDouble(28))
+                                    .g(one.getDouble(29))
+                                    .b(one.getDouble(30))
+                                    .ratedU(one.getDouble(31))
+                                    .phaseTapChangerAttributes(one.get(34, PhaseTapChangerAttributes.class))
+                                    .ratioTapChangerAttributes(one.get(35, RatioTapChangerAttributes.class))
+                                    .currentLimitsAttributes(one.get(41, CurrentLimitsAttributes.class))
+                                    .bus(one.getString(46))
+                                    .connectableBus(one.getString(47))
+                                    .build())
+                            .p3(one.getDouble(32))
+                            .q3(one.getDouble(33))
+                            .position1(one.get(36, ConnectablePositionAttributes.class))
+                            .position2(one.get(37, ConnectablePositionAttributes.class))
+                            .position3(one.get(38, ConnectablePositionAttributes.class))
+                            .build())
+                    .build());
+        }
+        return Optional.empty();
+    }
+
+    public Stream<Resource<ThreeWindingsTransformerAttributes>> streamThreeWindingsTransformers(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetThreeWindingsTransformers.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.threeWindingsTransformerBuilder()
                     .id(row.getString(0))
                     .attributes(ThreeWindingsTransformerAttributes.builder()
-                            .name(row.getString(3))
-                            .properties(row.getMap(4, String.class, String.class))
-                            .ratedU0(row.getDouble(5))
+                            .name(row.getString(1))
+                            .properties(row.getMap(2, String.class, String.class))
+                            .ratedU0(row.getDouble(3))
                             .leg1(LegAttributes.builder()
                                     .legNumber(1)
-                                    .voltageLevelId(side == ThreeWindingsTransformer.Side.ONE ? voltageLevelId : row.getString(1))
-                                    .node(row.getInt(6))
-                                    .r(row.getDouble(7))
-                                    .x(row.getDouble(8))
-                                    .g(row.getDouble(9))
-                                    .b(row.getDouble(10))
-                                    .ratedU(row.getDouble(11))
-                                    .phaseTapChangerAttributes(row.get(14, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(15, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(39, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(42))
-                                    .connectableBus(row.getString(43))
+                                    .voltageLevelId(row.getString(4))
+                                    .node(row.getInt(5))
+                                    .r(row.getDouble(6))
+                                    .x(row.getDouble(7))
+                                    .g(row.getDouble(8))
+                                    .b(row.getDouble(9))
+                                    .ratedU(row.getDouble(10))
+                                    .phaseTapChangerAttributes(row.get(13, PhaseTapChangerAttributes.class))
+                                    .ratioTapChangerAttributes(row.get(14, RatioTapChangerAttributes.class))
+                                    .currentLimitsAttributes(row.get(40, CurrentLimitsAttributes.class))
+                                    .bus(row.getString(43))
+                                    .connectableBus(row.getString(44))
                                     .build())
-                            .p1(row.getDouble(12))
-                            .q1(row.getDouble(13))
+                            .p1(row.getDouble(11))
+                            .q1(row.getDouble(12))
                             .leg2(LegAttributes.builder()
                                     .legNumber(2)
-                                    .voltageLevelId(side == ThreeWindingsTransformer.Side.TWO ? voltageLevelId : (side == ThreeWindingsTransformer.Side.ONE ? row.getString(1) : row.getString(2)))
+                                    .voltageLevelId(row.getString(15))
                                     .node(row.getInt(16))
                                     .r(row.getDouble(17))
                                     .x(row.getDouble(18))
@@ -2385,49 +3655,136 @@ public class NetworkStoreRepository {
                                     .ratedU(row.getDouble(21))
                                     .phaseTapChangerAttributes(row.get(24, PhaseTapChangerAttributes.class))
                                     .ratioTapChangerAttributes(row.get(25, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(40, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(44))
-                                    .connectableBus(row.getString(45))
+                                    .currentLimitsAttributes(row.get(41, CurrentLimitsAttributes.class))
+                                    .bus(row.getString(45))
+                                    .connectableBus(row.getString(46))
                                     .build())
                             .p2(row.getDouble(22))
                             .q2(row.getDouble(23))
                             .leg3(LegAttributes.builder()
                                     .legNumber(3)
-                                    .voltageLevelId(side == ThreeWindingsTransformer.Side.THREE ? voltageLevelId : row.getString(2))
-                                    .node(row.getInt(26))
-                                    .r(row.getDouble(27))
-                                    .x(row.getDouble(28))
-                                    .g(row.getDouble(29))
-                                    .b(row.getDouble(30))
-                                    .ratedU(row.getDouble(31))
-                                    .phaseTapChangerAttributes(row.get(34, PhaseTapChangerAttributes.class))
-                                    .ratioTapChangerAttributes(row.get(35, RatioTapChangerAttributes.class))
-                                    .currentLimitsAttributes(row.get(41, CurrentLimitsAttributes.class))
-                                    .bus(row.getString(46))
-                                    .connectableBus(row.getString(47))
+                                    .voltageLevelId(row.getString(26))
+                                    .node(row.getInt(27))
+                                    .r(row.getDouble(28))
+                                    .x(row.getDouble(29))
+                                    .g(row.getDouble(30))
+                                    .b(row.getDouble(31))
+                                    .ratedU(row.getDouble(32))
+                                    .phaseTapChangerAttributes(row.get(35, PhaseTapChangerAttributes.class))
+                                    .ratioTapChangerAttributes(row.get(36, RatioTapChangerAttributes.class))
+                                    .currentLimitsAttributes(row.get(42, CurrentLimitsAttributes.class))
+                                    .bus(row.getString(47))
+                                    .connectableBus(row.getString(48))
                                     .build())
-                            .p3(row.getDouble(32))
-                            .q3(row.getDouble(33))
-                            .position1(row.get(36, ConnectablePositionAttributes.class))
-                            .position2(row.get(37, ConnectablePositionAttributes.class))
-                            .position3(row.get(38, ConnectablePositionAttributes.class))
+                            .p3(row.getDouble(33))
+                            .q3(row.getDouble(34))
+                            .position1(row.get(37, ConnectablePositionAttributes.class))
+                            .position2(row.get(38, ConnectablePositionAttributes.class))
+                            .position3(row.get(39, ConnectablePositionAttributes.class))
                             .build())
                     .build());
-        }
-        return resources;
     }
 
-    public List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, String voltageLevelId) {
-        return ImmutableList.<Resource<ThreeWindingsTransformerAttributes>>builder()
-                .addAll(getVoltageLevelThreeWindingsTransformers(networkUuid, ThreeWindingsTransformer.Side.ONE, voltageLevelId))
-                .addAll(getVoltageLevelThreeWindingsTransformers(networkUuid, ThreeWindingsTransformer.Side.TWO, voltageLevelId))
-                .addAll(getVoltageLevelThreeWindingsTransformers(networkUuid, ThreeWindingsTransformer.Side.THREE, voltageLevelId))
+    public List<Resource<ThreeWindingsTransformerAttributes>> getThreeWindingsTransformers(UUID networkUuid) {
+        return streamThreeWindingsTransformers(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getThreeWindingsTransformerCount(UUID networkUuid) {
+        return getCount("threeWindingsTransformer", networkUuid);
+    }
+
+    private Supplier<List<Resource<ThreeWindingsTransformerAttributes>>> getVoltageLevelThreeWindingsTransformersAsync(UUID networkUuid, ThreeWindingsTransformer.Side side, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("threeWindingsTransformerByVoltageLevel" + (side == ThreeWindingsTransformer.Side.ONE ? 1 : (side == ThreeWindingsTransformer.Side.TWO ? 2 : 3)), "voltageLevelId", psGetVoltageLevelThreeWindingsTransformers.get(side), networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<ThreeWindingsTransformerAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.threeWindingsTransformerBuilder()
+                        .id(row.getString(0))
+                        .attributes(ThreeWindingsTransformerAttributes.builder()
+                                .name(row.getString(3))
+                                .properties(row.getMap(4, String.class, String.class))
+                                .ratedU0(row.getDouble(5))
+                                .leg1(LegAttributes.builder()
+                                        .legNumber(1)
+                                        .voltageLevelId(side == ThreeWindingsTransformer.Side.ONE ? voltageLevelId : row.getString(1))
+                                        .node(row.getInt(6))
+                                        .r(row.getDouble(7))
+                                        .x(row.getDouble(8))
+                                        .g(row.getDouble(9))
+                                        .b(row.getDouble(10))
+                                        .ratedU(row.getDouble(11))
+                                        .phaseTapChangerAttributes(row.get(14, PhaseTapChangerAttributes.class))
+                                        .ratioTapChangerAttributes(row.get(15, RatioTapChangerAttributes.class))
+                                        .currentLimitsAttributes(row.get(39, CurrentLimitsAttributes.class))
+                                        .bus(row.getString(42))
+                                        .connectableBus(row.getString(43))
+                                        .build())
+                                .p1(row.getDouble(12))
+                                .q1(row.getDouble(13))
+                                .leg2(LegAttributes.builder()
+                                        .legNumber(2)
+                                        .voltageLevelId(side == ThreeWindingsTransformer.Side.TWO ? voltageLevelId : (side == ThreeWindingsTransformer.Side.ONE ? row.getString(1) : row.getString(2)))
+                                        .node(row.getInt(16))
+                                        .r(row.getDouble(17))
+                                        .x(row.getDouble(18))
+                                        .g(row.getDouble(19))
+                                        .b(row.getDouble(20))
+                                        .ratedU(row.getDouble(21))
+                                        .phaseTapChangerAttributes(row.get(24, PhaseTapChangerAttributes.class))
+                                        .ratioTapChangerAttributes(row.get(25, RatioTapChangerAttributes.class))
+                                        .currentLimitsAttributes(row.get(40, CurrentLimitsAttributes.class))
+                                        .bus(row.getString(44))
+                                        .connectableBus(row.getString(45))
+                                        .build())
+                                .p2(row.getDouble(22))
+                                .q2(row.getDouble(23))
+                                .leg3(LegAttributes.builder()
+                                        .legNumber(3)
+                                        .voltageLevelId(side == ThreeWindingsTransformer.Side.THREE ? voltageLevelId : row.getString(2))
+                                        .node(row.getInt(26))
+                                        .r(row.getDouble(27))
+                                        .x(row.getDouble(28))
+                                        .g(row.getDouble(29))
+                                        .b(row.getDouble(30))
+                                        .ratedU(row.getDouble(31))
+                                        .phaseTapChangerAttributes(row.get(34, PhaseTapChangerAttributes.class))
+                                        .ratioTapChangerAttributes(row.get(35, RatioTapChangerAttributes.class))
+                                        .currentLimitsAttributes(row.get(41, CurrentLimitsAttributes.class))
+                                        .bus(row.getString(46))
+                                        .connectableBus(row.getString(47))
+                                        .build())
+                                .p3(row.getDouble(32))
+                                .q3(row.getDouble(33))
+                                .position1(row.get(36, ConnectablePositionAttributes.class))
+                                .position2(row.get(37, ConnectablePositionAttributes.class))
+                                .position3(row.get(38, ConnectablePositionAttributes.class))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
+    }
+
+    private Supplier<List<Resource<ThreeWindingsTransformerAttributes>>> getVoltageLevelThreeWindingsTransformersAsync(UUID networkUuid, String voltageLevelId) {
+        // sides are queried concurrently
+        Supplier<List<Resource<ThreeWindingsTransformerAttributes>>> side1 = getVoltageLevelThreeWindingsTransformersAsync(networkUuid, ThreeWindingsTransformer.Side.ONE, voltageLevelId);
+        Supplier<List<Resource<ThreeWindingsTransformerAttributes>>> side2 = getVoltageLevelThreeWindingsTransformersAsync(networkUuid, ThreeWindingsTransformer.Side.TWO, voltageLevelId);
+        Supplier<List<Resource<ThreeWindingsTransformerAttributes>>> side3 = getVoltageLevelThreeWindingsTransformersAsync(networkUuid, ThreeWindingsTransformer.Side.THREE, voltageLevelId);
+        return () -> ImmutableList.<Resource<ThreeWindingsTransformerAttributes>>builder()
+                .addAll(side1.get())
+                .addAll(side2.get())
+                .addAll(side3.get())
                 .build();
     }
 
+    public List<Resource<ThreeWindingsTransformerAttributes>> getVoltageLevelThreeWindingsTransformers(UUID networkUuid, String voltageLevelId) {
+        return getVoltageLevelThreeWindingsTransformersAsync(networkUuid, voltageLevelId).get();
+    }
+
     // line
 
     public void createLines(UUID networkUuid, List<Resource<LineAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<LineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<LineAttributes> resource : subresources) {
@@ -2454,31 +3811,36 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getPosition2()
                         ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "lineByVoltageLevel1", "voltageLevelId", networkUuid, subresources, LineAttributes::getVoltageLevelId1);
+            writeIndex(writer, "lineByVoltageLevel2", "voltageLevelId", networkUuid, subresources, LineAttributes::getVoltageLevelId2);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateLines(UUID networkUuid, List<Resource<LineAttributes>> resources) {
+        createLines(networkUuid, resources);
+    }
+
+    public void updateLineStates(UUID networkUuid, List<BranchStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (BranchStateAttributes state : states) {
+            writer.write(psUpdateLineState.bind(
+                    state.getP1(),
+                    state.getQ1(),
+                    state.getP2(),
+                    state.getQ2(),
+                    networkUuid,
+                    state.getId()
+                    ));
         }
+        writer.await();
     }
 
     public Optional<Resource<LineAttributes>> getLine(UUID networkUuid, String lineId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g1",
-                                                     "b1",
-                                                     "g1",
-                                                     "b1",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2")
-                .from(KEYSPACE_IIDM, "line")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", lineId)));
+        ResultSet resultSet = session.execute(psGetLine.bind(networkUuid, lineId));
         Row one = resultSet.one();
         if (one != null) {
             return Optional.of(Resource.lineBuilder()
@@ -2508,31 +3870,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<LineAttributes>> getLines(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId1",
-                                                     "voltageLevelId2",
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g1",
-                                                     "b1",
-                                                     "g2",
-                                                     "b2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2")
-                .from(KEYSPACE_IIDM, "line")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<LineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.lineBuilder()
+    public Stream<Resource<LineAttributes>> streamLines(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetLines.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.lineBuilder()
                     .id(row.getString(0))
                     .attributes(LineAttributes.builder()
                             .voltageLevelId1(row.getString(1))
@@ -2555,85 +3895,68 @@ public class NetworkStoreRepository {
                             .position2(row.get(18, ConnectablePositionAttributes.class))
                             .build())
                     .build());
-        }
-        return resources;
     }
 
-    private List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, Branch.Side side, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                                                     "voltageLevelId" + (side == Branch.Side.ONE ? 2 : 1),
-                                                     "name",
-                                                     "properties",
-                                                     "node1",
-                                                     "node2",
-                                                     "r",
-                                                     "x",
-                                                     "g1",
-                                                     "b1",
-                                                     "g2",
-                                                     "b2",
-                                                     "p1",
-                                                     "q1",
-                                                     "p2",
-                                                     "q2",
-                                                     "position1",
-                                                     "position2")
-                .from(KEYSPACE_IIDM, "lineByVoltageLevel" + (side == Branch.Side.ONE ? 1 : 2))
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId" + (side == Branch.Side.ONE ? 1 : 2), voltageLevelId)));
-        List<Resource<LineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.lineBuilder()
-                    .id(row.getString(0))
-                    .attributes(LineAttributes.builder()
-                            .voltageLevelId1(side == Branch.Side.ONE ? voltageLevelId : row.getString(1))
-                            .voltageLevelId2(side == Branch.Side.TWO ? voltageLevelId : row.getString(1))
-                            .name(row.getString(2))
-                            .properties(row.getMap(3, String.class, String.class))
-                            .node1(row.getInt(4))
-                            .node2(row.getInt(5))
-                            .r(row.getDouble(6))
-                            .x(row.getDouble(7))
-                            .g1(row.getDouble(8))
-                            .b1(row.getDouble(9))
-                            .g2(row.getDouble(10))
-                            .b2(row.getDouble(11))
-                            .p1(row.getDouble(12))
-                            .q1(row.getDouble(13))
-                            .p2(row.getDouble(14))
-                            .q2(row.getDouble(15))
-                            .position1(row.get(16, ConnectablePositionAttributes.class))
-                            .position2(row.get(17, ConnectablePositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+    public List<Resource<LineAttributes>> getLines(UUID networkUuid) {
+        return streamLines(networkUuid).collect(Collectors.toList());
     }
 
-    public List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, String voltageLevelId) {
-        return ImmutableList.<Resource<LineAttributes>>builder()
-                .addAll(getVoltageLevelLines(networkUuid, Branch.Side.ONE, voltageLevelId))
-                .addAll(getVoltageLevelLines(networkUuid, Branch.Side.TWO, voltageLevelId))
+    public int getLineCount(UUID networkUuid) {
+        return getCount("line", networkUuid);
+    }
+
+    private Supplier<List<Resource<LineAttributes>>> getVoltageLevelLinesAsync(UUID networkUuid, Branch.Side side, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("lineByVoltageLevel" + (side == Branch.Side.ONE ? 1 : 2), "voltageLevelId", psGetVoltageLevelLines.get(side), networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<LineAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.lineBuilder()
+                        .id(row.getString(0))
+                        .attributes(LineAttributes.builder()
+                                .voltageLevelId1(side == Branch.Side.ONE ? voltageLevelId : row.getString(1))
+                                .voltageLevelId2(side == Branch.Side.TWO ? voltageLevelId : row.getString(1))
+                                .name(row.getString(2))
+                                .properties(row.getMap(3, String.class, String.class))
+                                .node1(row.getInt(4))
+                                .node2(row.getInt(5))
+                                .r(row.getDouble(6))
+                                .x(row.getDouble(7))
+                                .g1(row.getDouble(8))
+                                .b1(row.getDouble(9))
+                                .g2(row.getDouble(10))
+                                .b2(row.getDouble(11))
+                                .p1(row.getDouble(12))
+                                .q1(row.getDouble(13))
+                                .p2(row.getDouble(14))
+                                .q2(row.getDouble(15))
+                                .position1(row.get(16, ConnectablePositionAttributes.class))
+                                .position2(row.get(17, ConnectablePositionAttributes.class))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
+    }
+
+    private Supplier<List<Resource<LineAttributes>>> getVoltageLevelLinesAsync(UUID networkUuid, String voltageLevelId) {
+        // sides are queried concurrently
+        Supplier<List<Resource<LineAttributes>>> side1 = getVoltageLevelLinesAsync(networkUuid, Branch.Side.ONE, voltageLevelId);
+        Supplier<List<Resource<LineAttributes>>> side2 = getVoltageLevelLinesAsync(networkUuid, Branch.Side.TWO, voltageLevelId);
+        return () -> ImmutableList.<Resource<LineAttributes>>builder()
+                .addAll(side1.get())
+                .addAll(side2.get())
                 .build();
     }
 
+    public List<Resource<LineAttributes>> getVoltageLevelLines(UUID networkUuid, String voltageLevelId) {
+        return getVoltageLevelLinesAsync(networkUuid, voltageLevelId).get();
+    }
+
     // Hvdc line
 
-    public List<Resource<HvdcLineAttributes>> getHvdcLines(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "r",
-                "convertersMode",
-                "nominalV",
-                "activePowerSetpoint",
-                "maxP",
-                "converterStationId1",
-                "converterStationId2")
-                .from(KEYSPACE_IIDM, "hvdcLine")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<HvdcLineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.hvdcLineBuilder()
+    public Stream<Resource<HvdcLineAttributes>> streamHvdcLines(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetHvdcLines.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.hvdcLineBuilder()
                     .id(row.getString(0))
                     .attributes(HvdcLineAttributes.builder()
                             .name(row.getString(1))
@@ -2647,22 +3970,18 @@ public class NetworkStoreRepository {
                             .converterStationId2(row.getString(9))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<HvdcLineAttributes>> getHvdcLines(UUID networkUuid) {
+        return streamHvdcLines(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getHvdcLineCount(UUID networkUuid) {
+        return getCount("hvdcLine", networkUuid);
     }
 
     public Optional<Resource<HvdcLineAttributes>> getHvdcLine(UUID networkUuid, String hvdcLineId) {
-        ResultSet resultSet = session.execute(select("name",
-                "properties",
-                "r",
-                "convertersMode",
-                "nominalV",
-                "activePowerSetpoint",
-                "maxP",
-                "converterStationId1",
-                "converterStationId2")
-                .from(KEYSPACE_IIDM, "hvdcLine")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", hvdcLineId)));
+        ResultSet resultSet = session.execute(psGetHvdcLine.bind(networkUuid, hvdcLineId));
         Row one = resultSet.one();
         if (one != null) {
             return Optional.of(Resource.hvdcLineBuilder()
@@ -2684,6 +4003,7 @@ public class NetworkStoreRepository {
     }
 
     public void createHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<HvdcLineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<HvdcLineAttributes> resource : subresources) {
@@ -2701,34 +4021,21 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getConverterStationId2()
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
         }
+        writer.await();
+    }
+
+    public void updateHvdcLines(UUID networkUuid, List<Resource<HvdcLineAttributes>> resources) {
+        createHvdcLines(networkUuid, resources);
     }
 
     // Dangling line
 
-    public List<Resource<DanglingLineAttributes>> getDanglingLines(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "p0",
-                "q0",
-                "r",
-                "x",
-                "g",
-                "b",
-                "ucteXNodeCode",
-                "currentLimits",
-                "p",
-                "q",
-                "position")
-                .from(KEYSPACE_IIDM, "danglingLine")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<DanglingLineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.danglingLineBuilder()
+    public Stream<Resource<DanglingLineAttributes>> streamDanglingLines(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetDanglingLines.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.danglingLineBuilder()
                     .id(row.getString(0))
                     .attributes(DanglingLineAttributes.builder()
                             .voltageLevelId(row.getString(1))
@@ -2748,28 +4055,18 @@ public class NetworkStoreRepository {
                             .position(row.get(15, ConnectablePositionAttributes.class))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<DanglingLineAttributes>> getDanglingLines(UUID networkUuid) {
+        return streamDanglingLines(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getDanglingLineCount(UUID networkUuid) {
+        return getCount("danglingLine", networkUuid);
     }
 
     public Optional<Resource<DanglingLineAttributes>> getDanglingLine(UUID networkUuid, String danglingLineId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "node",
-                "p0",
-                "q0",
-                "r",
-                "x",
-                "g",
-                "b",
-                "ucteXNodeCode",
-                "currentLimits",
-                "p",
-                "q",
-                "position")
-                .from(KEYSPACE_IIDM, "danglingLine")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", danglingLineId)));
+        ResultSet resultSet = session.execute(psGetDanglingLine.bind(networkUuid, danglingLineId));
         Row one = resultSet.one();
         if (one != null) {
             return Optional.of(Resource.danglingLineBuilder()
@@ -2796,51 +4093,42 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
+    private Supplier<List<Resource<DanglingLineAttributes>>> getVoltageLevelDanglingLinesAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("danglingLineByVoltageLevel", "voltageLevelId", psGetVoltageLevelDanglingLines, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<DanglingLineAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.danglingLineBuilder()
+                        .id(row.getString(0))
+                        .attributes(DanglingLineAttributes.builder()
+                                .voltageLevelId(voltageLevelId)
+                                .name(row.getString(1))
+                                .properties(row.getMap(2, String.class, String.class))
+                                .node(row.getInt(3))
+                                .p0(row.getDouble(4))
+                                .q0(row.getDouble(5))
+                                .r(row.getDouble(6))
+                                .x(row.getDouble(7))
+                                .g(row.getDouble(8))
+                                .b(row.getDouble(9))
+                                .ucteXnodeCode(row.getString(10))
+                                .currentLimits(row.get(11, CurrentLimitsAttributes.class))
+                                .p(row.getDouble(12))
+                                .q(row.getDouble(13))
+                                .position(row.get(14, ConnectablePositionAttributes.class))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
+    }
+
     public List<Resource<DanglingLineAttributes>> getVoltageLevelDanglingLines(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "properties",
-                "node",
-                "p0",
-                "q0",
-                "r",
-                "x",
-                "g",
-                "b",
-                "ucteXNodeCode",
-                "currentLimits",
-                "p",
-                "q",
-                "position")
-                .from(KEYSPACE_IIDM, "danglingLineByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<DanglingLineAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.danglingLineBuilder()
-                    .id(row.getString(0))
-                    .attributes(DanglingLineAttributes.builder()
-                            .voltageLevelId(voltageLevelId)
-                            .name(row.getString(1))
-                            .properties(row.getMap(2, String.class, String.class))
-                            .node(row.getInt(3))
-                            .p0(row.getDouble(4))
-                            .q0(row.getDouble(5))
-                            .r(row.getDouble(6))
-                            .x(row.getDouble(7))
-                            .g(row.getDouble(8))
-                            .b(row.getDouble(9))
-                            .ucteXnodeCode(row.getString(10))
-                            .currentLimits(row.get(11, CurrentLimitsAttributes.class))
-                            .p(row.getDouble(12))
-                            .q(row.getDouble(13))
-                            .position(row.get(14, ConnectablePositionAttributes.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelDanglingLinesAsync(networkUuid, voltageLevelId).get();
     }
 
     public void createDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<DanglingLineAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<DanglingLineAttributes> resource : subresources) {
@@ -2864,13 +4152,36 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getPosition()
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "danglingLineByVoltageLevel", "voltageLevelId", networkUuid, subresources, DanglingLineAttributes::getVoltageLevelId);
+            invalidateCalculatedBuses(writer, networkUuid, subresources);
+        }
+        writer.await();
+    }
+
+    public void updateDanglingLines(UUID networkUuid, List<Resource<DanglingLineAttributes>> resources) {
+        createDanglingLines(networkUuid, resources);
+    }
+
+    public void updateDanglingLineStates(UUID networkUuid, List<InjectionStateAttributes> states) {
+        AsyncWriter writer = newWriter();
+        for (InjectionStateAttributes state : states) {
+            writer.write(psUpdateDanglingLineState.bind(
+                    state.getP(),
+                    state.getQ(),
+                    networkUuid,
+                    state.getId(),
+                    state.getVoltageLevelId()
+                    ));
         }
+        writer.await();
     }
 
     //Buses
 
     public void createBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> resources) {
+        AsyncWriter writer = newWriter();
         for (List<Resource<ConfiguredBusAttributes>> subresources : Lists.partition(resources, BATCH_SIZE)) {
             BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
             for (Resource<ConfiguredBusAttributes> resource : subresources) {
@@ -2884,18 +4195,19 @@ public class NetworkStoreRepository {
                         resource.getAttributes().getAngle()
                 ));
             }
-            session.execute(batch);
+            writer.write(batch);
+            writeIdentifiables(writer, networkUuid, subresources);
+            writeIndex(writer, "configuredBusByVoltageLevel", "voltageLevelId", networkUuid, subresources, ConfiguredBusAttributes::getVoltageLevelId);
         }
+        writer.await();
+    }
+
+    public void updateBuses(UUID networkUuid, List<Resource<ConfiguredBusAttributes>> resources) {
+        createBuses(networkUuid, resources);
     }
 
     public Optional<Resource<ConfiguredBusAttributes>> getConfiguredBus(UUID networkUuid, String busId) {
-        ResultSet resultSet = session.execute(select("voltageLevelId",
-                "name",
-                "properties",
-                "v",
-                "angle")
-                .from(KEYSPACE_IIDM, "configuredBus")
-                .where(eq("networkUuid", networkUuid)).and(eq("id", busId)));
+        ResultSet resultSet = session.execute(psGetConfiguredBus.bind(networkUuid, busId));
         Row row = resultSet.one();
         if (row != null) {
             return Optional.of(Resource.configuredBusBuilder()
@@ -2912,18 +4224,9 @@ public class NetworkStoreRepository {
         return Optional.empty();
     }
 
-    public List<Resource<ConfiguredBusAttributes>> getConfiguredBuses(UUID networkUuid) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "voltageLevelId",
-                "v",
-                "angle",
-                "properties")
-                .from(KEYSPACE_IIDM, "configuredBus")
-                .where(eq("networkUuid", networkUuid)));
-        List<Resource<ConfiguredBusAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.configuredBusBuilder()
+    public Stream<Resource<ConfiguredBusAttributes>> streamConfiguredBuses(UUID networkUuid) {
+        ResultSet resultSet = session.execute(psGetConfiguredBuses.bind(networkUuid));
+        return StreamSupport.stream(resultSet.spliterator(), false).map(row -> Resource.configuredBusBuilder()
                     .id(row.getString(0))
                     .attributes(ConfiguredBusAttributes.builder()
                             .id(row.getString(0))
@@ -2934,33 +4237,39 @@ public class NetworkStoreRepository {
                             .properties(row.getMap(5, String.class, String.class))
                             .build())
                     .build());
-        }
-        return resources;
+    }
+
+    public List<Resource<ConfiguredBusAttributes>> getConfiguredBuses(UUID networkUuid) {
+        return streamConfiguredBuses(networkUuid).collect(Collectors.toList());
+    }
+
+    public int getConfiguredBusCount(UUID networkUuid) {
+        return getCount("configuredBus", networkUuid);
+    }
+
+    private Supplier<List<Resource<ConfiguredBusAttributes>>> getVoltageLevelBusesAsync(UUID networkUuid, String voltageLevelId) {
+        ListenableFuture<Iterable<Row>> rows = getContainerRowsAsync("configuredBusByVoltageLevel", "voltageLevelId", psGetVoltageLevelBuses, networkUuid, voltageLevelId);
+        return () -> {
+            List<Resource<ConfiguredBusAttributes>> resources = new ArrayList<>();
+            for (Row row : await(rows)) {
+                resources.add(Resource.configuredBusBuilder()
+                        .id(row.getString(0))
+                        .attributes(ConfiguredBusAttributes.builder()
+                                .id(row.getString(0))
+                                .name(row.getString(1))
+                                .voltageLevelId(voltageLevelId)
+                                .v(row.getDouble(2))
+                                .angle(row.getDouble(3))
+                                .properties(row.getMap(4, String.class, String.class))
+                                .build())
+                        .build());
+            }
+            return resources;
+        };
     }
 
     public List<Resource<ConfiguredBusAttributes>> getVoltageLevelBuses(UUID networkUuid, String voltageLevelId) {
-        ResultSet resultSet = session.execute(select("id",
-                "name",
-                "v",
-                "angle",
-                "properties")
-                .from(KEYSPACE_IIDM, "configuredBusByVoltageLevel")
-                .where(eq("networkUuid", networkUuid)).and(eq("voltageLevelId", voltageLevelId)));
-        List<Resource<ConfiguredBusAttributes>> resources = new ArrayList<>();
-        for (Row row : resultSet) {
-            resources.add(Resource.configuredBusBuilder()
-                    .id(row.getString(0))
-                    .attributes(ConfiguredBusAttributes.builder()
-                            .id(row.getString(0))
-                            .name(row.getString(1))
-                            .voltageLevelId(voltageLevelId)
-                            .v(row.getDouble(2))
-                            .angle(row.getDouble(3))
-                            .properties(row.getMap(4, String.class, String.class))
-                            .build())
-                    .build());
-        }
-        return resources;
+        return getVoltageLevelBusesAsync(networkUuid, voltageLevelId).get();
     }
 
 }
@@ -9,6 +9,7 @@ package com.powsybl.network.store.server;
 import com.powsybl.tools.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
@@ -21,8 +22,12 @@ public class NetworkStoreStartupRunner implements ApplicationRunner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkStoreStartupRunner.class);
 
+    @Autowired
+    private NetworkStoreRepository repository;
+
     @Override
     public void run(ApplicationArguments args) {
         LOGGER.info(Version.getTableString());
+        repository.backfillIndexes();
     }
 }
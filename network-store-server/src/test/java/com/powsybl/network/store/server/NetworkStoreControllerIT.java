@@ -6,8 +6,16 @@
  */
 package com.powsybl.network.store.server;
 
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.EnergySource;
+import com.powsybl.iidm.network.LoadType;
+import com.powsybl.iidm.network.SwitchKind;
 import com.powsybl.iidm.network.TopologyKind;
 import com.powsybl.network.store.model.*;
 import org.cassandraunit.spring.CassandraDataSet;
@@ -19,22 +27,27 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import static com.powsybl.network.store.model.NetworkStoreApi.APPLICATION_SMILE_VALUE;
 import static com.powsybl.network.store.model.NetworkStoreApi.VERSION;
+import static org.junit.Assert.*;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.context.TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -52,9 +65,18 @@ public class NetworkStoreControllerIT {
     @Autowired
     protected ObjectMapper objectMapper;
 
+    @Autowired
+    private Jackson2ObjectMapperBuilder objectMapperBuilder;
+
     @Autowired
     private MockMvc mvc;
 
+    @Autowired
+    private Session session;
+
+    @Autowired
+    private NetworkStoreRepository repository;
+
     // This method is provided to avoid timeout when dropping tables
     @Before
     public void initialize() {
@@ -148,6 +170,26 @@ public class NetworkStoreControllerIT {
                 .andExpect(jsonPath("meta.totalCount").value("2"))
                 .andExpect(jsonPath("data", hasSize(1)));
 
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations?limit=0")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("meta.totalCount").value("2"))
+                .andExpect(jsonPath("data", hasSize(0)));
+
+        bar2.getAttributes().setTso("TERNA");
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/substations")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(bar2))))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/substations/bar2")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].id").value("bar2"))
+                .andExpect(jsonPath("data[0].attributes.country").value("BE"))
+                .andExpect(jsonPath("data[0].attributes.tso").value("TERNA"));
+
         List<InternalConnectionAttributes> ics1 = new ArrayList<>();
         ics1.add(InternalConnectionAttributes.builder()
                 .node1(10)
@@ -211,4 +253,448 @@ public class NetworkStoreControllerIT {
                 .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
                 .andExpect(jsonPath("data", hasSize(1)));
     }
+
+    @Test
+    public void testStates() throws Exception {
+        UUID networkUuid = UUID.fromString("e22b3bce-4a5b-4d2d-a6f4-a2a0a0f2b1c3");
+
+        Resource<NetworkAttributes> network = Resource.networkBuilder()
+                .id("net")
+                .attributes(NetworkAttributes.builder()
+                                             .uuid(networkUuid)
+                                             .caseDate(DateTime.parse("2015-01-01T00:00:00.000Z"))
+                                             .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(network))))
+                .andExpect(status().isCreated());
+
+        Resource<GeneratorAttributes> generator = Resource.generatorBuilder()
+                .id("gen")
+                .attributes(GeneratorAttributes.builder()
+                        .voltageLevelId("vl")
+                        .energySource(EnergySource.HYDRO)
+                        .reactiveLimits(MinMaxReactiveLimitsAttributes.builder().minQ(-10).maxQ(10).build())
+                        .targetP(100)
+                        .p(Double.NaN)
+                        .q(Double.NaN)
+                        .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/generators")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(generator))))
+                .andExpect(status().isCreated());
+
+        Resource<SwitchAttributes> breaker = Resource.switchBuilder()
+                .id("sw")
+                .attributes(SwitchAttributes.builder()
+                        .voltageLevelId("vl")
+                        .kind(SwitchKind.BREAKER)
+                        .node1(0)
+                        .node2(1)
+                        .open(false)
+                        .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/switches")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(breaker))))
+                .andExpect(status().isCreated());
+
+        GeneratorStateAttributes generatorState = GeneratorStateAttributes.builder()
+                .id("gen")
+                .voltageLevelId("vl")
+                .p(-99.5)
+                .q(12.5)
+                .targetP(99.5)
+                .targetV(405)
+                .build();
+        GeneratorStateAttributes unknownGeneratorState = GeneratorStateAttributes.builder()
+                .id("unknownGen")
+                .voltageLevelId("vl")
+                .p(1)
+                .build();
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/generators/state")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(generatorState, unknownGeneratorState))))
+                .andExpect(status().isOk());
+
+        SwitchStateAttributes switchState = SwitchStateAttributes.builder()
+                .id("sw")
+                .voltageLevelId("vl")
+                .open(true)
+                .build();
+        mvc.perform(put("/" + VERSION + "/networks/" + networkUuid + "/switches/state")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(switchState))))
+                .andExpect(status().isOk());
+
+        // only the state columns are updated
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/generators/gen")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].attributes.p").value(-99.5))
+                .andExpect(jsonPath("data[0].attributes.q").value(12.5))
+                .andExpect(jsonPath("data[0].attributes.targetP").value(99.5))
+                .andExpect(jsonPath("data[0].attributes.targetV").value(405.0))
+                .andExpect(jsonPath("data[0].attributes.energySource").value("HYDRO"));
+
+        // the state of an unknown equipment is not stored
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/generators/unknownGen")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl/switches")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data", hasSize(1)))
+                .andExpect(jsonPath("data[0].id").value("sw"))
+                .andExpect(jsonPath("data[0].attributes.open").value(true))
+                .andExpect(jsonPath("data[0].attributes.kind").value("BREAKER"));
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        UUID networkUuid = UUID.fromString("4d8c3b4e-5ab4-4fa4-9c9c-5b3f0e2b7d10");
+
+        Resource<NetworkAttributes> network = Resource.networkBuilder()
+                .id("streamed")
+                .attributes(NetworkAttributes.builder()
+                                             .uuid(networkUuid)
+                                             .caseDate(DateTime.parse("2015-01-01T00:00:00.000Z"))
+                                             .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(network))))
+                .andExpect(status().isCreated());
+
+        // more loads than a write batch
+        List<Resource<LoadAttributes>> loads = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            loads.add(Resource.loadBuilder()
+                    .id("load" + i)
+                    .attributes(LoadAttributes.builder()
+                            .voltageLevelId("vl")
+                            .loadType(LoadType.UNDEFINED)
+                            .p0(i)
+                            .build())
+                    .build());
+        }
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/loads")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loads)))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/loads")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("meta.totalCount").value("150"))
+                .andExpect(jsonPath("data", hasSize(150)));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/loads?limit=10")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("meta.totalCount").value("150"))
+                .andExpect(jsonPath("data", hasSize(10)));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/loads?limit=0")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("meta.totalCount").value("150"))
+                .andExpect(jsonPath("data", hasSize(0)));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl/loads")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data", hasSize(150)));
+
+        // the network comes first, followed by all its resources
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/snapshot")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("data", hasSize(151)))
+                .andExpect(jsonPath("data[0].id").value("streamed"))
+                .andExpect(jsonPath("meta.totalCount").value("151"));
+
+        mvc.perform(get("/" + VERSION + "/networks/" + UUID.randomUUID() + "/snapshot")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testSmile() throws Exception {
+        UUID networkUuid = UUID.fromString("0b1e6e2a-9d2f-4f3c-8e57-3c1c2f6f9a41");
+
+        Resource<NetworkAttributes> network = Resource.networkBuilder()
+                .id("smile")
+                .attributes(NetworkAttributes.builder()
+                                             .uuid(networkUuid)
+                                             .caseDate(DateTime.parse("2015-01-01T00:00:00.000Z"))
+                                             .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(network))))
+                .andExpect(status().isCreated());
+
+        Resource<SubstationAttributes> substation = Resource.substationBuilder()
+                .id("s")
+                .attributes(SubstationAttributes.builder()
+                        .country(Country.FR)
+                        .tso("RTE")
+                        .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/substations")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(substation))))
+                .andExpect(status().isCreated());
+
+        // both formats must be written with the same configuration
+        ObjectMapper smileObjectMapper = objectMapperBuilder.createXmlMapper(false).factory(new SmileFactory()).build();
+        for (String path : Arrays.asList("/substations", "/snapshot")) {
+            byte[] json = mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + path)
+                    .accept(APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                    .andReturn().getResponse().getContentAsByteArray();
+            byte[] smile = mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + path)
+                    .accept(APPLICATION_SMILE_VALUE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(APPLICATION_SMILE_VALUE))
+                    .andReturn().getResponse().getContentAsByteArray();
+            TypeReference<TopLevelDocument<IdentifiableAttributes>> type = new TypeReference<TopLevelDocument<IdentifiableAttributes>>() {
+            };
+            TopLevelDocument<IdentifiableAttributes> jsonDocument = objectMapper.readValue(json, type);
+            TopLevelDocument<IdentifiableAttributes> smileDocument = smileObjectMapper.readValue(smile, type);
+            assertEquals(objectMapper.writeValueAsString(jsonDocument), objectMapper.writeValueAsString(smileDocument));
+        }
+    }
+
+    @Test
+    public void testBackfillIndexes() throws Exception {
+        UUID networkUuid = UUID.fromString("9a7f0c2d-3b1e-4c55-8f3a-6d2e1b0c9f87");
+
+        Resource<NetworkAttributes> network = Resource.networkBuilder()
+                .id("old")
+                .attributes(NetworkAttributes.builder()
+                                             .uuid(networkUuid)
+                                             .caseDate(DateTime.parse("2015-01-01T00:00:00.000Z"))
+                                             .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(network))))
+                .andExpect(status().isCreated());
+
+        Resource<LoadAttributes> load = Resource.loadBuilder()
+                .id("load")
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl")
+                        .loadType(LoadType.UNDEFINED)
+                        .p0(10)
+                        .build())
+                .build();
+        mvc.perform(post("/" + VERSION + "/networks/" + networkUuid + "/loads")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singleton(load))))
+                .andExpect(status().isCreated());
+
+        // a new network is already migrated
+        repository.backfillIndexes();
+
+        // simulate a network written before the index tables existed
+        session.execute(QueryBuilder.delete().from(CassandraConstants.KEYSPACE_IIDM, "identifiable").where(QueryBuilder.eq("networkUuid", networkUuid)));
+        session.execute(QueryBuilder.delete().from(CassandraConstants.KEYSPACE_IIDM, "loadByVoltageLevel").where(QueryBuilder.eq("networkUuid", networkUuid)));
+        repository.backfillIndexes();
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/load")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+        session.execute(QueryBuilder.delete().from(CassandraConstants.KEYSPACE_IIDM, "migration")
+                .where(QueryBuilder.eq("name", "indexes")).and(QueryBuilder.eq("networkUuid", networkUuid)));
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/load")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl/loads")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data", hasSize(0)));
+
+        repository.backfillIndexes();
+
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/identifiables/load")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data[0].type").value("LOAD"))
+                .andExpect(jsonPath("data[0].id").value("load"));
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl/loads")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data", hasSize(1)))
+                .andExpect(jsonPath("data[0].id").value("load"));
+
+        // the network is migrated only once
+        session.execute(QueryBuilder.delete().from(CassandraConstants.KEYSPACE_IIDM, "loadByVoltageLevel").where(QueryBuilder.eq("networkUuid", networkUuid)));
+        repository.backfillIndexes();
+        mvc.perform(get("/" + VERSION + "/networks/" + networkUuid + "/voltage-levels/vl/loads")
+                .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("data", hasSize(0)));
+    }
+
+    private Row getStoredCalculatedBuses(UUID networkUuid) {
+        return session.execute(QueryBuilder.select("version", "busIds").from(CassandraConstants.KEYSPACE_IIDM, "calculatedBuses")
+                .where(QueryBuilder.eq("networkUuid", networkUuid))
+                .and(QueryBuilder.eq("voltageLevelId", "vl"))).one();
+    }
+
+    private List<String> getCalculatedBusIds(UUID networkUuid) {
+        return repository.getVoltageLevelCalculatedBuses(networkUuid, "vl").orElseThrow(AssertionError::new).getBusIds();
+    }
+
+    @Test
+    public void testCalculatedBuses() {
+        UUID networkUuid = UUID.fromString("5b6c1d0e-8f2a-4e3b-9c7d-1a2b3c4d5e6f");
+
+        // a busbar section at node 0 and a load at node 1 connected by a breaker
+        repository.createVoltageLevels(networkUuid, Collections.singletonList(Resource.voltageLevelBuilder()
+                .id("vl")
+                .attributes(VoltageLevelAttributes.builder()
+                        .substationId("s")
+                        .nominalV(400)
+                        .topologyKind(TopologyKind.NODE_BREAKER)
+                        .nodeCount(3)
+                        .build())
+                .build()));
+        repository.createBusbarSections(networkUuid, Collections.singletonList(Resource.busbarSectionBuilder()
+                .id("bbs")
+                .attributes(BusbarSectionAttributes.builder()
+                        .voltageLevelId("vl")
+                        .node(0)
+                        .build())
+                .build()));
+        repository.createSwitches(networkUuid, Collections.singletonList(Resource.switchBuilder()
+                .id("sw")
+                .attributes(SwitchAttributes.builder()
+                        .voltageLevelId("vl")
+                        .kind(SwitchKind.BREAKER)
+                        .node1(0)
+                        .node2(1)
+                        .open(false)
+                        .build())
+                .build()));
+        repository.createLoads(networkUuid, Collections.singletonList(Resource.loadBuilder()
+                .id("load1")
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl")
+                        .node(1)
+                        .loadType(LoadType.UNDEFINED)
+                        .p0(10)
+                        .build())
+                .build()));
+
+        // writes do not create calculated buses rows
+        assertNull(getStoredCalculatedBuses(networkUuid));
+
+        // calculated on first read and stored
+        assertEquals(Collections.singletonList("vl_0"), getCalculatedBusIds(networkUuid));
+        Row stored = getStoredCalculatedBuses(networkUuid);
+        assertEquals(Collections.singletonList("vl_0"), stored.getList(1, String.class));
+        UUID version = stored.getUUID(0);
+        assertNotNull(version);
+
+        // a switch change clears the stored buses and changes their version
+        repository.updateSwitchStates(networkUuid, Collections.singletonList(SwitchStateAttributes.builder()
+                .id("sw")
+                .voltageLevelId("vl")
+                .open(true)
+                .build()));
+        stored = getStoredCalculatedBuses(networkUuid);
+        assertTrue(stored.isNull(1));
+        assertNotEquals(version, stored.getUUID(0));
+        assertEquals(Collections.singletonList("vl_1"), getCalculatedBusIds(networkUuid));
+        assertEquals(Collections.singletonList("vl_1"), getStoredCalculatedBuses(networkUuid).getList(1, String.class));
+
+        // so does a new equipment of the voltage level
+        repository.createLoads(networkUuid, Collections.singletonList(Resource.loadBuilder()
+                .id("load2")
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl")
+                        .node(0)
+                        .loadType(LoadType.UNDEFINED)
+                        .p0(10)
+                        .build())
+                .build()));
+        assertTrue(getStoredCalculatedBuses(networkUuid).isNull(1));
+        assertEquals(Arrays.asList("vl_0", "vl_1"), getCalculatedBusIds(networkUuid));
+        assertEquals(Arrays.asList("vl_0", "vl_1"), getStoredCalculatedBuses(networkUuid).getList(1, String.class));
+    }
+
+    private static Resource<VoltageLevelAttributes> createVoltageLevel(String id, String substationId) {
+        return Resource.voltageLevelBuilder()
+                .id(id)
+                .attributes(VoltageLevelAttributes.builder()
+                        .substationId(substationId)
+                        .nominalV(400)
+                        .topologyKind(TopologyKind.NODE_BREAKER)
+                        .nodeCount(2)
+                        .build())
+                .build();
+    }
+
+    private static List<String> getIds(List<? extends Resource<?>> resources) {
+        List<String> ids = new ArrayList<>();
+        for (Resource<?> resource : resources) {
+            ids.add(resource.getId());
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    @Test
+    public void testContainerContent() {
+        UUID networkUuid = UUID.fromString("0c1d2e3f-4a5b-4c6d-8e7f-9a0b1c2d3e4f");
+
+        // vl1 and vl2 in substation s1, vl3 in substation s2, linked by a line and a three windings transformer
+        repository.createVoltageLevels(networkUuid, Arrays.asList(createVoltageLevel("vl1", "s1"),
+                                                                  createVoltageLevel("vl2", "s1"),
+                                                                  createVoltageLevel("vl3", "s2")));
+        repository.createLines(networkUuid, Collections.singletonList(Resource.lineBuilder()
+                .id("l12")
+                .attributes(LineAttributes.builder()
+                        .voltageLevelId1("vl1")
+                        .node1(0)
+                        .voltageLevelId2("vl2")
+                        .node2(0)
+                        .build())
+                .build()));
+        repository.createThreeWindingsTransformers(networkUuid, Collections.singletonList(Resource.threeWindingsTransformerBuilder()
+                .id("twt")
+                .attributes(ThreeWindingsTransformerAttributes.builder()
+                        .leg1(LegAttributes.builder().voltageLevelId("vl1").node(1).build())
+                        .leg2(LegAttributes.builder().voltageLevelId("vl2").node(1).build())
+                        .leg3(LegAttributes.builder().voltageLevelId("vl3").node(1).build())
+                        .build())
+                .build()));
+        repository.createLoads(networkUuid, Collections.singletonList(Resource.loadBuilder()
+                .id("load")
+                .attributes(LoadAttributes.builder()
+                        .voltageLevelId("vl3")
+                        .node(0)
+                        .loadType(LoadType.UNDEFINED)
+                        .build())
+                .build()));
+
+        // queries of all the sides are sent before waiting for the results
+        assertEquals(Collections.singletonList("l12"), getIds(repository.getVoltageLevelLines(networkUuid, "vl2")));
+        for (String voltageLevelId : Arrays.asList("vl1", "vl2", "vl3")) {
+            assertEquals(Collections.singletonList("twt"), getIds(repository.getVoltageLevelThreeWindingsTransformers(networkUuid, voltageLevelId)));
+        }
+        assertEquals(Arrays.asList("load", "twt"), getIds(repository.getVoltageLevelContent(networkUuid, "vl3")));
+
+        // equipments between two voltage levels of the substation are returned once
+        assertEquals(Arrays.asList("l12", "twt", "vl1", "vl2"), getIds(repository.getSubstationContent(networkUuid, "s1")));
+    }
 }